@@ -0,0 +1,12 @@
+-- 카운터 쓰기 지연에서 DB 에 반영된 flush 단위 (MySQL)
+-- 이 프로젝트에는 마이그레이션 도구가 없으므로 배포 전에 직접 적용한다. 컬럼 이름은 Spring 기본 네이밍(snake_case) 기준.
+-- 카운터 UPDATE 와 같은 트랜잭션에 batch_id 를 넣고, 저널 replay 때 이미 있는 batch_id 는 건너뛴다.
+-- 7일 지난 행은 WriteBehindCounterService.purgeAppliedBatches 가 매일 지운다.
+
+CREATE TABLE counter_flush_batch
+(
+    batch_id   VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (batch_id),
+    INDEX idx_counter_flush_batch_created_at (created_at)
+);
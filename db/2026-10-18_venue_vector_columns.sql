@@ -0,0 +1,11 @@
+-- VenueGenre / VenueMood 바이너리 벡터 컬럼과 태그 컬럼 (MySQL)
+-- 이 프로젝트에는 마이그레이션 도구가 없으므로 배포 전에 직접 적용한다. 컬럼 이름은 Spring 기본 네이밍(snake_case) 기준.
+-- 기존 행은 VenueVectorColumnBackfill 이 기동 시 채운다. 태그가 하나도 없는 벡터는 '[]' 로 채워지고, NULL 은 아직 백필되지 않은 행이다.
+
+ALTER TABLE venue_genre
+    ADD COLUMN genre_vector VARBINARY(255) NULL,
+    ADD COLUMN genre_tags   VARCHAR(500)   NULL;
+
+ALTER TABLE venue_mood
+    ADD COLUMN mood_vector VARBINARY(255) NULL,
+    ADD COLUMN mood_tags   VARCHAR(500)   NULL;
@@ -0,0 +1,66 @@
+package com.ceos.beatbuddy.benchmark;
+
+import com.ceos.beatbuddy.domain.venue.entity.Venue;
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * VenueVectorIndex 가 쓰는 리포지토리 메서드만 메모리 목록으로 응답하는 프록시.
+ * 그 외 메서드를 호출하면 UnsupportedOperationException 을 던진다.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static VenueRepository venueRepository(List<Venue> venues) {
+        return proxy(VenueRepository.class, (method, args) -> switch (method) {
+            case "findById" -> venues.stream().filter(venue -> venue.getId().equals(args[0])).findFirst();
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    static VenueGenreRepository venueGenreRepository(List<VenueGenre> venueGenres) {
+        return proxy(VenueGenreRepository.class, (method, args) -> switch (method) {
+            case "findAllWithVenue" -> venueGenres;
+            case "findByVenueId" -> venueGenres.stream().filter(vg -> vg.getVenue().getId().equals(args[0])).findFirst();
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    static VenueMoodRepository venueMoodRepository(List<VenueMood> venueMoods) {
+        return proxy(VenueMoodRepository.class, (method, args) -> switch (method) {
+            case "findAllWithVenue" -> venueMoods;
+            case "findByVenueId" -> venueMoods.stream().filter(vm -> vm.getVenue().getId().equals(args[0])).findFirst();
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        Object instance = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "InMemory" + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    return handler.handle(method.getName(), args);
+            }
+        });
+        return type.cast(instance);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ceos.beatbuddy.benchmark;
+
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.entity.Venue;
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 고정 시드로 만드는 가상의 베뉴 집합. 장르/무드마다 1~3개의 태그를 켠 0/1 벡터를 가진다.
+ */
+class SyntheticVenues {
+
+    private static final int GENRE_SIZE = 10;
+    private static final int MOOD_SIZE = 9;
+
+    private final List<Venue> venues = new ArrayList<>();
+    private final List<VenueGenre> venueGenres = new ArrayList<>();
+    private final List<VenueMood> venueMoods = new ArrayList<>();
+
+    SyntheticVenues(int count, long seed) {
+        Random random = new Random(seed);
+        Region[] regions = Region.values();
+        for (int i = 0; i < count; i++) {
+            Venue venue = Venue.builder()
+                    .id((long) i + 1)
+                    .region(regions[random.nextInt(regions.length)])
+                    .build();
+            Vector genreVector = randomTags(random, GENRE_SIZE);
+            Vector moodVector = randomTags(random, MOOD_SIZE);
+            venues.add(venue);
+            venueGenres.add(VenueGenre.builder()
+                    .venue(venue)
+                    .genreVector(genreVector)
+                    .genreVectorString(genreVector.toString())
+                    .build());
+            venueMoods.add(VenueMood.builder()
+                    .venue(venue)
+                    .moodVector(moodVector)
+                    .moodVectorString(moodVector.toString())
+                    .build());
+        }
+    }
+
+    static Vector randomTags(Random random, int size) {
+        double[] values = new double[size];
+        int tags = 1 + random.nextInt(3);
+        for (int i = 0; i < tags; i++) {
+            values[random.nextInt(size)] = 1.0;
+        }
+        return new Vector(values);
+    }
+
+    List<Venue> venues() {
+        return venues;
+    }
+
+    List<VenueGenre> venueGenres() {
+        return venueGenres;
+    }
+
+    List<VenueMood> venueMoods() {
+        return venueMoods;
+    }
+
+    Vector genreVector(int index) {
+        return venueGenres.get(index).getGenreVector();
+    }
+
+    Vector moodVector(int index) {
+        return venueMoods.get(index).getMoodVector();
+    }
+}
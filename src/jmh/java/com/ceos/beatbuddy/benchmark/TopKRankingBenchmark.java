@@ -0,0 +1,73 @@
+package com.ceos.beatbuddy.benchmark;
+
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.ScoredVenue;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * RecommendService.recommendVenues 와 같은 순위 계산을 가상의 베뉴 1k/10k/100k 개에 대해 측정한다.
+ * index: 지역 파티션 + 크기 k 힙을 쓰는 VenueVectorIndex
+ * fullSort: 인덱스 도입 전처럼 지역 베뉴 전체를 병합 벡터 코사인으로 정렬한 뒤 k개를 자르는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopKRankingBenchmark {
+
+    private static final int K = 5;
+
+    @Param({"1000", "10000", "100000"})
+    public int venueCount;
+
+    private VenueVectorIndex venueVectorIndex;
+    private List<VenueGenre> venueGenres;
+    private Map<Long, VenueMood> venueMoods;
+    private Vector memberVector;
+    private List<Region> memberRegions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticVenues synthetic = new SyntheticVenues(venueCount, 42L);
+        venueVectorIndex = new VenueVectorIndex(
+                InMemoryRepositories.venueRepository(synthetic.venues()),
+                InMemoryRepositories.venueGenreRepository(synthetic.venueGenres()),
+                InMemoryRepositories.venueMoodRepository(synthetic.venueMoods()));
+        venueVectorIndex.reload();
+
+        venueGenres = synthetic.venueGenres();
+        venueMoods = synthetic.venueMoods().stream()
+                .collect(Collectors.toMap(vm -> vm.getVenue().getId(), Function.identity()));
+
+        Random random = new Random(7L);
+        memberVector = Vector.mergeVectors(SyntheticVenues.randomTags(random, 10), SyntheticVenues.randomTags(random, 9));
+        memberRegions = List.of(Region.TYPE1, Region.TYPE4);
+    }
+
+    @Benchmark
+    public List<ScoredVenue> index() {
+        return venueVectorIndex.findTopK(memberVector, memberRegions, K);
+    }
+
+    @Benchmark
+    public List<Long> fullSort() {
+        return venueGenres.stream()
+                .filter(vg -> memberRegions.contains(vg.getVenue().getRegion()))
+                .sorted(Comparator.comparingDouble(vg -> {
+                    VenueMood vm = venueMoods.get(vg.getVenue().getId());
+                    Vector venueVector = Vector.mergeVectors(vg.getGenreVector(), vm.getMoodVector());
+                    return -memberVector.cosineSimilarity(venueVector);
+                }))
+                .limit(K)
+                .map(vg -> vg.getVenue().getId())
+                .toList();
+    }
+}
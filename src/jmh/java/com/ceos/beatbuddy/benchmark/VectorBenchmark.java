@@ -0,0 +1,67 @@
+package com.ceos.beatbuddy.benchmark;
+
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vector 단위 연산 벤치마크. 입력은 고정 시드로 만든 장르(10)/무드(9) 벡터다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorBenchmark {
+
+    private Vector genreA;
+    private Vector genreB;
+    private Vector mood;
+    private String genreString;
+
+    @Setup
+    public void setUp() {
+        SyntheticVenues venues = new SyntheticVenues(2, 42L);
+        genreA = venues.genreVector(0);
+        genreB = venues.genreVector(1);
+        mood = venues.moodVector(0);
+        genreString = genreA.toString();
+    }
+
+    @Benchmark
+    public double cosineSimilarity() {
+        return genreA.cosineSimilarity(genreB);
+    }
+
+    @Benchmark
+    public Vector fromString() {
+        return Vector.fromString(genreString);
+    }
+
+    @Benchmark
+    public Vector mergeVectors() {
+        return Vector.mergeVectors(genreA, mood);
+    }
+
+    @Benchmark
+    public List<String> getTrueGenreElements() {
+        return Vector.getTrueGenreElements(genreA);
+    }
+
+    @Benchmark
+    public List<String> getTrueMoodElements() {
+        return Vector.getTrueMoodElements(mood);
+    }
+
+    /**
+     * 문자열 컬럼만 채워진 엔티티에서 벡터를 처음 꺼낼 때의 파싱 비용.
+     */
+    @Benchmark
+    public Vector venueGenreGetGenreVector() {
+        VenueGenre venueGenre = VenueGenre.builder()
+                .genreVectorString(genreString)
+                .build();
+        return venueGenre.getGenreVector();
+    }
+}
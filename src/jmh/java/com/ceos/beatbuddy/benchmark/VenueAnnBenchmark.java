@@ -0,0 +1,96 @@
+package com.ceos.beatbuddy.benchmark;
+
+import com.ceos.beatbuddy.domain.vector.application.VenueAnnIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.ScoredVenue;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 전국 추천에 쓰는 VenueAnnIndex(LSH)와 정확한 전체 스캔의 지연을 가상의 베뉴 10k/100k 개에 대해 비교한다.
+ * 질의는 인덱싱된 베뉴 벡터 중 고정 시드로 고른 QUERIES 개를 돌아가며 쓴다.
+ * 재현율(정확한 상위 k개 중 근사 결과에 포함된 비율)은 측정과 별개로 Trial 시작 시 한 번 계산해서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VenueAnnBenchmark {
+
+    private static final int K = 10;
+    private static final int QUERIES = 200;
+
+    @Param({"10000", "100000"})
+    public int venueCount;
+
+    private VenueAnnIndex venueAnnIndex;
+    private Vector[] targets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticVenues synthetic = new SyntheticVenues(venueCount, 42L);
+        VenueVectorIndex venueVectorIndex = new VenueVectorIndex(
+                InMemoryRepositories.venueRepository(synthetic.venues()),
+                InMemoryRepositories.venueGenreRepository(synthetic.venueGenres()),
+                InMemoryRepositories.venueMoodRepository(synthetic.venueMoods()));
+        venueVectorIndex.reload();
+        venueAnnIndex = new VenueAnnIndex(venueVectorIndex, Runnable::run, new SimpleMeterRegistry(), true, 8, 6, true, 2000);
+
+        Random random = new Random(7L);
+        targets = new Vector[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            int index = random.nextInt(venueCount);
+            targets[q] = Vector.mergeVectors(synthetic.genreVector(index), synthetic.moodVector(index));
+        }
+
+        // LSH 빌드 비용은 측정에서 뺀다
+        venueAnnIndex.rebuild();
+        System.out.printf("%nvenueCount=%d, k=%d, recall=%.4f%n", venueCount, K, meanRecall());
+    }
+
+    @Benchmark
+    public List<ScoredVenue> exact() {
+        return venueAnnIndex.findTopKExact(nextTarget(), K);
+    }
+
+    @Benchmark
+    public List<ScoredVenue> approximate() {
+        return venueAnnIndex.findTopKApproximate(nextTarget(), K);
+    }
+
+    private Vector nextTarget() {
+        Vector target = targets[next];
+        next = (next + 1) % QUERIES;
+        return target;
+    }
+
+    private double meanRecall() {
+        double sum = 0.0;
+        for (Vector target : targets) {
+            sum += recall(venueAnnIndex.findTopKExact(target, K), venueAnnIndex.findTopKApproximate(target, K));
+        }
+        return sum / QUERIES;
+    }
+
+    /**
+     * 동점 베뉴가 많으므로 ID 일치 대신 정확한 k번째 점수 이상인 결과의 비율로 계산한다.
+     */
+    private static double recall(List<ScoredVenue> exact, List<ScoredVenue> approximate) {
+        if (exact.isEmpty()) {
+            return 1.0;
+        }
+        double threshold = exact.get(exact.size() - 1).score();
+        Set<Long> exactIds = exact.stream().map(ScoredVenue::venueId).collect(Collectors.toSet());
+        long hits = approximate.stream()
+                .filter(venue -> exactIds.contains(venue.venueId()) || venue.score() >= threshold)
+                .count();
+        return Math.min(1.0, (double) hits / exact.size());
+    }
+}
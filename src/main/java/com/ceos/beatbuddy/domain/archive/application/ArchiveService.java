@@ -4,6 +4,7 @@ import com.ceos.beatbuddy.domain.archive.dto.ArchiveDTO;
 import com.ceos.beatbuddy.domain.archive.dto.ArchiveResponseDTO;
 import com.ceos.beatbuddy.domain.archive.dto.ArchiveUpdateDTO;
 import com.ceos.beatbuddy.domain.archive.entity.Archive;
+import com.ceos.beatbuddy.domain.archive.entity.ArchiveChangedEvent;
 import com.ceos.beatbuddy.domain.archive.exception.ArchiveErrorCode;
 import com.ceos.beatbuddy.domain.archive.repository.ArchiveRepository;
 import com.ceos.beatbuddy.domain.member.constant.Region;
@@ -19,6 +20,7 @@ import com.ceos.beatbuddy.domain.member.repository.MemberRepository;
 import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.global.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,7 @@ public class ArchiveService {
     private final MemberRepository memberRepository;
     private final MemberMoodRepository memberMoodRepository;
     private final MemberGenreRepository memberGenreRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ArchiveDTO addPreferenceInArchive(Long memberId, Long memberMoodId, Long memberGenreId) {
@@ -56,6 +59,7 @@ public class ArchiveService {
         Archive newArchive = archiveRepository.save(archive);
         member.saveLatestArchiveId(newArchive.getId());
         memberRepository.save(member);
+        eventPublisher.publishEvent(new ArchiveChangedEvent(member.getId(), newArchive.getId()));
 
         return ArchiveDTO.builder()
                 .memberGenreList(Vector.getTrueGenreElements(archive.getMemberGenre().getGenreVector()))
@@ -74,6 +78,7 @@ public class ArchiveService {
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_EXIST));
         member.saveLatestArchiveId(null);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new ArchiveChangedEvent(memberId, archiveId));
 
         return ArchiveDTO.builder()
                 .memberGenreList(Vector.getTrueGenreElements(archive.getMemberGenre().getGenreVector()))
@@ -117,6 +122,7 @@ public class ArchiveService {
         archive.updateArchive(newMemberGenre, newMemberMood, newRegions);
 
         archiveRepository.save(archive);
+        eventPublisher.publishEvent(new ArchiveChangedEvent(memberId, archiveId));
         return ArchiveDTO.builder()
                 .memberGenreList(Vector.getTrueGenreElements(archive.getMemberGenre().getGenreVector()))
                 .memberMoodList(Vector.getTrueMoodElements(archive.getMemberMood().getMoodVector()))
@@ -165,6 +171,7 @@ public class ArchiveService {
 
         member.saveLatestArchiveId(archiveId);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new ArchiveChangedEvent(memberId, archiveId));
         return member.getLatestArchiveId();
     }
 
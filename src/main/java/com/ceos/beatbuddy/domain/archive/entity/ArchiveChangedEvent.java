@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.archive.entity;
+
+public record ArchiveChangedEvent(Long memberId, Long archiveId) {
+}
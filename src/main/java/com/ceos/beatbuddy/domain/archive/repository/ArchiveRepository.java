@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 @Repository
@@ -29,4 +30,7 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
     @Query("SELECT a FROM Archive a WHERE a.member = :member ORDER BY a.updatedAt DESC LIMIT 1")
     Archive findLatestArchiveByMemberNonOptional(@Param("member") Member member);
 
+    @Query("SELECT a FROM Archive a JOIN FETCH a.memberGenre JOIN FETCH a.memberMood WHERE a.id IN :archiveIds")
+    List<Archive> findAllWithPreferenceByIdIn(@Param("archiveIds") Collection<Long> archiveIds);
+
 }
@@ -1,7 +1,6 @@
 package com.ceos.beatbuddy.domain.comment.application;
 
-import com.ceos.beatbuddy.domain.comment.dto.CommentRequestDto;
-import com.ceos.beatbuddy.domain.comment.dto.CommentResponseDto;
+import com.ceos.beatbuddy.domain.comment.dto.*;
 import com.ceos.beatbuddy.domain.comment.entity.Comment;
 import com.ceos.beatbuddy.domain.comment.entity.PostCommentCreatedEvent;
 import com.ceos.beatbuddy.domain.comment.exception.CommentErrorCode;
@@ -11,11 +10,15 @@ import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.post.application.PostService;
 import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.entity.PostEngagementChangedEvent;
 import com.ceos.beatbuddy.domain.post.repository.PostRepository;
 import com.ceos.beatbuddy.domain.scrapandlike.entity.CommentLike;
 import com.ceos.beatbuddy.domain.scrapandlike.repository.CommentLikeRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -33,6 +36,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class CommentService {
+    private static final int MAX_PAGE_SIZE = 50;
+    // 최상위 댓글마다 미리 붙이는 대댓글 수. 나머지는 getReplies 로 이어서 조회한다
+    private static final int MAX_REPLY_PREVIEW_SIZE = 20;
+
     private final CommentRepository commentRepository;
     private final MemberService memberService;
     private final PostService postService;
@@ -41,6 +48,8 @@ public class CommentService {
     private final ApplicationEventPublisher eventPublisher;
     private final CommentLikeRepository commentLikeRepository;
     private final AnonymousNicknameService anonymousNicknameService;
+    private final WriteBehindCounterService writeBehindCounterService;
+    private final SocialGraphCache socialGraphCache;
 
     @Transactional
     public CommentResponseDto createComment(Long memberId, Long postId, CommentRequestDto requestDto) {
@@ -66,7 +75,8 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
-        postRepository.increaseComments(postId);
+        writeBehindCounterService.increment(CounterType.POST_COMMENTS, postId);
+        eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, 1));
 
         boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(memberId, member.getId());
 
@@ -105,7 +115,8 @@ public class CommentService {
                 .build();
 
         Comment savedReply = commentRepository.save(reply);
-        postRepository.increaseComments(postId);
+        writeBehindCounterService.increment(CounterType.POST_COMMENTS, postId);
+        eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, 1));
 
         boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(memberId, member.getId());
 
@@ -124,7 +135,8 @@ public class CommentService {
         boolean isBlockedMember = memberService.isBlocked(memberId, comment.getMember().getId());
         boolean isPostWriter = comment.getPost().getMember().getId().equals(comment.getMember().getId());
 
-        return CommentResponseDto.from(comment, comment.getMember().getId().equals(memberId), isFollowing, isBlockedMember, comment.isDeleted(), isPostWriter, comment.getPost().isAnonymous()); // 자신이 작성한 댓글인지 여부
+        return CommentResponseDto.from(comment, comment.getMember().getId().equals(memberId), isFollowing, isBlockedMember, comment.isDeleted(), isPostWriter, comment.getPost().isAnonymous()) // 자신이 작성한 댓글인지 여부
+                .withLikes(writeBehindCounterService.overlay(CounterType.COMMENT_LIKES, comment.getId(), comment.getLikes()));
     }
 
     public Page<CommentResponseDto> getAllComments(Long postId, int page, int size, Long memberId) {
@@ -132,93 +144,166 @@ public class CommentService {
             throw new CustomException(ErrorCode.PAGE_OUT_OF_BOUNDS);
         }
 
-        // 전체 댓글 조회 (createdAt 기준 정렬)
-        List<Comment> allComments = commentRepository.findAllByPost_IdOrderByCreatedAtAsc(postId);
-
-        // 해당 포스트의 작성자 ID 및 익명 여부 가져오기
-        Long postWriterId = allComments.isEmpty() ? null : allComments.get(0).getPost().getMember().getId();
-        boolean isPostAnonymous = allComments.isEmpty() ? false : allComments.get(0).getPost().isAnonymous();
-
-        // 차단/팔로우 처리
-        Set<Long> blockedMemberIds = memberService.getBlockedMemberIds(memberId);
-        Set<Long> followingIds = followRepository.findFollowingMemberIds(memberId);
-
-        // 트리 정렬: 부모 댓글 아래에 자식 댓글 붙이기
-        List<Comment> sortedComments = new ArrayList<>();
-        Map<Long, List<Comment>> repliesGrouped = allComments.stream()
-                .filter(c -> c.getReply() != null)
-                .collect(Collectors.groupingBy(c -> c.getReply().getId()));
-
-        allComments.stream()
-                .filter(c -> c.getReply() == null)
-                .forEach(parent -> {
-                    sortedComments.add(parent);
-                    List<Comment> replies = repliesGrouped.getOrDefault(parent.getId(), Collections.emptyList());
-                    sortedComments.addAll(replies);
-                });
-
-        // 페이징 수동 처리
-        int start = Math.min((page - 1) * size, sortedComments.size());
-        int end = Math.min(start + size, sortedComments.size());
-
-        List<Comment> paged = sortedComments.subList(start, end);
-
-        List<CommentResponseDto> dtoList = paged.stream().map(comment -> {
-            Long writerId = comment.getMember().getId();
-            boolean isAuthor = writerId.equals(memberId);
-            boolean isFollowing = followingIds.contains(writerId);
-            boolean isBlocked = blockedMemberIds.contains(writerId);
-            boolean isPostWriter = writerId.equals(postWriterId);
-
-            String mappedName = comment.isAnonymous() 
-                    ? (comment.getAnonymousNickname() != null ? comment.getAnonymousNickname() : "익명")
-                    : (comment.getMember().getPostProfileInfo() != null && comment.getMember().getPostProfileInfo().getPostProfileNickname() != null
-                        ? comment.getMember().getPostProfileInfo().getPostProfileNickname()
-                        : comment.getMember().getNickname());
-
-            String imageUrl = comment.isAnonymous() ? "" :
-                    (comment.getMember().getPostProfileInfo() != null && comment.getMember().getPostProfileInfo().getPostProfileImageUrl() != null
-                        ? comment.getMember().getPostProfileInfo().getPostProfileImageUrl()
-                        : (comment.getMember().getProfileImage() != null
-                                ? comment.getMember().getProfileImage()
-                                : ""));
-
-            // isPostWriter 결정 로직
-            Boolean finalIsPostWriter = isPostWriter;
-            if (isPostWriter) {
-                // 글 작성자인 경우
-                if (isPostAnonymous && !comment.isAnonymous()) {
-                    // 익명 게시물 + 실명 댓글 → 작성자임을 숨김
-                    finalIsPostWriter = false;
-                } else if (!isPostAnonymous && comment.isAnonymous()) {
-                    // 실명 게시물 + 익명 댓글 → 작성자임을 숨김
-                    finalIsPostWriter = false;
-                }
-                // 익명 게시물 + 익명 댓글, 실명 게시물 + 실명 댓글은 그대로 유지
-            }
+        size = validateCursorSize(size, MAX_PAGE_SIZE);
+
+        // 최상위 댓글 아래에 대댓글을 붙인 순서 그대로 DB 에서 페이지를 자른다
+        Page<Comment> paged = commentRepository.findThreadOrderedByPost_Id(postId, PageRequest.of(page - 1, size));
+        if (paged.isEmpty()) {
+            return new PageImpl<>(List.of(), paged.getPageable(), paged.getTotalElements());
+        }
+
+        CommentViewer viewer = viewerOf(memberId, paged.getContent().get(0).getPost());
+        return paged.map(comment -> toResponse(comment, viewer));
+    }
+
+    /**
+     * 최상위 댓글을 커서 기준으로 size 개 조회하고, 각 댓글의 대댓글을 먼저 작성된 순으로 replySize 개까지 붙인다.
+     * 대댓글은 조회한 최상위 댓글 전체에 대해 쿼리 한 번으로 가져오고, 남은 대댓글은 getReplies 로 이어서 조회한다.
+     */
+    public CommentThreadCursorResponseDto getCommentThreads(Long postId, String cursor, int size, int replySize, Long memberId) {
+        size = validateCursorSize(size, MAX_PAGE_SIZE);
+        int previewSize = validateCursorSize(replySize, MAX_REPLY_PREVIEW_SIZE);
+
+        CommentCursor after = CommentCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Comment> roots = after == null
+                ? commentRepository.findRootComments(postId, limit)
+                : commentRepository.findRootCommentsAfter(postId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = roots.size() > size;
+        if (hasNext) {
+            roots = roots.subList(0, size);
+        }
+        if (roots.isEmpty()) {
+            return new CommentThreadCursorResponseDto(size, false, null, List.of());
+        }
 
-            return new CommentResponseDto(
-                    comment.getId(),
-                    isBlocked ? "차단한 멤버의 댓글입니다." : comment.getContent(),
-                    comment.isAnonymous(),
-                    comment.getReply() != null ? comment.getReply().getId() : null,
-                    mappedName,
-                    imageUrl,
-                    comment.getLikes(),
-                    comment.getCreatedAt(),
-                    isAuthor,
-                    writerId,
-                    isFollowing,
-                    isBlocked,
-                    comment.isDeleted(), // 삭제 여부 추가
-                    finalIsPostWriter
+        // 부모마다 previewSize + 1 개를 읽어서 더 남았는지 판단한다
+        List<Long> rootIds = roots.stream().map(Comment::getId).toList();
+        Map<Long, List<Comment>> repliesByRoot = commentRepository.findFirstRepliesByParentIds(rootIds, previewSize + 1).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getReply().getId()));
+
+        CommentViewer viewer = viewerOf(memberId, roots.get(0).getPost());
+        List<CommentThreadResponseDto> threads = roots.stream().map(root -> {
+            List<Comment> replies = repliesByRoot.getOrDefault(root.getId(), List.of());
+            boolean hasMoreReplies = replies.size() > previewSize;
+            if (hasMoreReplies) {
+                replies = replies.subList(0, previewSize);
+            }
+            return new CommentThreadResponseDto(
+                    toResponse(root, viewer),
+                    replies.stream().map(reply -> toResponse(reply, viewer)).toList(),
+                    hasMoreReplies,
+                    hasMoreReplies ? CommentCursor.of(replies.get(replies.size() - 1)).encode() : null
             );
         }).toList();
 
-        return new PageImpl<>(dtoList, PageRequest.of(page - 1, size), sortedComments.size());
+        String nextCursor = hasNext ? CommentCursor.of(roots.get(roots.size() - 1)).encode() : null;
+        return new CommentThreadCursorResponseDto(size, hasNext, nextCursor, threads);
     }
 
+    /**
+     * 댓글의 대댓글을 커서 기준으로 먼저 작성된 순으로 조회한다.
+     */
+    public CommentCursorResponseDto getReplies(Long postId, Long commentId, String cursor, int size, Long memberId) {
+        size = validateCursorSize(size, MAX_PAGE_SIZE);
+
+        Comment parent = commentRepository.findById(commentId)
+                .filter(comment -> comment.getPostId().equals(postId))
+                .orElseThrow(() -> new CustomException(CommentErrorCode.COMMENT_NOT_FOUND));
+
+        CommentCursor after = CommentCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Comment> replies = after == null
+                ? commentRepository.findReplies(commentId, limit)
+                : commentRepository.findRepliesAfter(commentId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = replies.size() > size;
+        if (hasNext) {
+            replies = replies.subList(0, size);
+        }
 
+        CommentViewer viewer = viewerOf(memberId, parent.getPost());
+        String nextCursor = hasNext ? CommentCursor.of(replies.get(replies.size() - 1)).encode() : null;
+        return new CommentCursorResponseDto(size, hasNext, nextCursor,
+                replies.stream().map(reply -> toResponse(reply, viewer)).toList());
+    }
+
+    // 목록 응답을 만들 때 댓글마다 다시 조회하지 않도록 한 번만 모아 두는 조회자 정보
+    private record CommentViewer(Long memberId, Set<Long> blockedMemberIds, Set<Long> followingIds,
+                                 Long postWriterId, boolean isPostAnonymous) {
+    }
+
+    private CommentViewer viewerOf(Long memberId, Post post) {
+        return new CommentViewer(
+                memberId,
+                memberService.getBlockedMemberIds(memberId),
+                socialGraphCache.getFollowingMemberIds(memberId),
+                post.getMember().getId(),
+                post.isAnonymous()
+        );
+    }
+
+    private CommentResponseDto toResponse(Comment comment, CommentViewer viewer) {
+        Long writerId = comment.getMember().getId();
+        boolean isAuthor = writerId.equals(viewer.memberId());
+        boolean isFollowing = viewer.followingIds().contains(writerId);
+        boolean isBlocked = viewer.blockedMemberIds().contains(writerId);
+        boolean isPostWriter = writerId.equals(viewer.postWriterId());
+        boolean isPostAnonymous = viewer.isPostAnonymous();
+
+        String mappedName = comment.isAnonymous()
+                ? (comment.getAnonymousNickname() != null ? comment.getAnonymousNickname() : "익명")
+                : (comment.getMember().getPostProfileInfo() != null && comment.getMember().getPostProfileInfo().getPostProfileNickname() != null
+                    ? comment.getMember().getPostProfileInfo().getPostProfileNickname()
+                    : comment.getMember().getNickname());
+
+        String imageUrl = comment.isAnonymous() ? "" :
+                (comment.getMember().getPostProfileInfo() != null && comment.getMember().getPostProfileInfo().getPostProfileImageUrl() != null
+                    ? comment.getMember().getPostProfileInfo().getPostProfileImageUrl()
+                    : (comment.getMember().getProfileImage() != null
+                            ? comment.getMember().getProfileImage()
+                            : ""));
+
+        // isPostWriter 결정 로직
+        Boolean finalIsPostWriter = isPostWriter;
+        if (isPostWriter) {
+            // 글 작성자인 경우
+            if (isPostAnonymous && !comment.isAnonymous()) {
+                // 익명 게시물 + 실명 댓글 → 작성자임을 숨김
+                finalIsPostWriter = false;
+            } else if (!isPostAnonymous && comment.isAnonymous()) {
+                // 실명 게시물 + 익명 댓글 → 작성자임을 숨김
+                finalIsPostWriter = false;
+            }
+            // 익명 게시물 + 익명 댓글, 실명 게시물 + 실명 댓글은 그대로 유지
+        }
+
+        return new CommentResponseDto(
+                comment.getId(),
+                isBlocked ? "차단한 멤버의 댓글입니다." : comment.getContent(),
+                comment.isAnonymous(),
+                comment.getReply() != null ? comment.getReply().getId() : null,
+                mappedName,
+                imageUrl,
+                writeBehindCounterService.overlay(CounterType.COMMENT_LIKES, comment.getId(), comment.getLikes()),
+                comment.getCreatedAt(),
+                isAuthor,
+                writerId,
+                isFollowing,
+                isBlocked,
+                comment.isDeleted(), // 삭제 여부 추가
+                finalIsPostWriter
+        );
+    }
+
+    // 너무 큰 값은 max 로 줄인다. size + 1 로 다음 목록 여부를 보므로 넘침도 함께 막는다
+    private int validateCursorSize(int size, int max) {
+        if (size < 1) {
+            throw new CustomException(ErrorCode.PAGE_OUT_OF_BOUNDS);
+        }
+        return Math.min(size, max);
+    }
 
     @Transactional
     public CommentResponseDto updateComment(Long commentId, Long memberId, CommentRequestDto requestDto) {
@@ -271,7 +356,8 @@ public class CommentService {
         commentLikeRepository.deleteByCommentId(commentId);
 
         // 2. 댓글 개수 감소
-        postRepository.decreaseComments(comment.getPost().getId());
+        writeBehindCounterService.decrement(CounterType.POST_COMMENTS, comment.getPost().getId());
+        eventPublisher.publishEvent(PostEngagementChangedEvent.of(comment.getPost(), -1));
 
 
         boolean hasChildReplies = commentRepository.existsByReplyId(commentId);
@@ -310,14 +396,16 @@ public class CommentService {
 
         commentLikeRepository.save(commentLike);
 
-        // 좋아요 로직 구현 필요 (중복 좋아요 방지 등)
-        commentRepository.increaseLikesById(commentId); // 좋아요 수 증가
+        // 좋아요 수 증가 (커밋 후 쓰기 지연으로 반영)
+        writeBehindCounterService.increment(CounterType.COMMENT_LIKES, commentId);
+        int likes = writeBehindCounterService.overlay(CounterType.COMMENT_LIKES, commentId, comment.getLikes()) + 1;
 
         // 팔로잉 여부
         boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(memberId, comment.getMember().getId());
         // 차단 여부
         boolean isPostWriter = comment.getPost().getMember().getId().equals(comment.getMember().getId());
-        return CommentResponseDto.from(comment, comment.getMember().getId().equals(memberId), isFollowing, isBlockedMember, false, isPostWriter, comment.getPost().isAnonymous()); // 자신이 작성한 댓글인지 여부
+        return CommentResponseDto.from(comment, comment.getMember().getId().equals(memberId), isFollowing, isBlockedMember, false, isPostWriter, comment.getPost().isAnonymous()) // 자신이 작성한 댓글인지 여부
+                .withLikes(likes);
     }
 
     @Transactional
@@ -342,15 +430,13 @@ public class CommentService {
         }
 
         // 실제 삭제된 수만큼 카운트 감소
-        if (deletedCount > 1) {
-            commentRepository.decreaseLikesById(commentId, deletedCount);
-        } else {
-            commentRepository.decreaseLikesById(commentId);
-        }
+        writeBehindCounterService.add(CounterType.COMMENT_LIKES, commentId, -deletedCount);
+        int likes = Math.max(0, writeBehindCounterService.overlay(CounterType.COMMENT_LIKES, commentId, comment.getLikes()) - deletedCount);
 
         boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(memberId, comment.getMember().getId());
         boolean isPostWriter = comment.getPost().getMember().getId().equals(comment.getMember().getId());
 
-        return CommentResponseDto.from(comment, comment.getMember().getId().equals(memberId), isFollowing, isBlockedMember, false, isPostWriter, comment.getPost().isAnonymous()); // 자신이 작성한 댓글인지 여부
+        return CommentResponseDto.from(comment, comment.getMember().getId().equals(memberId), isFollowing, isBlockedMember, false, isPostWriter, comment.getPost().isAnonymous()) // 자신이 작성한 댓글인지 여부
+                .withLikes(likes);
     }
 }
@@ -0,0 +1,41 @@
+package com.ceos.beatbuddy.domain.comment.dto;
+
+import com.ceos.beatbuddy.domain.comment.entity.Comment;
+import com.ceos.beatbuddy.domain.comment.exception.CommentErrorCode;
+import com.ceos.beatbuddy.global.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서. 마지막으로 받은 댓글의 (createdAt, id) 이고, 클라이언트에는 불투명한 문자열로 내려간다.
+ * 댓글은 오래된 순으로 내려가므로 다음 목록은 이 위치보다 뒤에 작성된 댓글이다.
+ */
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 첫 페이지를 뜻하는 null 을 반환한다.
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(CommentErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -76,4 +76,10 @@ public record CommentResponseDto(
 
         );
     }
+
+    // 아직 DB 에 반영되지 않은 좋아요 수를 덮어쓸 때 사용
+    public CommentResponseDto withLikes(Integer likes) {
+        return new CommentResponseDto(id, content, isAnonymous, replyId, memberName, imageUrl, likes, createdAt,
+                isAuthor, writerId, isFollowing, isBlocked, isDeleted, isPostWriter);
+    }
 }
@@ -0,0 +1,11 @@
+package com.ceos.beatbuddy.domain.comment.dto;
+
+import java.util.List;
+
+public record CommentThreadCursorResponseDto(
+        int size,
+        boolean hasNext,
+        String nextCursor, // 마지막 목록이면 null
+        List<CommentThreadResponseDto> threads
+) {
+}
@@ -0,0 +1,15 @@
+package com.ceos.beatbuddy.domain.comment.dto;
+
+import java.util.List;
+
+/**
+ * 최상위 댓글과 먼저 보여줄 대댓글 몇 개.
+ * hasMoreReplies 가 true 이면 nextReplyCursor 로 대댓글 목록 API 를 이어서 호출한다.
+ */
+public record CommentThreadResponseDto(
+        CommentResponseDto comment,
+        List<CommentResponseDto> replies,
+        boolean hasMoreReplies,
+        String nextReplyCursor
+) {
+}
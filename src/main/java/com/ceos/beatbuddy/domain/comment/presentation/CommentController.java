@@ -1,11 +1,14 @@
 package com.ceos.beatbuddy.domain.comment.presentation;
 
 import com.ceos.beatbuddy.domain.comment.application.CommentService;
+import com.ceos.beatbuddy.domain.comment.dto.CommentCursorResponseDto;
 import com.ceos.beatbuddy.domain.comment.dto.CommentRequestDto;
 import com.ceos.beatbuddy.domain.comment.dto.CommentResponseDto;
+import com.ceos.beatbuddy.domain.comment.dto.CommentThreadCursorResponseDto;
 import com.ceos.beatbuddy.global.SwaggerExamples;
 import com.ceos.beatbuddy.global.config.jwt.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -75,6 +78,43 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getAllComments(postId, page, size, memberId));
     }
 
+    @GetMapping("/threads")
+    @Operation(summary = "댓글 목록 커서 조회", description = "최상위 댓글을 오래된 순으로 조회하고, 댓글마다 대댓글을 replySize 개까지 함께 내려줍니다.\n" +
+            "다음 목록은 nextCursor 로, 남은 대댓글은 nextReplyCursor 로 대댓글 목록 API 를 호출해서 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "커서 값이 올바르지 않습니다")
+    })
+    public ResponseEntity<CommentThreadCursorResponseDto> getCommentThreads(
+            @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "최상위 댓글 수, 최대 50")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "댓글마다 함께 내려줄 대댓글 수, 최대 20")
+            @RequestParam(defaultValue = "3") int replySize) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        return ResponseEntity.ok(commentService.getCommentThreads(postId, cursor, size, replySize, memberId));
+    }
+
+    @GetMapping("/{commentId}/replies")
+    @Operation(summary = "대댓글 목록 커서 조회", description = "댓글의 대댓글을 오래된 순으로 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "대댓글 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "커서 값이 올바르지 않습니다"),
+            @ApiResponse(responseCode = "404", description = "댓글이 존재하지 않습니다")
+    })
+    public ResponseEntity<CommentCursorResponseDto> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @Parameter(description = "댓글 목록의 nextReplyCursor 또는 이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "대댓글 수, 최대 50")
+            @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        return ResponseEntity.ok(commentService.getReplies(postId, commentId, cursor, size, memberId));
+    }
+
     @PutMapping("/{commentId}")
     @Operation(summary = "댓글 수정", description = "댓글 내용을 수정합니다")
     @ApiResponses({
@@ -6,8 +6,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,24 +26,51 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 최적화용 bulk 조회
     List<Comment> findAllByMember_IdAndPost_IdIn(Long memberId, List<Long> postIds);
-    
-    // 삭제되지 않은 댓글만 조회
-    List<Comment> findAllByMember_IdAndPost_IdInAndIsDeletedFalse(Long memberId, List<Long> postIds);
 
-    List<Comment> findAllByPost_IdOrderByCreatedAtAsc(Long postId);
+    // 최상위 댓글 바로 아래에 그 대댓글을 붙인 순서로 페이지를 자른다. 대댓글의 대댓글은 목록에 나오지 않는다
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.member LEFT JOIN c.reply p " +
+            "WHERE c.post.id = :postId AND (p IS NULL OR p.reply IS NULL) " +
+            "ORDER BY COALESCE(p.createdAt, c.createdAt), COALESCE(p.id, c.id), " +
+            "CASE WHEN p IS NULL THEN 0 ELSE 1 END, c.createdAt, c.id",
+            countQuery = "SELECT COUNT(c) FROM Comment c LEFT JOIN c.reply p " +
+                    "WHERE c.post.id = :postId AND (p IS NULL OR p.reply IS NULL)")
+    Page<Comment> findThreadOrderedByPost_Id(@Param("postId") Long postId, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Comment c SET c.likes = CASE WHEN c.likes > 0 THEN c.likes - 1 ELSE 0 END WHERE c.id = :commentId")
-    void decreaseLikesById(Long commentId);
-    
-    // 좋아요 수를 지정된 개수만큼 감소
-    @Modifying
-    @Query("UPDATE Comment c SET c.likes = CASE WHEN c.likes >= :count THEN c.likes - :count ELSE 0 END WHERE c.id = :commentId")
-    void decreaseLikesById(Long commentId, int count);
+    // 최상위 댓글 커서 조회 (createdAt, id) 오름차순
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.reply IS NULL " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findRootComments(@Param("postId") Long postId, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Comment c SET c.likes = c.likes + 1 WHERE c.id = :commentId")
-    void increaseLikesById(Long commentId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.reply IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findRootCommentsAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
+    // 부모 댓글마다 먼저 작성된 대댓글을 최대 limit 개씩 한 번에 조회한다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.id IN (" +
+            "SELECT ranked.id FROM (" +
+            "SELECT r.id AS id, ROW_NUMBER() OVER (PARTITION BY r.reply.id ORDER BY r.createdAt, r.id) AS rn " +
+            "FROM Comment r WHERE r.reply.id IN :parentIds" +
+            ") ranked WHERE ranked.rn <= :limit) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findFirstRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    // 대댓글 커서 조회 (createdAt, id) 오름차순
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.reply.id = :parentId " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findReplies(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.reply.id = :parentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findRepliesAfter(@Param("parentId") Long parentId, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id, Pageable pageable);
 
     boolean existsByReplyId(Long parentCommentId);
     
@@ -54,4 +84,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 특정 포스트의 모든 댓글 삭제
     @Modifying
     void deleteByPost_Id(Long postId);
+
+    // 게시글 삭제 시 대댓글 연결을 먼저 끊어서, 깊이와 상관없이 댓글을 한 번에 지울 수 있게 한다
+    @Modifying
+    @Query("UPDATE Comment c SET c.reply = null WHERE c.post.id = :postId AND c.reply IS NOT NULL")
+    int detachRepliesByPostId(Long postId);
+
+    // 게시글의 모든 댓글 일괄 삭제 (댓글 엔티티를 불러오지 않는다)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteAllByPostId(Long postId);
 }
@@ -9,11 +9,11 @@ import com.ceos.beatbuddy.domain.event.entity.Event;
 import com.ceos.beatbuddy.domain.event.entity.EventComment;
 import com.ceos.beatbuddy.domain.event.entity.EventCommentCreatedEvent;
 import com.ceos.beatbuddy.domain.event.repository.EventCommentRepository;
-import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -33,9 +33,9 @@ public class EventCommentService {
     private final EventService eventService;
     private final EventCommentRepository eventCommentRepository;
     private final EventValidator eventValidator;
-    private final FollowRepository followRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final AnonymousNicknameService anonymousNicknameService;
+    private final SocialGraphCache socialGraphCache;
 
     @Transactional
     public EventCommentResponseDTO createComment(Long eventId, Long memberId, EventCommentCreateRequestDTO dto, Long parentCommentId) {
@@ -124,7 +124,7 @@ public class EventCommentService {
 
         // 차단/팔로우 ID 조회
         Set<Long> blockedMemberIds = memberService.getBlockedMemberIds(memberId);
-        Set<Long> followingIds = followRepository.findFollowingMemberIds(memberId);
+        Set<Long> followingIds = socialGraphCache.getFollowingMemberIds(memberId);
 
         // 댓글 트리 구성 (부모 ID 기준 그룹핑)
         Map<Long, List<EventComment>> grouped = all.stream()
@@ -0,0 +1,81 @@
+package com.ceos.beatbuddy.domain.event.application;
+
+import com.ceos.beatbuddy.domain.event.repository.EventRepository;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 추천 대상 이벤트(공개된 UPCOMING/NOW 이벤트)와 주최 베뉴를 메모리에 들고 있는 인덱스.
+ * 이벤트 점수는 회원 취향 벡터와 주최 베뉴 벡터(VenueVectorIndex)의 유사도이며, 이벤트 목록은
+ * EventStatusScheduler 의 상태 전환이나 이벤트 등록/수정/삭제 시에만 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventRecommendationIndex {
+
+    private final EventRepository eventRepository;
+    private final VenueVectorIndex venueVectorIndex;
+
+    private volatile List<Candidate> candidates;
+
+    private record Candidate(Long eventId, Long venueId, LocalDateTime startDate) {
+    }
+
+    public record ScoredEvent(Long eventId, double score) {
+    }
+
+    public synchronized void refresh() {
+        List<Candidate> loaded = eventRepository.findRecommendableEventVenues().stream()
+                .map(row -> new Candidate(row.getEventId(), row.getVenueId(), row.getStartDate()))
+                .toList();
+        this.candidates = loaded;
+        log.info("추천 이벤트 후보 갱신 - {}건", loaded.size());
+    }
+
+    /**
+     * 모든 후보 이벤트를 점수 내림차순(동점이면 시작일 빠른 순)으로 반환한다.
+     * 주최 베뉴가 벡터 인덱스에 없으면 0점으로 뒤에 둔다.
+     */
+    public List<ScoredEvent> rank(Vector memberVector) {
+        List<Candidate> current = ensureLoaded();
+        Vector unitMemberVector = memberVector.normalized();
+
+        record Scored(Candidate candidate, double score) {
+        }
+        List<Scored> scored = new ArrayList<>(current.size());
+        for (Candidate candidate : current) {
+            double score = venueVectorIndex.get(candidate.venueId())
+                    .map(entry -> venueVectorIndex.similarity(memberVector, unitMemberVector, entry))
+                    .orElse(0.0);
+            scored.add(new Scored(candidate, score));
+        }
+        scored.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(s -> s.candidate().startDate(), Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return scored.stream()
+                .map(s -> new ScoredEvent(s.candidate().eventId(), s.score()))
+                .toList();
+    }
+
+    private List<Candidate> ensureLoaded() {
+        List<Candidate> current = candidates;
+        if (current == null) {
+            synchronized (this) {
+                if (candidates == null) {
+                    refresh();
+                }
+                current = candidates;
+            }
+        }
+        return current;
+    }
+}
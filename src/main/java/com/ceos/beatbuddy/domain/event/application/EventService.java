@@ -1,18 +1,24 @@
 package com.ceos.beatbuddy.domain.event.application;
 
 import com.ceos.beatbuddy.domain.event.dto.*;
+import com.ceos.beatbuddy.domain.event.application.EventRecommendationIndex.ScoredEvent;
 import com.ceos.beatbuddy.domain.event.entity.Event;
+import com.ceos.beatbuddy.domain.event.entity.RecommendableEventsChangedEvent;
 import com.ceos.beatbuddy.domain.event.exception.EventErrorCode;
 import com.ceos.beatbuddy.domain.event.repository.*;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
+import com.ceos.beatbuddy.domain.member.application.RecommendService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.venue.application.VenueInfoService;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.ViewCounter;
 import com.ceos.beatbuddy.global.service.ImageUploadService;
 import com.ceos.beatbuddy.global.util.UploadUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,8 +26,10 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,15 +46,13 @@ public class EventService {
     private final EventValidator eventValidator;
     private final EventAttendanceRepository eventAttendanceRepository;
     private final EventElasticService eventElasticService;
+    private final EventRecommendationIndex eventRecommendationIndex;
+    private final RecommendService recommendService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCounter viewCounter;
 
-    @Transactional
+    // 업로드 동안 DB 커넥션을 잡지 않도록 업로드를 먼저 하고, 조회와 저장은 짧은 트랜잭션에서 한다
     public EventResponseDTO addEvent(Long memberId, EventCreateRequestDTO eventCreateRequestDTO, List<MultipartFile> images) {
-        Member member = memberService.validateAndGetMember(memberId);
-
-        if (!(Objects.equals(member.getRole().toString(), "ADMIN")) && !(Objects.equals(member.getRole().toString(), "BUSINESS"))) {
-            throw new CustomException(EventErrorCode.CANNOT_ADD_EVENT_UNAUTHORIZED_MEMBER);
-        }
-
         // 이미지 5장 이하인지 확인
         if (images != null && images.size() > 5) {
             throw new CustomException(ErrorCode.TOO_MANY_IMAGES_5);
@@ -58,31 +64,46 @@ public class EventService {
         // 에약금 정보 확인
         eventValidator.validateReceiveMoney(eventCreateRequestDTO.isReceiveMoney(), eventCreateRequestDTO.getDepositAccount(), eventCreateRequestDTO.getDepositAmount());
 
-        // 엔티티 생성
-        Event event = EventCreateRequestDTO.toEntity(eventCreateRequestDTO, member);
-        
-        // 날짜에 따른 올바른 상태 설정
-        event.updateEventStatusByDate();
-
-        // 베뉴가 등록되어있다면,
-        if (eventCreateRequestDTO.getVenueId() != null && eventCreateRequestDTO.getVenueId() > 0) {
-            Venue venue = venueInfoService.validateAndGetVenue(eventCreateRequestDTO.getVenueId());
-            event.setVenue(venue);
+        // 권한이 없으면 이미지를 올리기 전에 거절한다
+        Member member = memberService.validateAndGetMember(memberId);
+        if (!(Objects.equals(member.getRole().toString(), "ADMIN")) && !(Objects.equals(member.getRole().toString(), "BUSINESS"))) {
+            throw new CustomException(EventErrorCode.CANNOT_ADD_EVENT_UNAUTHORIZED_MEMBER);
         }
 
-        // 이미지 setting
-        if (images != null && !images.isEmpty()) {
-            List<String> imageUrls = imageUploadService.uploadImagesParallel(images, UploadUtil.BucketType.MEDIA, "event");
-            event.setThumbImage(imageUrls.get(0));
-            event.setImageUrls(imageUrls);
-        }
+        // 이미지 업로드 (트랜잭션 밖)
+        List<String> imageUrls = (images != null && !images.isEmpty())
+                ? imageUploadService.uploadImagesParallel(images, UploadUtil.BucketType.MEDIA, "event")
+                : List.of();
 
-        eventRepository.save(event);
+        // 저장에 실패하면 올린 이미지를 지운다
+        return imageUploadService.saveAfterUpload(imageUrls, UploadUtil.BucketType.MEDIA, () -> {
+            // 엔티티 생성
+            Event event = EventCreateRequestDTO.toEntity(eventCreateRequestDTO, member);
 
-        // 일래스틱 저장
-        eventElasticService.save(event);
+            // 날짜에 따른 올바른 상태 설정
+            event.updateEventStatusByDate();
+
+            // 베뉴가 등록되어있다면,
+            if (eventCreateRequestDTO.getVenueId() != null && eventCreateRequestDTO.getVenueId() > 0) {
+                Venue venue = venueInfoService.validateAndGetVenue(eventCreateRequestDTO.getVenueId());
+                event.setVenue(venue);
+            }
+
+            // 이미지 setting
+            if (!imageUrls.isEmpty()) {
+                event.setThumbImage(imageUrls.get(0));
+                event.setImageUrls(imageUrls);
+            }
+
+            eventRepository.save(event);
 
-        return EventResponseDTO.toDTO(event, false, true, false); // 좋아요 여부는 false, 내가 작성자 여부는 true로 설정, 참여는 false
+            // 일래스틱 저장
+            eventElasticService.save(event);
+
+            eventPublisher.publishEvent(new RecommendableEventsChangedEvent());
+
+            return EventResponseDTO.toDTO(event, false, true, false); // 좋아요 여부는 false, 내가 작성자 여부는 true로 설정, 참여는 false
+        });
     }
 
     @Transactional
@@ -150,6 +171,8 @@ public class EventService {
         // 일래스틱 저장
         eventElasticService.save(event);
 
+        eventPublisher.publishEvent(new RecommendableEventsChangedEvent());
+
         // 참여 여부 확인
         boolean isAttending = eventAttendanceRepository.existsByMemberIdAndEventId(memberId, eventId);
 
@@ -251,6 +274,48 @@ public class EventService {
                 .build();
     }
 
+    /**
+     * 진행 중/예정 이벤트를 회원 취향과 주최 베뉴의 유사도 순으로 조회한다.
+     * 후보와 점수 계산은 메모리에서 끝나고, DB 는 해당 페이지의 이벤트만 조회한다.
+     */
+    public EventListResponseDTO getRecommendedEvents(Integer page, Integer size, Long memberId) {
+        Member member = memberService.validateAndGetMember(memberId);
+        if (page < 1) {
+            throw new CustomException(ErrorCode.PAGE_OUT_OF_BOUNDS);
+        }
+
+        List<ScoredEvent> ranked = eventRecommendationIndex.rank(recommendService.getPreferenceVector(member));
+        int offset = Math.min((page - 1) * size, ranked.size());
+        List<Long> eventIds = ranked.subList(offset, Math.min(offset + size, ranked.size())).stream()
+                .map(ScoredEvent::eventId)
+                .toList();
+
+        Map<Long, Event> eventsById = eventIds.isEmpty() ? Map.of()
+                : eventRepository.findAllWithVenueByIdIn(eventIds).stream()
+                        .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        Set<Long> likedEventIds = new HashSet<>(eventLikeRepository.findLikedEventIdsByMember(member));
+        Set<Long> attendingEventIds = eventAttendanceRepository.findByMember(member).stream()
+                .map(att -> att.getEvent().getId())
+                .collect(Collectors.toSet());
+
+        List<EventResponseDTO> dto = eventIds.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .map(event -> EventResponseDTO.toListDTO(event, member.getId().equals(event.getHost().getId()),
+                        likedEventIds.contains(event.getId()),
+                        attendingEventIds.contains(event.getId())))
+                .toList();
+
+        return EventListResponseDTO.builder()
+                .sort("recommended")
+                .page(page)
+                .size(size)
+                .totalSize(ranked.size())
+                .eventResponseDTOS(dto)
+                .build();
+    }
+
     public EventListResponseDTO getNowEvents(Integer page, Integer size, Long memberId, List<String> regions) {
         Member member = memberService.validateAndGetMember(memberId);
 
@@ -314,7 +379,7 @@ public class EventService {
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public EventResponseDTO getEventDetail(Long eventId, Long memberId) {
         // 멤버 조회
         Member member = memberService.validateAndGetMember(memberId);
@@ -322,8 +387,8 @@ public class EventService {
         // 이벤트 조회
         Event event = validateAndGet(eventId);
 
-        // 조회수 증가
-        eventRepository.increaseViews(eventId);
+        // 조회수 증가 (하루 1회, 쓰기 지연)
+        viewCounter.recordView(CounterType.EVENT_VIEWS, eventId, memberId);
 
         // 좋아요 여부 확인
         boolean liked = eventLikeRepository.existsByMember_IdAndEvent_Id(memberId, eventId);
@@ -377,6 +442,8 @@ public class EventService {
         
         // 5. 메인 이벤트 엔티티 삭제
         eventRepository.delete(event);
+
+        eventPublisher.publishEvent(new RecommendableEventsChangedEvent());
     }
 
 
@@ -477,6 +477,69 @@ public interface EventApiDocs {
     ResponseEntity<ResponseDTO<EventListResponseDTO>> getEventNowSorted (@RequestParam(defaultValue = "1") Integer page,
                                                                          @RequestParam(defaultValue = "10") Integer size,
                                                                          @RequestParam(required = false) List<String> region);
+
+    @Operation(summary = "취향 기반 추천 이벤트",
+            description = """
+                    예정/진행 중인 이벤트를 회원의 취향(최근 아카이브 또는 최근 장르/무드)과 주최 베뉴의 유사도 순으로 보여줍니다.
+                    - 베뉴가 연결되지 않은 이벤트는 추천 대상에서 제외됩니다.
+                    - 유사도가 같으면 시작일이 빠른 순서입니다.
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "추천 이벤트 조회 성공", content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ResponseDTO.class),
+                    examples = @ExampleObject(value = """
+                    {
+                      "status": 200,
+                      "code": "SUCCESS_GET_RECOMMENDED_EVENTS",
+                      "message": "추천 이벤트를 성공적으로 조회했습니다.",
+                      "data": {
+                        "sort": "recommended",
+                        "page": 1,
+                        "size": 10,
+                        "totalSize": 1,
+                        "eventResponseDTOS": [
+                          {
+                            "eventId": 1,
+                            "title": "이벤트 시작",
+                            "content": "이게 바로 이트",
+                            "thumbImage": "https://beatbuddy.s3.ap-northeast-2.amazonaws.com/ddded007-dGroup%201000003259.png",
+                            "location": "홍대",
+                            "likes": 5,
+                            "views": 0,
+                            "startDate": "2025-06-17T00:00:00",
+                            "endDate": "2025-06-17T00:00:00",
+                            "isAuthor": false,
+                            "region": "홍대",
+                            "isAttending": false,
+                            "receiveAccompany": false,
+                            "liked": false,
+                            "isFreeEntrance": false
+                          }
+                        ]
+                      }
+                    }
+             """)
+            )),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "페이지 번호 오류 또는 취향 정보 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "페이지 범위 오류", value = SwaggerExamples.PAGE_OUT_OF_BOUNDS)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "유저 정보 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "유저 없음", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<EventListResponseDTO>> getRecommendedEvents(@RequestParam(defaultValue = "1") Integer page,
+                                                                           @RequestParam(defaultValue = "10") Integer size);
     @Operation(summary = "종료된 이벤트",
             description = """
                     (종료 날짜 기준 < 오늘) 종료가 된 이벤트를 보여줍니다.
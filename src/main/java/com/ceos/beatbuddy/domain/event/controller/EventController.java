@@ -118,6 +118,20 @@ public class EventController implements EventApiDocs {
     }
 
 
+    // 취향 기반 추천 이벤트
+    @Override
+    @GetMapping("/recommended")
+    public ResponseEntity<ResponseDTO<EventListResponseDTO>> getRecommendedEvents(@RequestParam(defaultValue = "1") Integer page,
+                                                                                  @RequestParam(defaultValue = "10") Integer size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+
+        EventListResponseDTO result = eventService.getRecommendedEvents(page, size, memberId);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_RECOMMENDED_EVENTS.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_RECOMMENDED_EVENTS, result));
+    }
+
     // 이벤트 홈에 종료된 이벤트
     @Override
     @GetMapping("/past")
@@ -0,0 +1,6 @@
+package com.ceos.beatbuddy.domain.event.entity;
+
+/**
+ * 추천 대상 이벤트(공개된 UPCOMING/NOW 이벤트) 목록이 바뀌었을 수 있음을 알린다.
+ */
+public record RecommendableEventsChangedEvent() {}
@@ -0,0 +1,25 @@
+package com.ceos.beatbuddy.domain.event.listener;
+
+import com.ceos.beatbuddy.domain.event.application.EventRecommendationIndex;
+import com.ceos.beatbuddy.domain.event.entity.RecommendableEventsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventRecommendationListener {
+    private final EventRecommendationIndex eventRecommendationIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecommendableEventsChanged(RecommendableEventsChangedEvent event) {
+        try {
+            eventRecommendationIndex.refresh();
+        } catch (Exception e) {
+            log.error("추천 이벤트 후보 갱신 실패", e);
+        }
+    }
+}
@@ -32,10 +32,6 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("UPDATE Event e SET e.likes = CASE WHEN e.likes >= :count THEN e.likes - :count ELSE 0 END WHERE e.id = :eventId")
     void decreaseLike(@Param("eventId") Long eventId, @Param("count") int count);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Event e SET e.views = e.views + 1 WHERE e.id = :eventId")
-    void increaseViews(@Param("eventId") Long eventId);
-
     int countAllByVenue_Id(Long venueId);
 
     // 종료시간이 현재 시간보다 이전이면 과거로 변경: NOW → PAST
@@ -68,6 +64,19 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            and e.endDate < :now
     """)
     int updateUpcomingToPast(@Param("now") LocalDateTime now);
+    // 추천 대상: 베뉴가 연결된 공개 UPCOMING/NOW 이벤트
+    @Query("""
+        select e.id as eventId, e.venue.id as venueId, e.startDate as startDate
+          from Event e
+         where e.status in ('UPCOMING', 'NOW')
+           and e.isVisible = true
+           and e.venue is not null
+    """)
+    List<EventVenueCandidate> findRecommendableEventVenues();
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.venue WHERE e.id IN :eventIds")
+    List<Event> findAllWithVenueByIdIn(@Param("eventIds") List<Long> eventIds);
+
     // 동시성 제어를 위한 PESSIMISTIC_WRITE 락
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM Event e WHERE e.id = :id")
@@ -0,0 +1,11 @@
+package com.ceos.beatbuddy.domain.event.repository;
+
+import java.time.LocalDateTime;
+
+public interface EventVenueCandidate {
+    Long getEventId();
+
+    Long getVenueId();
+
+    LocalDateTime getStartDate();
+}
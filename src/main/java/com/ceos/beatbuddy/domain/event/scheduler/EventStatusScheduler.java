@@ -1,8 +1,10 @@
 package com.ceos.beatbuddy.domain.event.scheduler;
 
+import com.ceos.beatbuddy.domain.event.entity.RecommendableEventsChangedEvent;
 import com.ceos.beatbuddy.domain.event.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ import java.time.LocalTime;
 public class EventStatusScheduler {
 
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 0 * * * *", zone ="Asia/Seoul") // 매 정시
     @Transactional
@@ -37,6 +40,10 @@ public class EventStatusScheduler {
 
             log.info("✅ 이벤트 상태 업데이트 완료 - 총 {}건 처리",
                     nowUpdated + pastUpdated + directPastUpdated);
+
+            if (nowUpdated + pastUpdated + directPastUpdated > 0) {
+                eventPublisher.publishEvent(new RecommendableEventsChangedEvent());
+            }
         } catch (Exception e) {
             log.error("❌ 이벤트 상태 업데이트 실패", e);
         }
@@ -66,6 +73,8 @@ public class EventStatusScheduler {
 
             log.info("✅ 수동 이벤트 상태 업데이트 완료 - 총 {}건 처리",
                     nowUpdated + pastUpdated + directPastUpdated);
+
+            eventPublisher.publishEvent(new RecommendableEventsChangedEvent());
         } catch (Exception e) {
             log.error("❌ 수동 이벤트 상태 업데이트 실패", e);
             throw e; // 예외를 다시 던져서 컨트롤러에서도 알 수 있게 함
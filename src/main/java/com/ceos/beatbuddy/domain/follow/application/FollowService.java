@@ -2,6 +2,7 @@ package com.ceos.beatbuddy.domain.follow.application;
 
 import com.ceos.beatbuddy.domain.follow.dto.FollowResponseDTO;
 import com.ceos.beatbuddy.domain.follow.entity.Follow;
+import com.ceos.beatbuddy.domain.follow.entity.FollowChangedEvent;
 import com.ceos.beatbuddy.domain.follow.entity.FollowCreatedEvent;
 import com.ceos.beatbuddy.domain.follow.exception.FollowErrorCode;
 import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
@@ -10,6 +11,7 @@ import com.ceos.beatbuddy.domain.member.exception.MemberErrorCode;
 import com.ceos.beatbuddy.domain.member.repository.MemberBlockRepository;
 import com.ceos.beatbuddy.domain.member.repository.MemberRepository;
 import com.ceos.beatbuddy.global.CustomException;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,7 @@ public class FollowService {
     private final MemberRepository memberRepository;
     private final MemberBlockRepository memberBlockRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SocialGraphCache socialGraphCache;
 
     @Transactional
     public FollowResponseDTO follow(Long followerId, Long followingId) {
@@ -56,6 +59,7 @@ public class FollowService {
                 .build();
 
         followRepository.save(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followingId, true));
 
         // ======== 알림 전송
         eventPublisher.publishEvent(new FollowCreatedEvent(follower, following));
@@ -70,6 +74,7 @@ public class FollowService {
                 .orElseThrow(() -> new CustomException(FollowErrorCode.FOLLOW_NOT_FOUND));
 
         followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followingId, false));
     }
 
     // 팔로잉 목록 조회 (차단된 사용자 제외, isFollowing 정보 포함)
@@ -78,7 +83,7 @@ public class FollowService {
                 .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_EXIST));
 
         // 차단된 사용자 ID 목록 조회 (조회 대상 사용자 기준)
-        Set<Long> blockedMemberIds = memberBlockRepository.findBlockedMemberIdsByBlockerId(targetMemberId);
+        Set<Long> blockedMemberIds = socialGraphCache.getBlockedMemberIds(targetMemberId);
         
         List<Follow> follows;
         if (blockedMemberIds.isEmpty()) {
@@ -88,7 +93,7 @@ public class FollowService {
         }
 
         // 현재 사용자가 팔로우하고 있는 사용자들 ID 조회
-        Set<Long> currentUserFollowingIds = followRepository.findFollowingMemberIds(currentMemberId);
+        Set<Long> currentUserFollowingIds = socialGraphCache.getFollowingMemberIds(currentMemberId);
 
         return follows.stream()
                 .map(follow -> {
@@ -109,7 +114,7 @@ public class FollowService {
                 .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_EXIST));
 
         // 차단된 사용자 ID 목록 조회 (조회 대상 사용자 기준)
-        Set<Long> blockedMemberIds = memberBlockRepository.findBlockedMemberIdsByBlockerId(targetMemberId);
+        Set<Long> blockedMemberIds = socialGraphCache.getBlockedMemberIds(targetMemberId);
         
         List<Follow> follows;
         if (blockedMemberIds.isEmpty()) {
@@ -119,7 +124,7 @@ public class FollowService {
         }
 
         // 현재 사용자가 팔로우하고 있는 사용자들 ID 조회
-        Set<Long> currentUserFollowingIds = followRepository.findFollowingMemberIds(currentMemberId);
+        Set<Long> currentUserFollowingIds = socialGraphCache.getFollowingMemberIds(currentMemberId);
 
         return follows.stream()
                 .map(follow -> {
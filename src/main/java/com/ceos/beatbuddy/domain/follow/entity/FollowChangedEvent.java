@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.follow.entity;
+
+public record FollowChangedEvent(Long followerId, Long followingId, boolean followed) {
+}
@@ -39,4 +39,9 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId")
     Set<Long> findFollowingMemberIds(@Param("memberId") Long memberId);
+
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :memberId")
+    List<Long> findFollowerMemberIds(@Param("memberId") Long memberId);
+
+    long countByFollowing_Id(Long memberId);
 }
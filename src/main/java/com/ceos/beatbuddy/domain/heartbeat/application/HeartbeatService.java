@@ -1,31 +1,29 @@
 package com.ceos.beatbuddy.domain.heartbeat.application;
 
+import com.ceos.beatbuddy.domain.heartbeat.constant.HotChartWindow;
 import com.ceos.beatbuddy.domain.heartbeat.dto.HeartbeatResponseDTO;
 import com.ceos.beatbuddy.domain.heartbeat.entity.Heartbeat;
+import com.ceos.beatbuddy.domain.heartbeat.entity.HeartbeatChangedEvent;
 import com.ceos.beatbuddy.domain.heartbeat.exception.HeartbeatErrorCode;
+import com.ceos.beatbuddy.domain.heartbeat.redis.HeartbeatRankingStore;
 import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.member.exception.MemberErrorCode;
 import com.ceos.beatbuddy.domain.member.repository.MemberRepository;
-import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.application.VenueCardAssembler;
 import com.ceos.beatbuddy.domain.venue.dto.VenueResponseDTO;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
-import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
-import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
 import com.ceos.beatbuddy.domain.venue.exception.VenueErrorCode;
-import com.ceos.beatbuddy.domain.venue.exception.VenueGenreErrorCode;
-import com.ceos.beatbuddy.domain.venue.exception.VenueMoodErrorCode;
-import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
-import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
 import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
 import com.ceos.beatbuddy.global.CustomException;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 @Service
@@ -33,11 +31,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HeartbeatService {
 
+    private static final int HOT_CHART_SIZE = 10;
+
     private final HeartbeatRepository heartbeatRepository;
     private final MemberRepository memberRepository;
     private final VenueRepository venueRepository;
-    private final VenueGenreRepository venueGenreRepository;
-    private final VenueMoodRepository venueMoodRepository;
+    private final VenueCardAssembler venueCardAssembler;
+    private final HeartbeatRankingStore heartbeatRankingStore;
+    private final WriteBehindCounterService writeBehindCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public HeartbeatResponseDTO addHeartbeat(Long memberId, Long venueId) {
@@ -53,7 +55,8 @@ public class HeartbeatService {
                 .build();
         heartbeatRepository.save(heartbeat);
 
-        venueRepository.incrementHeartbeatCount(venueId);
+        writeBehindCounterService.increment(CounterType.VENUE_HEARTBEATS, venueId);
+        eventPublisher.publishEvent(new HeartbeatChangedEvent(member.getId(), venue.getId(), true));
 
         return HeartbeatResponseDTO.builder()
                 .memberId(member.getId())
@@ -70,7 +73,8 @@ public class HeartbeatService {
 
         heartbeatRepository.delete(heartbeat);
 
-        venueRepository.decrementHeartbeatCount(venueId);
+        writeBehindCounterService.decrement(CounterType.VENUE_HEARTBEATS, venueId);
+        eventPublisher.publishEvent(new HeartbeatChangedEvent(member.getId(), venue.getId(), false));
 
         return HeartbeatResponseDTO.builder()
                 .memberId(member.getId())
@@ -83,40 +87,12 @@ public class HeartbeatService {
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_EXIST));
         List<Heartbeat> heartbeats = heartbeatRepository.findByMember(member);
 
-        return heartbeats.stream()
-                .map(heartBeat -> {
-                    Venue venue = heartBeat.getVenue();
-                    VenueGenre venueGenre = venueGenreRepository.findByVenue(venue)
-                            .orElseThrow(()-> new CustomException(VenueGenreErrorCode.VENUE_GENRE_NOT_EXIST));
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(venueGenre.getGenreVector());
-
-                    VenueMood venueMood = venueMoodRepository.findByVenue(venue)
-                            .orElseThrow(()->new CustomException(VenueMoodErrorCode.VENUE_MOOD_NOT_EXIST));
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(venueMood.getMoodVector());
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .isHeartbeat(true)
-                            .koreanName(heartBeat.getVenue().getKoreanName())
-                            .englishName(heartBeat.getVenue().getEnglishName())
-                            .venueId(heartBeat.getVenue().getId())
-                            .logoUrl(venue.getLogoUrl())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .tagList(tagList)
-                            .heartbeatNum(heartBeat.getVenue().getHeartbeatNum())
-                            .isSmokingAllowed(heartBeat.getVenue().isSmokingAllowed())
-                            .isFreeEntrance(heartBeat.getVenue().isFreeEntrance())
-                            .address(heartBeat.getVenue().getAddress())
-                            .latitude(heartBeat.getVenue().getLatitude())
-                            .longitude(heartBeat.getVenue().getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 프록시 초기화 없이 ID 만 꺼내 한 번에 조회한다
+        List<Long> venueIds = heartbeats.stream()
+                .map(heartbeat -> heartbeat.getVenue().getId())
+                .toList();
 
+        return venueCardAssembler.assembleByIds(venueIds, member.getId());
     }
 
     public HeartbeatResponseDTO getHeartbeat(Long memberId, Long venueId) {
@@ -131,39 +107,15 @@ public class HeartbeatService {
                 .build();
     }
 
-    public List<VenueResponseDTO> getHotChart(Long memberId){
-        List<Venue> venues = venueRepository.sortByHeartbeatCount();
+    public List<VenueResponseDTO> getHotChart(Long memberId, String window){
+        HotChartWindow hotChartWindow = HotChartWindow.fromText(window);
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_EXIST));
 
-        return venues.stream()
-                .map(venue -> {
-                    VenueGenre venueGenre = venueGenreRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueGenreErrorCode.VENUE_GENRE_NOT_EXIST));
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(venueGenre.getGenreVector());
-
-                    VenueMood venueMood = venueMoodRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueMoodErrorCode.VENUE_MOOD_NOT_EXIST));
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(venueMood.getMoodVector());
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .tagList(tagList)
-                            .venueId(venue.getId())
-                            .koreanName(venue.getKoreanName())
-                            .englishName(venue.getEnglishName())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .logoUrl(venue.getLogoUrl())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .isHeartbeat(heartbeatRepository.findByMemberVenue(member, venue).isPresent())
-                            .isSmokingAllowed(venue.isSmokingAllowed())
-                            .isFreeEntrance(venue.isFreeEntrance())
-                            .address(venue.getAddress())
-                            .latitude(venue.getLatitude())
-                            .longitude(venue.getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<Long> venueIds = heartbeatRankingStore.topVenueIds(hotChartWindow, HOT_CHART_SIZE);
+        // 누적 순위가 아직 만들어지지 않았으면 DB 에서 직접 정렬한다
+        if (venueIds.isEmpty() && hotChartWindow == HotChartWindow.ALL && !heartbeatRankingStore.hasTotals()) {
+            return venueCardAssembler.assemble(venueRepository.sortByHeartbeatCount(), member.getId());
+        }
+        return venueCardAssembler.assembleByIds(venueIds, member.getId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.ceos.beatbuddy.domain.heartbeat.constant;
+
+import com.ceos.beatbuddy.domain.heartbeat.exception.HeartbeatErrorCode;
+import com.ceos.beatbuddy.global.CustomException;
+
+import java.time.Duration;
+
+public enum HotChartWindow {
+
+    ALL("all", null),
+    DAY("24h", Duration.ofHours(24)),
+    WEEK("7d", Duration.ofDays(7));
+
+    private final String text;
+    private final Duration duration;
+
+    HotChartWindow(String text, Duration duration) {
+        this.text = text;
+        this.duration = duration;
+    }
+
+    public static HotChartWindow fromText(String text) {
+        for (HotChartWindow window : HotChartWindow.values()) {
+            if (window.text.equalsIgnoreCase(text)) {
+                return window;
+            }
+        }
+        throw new CustomException(HeartbeatErrorCode.INVALID_HOT_CHART_WINDOW);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
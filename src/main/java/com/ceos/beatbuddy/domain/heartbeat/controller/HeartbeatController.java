@@ -107,15 +107,18 @@ public class HeartbeatController {
 //    }
 
     @GetMapping("/hot-chart")
-    @Operation(summary = "HOT chart", description = "하트비트 개수 TOP 10 베뉴 내림차순 정렬")
+    @Operation(summary = "HOT chart", description = """
+            하트비트 개수 TOP 10 베뉴 내림차순 정렬
+            - window: all(누적, 기본값), 24h(최근 24시간 증가분), 7d(최근 7일 증가분)
+            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "HOT chart 조회 성공"
                     , content = @Content(mediaType = "application/json"
                     , array = @ArraySchema(schema = @Schema(implementation = VenueResponseDTO.class))))
     })
-    public ResponseEntity<List<VenueResponseDTO>> getHotChart() {
+    public ResponseEntity<List<VenueResponseDTO>> getHotChart(@RequestParam(defaultValue = "all") String window) {
         Long memberId = SecurityUtils.getCurrentMemberId();
-        return ResponseEntity.ok(heartbeatService.getHotChart(memberId));
+        return ResponseEntity.ok(heartbeatService.getHotChart(memberId, window));
     }
 
 }
@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.heartbeat.entity;
+
+public record HeartbeatChangedEvent(Long memberId, Long venueId, boolean added) {
+}
@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 public enum HeartbeatErrorCode implements ApiCode {
 
     HEARTBEAT_ALREADY_EXIST(HttpStatus.CONFLICT, "사용자가 이미 해당 베뉴에 하트비트를 추가해놓은 상태입니다"),
-    HEARTBEAT_NOT_EXIST(HttpStatus.NOT_FOUND, "해당되는 Heartbeat가 없습니다 (사용자가 해당 베뉴에 Heartbeat를 누른 기록이 없습니다)");
+    HEARTBEAT_NOT_EXIST(HttpStatus.NOT_FOUND, "해당되는 Heartbeat가 없습니다 (사용자가 해당 베뉴에 Heartbeat를 누른 기록이 없습니다)"),
+    INVALID_HOT_CHART_WINDOW(HttpStatus.BAD_REQUEST, "HOT chart 기간은 all, 24h, 7d 중 하나여야 합니다");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,27 @@
+package com.ceos.beatbuddy.domain.heartbeat.listener;
+
+import com.ceos.beatbuddy.domain.heartbeat.entity.HeartbeatChangedEvent;
+import com.ceos.beatbuddy.domain.heartbeat.redis.HeartbeatRankingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HeartbeatRankingListener {
+
+    private final HeartbeatRankingStore heartbeatRankingStore;
+
+    // 커밋된 변경만 반영한다. 실패해서 어긋난 값은 정기 보정에서 맞춰진다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleHeartbeatChanged(HeartbeatChangedEvent event) {
+        try {
+            heartbeatRankingStore.record(event.venueId(), event.added() ? 1 : -1);
+        } catch (Exception e) {
+            log.error("하트비트 순위 갱신 실패 - venueId: {}", event.venueId(), e);
+        }
+    }
+}
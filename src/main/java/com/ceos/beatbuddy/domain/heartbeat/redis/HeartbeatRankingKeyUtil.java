@@ -0,0 +1,38 @@
+package com.ceos.beatbuddy.domain.heartbeat.redis;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class HeartbeatRankingKeyUtil {
+
+    public static final String TOTAL_KEY = "heartbeat_rank:total";
+
+    // 누적 순위 재구성 중 표시 (값: 재구성 토큰)
+    public static final String REBUILD_KEY = "heartbeat_rank:rebuild";
+
+    // 재구성 중 들어온 누적 증감. 재구성이 끝나면 새 순위에 합쳐진다
+    public static final String REBUILD_DELTA_KEY = "heartbeat_rank:rebuild_delta";
+
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 시간 단위 증감 버킷 (24h 윈도우용)
+    public static String getHourBucketKey(LocalDateTime time) {
+        return String.format("heartbeat_rank:hour:%s", time.format(HOUR_FORMAT));
+    }
+
+    // 일 단위 증감 버킷 (7d 윈도우용)
+    public static String getDayBucketKey(LocalDate date) {
+        return String.format("heartbeat_rank:day:%s", date.format(DAY_FORMAT));
+    }
+
+    // 버킷을 ZUNIONSTORE 한 결과 (짧은 TTL)
+    public static String getWindowKey(String window) {
+        return String.format("heartbeat_rank:window:%s", window);
+    }
+
+    public static String getReconcileKey(String token) {
+        return String.format("heartbeat_rank:reconcile:%s", token);
+    }
+}
@@ -0,0 +1,217 @@
+package com.ceos.beatbuddy.domain.heartbeat.redis;
+
+import com.ceos.beatbuddy.domain.heartbeat.constant.HotChartWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 하트비트 순위 ZSET 저장소.
+ * 누적 순위(TOTAL_KEY)는 베뉴의 heartbeatNum 과 같은 값을 유지하고, 시간/일 버킷에는 해당 구간의 증감만 쌓는다.
+ * 24h, 7d 순위는 버킷을 ZUNIONSTORE 한 결과를 WINDOW_TTL(1분) 동안 캐시해서 사용하므로, 최대 1분 전의 순위가 보일 수 있다.
+ * 캐시 확인, 합치기, 조회는 한 스크립트에서 하므로 캐시가 조회 도중 만료되어 빈 순위가 나오지 않는다.
+ * 누적 순위를 DB 기준으로 다시 만드는 동안 들어온 증감은 REBUILD_DELTA_KEY 에도 쌓아 두었다가, 새 순위에 ZUNIONSTORE 로 합친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HeartbeatRankingStore {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(26);
+    private static final Duration DAY_BUCKET_TTL = Duration.ofDays(8);
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(1);
+    private static final Duration REBUILD_TTL = Duration.ofMinutes(5);
+    private static final int RECONCILE_BATCH = 1000;
+
+    // 재구성 중이면(REBUILD_KEY 존재) 누적 증감을 REBUILD_DELTA_KEY 에도 더한다
+    private static final String RECORD_SCRIPT = """
+    redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+    if redis.call('EXISTS', KEYS[2]) == 1 then
+      redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1])
+    end
+    redis.call('ZINCRBY', KEYS[4], ARGV[2], ARGV[1])
+    redis.call('EXPIRE', KEYS[4], ARGV[3])
+    redis.call('ZINCRBY', KEYS[5], ARGV[2], ARGV[1])
+    redis.call('EXPIRE', KEYS[5], ARGV[4])
+    return 1
+        """;
+
+    // 다른 인스턴스가 재구성 중이 아니면 표시를 남기고, 이전에 중단된 재구성의 증감을 지운다
+    private static final String BEGIN_REBUILD_SCRIPT = """
+    if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+      redis.call('DEL', KEYS[2])
+      return 1
+    end
+    return 0
+        """;
+
+    // 재구성 표시가 그대로일 때만 새 순위와 그동안의 증감을 합쳐 누적 순위를 교체한다
+    private static final String MERGE_REBUILD_SCRIPT = """
+    if redis.call('GET', KEYS[4]) ~= ARGV[1] then
+      redis.call('DEL', KEYS[2])
+      return 0
+    end
+    redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[2], KEYS[3])
+    redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+    return 1
+        """;
+
+    // 구간 캐시가 없으면 버킷들을 합쳐 만든 뒤, 점수가 1 이상인 베뉴를 높은 순으로 ARGV[2] 개 반환한다
+    // KEYS: 구간 캐시, 버킷들 / ARGV: 캐시 TTL(초), limit
+    private static final String WINDOW_RANGE_SCRIPT = """
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+      local buckets = {}
+      for i = 2, #KEYS do
+        buckets[#buckets + 1] = KEYS[i]
+      end
+      redis.call('ZUNIONSTORE', KEYS[1], #buckets, unpack(buckets))
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+    end
+    return redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', 1, 'LIMIT', 0, ARGV[2])
+        """;
+
+    private static final String ABORT_REBUILD_SCRIPT = """
+    if redis.call('GET', KEYS[1]) == ARGV[1] then
+      redis.call('DEL', KEYS[1], KEYS[2])
+    end
+    return 1
+        """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 누적 순위와 현재 시간/일 버킷을 한 번의 스크립트로 갱신한다.
+     */
+    public void record(Long venueId, int delta) {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        List<String> keys = List.of(
+                HeartbeatRankingKeyUtil.TOTAL_KEY,
+                HeartbeatRankingKeyUtil.REBUILD_KEY,
+                HeartbeatRankingKeyUtil.REBUILD_DELTA_KEY,
+                HeartbeatRankingKeyUtil.getHourBucketKey(now),
+                HeartbeatRankingKeyUtil.getDayBucketKey(now.toLocalDate()));
+
+        redisTemplate.execute(script(RECORD_SCRIPT), keys, venueId.toString(), String.valueOf(delta),
+                String.valueOf(HOUR_BUCKET_TTL.toSeconds()), String.valueOf(DAY_BUCKET_TTL.toSeconds()));
+    }
+
+    /**
+     * 점수가 높은 순으로 limit 개 반환한다.
+     * 점수가 있는 베뉴가 limit 개보다 적으면 기존 핫차트처럼 10개를 채우도록 누적 순위에서 0점 베뉴를 이어 붙인다.
+     */
+    public List<Long> topVenueIds(HotChartWindow window, int limit) {
+        Set<String> members = new LinkedHashSet<>();
+        if (window != HotChartWindow.ALL) {
+            addMembers(members, windowRange(window, limit));
+        }
+        if (members.size() < limit) {
+            // 누적 순위에는 보정 때 모든 베뉴가 0점 이상으로 들어가 있다
+            addMembers(members, redisTemplate.opsForZSet().reverseRange(HeartbeatRankingKeyUtil.TOTAL_KEY, 0, limit + members.size() - 1));
+        }
+        return members.stream()
+                .limit(limit)
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public boolean hasTotals() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(HeartbeatRankingKeyUtil.TOTAL_KEY));
+    }
+
+    /**
+     * 누적 순위 재구성을 시작한다. 이 시점부터의 증감은 REBUILD_DELTA_KEY 에도 쌓이므로, DB 는 반드시 이 호출 뒤에 읽어야 한다.
+     * 다른 인스턴스가 이미 재구성 중이면 null 을 반환한다.
+     */
+    public String beginTotalsRebuild() {
+        String token = UUID.randomUUID().toString();
+        Long started = redisTemplate.execute(script(BEGIN_REBUILD_SCRIPT),
+                List.of(HeartbeatRankingKeyUtil.REBUILD_KEY, HeartbeatRankingKeyUtil.REBUILD_DELTA_KEY),
+                token, String.valueOf(REBUILD_TTL.toSeconds()));
+        return started != null && started == 1 ? token : null;
+    }
+
+    /**
+     * DB 카운터로 만든 순위를 임시 키에 채운 뒤, 재구성 중 들어온 증감과 ZUNIONSTORE 해서 누적 순위를 교체한다.
+     * 재구성 표시가 만료돼서 그사이 증감을 다 모으지 못했으면 교체하지 않고 false 를 반환한다.
+     */
+    public boolean replaceTotals(String token, Map<Long, Long> heartbeatCounts) {
+        String tempKey = HeartbeatRankingKeyUtil.getReconcileKey(token);
+        byte[] rawTempKey = bytes(tempKey);
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(heartbeatCounts.entrySet());
+        for (int from = 0; from < entries.size(); from += RECONCILE_BATCH) {
+            List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + RECONCILE_BATCH, entries.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<Long, Long> entry : batch) {
+                    connection.zSetCommands().zAdd(rawTempKey, entry.getValue(), bytes(entry.getKey().toString()));
+                }
+                connection.keyCommands().expire(rawTempKey, REBUILD_TTL.toSeconds());
+                return null;
+            });
+        }
+
+        Long merged = redisTemplate.execute(script(MERGE_REBUILD_SCRIPT),
+                List.of(HeartbeatRankingKeyUtil.TOTAL_KEY, tempKey,
+                        HeartbeatRankingKeyUtil.REBUILD_DELTA_KEY, HeartbeatRankingKeyUtil.REBUILD_KEY),
+                token);
+        return merged != null && merged == 1;
+    }
+
+    public void abortTotalsRebuild(String token) {
+        redisTemplate.delete(HeartbeatRankingKeyUtil.getReconcileKey(token));
+        redisTemplate.execute(script(ABORT_REBUILD_SCRIPT),
+                List.of(HeartbeatRankingKeyUtil.REBUILD_KEY, HeartbeatRankingKeyUtil.REBUILD_DELTA_KEY), token);
+    }
+
+    private List<String> windowRange(HotChartWindow window, int limit) {
+        List<String> keys = new ArrayList<>();
+        keys.add(HeartbeatRankingKeyUtil.getWindowKey(window.getText()));
+        keys.addAll(bucketKeys(window, LocalDateTime.now(ZONE)));
+
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(WINDOW_RANGE_SCRIPT);
+        script.setResultType(List.class);
+        @SuppressWarnings("unchecked")
+        List<String> members = redisTemplate.execute(script, keys, String.valueOf(WINDOW_TTL.toSeconds()), String.valueOf(limit));
+        return members;
+    }
+
+    // 24h 는 현재 시간을 포함한 24개의 시간 버킷, 7d 는 오늘을 포함한 7개의 일 버킷
+    private List<String> bucketKeys(HotChartWindow window, LocalDateTime now) {
+        List<String> keys = new ArrayList<>();
+        if (window == HotChartWindow.DAY) {
+            for (int i = 0; i < window.getDuration().toHours(); i++) {
+                keys.add(HeartbeatRankingKeyUtil.getHourBucketKey(now.minusHours(i)));
+            }
+        } else {
+            for (int i = 0; i < window.getDuration().toDays(); i++) {
+                keys.add(HeartbeatRankingKeyUtil.getDayBucketKey(now.toLocalDate().minusDays(i)));
+            }
+        }
+        return keys;
+    }
+
+    private static void addMembers(Set<String> members, Collection<String> range) {
+        if (range != null) {
+            members.addAll(range);
+        }
+    }
+
+    private static DefaultRedisScript<Long> script(String scriptText) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
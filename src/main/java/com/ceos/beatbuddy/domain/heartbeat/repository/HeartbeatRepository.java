@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 @Repository
 public interface HeartbeatRepository extends JpaRepository<Heartbeat, Long> {
     @Query("SELECT hb FROM Heartbeat hb WHERE hb.member = :member AND hb.venue = :venue")
@@ -21,5 +22,11 @@ public interface HeartbeatRepository extends JpaRepository<Heartbeat, Long> {
     @Query("SELECT hb FROM Heartbeat hb WHERE hb.member = :member AND hb.venue.id IN :venueIds")
     List<Heartbeat> findByMemberAndVenueIdIn(@Param("member") Member member, @Param("venueIds") List<Long> venueIds);
 
+    @Query("SELECT hb.venue.id FROM Heartbeat hb WHERE hb.member.id = :memberId AND hb.venue.id IN :venueIds")
+    Set<Long> findVenueIdsByMemberIdAndVenueIdIn(@Param("memberId") Long memberId, @Param("venueIds") List<Long> venueIds);
+
     void deleteByMember(Member member);
+
+    @Query("SELECT hb.member.id AS memberId, hb.venue.id AS venueId FROM Heartbeat hb")
+    List<MemberVenuePair> findAllMemberVenuePairs();
 }
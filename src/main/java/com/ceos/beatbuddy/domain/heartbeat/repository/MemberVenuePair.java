@@ -0,0 +1,7 @@
+package com.ceos.beatbuddy.domain.heartbeat.repository;
+
+public interface MemberVenuePair {
+    Long getMemberId();
+
+    Long getVenueId();
+}
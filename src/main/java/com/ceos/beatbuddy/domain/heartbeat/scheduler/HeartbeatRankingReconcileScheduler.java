@@ -0,0 +1,82 @@
+package com.ceos.beatbuddy.domain.heartbeat.scheduler;
+
+import com.ceos.beatbuddy.domain.heartbeat.redis.HeartbeatRankingStore;
+import com.ceos.beatbuddy.domain.venue.repository.VenueHeartbeatCount;
+import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis 누적 하트비트 순위를 DB 의 heartbeatNum 기준으로 다시 맞춘다.
+ * 리스너 실패, 베뉴 삭제, Redis 유실로 생긴 차이를 정리하는 용도다.
+ * 아직 DB 에 반영되지 않은 쓰기 지연 증감을 더하고, 재구성 중 들어온 증감은 저장소에서 새 순위에 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartbeatRankingReconcileScheduler {
+
+    private final VenueRepository venueRepository;
+    private final HeartbeatRankingStore heartbeatRankingStore;
+    private final WriteBehindCounterService writeBehindCounterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!heartbeatRankingStore.hasTotals()) {
+                reconcile();
+            }
+        } catch (Exception e) {
+            log.error("❌ 하트비트 순위 초기화 실패", e);
+        }
+    }
+
+    // 트랜잭션은 findAllHeartbeatCounts 조회에만 쓰인다 (저장소 기본 readOnly 트랜잭션). Redis 작업 동안 DB 커넥션을 잡지 않는다
+    @Scheduled(cron = "0 */30 * * * *", zone = "Asia/Seoul") // 30분마다
+    public void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("❌ 하트비트 순위 보정 실패", e);
+        }
+    }
+
+    private void reconcile() {
+        // 재구성 표시를 먼저 남겨야 DB 를 읽은 뒤의 증감이 빠지지 않는다
+        String token = heartbeatRankingStore.beginTotalsRebuild();
+        if (token == null) {
+            log.info("하트비트 순위 보정 건너뜀 - 다른 인스턴스에서 진행 중");
+            return;
+        }
+
+        boolean replaced;
+        Map<Long, Long> heartbeatCounts = new HashMap<>();
+        try {
+            for (VenueHeartbeatCount count : venueRepository.findAllHeartbeatCounts()) {
+                heartbeatCounts.put(count.getVenueId(), count.getHeartbeatNum() != null ? count.getHeartbeatNum() : 0L);
+            }
+            // 삭제된 베뉴의 증감은 버린다
+            writeBehindCounterService.pendingDeltas(CounterType.VENUE_HEARTBEATS).forEach((venueId, delta) ->
+                    heartbeatCounts.computeIfPresent(venueId, (id, heartbeatNum) -> Math.max(0, heartbeatNum + delta)));
+            replaced = heartbeatRankingStore.replaceTotals(token, heartbeatCounts);
+        } catch (RuntimeException e) {
+            heartbeatRankingStore.abortTotalsRebuild(token);
+            throw e;
+        }
+
+        if (replaced) {
+            log.info("✅ 하트비트 순위 보정 완료 - 베뉴 {}건", heartbeatCounts.size());
+        } else {
+            log.warn("❌ 하트비트 순위 보정 취소 - 재구성 시간 초과");
+        }
+    }
+}
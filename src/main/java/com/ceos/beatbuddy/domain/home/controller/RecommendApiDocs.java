@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -157,4 +158,65 @@ public interface RecommendApiDocs {
                             schema = @Schema(implementation = ResponseTemplate.class)))
     })
     ResponseEntity<List<VenueResponseDTO>> recommendVenuesByFilter(@RequestBody RecommendFilterDTO recommendFilterDTO);
+
+
+    @Operation(summary = "하트비트 기반 베뉴 추천\n",
+            description = "나와 같은 베뉴를 하트비트한 사용자들이 함께 하트비트한 베뉴를 추천합니다.\n"
+                    + "weight 로 하트비트 기반 점수와 취향 유사도를 섞는 비율을 정합니다. (1이면 하트비트 기반만, 0이면 취향 유사도만)\n"
+                    + "하트비트가 없는 사용자는 취향 유사도만으로 추천되며, 이미 하트비트한 베뉴는 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "추천 베뉴를 조회하는데 성공했습니다.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseDTO.class),
+                            examples = @ExampleObject("""
+                            {
+                              "status": 200,
+                              "code": "SUCCESS_GET_RECOMMEND_WITH_HEARTBEAT",
+                              "message": "하트비트 기반 추천 베뉴를 불러왔습니다.",
+                              "data": [
+                                {
+                                  "venueId": 154,
+                                  "englishName": "ZENBAR",
+                                  "koreanName": "젠바",
+                                  "tagList": ["HIPHOP", "LATIN"],
+                                  "heartbeatNum": 1,
+                                  "logoUrl": "https://example.com/logo.jpg",
+                                  "backgroundUrl": ["https://example.com/bg.mp4"],
+                                  "isHeartbeat": false,
+                                  "isSmokingAllowed": true,
+                                  "isFreeEntrance": false,
+                                  "address": "서울특별시 마포구 서교동 358-1",
+                                  "latitude": 37.5555,
+                                  "longitude": 126.9255
+                                }
+                              ]
+                            }
+                            """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "weight 가 0~1 범위를 벗어났습니다.",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseTemplate.class))),
+            @ApiResponse(responseCode = "404", description = "요청한 유저가 존재하지 않습니다 or 유저의 취향이 존재하지 않습니다",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseTemplate.class)))
+    })
+    ResponseEntity<ResponseDTO<List<VenueResponseDTO>>> recommendVenuesByHeartbeat(@RequestParam(defaultValue = "0.5") double weight);
+
+
+    @Operation(summary = "전국 베뉴 추천\n",
+            description = "선호 지역과 관계없이 전국 베뉴 중 사용자의 취향과 비슷한 베뉴 5개를 추천합니다.\n"
+                    + "근사 검색을 사용하므로 결과가 정확한 순위와 조금 다를 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "추천 베뉴를 조회하는데 성공했습니다.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "요청한 유저가 존재하지 않습니다 or 유저의 취향이 존재하지 않습니다",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseTemplate.class)))
+    })
+    ResponseEntity<ResponseDTO<List<VenueResponseDTO>>> recommendVenuesNationwide();
 }
@@ -33,6 +33,28 @@ public class RecommendController implements RecommendApiDocs{
                 .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_RECOMMEND_WITH_FAVORITE, result));
     }
 
+    @Override
+    @GetMapping("/heartbeat")
+    public ResponseEntity<ResponseDTO<List<VenueResponseDTO>>> recommendVenuesByHeartbeat(@RequestParam(defaultValue = "0.5") double weight) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        List<VenueResponseDTO> result = recommendService.recommendVenuesByHeartbeat(memberId, 5L, weight);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_RECOMMEND_WITH_HEARTBEAT.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_RECOMMEND_WITH_HEARTBEAT, result));
+    }
+
+    @Override
+    @GetMapping("/nationwide")
+    public ResponseEntity<ResponseDTO<List<VenueResponseDTO>>> recommendVenuesNationwide() {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        List<VenueResponseDTO> result = recommendService.recommendVenuesNationwide(memberId, 5L);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_RECOMMEND_NATIONWIDE.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_RECOMMEND_NATIONWIDE, result));
+    }
+
     @PostMapping("/filter")
     public ResponseEntity<List<VenueResponseDTO>> recommendVenuesByFilter(@RequestBody RecommendFilterDTO recommendFilterDTO) {
         Long memberId = SecurityUtils.getCurrentMemberId();
@@ -15,6 +15,9 @@ import com.ceos.beatbuddy.domain.venue.application.VenueInfoService;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.ViewCounter;
+import com.ceos.beatbuddy.global.service.ImageUploadService;
 import com.ceos.beatbuddy.global.util.UploadUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,8 +46,11 @@ public class MagazineService {
     private final MagazineValidator magazineValidator;
 
     private final UploadUtil uploadUtil;
+    private final ImageUploadService imageUploadService;
+    private final ViewCounter viewCounter;
     /**
      * 매거진을 생성합니다. (관리자 또는 비즈니스 회원만 가능)
+     * 업로드 동안 DB 커넥션을 잡지 않도록 업로드를 먼저 하고, 조회와 저장은 짧은 트랜잭션에서 합니다.
      *
      * @param memberId       매거진을 작성하는 회원의 ID
      * @param dto            매거진 생성 요청 DTO
@@ -53,52 +59,64 @@ public class MagazineService {
      * @return 생성된 매거진의 상세 DTO
      * @throws CustomException 권한이 없는 회원이 요청한 경우
      */
-    @Transactional
     public MagazineDetailDTO addMagazine(Long memberId, MagazineRequestDTO dto, List<MultipartFile> images, MultipartFile thumbnailImage) throws RuntimeException {
-        Member member = memberService.validateAndGetMember(memberId);
-        // 고정된 매거진이라면 숫자가 있어야 함. 유효성 검사 (또한, 따로 isPinned 된 매거진 중 같은 숫자일 수 없음)
-        validatePinnedMagazine(dto.isPinned(), dto.getOrderInHome(), null);
-
         // 이미지 20장 넘지 않도록 체크
         if (images != null && images.size() > 20) {
             throw new CustomException(ErrorCode.TOO_MANY_IMAGES_20);
         }
 
+        // 권한이 없으면 이미지를 올리기 전에 거절한다
+        Member member = memberService.validateAndGetMember(memberId);
         if (member.getRole() != Role.ADMIN && member.getRole() != Role.BUSINESS) {
             throw new CustomException(MagazineErrorCode.CANNOT_ADD_MAGAZINE_UNAUTHORIZED_MEMBER);
         }
 
-        // 엔티티로 변경
-        Magazine entity = MagazineRequestDTO.toEntity(dto, member);
-
-        // 이벤트 유효성 검사
-        if (dto.getEventId() != null) {
-            Event event = eventService.validateAndGet(dto.getEventId());
-            entity.setEvent(event);
+        // 썸네일과 이미지를 함께 병렬 업로드 (트랜잭션 밖, 이미지가 비어있는 경우는 제외)
+        boolean hasThumbnail = thumbnailImage != null && !thumbnailImage.isEmpty();
+        List<MultipartFile> uploads = new ArrayList<>();
+        if (hasThumbnail) {
+            uploads.add(thumbnailImage);
         }
-
-        // 관련 베뉴 존재 시, 유효성 검사 및 추가
-        if (dto.getVenueIds() != null && !dto.getVenueIds().isEmpty()) {
-            List<Venue> venues = dto.getVenueIds().stream().map(venueInfoService::validateAndGetVenue).collect(Collectors.toList());
-            entity.setVenues(venues);
+        if (images != null) {
+            uploads.addAll(images);
         }
+        List<String> uploadedUrls = uploads.isEmpty()
+                ? List.of()
+                : imageUploadService.uploadImagesParallel(uploads, UploadUtil.BucketType.MEDIA, "magazine");
+
+        // 저장에 실패하면 올린 이미지를 지운다
+        return imageUploadService.saveAfterUpload(uploadedUrls, UploadUtil.BucketType.MEDIA, () -> {
+            // 고정된 매거진이라면 숫자가 있어야 함. 유효성 검사 (또한, 따로 isPinned 된 매거진 중 같은 숫자일 수 없음)
+            validatePinnedMagazine(dto.isPinned(), dto.getOrderInHome(), null);
+
+            // 엔티티로 변경
+            Magazine entity = MagazineRequestDTO.toEntity(dto, member);
+
+            // 이벤트 유효성 검사
+            if (dto.getEventId() != null) {
+                Event event = eventService.validateAndGet(dto.getEventId());
+                entity.setEvent(event);
+            }
 
-        // 썸네일 업로드
-        if (thumbnailImage != null && !thumbnailImage.isEmpty()) {
-            String thumbImageUrl = uploadUtil.upload(thumbnailImage, UploadUtil.BucketType.MEDIA, "magazine");
-            entity.setThumbImage(thumbImageUrl);
-        }
+            // 관련 베뉴 존재 시, 유효성 검사 및 추가
+            if (dto.getVenueIds() != null && !dto.getVenueIds().isEmpty()) {
+                List<Venue> venues = dto.getVenueIds().stream().map(venueInfoService::validateAndGetVenue).collect(Collectors.toList());
+                entity.setVenues(venues);
+            }
 
-        // 이미지 업로드 (이미지가 비어있는 경우는 제외)
-        if (images != null && !images.isEmpty()) {
-            List<String> imageUrls = uploadUtil.uploadImages(images, UploadUtil.BucketType.MEDIA, "magazine");
-            // 엔티티에 이미지 세팅
-            entity.setImageUrls(imageUrls);
-        }
+            // 썸네일, 이미지 세팅
+            if (hasThumbnail) {
+                entity.setThumbImage(uploadedUrls.get(0));
+            }
+            List<String> imageUrls = hasThumbnail ? uploadedUrls.subList(1, uploadedUrls.size()) : uploadedUrls;
+            if (!imageUrls.isEmpty()) {
+                entity.setImageUrls(imageUrls);
+            }
 
-        magazineRepository.save(entity);
+            magazineRepository.save(entity);
 
-        return MagazineDetailDTO.toDTO(entity, false, true); // 작성자는 항상 좋아요가 false로 설정됨
+            return MagazineDetailDTO.toDTO(entity, false, true); // 작성자는 항상 좋아요가 false로 설정됨
+        });
     }
     /**
      * 홈 화면에 노출할 매거진 목록을 조회합니다. (표시 가능한 매거진만 반환) 5개 반환
@@ -134,21 +152,21 @@ public class MagazineService {
 
 
     /**
-     * 표시 가능한(visible) 매거진의 상세 정보를 조회하고, 조회수를 증가시킵니다.
+     * 표시 가능한(visible) 매거진의 상세 정보를 조회하고, 조회수를 증가시킵니다. 같은 회원의 같은 날 재조회는 세지 않습니다.
      *
      * @param memberId 매거진 상세 정보를 요청하는 회원의 ID
      * @param magazineId 조회할 매거진의 ID
      * @return 매거진을 나타내는 상세 DTO
      * @throws CustomException 회원 또는 매거진이 존재하지 않거나, 매거진이 표시 불가능한 경우
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public MagazineDetailDTO readDetailMagazine(Long memberId, Long magazineId) {
         memberService.validateAndGetMember(memberId);
 
         Magazine magazine = magazineValidator.validateAndGetMagazineVisibleTrue(magazineId);
 
-        // 조회수 증가
-        magazineRepository.increaseViews(magazineId);
+        // 조회수 증가 (하루 1회, 쓰기 지연)
+        viewCounter.recordView(CounterType.MAGAZINE_VIEWS, magazineId, memberId);
 
         // 매거진 좋아요 여부 확인
         boolean isLiked = magazineLikeRepository.existsByMemberIdAndMagazineId(memberId, magazineId);
@@ -19,8 +19,10 @@ import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.config.jwt.redis.RefreshToken;
 import com.ceos.beatbuddy.global.config.jwt.redis.RefreshTokenRepository;
 import com.ceos.beatbuddy.global.config.oauth.dto.Oauth2MemberDto;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import com.ceos.beatbuddy.global.util.UploadUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,6 +46,8 @@ public class MemberService {
     private final UploadUtil uploadUtil;
     private final MemberQueryRepository memberQueryRepository;
     private final FollowRepository followRepository;
+    private final SocialGraphCache socialGraphCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final RefreshTokenRepository refreshTokenRepository;
 //
 //    @Value("${iamport.api.key}")
@@ -201,10 +205,10 @@ public class MemberService {
     /**
      * 특정 사용자가 차단한 멤버들의 ID 목록을 조회
      * @param blockerId 차단하는 사용자의 ID
-     * @return 차단된 멤버들의 ID 목록
+     * @return 차단된 멤버들의 ID 목록 (캐시)
      */
     public Set<Long> getBlockedMemberIds(Long blockerId) {
-        return memberBlockRepository.findBlockedMemberIdsByBlockerId(blockerId);
+        return socialGraphCache.getBlockedMemberIds(blockerId);
     }
     
     /**
@@ -241,6 +245,7 @@ public class MemberService {
         }
 
         memberBlockRepository.save(memberBlock);
+        eventPublisher.publishEvent(new MemberBlockChangedEvent(blockerId, blockedId));
     }
     // v2 개발 기능
     /**
@@ -254,6 +259,7 @@ public class MemberService {
                 .orElseThrow(() -> new CustomException(MemberErrorCode.BLOCK_NOT_FOUND));
         
         memberBlockRepository.delete(memberBlock);
+        eventPublisher.publishEvent(new MemberBlockChangedEvent(blockerId, blockedId));
     }
     
     /**
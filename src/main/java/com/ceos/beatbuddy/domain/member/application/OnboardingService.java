@@ -8,6 +8,7 @@ import com.ceos.beatbuddy.domain.member.dto.RegionRequestDTO;
 import com.ceos.beatbuddy.domain.member.dto.response.MemberResponseDTO;
 import com.ceos.beatbuddy.domain.member.dto.response.OnboardingResponseDto;
 import com.ceos.beatbuddy.domain.member.entity.Member;
+import com.ceos.beatbuddy.domain.member.entity.MemberRegionChangedEvent;
 import com.ceos.beatbuddy.domain.member.entity.PostProfileInfo;
 import com.ceos.beatbuddy.domain.member.exception.MemberErrorCode;
 import com.ceos.beatbuddy.domain.member.repository.MemberGenreRepository;
@@ -18,6 +19,7 @@ import com.ceos.beatbuddy.global.util.UploadUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,6 +38,7 @@ public class OnboardingService {
     private final MemberMoodRepository memberMoodRepository;
     private final MemberRepository memberRepository;
     private final UploadUtil uploadUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -192,6 +195,7 @@ public class OnboardingService {
                 .map(Region::fromText)
                 .collect(Collectors.toList());
         member.saveRegions(regions);
+        eventPublisher.publishEvent(new MemberRegionChangedEvent(member.getId()));
 
         return MemberResponseDTO.builder()
                 .memberId(member.getId())
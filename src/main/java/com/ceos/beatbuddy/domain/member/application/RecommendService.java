@@ -3,7 +3,6 @@ package com.ceos.beatbuddy.domain.member.application;
 import com.ceos.beatbuddy.domain.archive.entity.Archive;
 import com.ceos.beatbuddy.domain.archive.exception.ArchiveErrorCode;
 import com.ceos.beatbuddy.domain.archive.repository.ArchiveRepository;
-import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
 import com.ceos.beatbuddy.domain.member.constant.Region;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.member.entity.MemberGenre;
@@ -13,27 +12,23 @@ import com.ceos.beatbuddy.domain.member.exception.MemberGenreErrorCode;
 import com.ceos.beatbuddy.domain.member.exception.MemberMoodErrorCode;
 import com.ceos.beatbuddy.domain.member.repository.MemberGenreRepository;
 import com.ceos.beatbuddy.domain.member.repository.MemberMoodRepository;
+import com.ceos.beatbuddy.domain.vector.application.HeartbeatCoOccurrenceModel;
+import com.ceos.beatbuddy.domain.vector.application.RecommendationCache;
+import com.ceos.beatbuddy.domain.vector.application.VenueAnnIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.ScoredVenue;
 import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.domain.vector.exception.VectorErrorCode;
+import com.ceos.beatbuddy.domain.venue.application.VenueCardAssembler;
 import com.ceos.beatbuddy.domain.venue.dto.RecommendFilterDTO;
 import com.ceos.beatbuddy.domain.venue.dto.VenueResponseDTO;
-import com.ceos.beatbuddy.domain.venue.entity.Venue;
-import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
-import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
-import com.ceos.beatbuddy.domain.venue.exception.VenueGenreErrorCode;
-import com.ceos.beatbuddy.domain.venue.exception.VenueMoodErrorCode;
-import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
-import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
-import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 
@@ -44,10 +39,11 @@ public class RecommendService {
     private final MemberService memberService;
     private final MemberGenreRepository memberGenreRepository;
     private final MemberMoodRepository memberMoodRepository;
-    private final VenueGenreRepository venueGenreRepository;
-    private final VenueMoodRepository venueMoodRepository;
-    private final VenueRepository venueRepository;
-    private final HeartbeatRepository heartbeatRepository;
+    private final VenueVectorIndex venueVectorIndex;
+    private final VenueCardAssembler venueCardAssembler;
+    private final RecommendationCache recommendationCache;
+    private final HeartbeatCoOccurrenceModel heartbeatCoOccurrenceModel;
+    private final VenueAnnIndex venueAnnIndex;
 
     private static final List<String> REGIONS = Arrays.asList(
             "HONGDAE","ITAEWON","GANGNAM/SINSA","APGUJEONG","OTHERS"
@@ -62,52 +58,10 @@ public class RecommendService {
             throw new CustomException(MemberErrorCode.REGION_FIELD_EMPTY);
         }
 
-        List<VenueGenre> allVenueGenres = venueGenreRepository.findByVenueRegion(member.getRegions());
-
-        List<VenueGenre> recommendVenueGenres = allVenueGenres.stream()
-                .sorted(Comparator.comparingDouble(v -> {
-                    try {
-                        return -latestMemberGenre.getGenreVector().cosineSimilarity(v.getGenreVector());
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        return Double.MIN_VALUE;
-                    }
-                }))
-                .limit(num)
-                .collect(Collectors.toList());
-
-        return recommendVenueGenres.stream()
-                .map(venueGenre -> {
-
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(venueGenre.getGenreVector());
-
-                    Venue venue = venueGenre.getVenue();
-                    VenueMood venueMood = venueMoodRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueMoodErrorCode.VENUE_MOOD_NOT_EXIST));
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(venueMood.getMoodVector());
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .tagList(tagList)
-                            .venueId(venue.getId())
-                            .koreanName(venue.getKoreanName())
-                            .englishName(venue.getEnglishName())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .logoUrl(venue.getLogoUrl())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .isHeartbeat(heartbeatRepository.findByMemberVenue(member, venue).isPresent())
-                            .isSmokingAllowed(venue.isSmokingAllowed())
-                            .isFreeEntrance(venue.isFreeEntrance())
-                            .address(venue.getAddress())
-                            .latitude(venue.getLatitude())
-                            .longitude(venue.getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<ScoredVenue> recommendVenues = venueVectorIndex.findTopKByGenre(
+                latestMemberGenre.getGenreVector(), member.getRegions(), num.intValue());
 
+        return toVenueResponseDTOs(member, recommendVenues);
     }
 
 
@@ -118,52 +72,10 @@ public class RecommendService {
         if(member.getRegions().isEmpty()){
             throw new CustomException(MemberErrorCode.REGION_FIELD_EMPTY);
         }
-        List<VenueMood> allVenueMoods = venueMoodRepository.findByVenueRegion(member.getRegions());
-
-        List<VenueMood> recommendVenueMoods = allVenueMoods.stream()
-                .sorted(Comparator.comparingDouble(v -> {
-                    try {
-                        return -latestMemberMood.getMoodVector().cosineSimilarity(v.getMoodVector());
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        return Double.MIN_VALUE;
-                    }
-                }))
-                .limit(num)
-                .toList();
-
-        return recommendVenueMoods.stream()
-                .map(venueMood -> {
-
-                    Venue venue = venueMood.getVenue();
-                    VenueGenre venueGenre = venueGenreRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueGenreErrorCode.VENUE_GENRE_NOT_EXIST));
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(venueGenre.getGenreVector());
-
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(venueMood.getMoodVector());
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .tagList(tagList)
-                            .venueId(venue.getId())
-                            .koreanName(venue.getKoreanName())
-                            .englishName(venue.getEnglishName())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .logoUrl(venue.getLogoUrl())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .isHeartbeat(heartbeatRepository.findByMemberVenue(member, venue).isPresent())
-                            .isSmokingAllowed(venue.isSmokingAllowed())
-                            .isFreeEntrance(venue.isFreeEntrance())
-                            .address(venue.getAddress())
-                            .latitude(venue.getLatitude())
-                            .longitude(venue.getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<ScoredVenue> recommendVenues = venueVectorIndex.findTopKByMood(
+                latestMemberMood.getMoodVector(), member.getRegions(), num.intValue());
 
+        return toVenueResponseDTOs(member, recommendVenues);
     }
 
 
@@ -171,95 +83,61 @@ public class RecommendService {
     @Transactional
     public List<VenueResponseDTO> recommendVenues(Long memberId, Long num) {
         Member member = memberService.validateAndGetMember(memberId);
-        MemberMood memberMood;
-        MemberGenre memberGenre;
-        Archive archive;
 
         if(member.getLatestArchiveId() == null){
-            archive = archiveRepository.findFirstByMemberOrderByUpdatedAtDesc(member).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
+            Archive archive = archiveRepository.findFirstByMemberOrderByUpdatedAtDesc(member).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
             member.saveLatestArchiveId(archive.getId());
-            memberGenre= memberGenreRepository.findLatestGenreByMember(member).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
-            memberMood= memberMoodRepository.findLatestMoodByMember(member).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
-        }
-        else{
-            System.out.println(member.getLatestArchiveId());
-            archive = archiveRepository.findById(member.getLatestArchiveId()).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
-            memberGenre = memberGenreRepository.findById(archive.getMemberGenre().getId()).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
-            memberMood = memberMoodRepository.findById(archive.getMemberMood().getId()).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
         }
 
-        Vector memberVector = Vector.mergeVectors(memberGenre.getGenreVector(), memberMood.getMoodVector());
-
         if(member.getRegions().isEmpty()){
             throw new CustomException(MemberErrorCode.REGION_FIELD_EMPTY);
         }
 
-        List<Venue> allVenues = venueRepository.findByVenueRegion(member.getRegions());
-        List<Vector> allVenueVectors = new ArrayList<>();
+        // 캐시 미스일 때만 아카이브와 장르/무드 벡터를 조회한다
+        Long archiveId = member.getLatestArchiveId();
+        List<Long> venueIds = rankVenueIds(archiveId, member.getId(), member.getRegions(), num.intValue(),
+                () -> loadArchiveVector(archiveId));
 
-        for(Venue venue : allVenues){
-            VenueGenre venueGenre = venueGenreRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueGenreErrorCode.VENUE_GENRE_NOT_EXIST));
-            VenueMood venueMood = venueMoodRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueMoodErrorCode.VENUE_MOOD_NOT_EXIST));
-            Vector totalVector = Vector.mergeVectors(venueGenre.getGenreVector(), venueMood.getMoodVector());
-            allVenueVectors.add(totalVector);
-        }
-        List<Vector> recommendVenueVectors = allVenueVectors.stream()
-                .sorted(Comparator.comparingDouble(v -> {
-                    try {
-                        return -memberVector.cosineSimilarity(v);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        return Double.MIN_VALUE;
-                    }
-                }))
-                .limit(num)
-                .toList();
+        return venueCardAssembler.assembleByIds(venueIds, member.getId());
+    }
 
-        return recommendVenueVectors.stream()
-                .map(venueVector -> {
-                    int index = allVenueVectors.indexOf(venueVector);
-                    Venue venue = allVenues.get(index);
-
-                    List<Double> genreElements = venueVector.getElements().subList(0, 10);
-                    List<Double> moodElements = venueVector.getElements().subList(10, 18);
-
-                    Vector genreVector = new Vector(genreElements);
-                    Vector moodVector = new Vector(moodElements);
-
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(genreVector);
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(moodVector);
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .tagList(tagList)
-                            .venueId(venue.getId())
-                            .koreanName(venue.getKoreanName())
-                            .englishName(venue.getEnglishName())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .logoUrl(venue.getLogoUrl())
-                            .isHeartbeat(heartbeatRepository.findByMemberVenue(member,venue).isPresent())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .isSmokingAllowed(venue.isSmokingAllowed())
-                            .isFreeEntrance(venue.isFreeEntrance())
-                            .address(venue.getAddress())
-                            .latitude(venue.getLatitude())
-                            .longitude(venue.getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
+    /**
+     * 하트비트 동시 출현 점수와 아카이브 벡터 코사인 유사도를 섞은 추천.
+     * weight 가 1 이면 하트비트 기반만, 0 이면 코사인만 사용한다. 이미 하트비트한 베뉴는 제외한다.
+     */
+    @Transactional
+    public List<VenueResponseDTO> recommendVenuesByHeartbeat(Long memberId, Long num, double weight) {
+        Member member = memberService.validateAndGetMember(memberId);
+        if(weight < 0 || weight > 1) throw new CustomException(VectorErrorCode.INVALID_BLEND_WEIGHT);
+
+        if(member.getLatestArchiveId() == null){
+            Archive archive = archiveRepository.findFirstByMemberOrderByUpdatedAtDesc(member).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
+            member.saveLatestArchiveId(archive.getId());
+        }
+        if(member.getRegions().isEmpty()){
+            throw new CustomException(MemberErrorCode.REGION_FIELD_EMPTY);
+        }
 
+        Map<Long, Double> coOccurrenceScores = heartbeatCoOccurrenceModel.score(member.getId());
+        Set<Long> heartbeatVenueIds = heartbeatCoOccurrenceModel.heartbeatVenueIds(member.getId());
+        // 코사인(0~1)과 같은 범위로 맞춘다
+        double maxScore = coOccurrenceScores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+        double coOccurrenceWeight = maxScore > 0 ? weight : 0.0;
+
+        Vector memberVector = loadArchiveVector(member.getLatestArchiveId());
+        List<ScoredVenue> recommendVenues = venueVectorIndex.findTopK(memberVector, member.getRegions(), num.intValue(),
+                entry -> !heartbeatVenueIds.contains(entry.venueId()),
+                (entry, similarity) -> {
+                    double coOccurrence = maxScore > 0 ? coOccurrenceScores.getOrDefault(entry.venueId(), 0.0) / maxScore : 0.0;
+                    return coOccurrenceWeight * coOccurrence + (1 - coOccurrenceWeight) * similarity;
+                });
+
+        return toVenueResponseDTOs(member, recommendVenues);
     }
 
     public List<VenueResponseDTO> recommendVenuesByFilter(Long memberId, Long num, RecommendFilterDTO recommendFilterDTO) {
 
-        int genreIndex, moodIndex;
         List<Region> regions=null;
-        List<Integer> indexList = new ArrayList<>();
 
         List<String> genreTags = recommendFilterDTO.getGenreTags();
         List<String> moodTags = recommendFilterDTO.getMoodTags();
@@ -270,34 +148,24 @@ public class RecommendService {
         MemberMood latestMemberMood = memberMoodRepository.findLatestMoodByMember(member).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
         MemberGenre latestMemberGenre = memberGenreRepository.findLatestGenreByMember(member).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
         Vector memberVector = Vector.mergeVectors(latestMemberGenre.getGenreVector(), latestMemberMood.getMoodVector());
-
-        List<String> trueMemberGenreElements = Vector.getTrueGenreElements(latestMemberGenre.getGenreVector());
-        List<String> trueMemberMoodElements = Vector.getTrueMoodElements(latestMemberMood.getMoodVector());
+        int memberMask = Vector.mergeTagMasks(latestMemberGenre.getGenreVector(), latestMemberMood.getMoodVector());
 
         List<Region> memberRegions = member.getRegions();
         if(memberRegions.isEmpty()){
             throw new CustomException(MemberErrorCode.REGION_FIELD_EMPTY);
         }
 
-        if(!genreTags.isEmpty()){
-            for(String genreTag: genreTags){
-                genreIndex = Vector.getGenreIndex(genreTag);
-                if(genreIndex==-1) throw new CustomException(VectorErrorCode.GENRE_INDEX_NOT_EXIST);
-                else {
-                    if(!trueMemberGenreElements.contains(genreTag)) throw new CustomException(VectorErrorCode.UNAVAILABLE_GENRE);
-                    indexList.add(genreIndex);
-                }
-            }
+        // 필터로 요구되는 장르/무드 태그 비트 (getGenreIndex/getMoodIndex 가 없는 태그는 예외 처리)
+        int requiredMask = 0;
+        for(String genreTag: genreTags){
+            int genreBit = Vector.genreBit(genreTag);
+            if((memberMask & genreBit) == 0) throw new CustomException(VectorErrorCode.UNAVAILABLE_GENRE);
+            requiredMask |= genreBit;
         }
-        if(!moodTags.isEmpty()){
-            for(String moodTag: moodTags){
-                moodIndex = Vector.getMoodIndex(moodTag);
-                if(moodIndex==-1) throw new CustomException(VectorErrorCode.MOOD_INDEX_NOT_EXIST);
-                else {
-                    if(!trueMemberMoodElements.contains(moodTag)) throw new CustomException(VectorErrorCode.UNAVAILABLE_MOOD);
-                    indexList.add(moodIndex+10);
-                }
-            }
+        for(String moodTag: moodTags){
+            int moodBit = Vector.moodBit(moodTag);
+            if((memberMask & moodBit) == 0) throw new CustomException(VectorErrorCode.UNAVAILABLE_MOOD);
+            requiredMask |= moodBit;
         }
         if(!regionTags.isEmpty()){
             for(String regionTag: regionTags){
@@ -310,138 +178,92 @@ public class RecommendService {
             memberRegions = regions;
         }
 
-        List<Venue> allVenues = venueRepository.findByVenueRegion(memberRegions);
-        List<Vector> allVenueVectors = new ArrayList<>();
+        int filterMask = requiredMask;
+        List<ScoredVenue> recommendVenues = venueVectorIndex.findTopK(memberVector, memberRegions, num.intValue(),
+                entry -> (entry.tagMask() & filterMask) == filterMask);
 
-        for(Venue venue : allVenues){
-            VenueGenre venueGenre = venueGenreRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueGenreErrorCode.VENUE_GENRE_NOT_EXIST));
-            VenueMood venueMood = venueMoodRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueMoodErrorCode.VENUE_MOOD_NOT_EXIST));
-            Vector totalVector = Vector.mergeVectors(venueGenre.getGenreVector(), venueMood.getMoodVector());
-            allVenueVectors.add(totalVector);
-        }
-
-        List<Vector> recommendVenueVectors = allVenueVectors.stream()
-                .filter(v -> indexList.stream().allMatch(index -> v.getElements().get(index) == 1.0))
-                .sorted(Comparator.comparingDouble(v -> {
-                    try {
-                        return -memberVector.cosineSimilarity(v);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        return Double.MIN_VALUE;
-                    }
-                }))
-                .limit(num)
-                .collect(Collectors.toList());
-
-        return recommendVenueVectors.stream()
-                .map(venueVector -> {
-                    int index = allVenueVectors.indexOf(venueVector);
-                    Venue venue = allVenues.get(index);
-
-                    List<Double> genreElements = venueVector.getElements().subList(0, 10);
-                    List<Double> moodElements = venueVector.getElements().subList(10, 18);
-
-                    Vector genreVector = new Vector(genreElements);
-                    Vector moodVector = new Vector(moodElements);
-
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(genreVector);
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(moodVector);
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .tagList(tagList)
-                            .venueId(venue.getId())
-                            .koreanName(venue.getKoreanName())
-                            .englishName(venue.getEnglishName())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .logoUrl(venue.getLogoUrl())
-                            .isHeartbeat(heartbeatRepository.findByMemberVenue(member,venue).isPresent())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .isSmokingAllowed(venue.isSmokingAllowed())
-                            .isFreeEntrance(venue.isFreeEntrance())
-                            .address(venue.getAddress())
-                            .latitude(venue.getLatitude())
-                            .longitude(venue.getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return toVenueResponseDTOs(member, recommendVenues);
     }
 
     public List<VenueResponseDTO> recommendVenuesByArchive(Long memberId, Long num, Long archiveId) {
         Member member = memberService.validateAndGetMember(memberId);
         Archive archive = archiveRepository.findById(archiveId).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
-        MemberMood archiveMood = memberMoodRepository.findById(archive.getMemberMood().getId()).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
-        MemberGenre archiveGenre = memberGenreRepository.findById(archive.getMemberGenre().getId()).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
-        Vector memberVector = Vector.mergeVectors(archiveGenre.getGenreVector(), archiveMood.getMoodVector());
 
         if(archive.getRegions().isEmpty()){
             throw new CustomException(MemberErrorCode.REGION_FIELD_EMPTY);
         }
 
-        List<Venue> allVenues = venueRepository.findByVenueRegion(archive.getRegions());
-        List<Vector> allVenueVectors = new ArrayList<>();
+        List<Long> venueIds = rankVenueIds(archive.getId(), archive.getMember().getId(), archive.getRegions(), num.intValue(), () -> {
+            MemberMood archiveMood = memberMoodRepository.findById(archive.getMemberMood().getId()).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
+            MemberGenre archiveGenre = memberGenreRepository.findById(archive.getMemberGenre().getId()).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
+            return Vector.mergeVectors(archiveGenre.getGenreVector(), archiveMood.getMoodVector());
+        });
 
-        for(Venue venue : allVenues){
-            VenueGenre venueGenre = venueGenreRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueGenreErrorCode.VENUE_GENRE_NOT_EXIST));
-            VenueMood venueMood = venueMoodRepository.findByVenue(venue).orElseThrow(()->new CustomException(VenueMoodErrorCode.VENUE_MOOD_NOT_EXIST));
-            Vector totalVector = Vector.mergeVectors(venueGenre.getGenreVector(), venueMood.getMoodVector());
-            allVenueVectors.add(totalVector);
+        return venueCardAssembler.assembleByIds(venueIds, member.getId());
+    }
+
+    /**
+     * 아카이브 기준 추천 순위. 캐시에 있으면 벡터 조회 없이 바로 반환하고, 없으면 인덱스에서 계산해 저장한다.
+     */
+    private List<Long> rankVenueIds(Long archiveId, Long ownerId, List<Region> regions, int num, Supplier<Vector> archiveVector) {
+        Optional<List<Long>> cached = recommendationCache.get(archiveId, ownerId, regions, num);
+        if(cached.isPresent()){
+            return cached.get();
+        }
+
+        RecommendationCache.Snapshot snapshot = recommendationCache.snapshot();
+        List<Long> venueIds = venueVectorIndex.findTopK(archiveVector.get(), regions, num).stream()
+                .map(ScoredVenue::venueId)
+                .toList();
+        recommendationCache.put(archiveId, ownerId, regions, num, snapshot, venueIds);
+        return venueIds;
+    }
+
+    /**
+     * 지역 제한 없이 전국 베뉴에서 추천한다. 베뉴 수가 많아도 지연이 일정하도록 근사 인덱스(VenueAnnIndex)를 사용한다.
+     */
+    @Transactional
+    public List<VenueResponseDTO> recommendVenuesNationwide(Long memberId, Long num) {
+        Member member = memberService.validateAndGetMember(memberId);
+
+        if(member.getLatestArchiveId() == null){
+            Archive archive = archiveRepository.findFirstByMemberOrderByUpdatedAtDesc(member).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
+            member.saveLatestArchiveId(archive.getId());
         }
-        List<Vector> recommendVenueVectors = allVenueVectors.stream()
-                .sorted(Comparator.comparingDouble(v -> {
-                    try {
-                        return -memberVector.cosineSimilarity(v);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        return Double.MIN_VALUE;
-                    }
-                }))
-                .limit(num)
-                .collect(Collectors.toList());
-
-        return recommendVenueVectors.stream()
-                .map(venueVector -> {
-                    int index = allVenueVectors.indexOf(venueVector);
-                    Venue venue = allVenues.get(index);
-
-                    List<Double> genreElements = venueVector.getElements().subList(0, 10);
-                    List<Double> moodElements = venueVector.getElements().subList(10, 18);
-
-                    Vector genreVector = new Vector(genreElements);
-                    Vector moodVector = new Vector(moodElements);
-
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(genreVector);
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(moodVector);
-                    String region = venue.getRegion().getText();
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return VenueResponseDTO.builder()
-                            .tagList(tagList)
-                            .venueId(venue.getId())
-                            .koreanName(venue.getKoreanName())
-                            .englishName(venue.getEnglishName())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .backgroundUrl(venue.getBackgroundUrl())
-                            .logoUrl(venue.getLogoUrl())
-                            .isHeartbeat(heartbeatRepository.findByMemberVenue(member,venue).isPresent())
-                            .heartbeatNum(venue.getHeartbeatNum())
-                            .isSmokingAllowed(venue.isSmokingAllowed())
-                            .isFreeEntrance(venue.isFreeEntrance())
-                            .address(venue.getAddress())
-                            .latitude(venue.getLatitude())
-                            .longitude(venue.getLongitude())
-                            .build();
-                })
-                .collect(Collectors.toList());
 
+        Vector memberVector = loadArchiveVector(member.getLatestArchiveId());
+        List<ScoredVenue> recommendVenues = venueAnnIndex.findTopK(memberVector, num.intValue());
+
+        return toVenueResponseDTOs(member, recommendVenues);
+    }
+
+    /**
+     * 회원의 현재 취향 벡터(장르 + 무드). 최근 아카이브가 있으면 그 아카이브, 없으면 가장 최근 장르/무드를 사용한다.
+     */
+    public Vector getPreferenceVector(Member member) {
+        if(member.getLatestArchiveId() != null){
+            return loadArchiveVector(member.getLatestArchiveId());
+        }
+        MemberGenre memberGenre = memberGenreRepository.findLatestGenreByMember(member).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
+        MemberMood memberMood = memberMoodRepository.findLatestMoodByMember(member).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
+        return Vector.mergeVectors(memberGenre.getGenreVector(), memberMood.getMoodVector());
+    }
+
+    private Vector loadArchiveVector(Long archiveId) {
+        Archive archive = archiveRepository.findById(archiveId).orElseThrow(()->new CustomException(ArchiveErrorCode.ARCHIVE_NOT_EXIST));
+        MemberGenre memberGenre = memberGenreRepository.findById(archive.getMemberGenre().getId()).orElseThrow(() -> new CustomException(MemberGenreErrorCode.MEMBER_GENRE_NOT_EXIST));
+        MemberMood memberMood = memberMoodRepository.findById(archive.getMemberMood().getId()).orElseThrow(() -> new CustomException(MemberMoodErrorCode.MEMBER_MOOD_NOT_EXIST));
+        return Vector.mergeVectors(memberGenre.getGenreVector(), memberMood.getMoodVector());
+    }
+
+    /**
+     * 인덱스가 돌려준 순위대로 베뉴 카드를 만든다.
+     */
+    private List<VenueResponseDTO> toVenueResponseDTOs(Member member, List<ScoredVenue> recommendVenues) {
+        List<Long> venueIds = recommendVenues.stream()
+                .map(ScoredVenue::venueId)
+                .toList();
+        return venueCardAssembler.assembleByIds(venueIds, member.getId());
     }
 
 }
@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.member.entity;
+
+public record MemberBlockChangedEvent(Long blockerId, Long blockedId) {
+}
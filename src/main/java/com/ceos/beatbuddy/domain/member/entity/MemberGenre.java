@@ -7,8 +7,6 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Entity
 @Builder
@@ -35,13 +33,12 @@ public class MemberGenre extends BaseTimeEntity {
 
     public void setGenreVector(Vector vector) {
         this.genreVector = vector;
-        this.genreVectorString = vector.getElements().toString();
+        this.genreVectorString = vector.toString();
     }
 
     public Vector getGenreVector() {
         if (genreVector == null && genreVectorString != null) {
-            List<Double> elements = Stream.of(genreVectorString.replace("[", "").replace("]", "").split(",")).map(String::trim).map(Double::parseDouble).collect(Collectors.toList());
-            genreVector = new Vector(elements);
+            genreVector = Vector.fromString(genreVectorString);
         }
         return genreVector;
     }
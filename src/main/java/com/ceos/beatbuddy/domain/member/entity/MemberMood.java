@@ -7,8 +7,6 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Entity
 @Builder
@@ -35,13 +33,12 @@ public class MemberMood extends BaseTimeEntity {
 
     public void setMoodVector(Vector vector) {
         this.moodVector = vector;
-        this.moodVectorString = vector.getElements().toString();
+        this.moodVectorString = vector.toString();
     }
 
     public Vector getMoodVector() {
         if (moodVector == null && moodVectorString != null) {
-            List<Double> elements = Stream.of(moodVectorString.replace("[", "").replace("]", "").split(",")).map(String::trim).map(Double::parseDouble).collect(Collectors.toList());
-            moodVector = new Vector(elements);
+            moodVector = Vector.fromString(moodVectorString);
         }
         return moodVector;
     }
@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.member.entity;
+
+public record MemberRegionChangedEvent(Long memberId) {
+}
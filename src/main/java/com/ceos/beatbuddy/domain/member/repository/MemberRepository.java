@@ -2,7 +2,10 @@ package com.ceos.beatbuddy.domain.member.repository;
 
 import com.ceos.beatbuddy.domain.member.constant.Role;
 import com.ceos.beatbuddy.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,4 +27,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByFcmTokenIsNotNull();
 
+    // 추천 사전 계산 대상: 아카이브를 가진 회원을 id 순으로 구간 조회
+    @Query("SELECT m FROM Member m WHERE m.id > :afterId AND m.id <= :toId AND m.latestArchiveId IS NOT NULL ORDER BY m.id ASC")
+    List<Member> findRecommendationTargets(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
 }
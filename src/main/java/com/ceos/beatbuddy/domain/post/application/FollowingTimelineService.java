@@ -0,0 +1,160 @@
+package com.ceos.beatbuddy.domain.post.application;
+
+import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
+import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.redis.FollowingTimelineStore;
+import com.ceos.beatbuddy.domain.post.repository.PostQueryRepository;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 팔로잉 피드.
+ * - 쓰기: 새 글을 팔로워들의 Redis 피드에 넣는다 (fan-out-on-write). 팔로워가 fanout-limit 이상인 작성자는 넣지 않는다.
+ * - 읽기: 피드에서 커서 이후 ID 를 읽고, fan-out 하지 않은 작성자의 글은 DB 에서 가져와 합친다.
+ *   언팔로우/차단/삭제/익명 글은 읽을 때 걸러내므로 피드를 고쳐 쓰지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class FollowingTimelineService {
+
+    // 팔로우 직후 피드에 채워 넣을 상대의 최근 글 수
+    private static final int FOLLOW_BACKFILL_SIZE = 20;
+
+    private final FollowingTimelineStore followingTimelineStore;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final long fanOutLimit;
+
+    public FollowingTimelineService(FollowingTimelineStore followingTimelineStore,
+                                    FollowRepository followRepository,
+                                    PostRepository postRepository,
+                                    PostQueryRepository postQueryRepository,
+                                    @Value("${post.timeline.fanout-limit:5000}") long fanOutLimit) {
+        this.followingTimelineStore = followingTimelineStore;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+        this.postQueryRepository = postQueryRepository;
+        this.fanOutLimit = fanOutLimit;
+    }
+
+    public void fanOut(Long authorId, Long postId) {
+        boolean large = followRepository.countByFollowing_Id(authorId) >= fanOutLimit;
+        followingTimelineStore.markLargeAccount(authorId, large);
+        if (large) {
+            return;
+        }
+        followingTimelineStore.push(followRepository.findFollowerMemberIds(authorId), postId);
+    }
+
+    /**
+     * 새로 팔로우한 상대의 최근 글을 피드에 넣는다. 피드가 아직 없으면 처음 조회할 때 채워진다.
+     */
+    public void backfillFollowed(Long followerId, Long followingId) {
+        if (!followingTimelineStore.exists(followerId) || followingTimelineStore.largeAccounts().contains(followingId)) {
+            return;
+        }
+        List<Long> postIds = postQueryRepository.findPostsByMembersByCursor(List.of(followingId), null, FOLLOW_BACKFILL_SIZE)
+                .stream()
+                .map(Post::getId)
+                .toList();
+        followingTimelineStore.addAll(followerId, postIds);
+    }
+
+    /**
+     * 커서 이후 팔로잉 피드를 (createdAt, id) 내림차순으로 최대 limit 개 반환한다.
+     */
+    public List<Post> read(Long memberId, Set<Long> followingIds, Set<Long> blockedIds, PostCursor cursor, int limit) {
+        Set<Long> visibleAuthors = followingIds.stream()
+                .filter(id -> !blockedIds.contains(id))
+                .collect(Collectors.toSet());
+        if (visibleAuthors.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> largeAuthors = followingTimelineStore.largeAccounts().stream()
+                .filter(visibleAuthors::contains)
+                .collect(Collectors.toSet());
+
+        if (cursor == null && !followingTimelineStore.exists(memberId)) {
+            rebuild(memberId, visibleAuthors, largeAuthors);
+        }
+
+        List<Post> pushed = readPushed(memberId, visibleAuthors, cursor, limit);
+        List<Post> pulled = largeAuthors.isEmpty()
+                ? List.of()
+                : new ArrayList<>(postQueryRepository.findPostsByMembersByCursor(largeAuthors, cursor, limit));
+
+        // 피드 끝(잘려 나간 오래된 글)에 닿으면 나머지는 DB 에서 이어서 읽는다
+        if (pushed.size() < limit) {
+            PostCursor tail = pushed.isEmpty() ? cursor : PostCursor.of(pushed.get(pushed.size() - 1));
+            Set<Long> pushedAuthors = new HashSet<>(visibleAuthors);
+            pushedAuthors.removeAll(largeAuthors);
+            pushed = Stream.concat(pushed.stream(),
+                            postQueryRepository.findPostsByMembersByCursor(pushedAuthors, tail, limit - pushed.size()).stream())
+                    .collect(Collectors.toList());
+        }
+
+        return Stream.concat(pushed.stream(), pulled.stream())
+                .collect(Collectors.toMap(Post::getId, Function.identity(), (a, b) -> a))
+                .values().stream()
+                .sorted(Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // 피드에서 limit 의 2배씩 읽어서 볼 수 있는 글만 남긴다
+    private List<Post> readPushed(Long memberId, Set<Long> visibleAuthors, PostCursor cursor, int limit) {
+        int batchSize = limit * 2;
+        List<Post> visible = new ArrayList<>(limit);
+        Long beforeId = cursor == null ? null : cursor.id();
+
+        while (visible.size() < limit) {
+            List<Long> postIds = followingTimelineStore.readBefore(memberId, beforeId, batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            for (Long postId : postIds) {
+                Post post = postsById.get(postId);
+                if (post != null && !post.isAnonymous() && visibleAuthors.contains(post.getMember().getId())) {
+                    visible.add(post);
+                    if (visible.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            if (postIds.size() < batchSize) {
+                break;
+            }
+            beforeId = postIds.get(postIds.size() - 1);
+        }
+        return visible;
+    }
+
+    // Redis 유실이나 TTL 만료로 피드가 없으면 팔로잉의 최근 글로 다시 채운다 (fan-out-on-read)
+    private void rebuild(Long memberId, Set<Long> visibleAuthors, Set<Long> largeAuthors) {
+        Set<Long> pushedAuthors = new HashSet<>(visibleAuthors);
+        pushedAuthors.removeAll(largeAuthors);
+        List<Long> postIds = postQueryRepository.findPostsByMembersByCursor(pushedAuthors, null, FollowingTimelineStore.CAPACITY)
+                .stream()
+                .map(Post::getId)
+                .toList();
+        try {
+            followingTimelineStore.addAll(memberId, postIds);
+        } catch (Exception e) {
+            log.warn("팔로잉 피드 재구성 실패 - memberId: {}", memberId, e);
+        }
+    }
+}
@@ -3,22 +3,25 @@ package com.ceos.beatbuddy.domain.post.application;
 import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.post.dto.PostCreateRequestDTO;
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
 import com.ceos.beatbuddy.domain.post.dto.PostListResponseDTO;
 import com.ceos.beatbuddy.domain.post.dto.UpdatePostRequestDTO;
 import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
 import com.ceos.beatbuddy.domain.post.entity.FreePost;
 import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.entity.PostCreatedEvent;
+import com.ceos.beatbuddy.domain.post.entity.PostHashtagsChangedEvent;
 import com.ceos.beatbuddy.domain.post.exception.PostErrorCode;
 import com.ceos.beatbuddy.domain.post.repository.FreePostRepository;
+import com.ceos.beatbuddy.domain.post.repository.PostDetailProjection;
 import com.ceos.beatbuddy.domain.post.repository.PostQueryRepository;
 import com.ceos.beatbuddy.domain.post.repository.PostRepository;
 import com.ceos.beatbuddy.domain.venue.application.VenueInfoService;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
-import com.ceos.beatbuddy.global.util.UploadUtil;
-import com.ceos.beatbuddy.global.util.UploadUtilAsyncWrapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -37,9 +40,11 @@ public class FreePostHandler implements PostTypeHandler{
     private final PostQueryRepository postQueryRepository;
     private final FollowRepository followRepository;
     private final PostRepository postRepository;
-    private final UploadUtilAsyncWrapper uploadUtilAsyncWrapper;
     private final PostResponseHelper postResponseHelper;
     private final PostValidationHelper postValidationHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashtagPostIndexService hashtagPostIndexService;
+    private final PostDeletionService postDeletionService;
 
     @Override
     public boolean supports(Post post) {
@@ -55,6 +60,9 @@ public class FreePostHandler implements PostTypeHandler{
 
         freePost = freePostRepository.save(freePost);
         freePostSearchService.save(freePost); // 비동기 ES 저장 - 응답 속도에 영향 없음
+        // 커밋 후 팔로워들의 팔로잉 피드에 넣는다
+        eventPublisher.publishEvent(new PostCreatedEvent(freePost.getId(), member.getId(), freePost.isAnonymous()));
+        eventPublisher.publishEvent(PostHashtagsChangedEvent.of(freePost));
         return freePost;
     }
 
@@ -65,12 +73,14 @@ public class FreePostHandler implements PostTypeHandler{
     }
 
     @Override
-    @Transactional
     public Post readPost(Long postId) {
-        Post post = postValidationHelper.validateAndGetPost(postId);
+        return postValidationHelper.validateAndGetPost(postId);
+    }
 
-        postRepository.increaseViews(postId); // 조회수 증가
-        return post;
+    @Override
+    public PostDetailProjection readPostDetail(Long postId, Long memberId) {
+        return postQueryRepository.findFreePostDetail(postId, memberId)
+                .orElseThrow(() -> new CustomException(PostErrorCode.POST_NOT_EXIST));
     }
 
     @Override
@@ -78,15 +88,7 @@ public class FreePostHandler implements PostTypeHandler{
     public void deletePost(Long postId, Member member) {
         Post post = postValidationHelper.validateAndGetPost(postId);
         validateWriter(post, member);
-        freePostRepository.deleteById(post.getId());
-        freePostSearchService.delete(postId); // 게시글 삭제 시 검색 인덱스에서 제거
-
-        List<String> imageUrls = post.getImageUrls();
-
-        // 이미지와 썸네일 s3에서 삭제
-        if (imageUrls != null && !imageUrls.isEmpty()) {
-            uploadUtilAsyncWrapper.deleteImagesAsync(imageUrls, UploadUtil.BucketType.MEDIA);
-        }
+        postDeletionService.delete(post);
     }
 
     @Override
@@ -118,6 +120,7 @@ public class FreePostHandler implements PostTypeHandler{
         if (dto.getHashtags() != null && !dto.getHashtags().isEmpty()) {
             List<FixedHashtag> hashtags = validateAndGetHashtags(dto.getHashtags());
             post.updateHashtags(hashtags);
+            eventPublisher.publishEvent(PostHashtagsChangedEvent.of(post));
         }
         if (dto.getAnonymous() != null) {
             post.setAnonymous(dto.getAnonymous());
@@ -178,13 +181,46 @@ public class FreePostHandler implements PostTypeHandler{
         // 해시태그 유효성 검사 및 변환
         List<FixedHashtag> fixedHashtags = validateAndGetHashtags(hashtags);
 
-        // 차단된 사용자를 제외하고 조회
-        Page<FreePost> postPage = postQueryRepository.findPostsByHashtagsExcludingBlocked(
-                fixedHashtags, pageable, blockedMemberIds);
+        // 차단 목록이 없으면 해시태그 인덱스로, 있으면 DB 에서 차단된 사용자를 제외하고 조회
+        Page<FreePost> postPage = blockedMemberIds.isEmpty()
+                ? hashtagPostIndexService.readPage(fixedHashtags, pageable)
+                : null;
+        if (postPage == null) {
+            postPage = postQueryRepository.findPostsByHashtagsExcludingBlocked(fixedHashtags, pageable, blockedMemberIds);
+        }
 
         return postResponseHelper.createPostListResponse(postPage, member.getId());
     }
 
+    @Override
+    public List<? extends Post> readAllPostsByCursorExcludingBlocked(PostCursor cursor, int limit, List<Long> blockedMemberIds) {
+        return postQueryRepository.findAllFreePostsByCursorExcludingBlocked(cursor, limit, blockedMemberIds);
+    }
+
+    @Override
+    public List<? extends Post> hashTagPostsByCursorExcludingBlocked(List<String> hashtags, PostCursor cursor, int limit, List<Long> blockedMemberIds) {
+        if (hashtags == null || hashtags.isEmpty()) {
+            throw new CustomException(PostErrorCode.NOT_FOUND_HASHTAG);
+        }
+
+        List<FixedHashtag> fixedHashtags = validateAndGetHashtags(hashtags);
+        List<FreePost> indexed = hashtagPostIndexService.readByCursor(fixedHashtags, cursor, limit, blockedMemberIds);
+        if (indexed != null) {
+            return indexed;
+        }
+        return postQueryRepository.findPostsByHashtagsByCursorExcludingBlocked(fixedHashtags, cursor, limit, blockedMemberIds);
+    }
+
+    @Override
+    public List<? extends Post> readAllPostsByUserExcludingAnonymousByCursor(Long userId, PostCursor cursor, int limit) {
+        return postQueryRepository.findPostsByMemberByCursor(userId, false, cursor, limit);
+    }
+
+    @Override
+    public List<? extends Post> readAllPostsByMemberByCursor(Long memberId, PostCursor cursor, int limit) {
+        return postQueryRepository.findPostsByMemberByCursor(memberId, true, cursor, limit);
+    }
+
     protected List<FixedHashtag> validateAndGetHashtags(List<String> hashtags) {
         if (hashtags == null || hashtags.isEmpty()) {
             return List.of();
@@ -4,7 +4,6 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
-import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.post.dto.PostInteractionStatus;
@@ -18,6 +17,7 @@ import com.ceos.beatbuddy.domain.recent_search.application.RecentSearchService;
 import com.ceos.beatbuddy.domain.recent_search.entity.SearchTypeEnum;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -39,10 +39,10 @@ public class FreePostSearchService {
     private final ElasticsearchClient elasticsearchClient;
     private final FreePostRepository freePostRepository;
     private final PostInteractionService postInteractionService;
-    private final FollowRepository followRepository;
     private final MemberService memberService;
     private final RecentSearchService recentSearchService;
     private final PostResponseHelper postResponseHelper;
+    private final SocialGraphCache socialGraphCache;
 
     @Async
     public void save(FreePost post) {
@@ -162,7 +162,7 @@ public class FreePostSearchService {
         List<Long> postIds = extractPostIds(response);
         Set<Long> blockedIds = memberService.getBlockedMemberIds(memberId);
         PostInteractionStatus status = postInteractionService.getAllPostInteractions(memberId, postIds);
-        Set<Long> followingIds = followRepository.findFollowingMemberIds(member.getId());
+        Set<Long> followingIds = socialGraphCache.getFollowingMemberIds(member.getId());
         
         List<FreePost> filteredPosts = getFilteredPosts(postIds, blockedIds);
         List<FreePost> orderedPosts = maintainElasticsearchOrder(postIds, filteredPosts);
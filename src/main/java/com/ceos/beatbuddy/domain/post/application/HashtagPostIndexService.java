@@ -0,0 +1,177 @@
+package com.ceos.beatbuddy.domain.post.application;
+
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
+import com.ceos.beatbuddy.domain.post.dto.TrendingHashtagDTO;
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+import com.ceos.beatbuddy.domain.post.entity.FreePost;
+import com.ceos.beatbuddy.domain.post.entity.PostHashtagsChangedEvent;
+import com.ceos.beatbuddy.domain.post.redis.HashtagPostIndexStore;
+import com.ceos.beatbuddy.domain.post.repository.FreePostRepository;
+import com.ceos.beatbuddy.domain.post.repository.HashtagPostCount;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 게시글 목록(posting list)으로 해시태그 피드와 인기 해시태그를 조회한다.
+ * - 인덱스가 아직 채워지지 않았거나 Redis 를 쓸 수 없으면 null 을 반환하고, 호출한 쪽은 DB 조회로 대신한다.
+ * - 삭제된 게시글이 인덱스에 남아 있으면 읽을 때 건너뛰고 인덱스에서 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HashtagPostIndexService {
+
+    private final HashtagPostIndexStore hashtagPostIndexStore;
+    private final FreePostRepository freePostRepository;
+    private final PostRepository postRepository;
+
+    public void index(PostHashtagsChangedEvent event) {
+        hashtagPostIndexStore.replace(event.postId(), event.createdAt(), event.hashtags());
+    }
+
+    public void remove(Long postId) {
+        hashtagPostIndexStore.remove(postId);
+    }
+
+    /**
+     * 커서 이후 해시태그 게시글을 (createdAt, id) 내림차순으로 최대 limit 개 반환한다.
+     * 인덱스에서 limit 의 2배씩 읽어서 차단한 사용자의 글을 메모리에서 거른다.
+     */
+    public List<FreePost> readByCursor(List<FixedHashtag> hashtags, PostCursor cursor, int limit, Collection<Long> blockedMemberIds) {
+        if (!isAvailable()) {
+            return null;
+        }
+        try {
+            Set<Long> blocked = new HashSet<>(blockedMemberIds);
+            int batchSize = limit * 2;
+            List<FreePost> visible = new ArrayList<>(limit);
+            HashtagPostIndexStore.Entry before = cursor == null
+                    ? null
+                    : new HashtagPostIndexStore.Entry(cursor.id(), HashtagPostIndexStore.score(cursor.createdAt()));
+
+            while (visible.size() < limit) {
+                List<HashtagPostIndexStore.Entry> entries = hashtagPostIndexStore.readBefore(hashtags, before, batchSize);
+                if (entries.isEmpty()) {
+                    break;
+                }
+                for (FreePost post : hydrate(entries)) {
+                    if (!blocked.contains(post.getMember().getId())) {
+                        visible.add(post);
+                        if (visible.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+                if (entries.size() < batchSize) {
+                    break;
+                }
+                before = entries.get(entries.size() - 1);
+            }
+            return visible;
+        } catch (Exception e) {
+            log.warn("해시태그 인덱스 조회 실패, DB 조회로 대체합니다.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 해시태그 게시글을 페이지 단위로 조회한다. 차단 목록이 있으면 전체 개수를 맞출 수 없으므로 호출하지 않는다.
+     */
+    public Page<FreePost> readPage(List<FixedHashtag> hashtags, Pageable pageable) {
+        if (!isAvailable()) {
+            return null;
+        }
+        try {
+            long total = hashtagPostIndexStore.count(hashtags);
+            long offset = pageable.getOffset();
+            if (offset >= total) {
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            List<HashtagPostIndexStore.Entry> entries =
+                    hashtagPostIndexStore.readBefore(hashtags, null, (int) offset + pageable.getPageSize());
+            List<HashtagPostIndexStore.Entry> page = entries.subList((int) Math.min(offset, entries.size()), entries.size());
+            return new PageImpl<>(hydrate(page), pageable, total);
+        } catch (Exception e) {
+            log.warn("해시태그 인덱스 조회 실패, DB 조회로 대체합니다.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 최근 window 동안 작성된 게시글 수가 많은 해시태그 순으로 반환한다. 게시글이 없는 해시태그는 제외한다.
+     */
+    public List<TrendingHashtagDTO> getTrendingHashtags(Duration window) {
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        return countSince(since).entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<FixedHashtag, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> TrendingHashtagDTO.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private Map<FixedHashtag, Long> countSince(LocalDateTime since) {
+        if (isAvailable()) {
+            try {
+                return hashtagPostIndexStore.countSince(since);
+            } catch (Exception e) {
+                log.warn("해시태그 인덱스 집계 실패, DB 조회로 대체합니다.", e);
+            }
+        }
+        Map<FixedHashtag, Long> counts = new EnumMap<>(FixedHashtag.class);
+        for (HashtagPostCount count : postRepository.countHashtagsCreatedAfter(since)) {
+            counts.put(count.getHashtag(), count.getPostCount());
+        }
+        return counts;
+    }
+
+    // 인덱스 순서대로 게시글을 채운다. DB 에 없는 ID 는 인덱스에서 지운다
+    private List<FreePost> hydrate(List<HashtagPostIndexStore.Entry> entries) {
+        List<Long> postIds = entries.stream()
+                .map(HashtagPostIndexStore.Entry::postId)
+                .toList();
+        Map<Long, FreePost> postsById = freePostRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(FreePost::getId, Function.identity()));
+
+        List<FreePost> posts = new ArrayList<>(postIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long postId : postIds) {
+            FreePost post = postsById.get(postId);
+            if (post != null) {
+                posts.add(post);
+            } else {
+                missing.add(postId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            try {
+                hashtagPostIndexStore.removeAll(missing);
+            } catch (Exception e) {
+                log.warn("해시태그 인덱스 정리 실패 - postIds: {}", missing, e);
+            }
+        }
+        return posts;
+    }
+
+    private boolean isAvailable() {
+        try {
+            return hashtagPostIndexStore.isReady();
+        } catch (Exception e) {
+            log.warn("해시태그 인덱스 상태 확인 실패", e);
+            return false;
+        }
+    }
+}
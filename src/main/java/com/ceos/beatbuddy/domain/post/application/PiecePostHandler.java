@@ -2,12 +2,14 @@ package com.ceos.beatbuddy.domain.post.application;
 
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.post.dto.PostCreateRequestDTO;
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
 import com.ceos.beatbuddy.domain.post.dto.PostListResponseDTO;
 import com.ceos.beatbuddy.domain.post.dto.UpdatePostRequestDTO;
 import com.ceos.beatbuddy.domain.post.entity.PiecePost;
 import com.ceos.beatbuddy.domain.post.entity.Post;
 import com.ceos.beatbuddy.domain.post.exception.PostErrorCode;
 import com.ceos.beatbuddy.domain.post.repository.PiecePostRepository;
+import com.ceos.beatbuddy.domain.post.repository.PostDetailProjection;
 import com.ceos.beatbuddy.domain.venue.application.VenueInfoService;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
@@ -25,6 +27,7 @@ public class PiecePostHandler implements PostTypeHandler {
     private final VenueInfoService venueInfoService;
     private final PieceService pieceService;
     private final PostValidationHelper postValidationHelper;
+    private final PostDeletionService postDeletionService;
 
     @Override
     public boolean supports(Post post) {
@@ -52,6 +55,11 @@ public class PiecePostHandler implements PostTypeHandler {
         throw new UnsupportedOperationException("PiecePost 기능이 아직 구현되지 않았습니다.");
     }
 
+    @Override
+    public PostDetailProjection readPostDetail(Long postId, Long memberId) {
+        throw new UnsupportedOperationException("PiecePost 기능이 아직 구현되지 않았습니다.");
+    }
+
     @Override
     @org.springframework.transaction.annotation.Transactional
     public void deletePost(Long postId, Member member) {
@@ -60,7 +68,7 @@ public class PiecePostHandler implements PostTypeHandler {
             throw new CustomException(PostErrorCode.POST_NOT_EXIST);
         }
         validateWriter(post, member);
-        piecePostRepository.deleteById(post.getId());
+        postDeletionService.delete(post);
     }
 
     @Override
@@ -100,4 +108,24 @@ public class PiecePostHandler implements PostTypeHandler {
     public PostListResponseDTO hashTagPostListExcludingBlocked(List<String> hashtags, Pageable pageable, Member member, List<Long> blockedMemberIds) {
         throw new UnsupportedOperationException("PiecePost 생성 기능이 아직 구현되지 않았습니다.");
     }
+
+    @Override
+    public List<? extends Post> readAllPostsByCursorExcludingBlocked(PostCursor cursor, int limit, List<Long> blockedMemberIds) {
+        throw new UnsupportedOperationException("PiecePost 기능이 아직 구현되지 않았습니다.");
+    }
+
+    @Override
+    public List<? extends Post> hashTagPostsByCursorExcludingBlocked(List<String> hashtags, PostCursor cursor, int limit, List<Long> blockedMemberIds) {
+        throw new UnsupportedOperationException("PiecePost 기능이 아직 구현되지 않았습니다.");
+    }
+
+    @Override
+    public List<? extends Post> readAllPostsByUserExcludingAnonymousByCursor(Long userId, PostCursor cursor, int limit) {
+        throw new UnsupportedOperationException("PiecePost 기능이 아직 구현되지 않았습니다.");
+    }
+
+    @Override
+    public List<? extends Post> readAllPostsByMemberByCursor(Long memberId, PostCursor cursor, int limit) {
+        throw new UnsupportedOperationException("PiecePost 기능이 아직 구현되지 않았습니다.");
+    }
 }
@@ -0,0 +1,57 @@
+package com.ceos.beatbuddy.domain.post.application;
+
+import com.ceos.beatbuddy.domain.comment.repository.CommentRepository;
+import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.entity.PostDeletedEvent;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import com.ceos.beatbuddy.domain.scrapandlike.repository.CommentLikeRepository;
+import com.ceos.beatbuddy.domain.scrapandlike.repository.PostLikeRepository;
+import com.ceos.beatbuddy.domain.scrapandlike.repository.PostScrapRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글과 딸린 댓글/좋아요/스크랩을 집합 단위 DELETE 로 지운다.
+ * 엔티티로 지우면 cascade 때문에 댓글·좋아요·스크랩을 모두 영속성 컨텍스트에 올린 뒤 한 행씩 지우므로,
+ * 인기 글일수록 메모리와 쿼리 수가 늘어난다. 여기서는 글의 반응 수와 상관없이 쿼리 6번으로 끝난다.
+ * 검색 인덱스, 해시태그 인덱스, S3 정리는 커밋 후 PostDeletedEvent 로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostDeletionService {
+
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostScrapRepository postScrapRepository;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void delete(Post post) {
+        Long postId = post.getId();
+        // 마지막 DELETE 가 영속성 컨텍스트를 비우므로 파일 URL 은 먼저 복사해 둔다
+        List<String> fileUrls = new ArrayList<>();
+        if (post.getImageUrls() != null) {
+            fileUrls.addAll(post.getImageUrls());
+        }
+        if (post.getThumbnailUrls() != null) {
+            fileUrls.addAll(post.getThumbnailUrls());
+        }
+
+        // FK 를 참조하는 쪽부터 지운다
+        commentLikeRepository.deleteAllByPostId(postId);
+        commentRepository.detachRepliesByPostId(postId);
+        commentRepository.deleteAllByPostId(postId);
+        postLikeRepository.deleteAllByPostId(postId);
+        postScrapRepository.deleteAllByPostId(postId);
+        postRepository.deleteByIdInBulk(postId);
+
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, fileUrls));
+    }
+}
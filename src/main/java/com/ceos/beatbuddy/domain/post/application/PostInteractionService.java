@@ -1,10 +1,11 @@
 package com.ceos.beatbuddy.domain.post.application;
 
-import com.ceos.beatbuddy.domain.comment.repository.CommentRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.post.dto.PostInteractionStatus;
 import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.entity.PostEngagementChangedEvent;
+import com.ceos.beatbuddy.domain.post.repository.PostInteractionRow;
 import com.ceos.beatbuddy.domain.post.repository.PostRepository;
 import com.ceos.beatbuddy.domain.scrapandlike.entity.PostLike;
 import com.ceos.beatbuddy.domain.scrapandlike.entity.PostScrap;
@@ -12,14 +13,17 @@ import com.ceos.beatbuddy.domain.scrapandlike.repository.PostLikeRepository;
 import com.ceos.beatbuddy.domain.scrapandlike.repository.PostScrapRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import com.ceos.beatbuddy.global.util.LongIdSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +33,9 @@ public class PostInteractionService {
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final PostScrapRepository postScrapRepository;
-    private final CommentRepository commentRepository;
     private final PostValidationHelper postValidationHelper;
+    private final WriteBehindCounterService writeBehindCounterService;
+    private final ApplicationEventPublisher eventPublisher;
     @Transactional
     public void likePost(Long postId, Long memberId) {
         Member member = memberService.validateAndGetMember(memberId);
@@ -47,7 +52,8 @@ public class PostInteractionService {
                 .build();
 
         postLikeRepository.save(postLike);
-        postRepository.increaseLike(postId);
+        writeBehindCounterService.increment(CounterType.POST_LIKES, postId);
+        eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, 1));
     }
 
 
@@ -55,7 +61,7 @@ public class PostInteractionService {
     public void deletePostLike(Long postId, Long memberId) {
         memberService.validateAndGetMember(memberId);
 
-        postValidationHelper.validateAndGetPost(postId);
+        Post post = postValidationHelper.validateAndGetPost(postId);
 
         int deletedCount = postLikeRepository.deleteByMember_IdAndPost_Id(memberId, postId);
         if (deletedCount == 0) {
@@ -68,11 +74,8 @@ public class PostInteractionService {
         }
 
         // 실제 삭제된 수만큼 카운트 감소
-        if (deletedCount > 1) {
-            postRepository.decreaseLike(postId, deletedCount);
-        } else {
-            postRepository.decreaseLike(postId);
-        }
+        writeBehindCounterService.add(CounterType.POST_LIKES, postId, -deletedCount);
+        eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, -deletedCount));
     }
 
     @Transactional
@@ -91,7 +94,7 @@ public class PostInteractionService {
                 .build();
 
         postScrapRepository.save(postScrap);
-        postRepository.increaseScrap(postId);
+        writeBehindCounterService.increment(CounterType.POST_SCRAPS, postId);
     }
 
 
@@ -112,45 +115,35 @@ public class PostInteractionService {
         }
 
         // 실제 삭제된 수만큼 카운트 감소
-        if (deletedCount > 1) {
-            postRepository.decreaseScrap(postId, deletedCount);
-        } else {
-            postRepository.decreaseScrap(postId);
-        }
+        writeBehindCounterService.add(CounterType.POST_SCRAPS, postId, -deletedCount);
     }
 
 
-    private Set<Long> getLikedPostIds(Long memberId, List<Long> postIds) {
-        return postLikeRepository.findAllByMember_IdAndPost_IdIn(memberId, postIds)
-                .stream()
-                .map(pl -> pl.getPost().getId())
-                .collect(Collectors.toSet());
-    }
-
-    private Set<Long> getCommentedPostIds(Long memberId, List<Long> postIds) {
-        return commentRepository.findAllByMember_IdAndPost_IdInAndIsDeletedFalse(memberId, postIds)
-                .stream()
-                .map(c -> c.getPost().getId())
-                .collect(Collectors.toSet());
-    }
-
-    private Set<Long> getScrappedPostIds(Long memberId, List<Long> postIds) {
-        return postScrapRepository.findAllByMember_IdAndPost_IdIn(memberId, postIds)
-                .stream()
-                .map(ps -> ps.getPost().getId())
-                .collect(Collectors.toSet());
-    }
-
     public Post validateAndGetPost(Long postId) {
         return postValidationHelper.validateAndGetPost(postId);
     }
 
+    /**
+     * 게시글 목록에 대한 회원의 좋아요/스크랩/댓글 여부를 UNION 쿼리 한 번으로 조회한다.
+     */
     public PostInteractionStatus getAllPostInteractions(Long memberId, List<Long> postIds) {
-        Set<Long> liked = getLikedPostIds(memberId, postIds);
-        Set<Long> scrapped = getScrappedPostIds(memberId, postIds);
-        Set<Long> commented = getCommentedPostIds(memberId, postIds);
+        if (postIds == null || postIds.isEmpty()) {
+            return PostInteractionStatus.empty();
+        }
+
+        List<Long> liked = new ArrayList<>();
+        List<Long> scrapped = new ArrayList<>();
+        List<Long> commented = new ArrayList<>();
+        for (PostInteractionRow row : postRepository.findInteractionRows(memberId, postIds)) {
+            switch (row.getKind()) {
+                case 1 -> liked.add(row.getPostId());
+                case 2 -> scrapped.add(row.getPostId());
+                case 3 -> commented.add(row.getPostId());
+                default -> log.warn("알 수 없는 게시글 상호작용 종류 - kind: {}", row.getKind());
+            }
+        }
 
-        return new PostInteractionStatus(liked, scrapped, commented);
+        return new PostInteractionStatus(LongIdSet.of(liked), LongIdSet.of(scrapped), LongIdSet.of(commented));
     }
 
 }
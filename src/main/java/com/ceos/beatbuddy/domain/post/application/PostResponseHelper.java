@@ -1,6 +1,7 @@
 package com.ceos.beatbuddy.domain.post.application;
 
-import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
+import com.ceos.beatbuddy.domain.post.dto.PostCursorResponseDTO;
 import com.ceos.beatbuddy.domain.post.dto.PostInteractionStatus;
 import com.ceos.beatbuddy.domain.post.dto.PostListResponseDTO;
 import com.ceos.beatbuddy.domain.post.dto.PostPageResponseDTO;
@@ -8,6 +9,9 @@ import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
 import com.ceos.beatbuddy.domain.post.entity.FreePost;
 import com.ceos.beatbuddy.domain.post.entity.Post;
 import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
@@ -20,15 +24,16 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class PostResponseHelper {
     private final PostInteractionService postInteractionService;
-    private final FollowRepository followRepository;
     private final PostRepository postRepository;
+    private final WriteBehindCounterService writeBehindCounterService;
+    private final SocialGraphCache socialGraphCache;
 
     public PostListResponseDTO createPostListResponse(Page<? extends Post> postPage, Long memberId) {
         List<? extends Post> posts = postPage.getContent();
         List<Long> postIds = posts.stream().map(Post::getId).toList();
 
         PostInteractionStatus status = postInteractionService.getAllPostInteractions(memberId, postIds);
-        Set<Long> followingIds = followRepository.findFollowingMemberIds(memberId);
+        Set<Long> followingIds = socialGraphCache.getFollowingMemberIds(memberId);
 
         List<PostPageResponseDTO> dtoList = posts.stream()
                 .map(post -> createPostPageResponseDTO(post, status, memberId, followingIds))
@@ -43,11 +48,27 @@ public class PostResponseHelper {
     }
 
 
+    /**
+     * size + 1 개까지 조회한 결과로 커서 응답을 만든다. 초과분이 있으면 다음 목록이 있는 것으로 본다.
+     */
+    public PostCursorResponseDTO createPostCursorResponse(List<? extends Post> fetched, int size, Long memberId) {
+        boolean hasNext = fetched.size() > size;
+        List<? extends Post> posts = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? PostCursor.of(posts.get(posts.size() - 1)).encode() : null;
+
+        return PostCursorResponseDTO.builder()
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .responseDTOS(createPostPageResponseDTOList(posts, memberId))
+                .build();
+    }
+
     public List<PostPageResponseDTO> createPostPageResponseDTOList(List<? extends Post> posts, Long memberId) {
         List<Long> postIds = posts.stream().map(Post::getId).toList();
         
         PostInteractionStatus status = postInteractionService.getAllPostInteractions(memberId, postIds);
-        Set<Long> followingIds = followRepository.findFollowingMemberIds(memberId);
+        Set<Long> followingIds = socialGraphCache.getFollowingMemberIds(memberId);
 
         return posts.stream()
                 .map(post -> createPostPageResponseDTO(post, status, memberId, followingIds))
@@ -66,7 +87,12 @@ public class PostResponseHelper {
                 hashtags,
                 post.getMember().getId().equals(memberId),
                 followingIds.contains(post.getMember().getId())
-        );
+        ).toBuilder()
+                // 아직 DB 에 반영되지 않은 좋아요/스크랩/댓글 수를 더한다
+                .likes(writeBehindCounterService.overlay(CounterType.POST_LIKES, post.getId(), post.getLikes()))
+                .scraps(writeBehindCounterService.overlay(CounterType.POST_SCRAPS, post.getId(), post.getScraps()))
+                .comments(writeBehindCounterService.overlay(CounterType.POST_COMMENTS, post.getId(), post.getComments()))
+                .build();
     }
 
     public PostListResponseDTO createEmptyPostListResponse(int page, int size) {
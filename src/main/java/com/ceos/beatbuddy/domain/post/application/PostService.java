@@ -4,36 +4,48 @@ import com.ceos.beatbuddy.domain.comment.repository.CommentRepository;
 import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
-import com.ceos.beatbuddy.domain.member.repository.MemberBlockRepository;
 import com.ceos.beatbuddy.domain.post.dto.*;
 import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
 import com.ceos.beatbuddy.domain.post.entity.FreePost;
 import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.entity.PostEngagementChangedEvent;
 import com.ceos.beatbuddy.domain.post.exception.PostErrorCode;
+import com.ceos.beatbuddy.domain.post.redis.HotPostRankingStore;
+import com.ceos.beatbuddy.domain.post.repository.PostDetailProjection;
 import com.ceos.beatbuddy.domain.post.repository.PostQueryRepository;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
 import com.ceos.beatbuddy.domain.scrapandlike.repository.PostLikeRepository;
 import com.ceos.beatbuddy.domain.scrapandlike.repository.PostScrapRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.ViewCounter;
 import com.ceos.beatbuddy.global.service.ImageUploadService;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
+import com.ceos.beatbuddy.global.util.LongIdSet;
 import com.ceos.beatbuddy.global.util.UploadResult;
 import com.ceos.beatbuddy.global.util.UploadUtil;
 import com.ceos.beatbuddy.global.util.UploadUtilAsyncWrapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -50,15 +62,27 @@ public class PostService {
     private final FollowRepository followRepository;
     private final PostResponseHelper postResponseHelper;
     private final PostValidationHelper postValidationHelper;
-    private final MemberBlockRepository memberBlockRepository;
+    private final ViewCounter viewCounter;
+    private final PostRepository postRepository;
+    private final HotPostRankingStore hotPostRankingStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SocialGraphCache socialGraphCache;
+    private final FollowingTimelineService followingTimelineService;
+    private final HashtagPostIndexService hashtagPostIndexService;
 
     private static final List<String> VALID_POST_TYPES = List.of("free", "piece");
     private static final String POST_TYPE_FREE = "free";
-
-    @Transactional
+    private static final int HOT_POST_LIMIT = 2;
+    // 차단/삭제/윈도우 밖 글을 걸러내고도 HOT_POST_LIMIT 개가 남도록 후보를 넉넉히 가져온다
+    private static final int HOT_POST_CANDIDATES = 20;
+    // 차단 목록이 이보다 크면 NOT IN 대신 넉넉히 읽어서 메모리에서 거른다
+    private static final int BLOCK_PUSHDOWN_LIMIT = 100;
+    private static final int MAX_TRENDING_HOURS = 24 * 7;
+
+    // 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 시작하고, 저장만 짧은 트랜잭션에서 한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponsePostDto addNewPost(String type, PostCreateRequestDTO dto, Long memberId, List<MultipartFile> images) {
         validatePostType(type);
-        Member member = memberService.validateAndGetMember(memberId);
 
         if (images != null && images.stream().filter(file -> file != null && !file.isEmpty()).count() > 20) {
             throw new CustomException(ErrorCode.TOO_MANY_IMAGES_20);
@@ -66,44 +90,55 @@ public class PostService {
 
         List<String> imageUrls = null;
         List<String> thumbnailUrls = null;
+        List<String> uploadedUrls = List.of();
 
+        // 1단계: 트랜잭션 밖에서 업로드
         if (images != null && !images.isEmpty()) {
             if (POST_TYPE_FREE.equalsIgnoreCase(type)) {
                 // free 타입: 원본 + 썸네일 동시 업로드 (성능 최적화)
                 List<UploadResult> uploadResults = imageUploadService.uploadImagesWithThumbnails(images, UploadUtil.BucketType.MEDIA, "post");
                 imageUrls = uploadResults.stream().map(UploadResult::getOriginalUrl).toList();
                 thumbnailUrls = uploadResults.stream().map(UploadResult::getThumbnailUrl).toList();
+                uploadedUrls = ImageUploadService.uploadedUrls(uploadResults);
             } else {
                 // piece 타입: 원본만 업로드
                 imageUrls = imageUploadService.uploadImagesParallel(images, UploadUtil.BucketType.MEDIA, "post");
+                uploadedUrls = imageUrls;
             }
         }
 
-        PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
-        Post post = handler.createPost(dto, member, imageUrls);
-        post.setThumbnailUrls(thumbnailUrls); // null or list
+        // 2단계: 짧은 트랜잭션에서 저장, 실패하면 올린 파일을 지운다
+        List<String> postImageUrls = imageUrls;
+        List<String> postThumbnailUrls = thumbnailUrls;
+        return imageUploadService.saveAfterUpload(uploadedUrls, UploadUtil.BucketType.MEDIA, () -> {
+            Member member = memberService.validateAndGetMember(memberId);
+
+            PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
+            Post post = handler.createPost(dto, member, postImageUrls);
+            post.setThumbnailUrls(postThumbnailUrls); // null or list
+            // 좋아요가 없어도 핫 게시글 후보가 되도록 점수 0 으로 올린다
+            eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, 0));
 
-        return ResponsePostDto.of(post);
+            return ResponsePostDto.of(post);
+        });
     }
 
 
 
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PostReadDetailDTO newReadPost(String type, Long postId, Long memberId) {
         // 회원 유효성 검사
         memberService.validateAndGetMember(memberId);
 
-        // 게시글 조회 및 조회수 증가
+        // 게시글, 작성자, 해시태그와 좋아요 / 스크랩 / 댓글 / 팔로우 여부를 한 번의 쿼리로 조회
         PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
-        Post post = handler.readPost(postId);
+        PostDetailProjection detail = handler.readPostDetail(postId, memberId);
+        Post post = detail.post();
 
-        // 사용자의 좋아요 / 스크랩 / 댓글 여부
-        Triple<Boolean, Boolean, Boolean> status = getPostInteractions(memberId, postId);
-
-        // following 여부
-        boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(memberId, post.getMember().getId());
+        // 조회수 증가 (하루 1회, 쓰기 지연)
+        viewCounter.recordView(CounterType.POST_VIEWS, postId, memberId);
 
         // 해시태그 분기 처리
         List<FixedHashtag> hashtags = (post instanceof FreePost freePost)
@@ -111,12 +146,12 @@ public class PostService {
                 : List.of();
 
         // 응답 생성
-        return PostReadDetailDTO.toDTO(post, status.getLeft(),
-                status.getMiddle(),
-                status.getRight(),
+        return PostReadDetailDTO.toDTO(post, detail.liked(),
+                detail.scrapped(),
+                detail.commented(),
                 hashtags,
                 post.getMember().getId().equals(memberId),
-                isFollowing);
+                detail.following());
     }
 
     public PostListResponseDTO readAllPostsSort(Long memberId, String type, int page, int size) {
@@ -132,7 +167,7 @@ public class PostService {
         memberService.validateAndGetMember(memberId);
         
         // 차단한 사용자 ID 목록 조회
-        Set<Long> blockedMemberIds = memberBlockRepository.findBlockedMemberIdsByBlockerId(memberId);
+        Set<Long> blockedMemberIds = socialGraphCache.getBlockedMemberIds(memberId);
         List<Long> blockedMemberIdsList = List.copyOf(blockedMemberIds);
 
         PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
@@ -152,17 +187,53 @@ public class PostService {
 
 
     public List<PostPageResponseDTO> getHotPosts(Long memberId) {
-        Member member = memberService.validateAndGetMember(memberId);
+        memberService.validateAndGetMember(memberId);
         
         // 차단한 사용자 ID 목록 조회
-        Set<Long> blockedMemberIds = memberBlockRepository.findBlockedMemberIdsByBlockerId(memberId);
-        List<Long> blockedMemberIdsList = List.copyOf(blockedMemberIds);
-        
-        List<Post> posts = postQueryRepository.findHotPostsWithin12HoursExcludingBlocked(blockedMemberIdsList);
+        Set<Long> blockedMemberIds = socialGraphCache.getBlockedMemberIds(memberId);
+
+        List<Post> posts = findHotPostsFromRanking(blockedMemberIds);
+        if (posts == null) {
+            posts = postQueryRepository.findHotPostsWithin12HoursExcludingBlocked(List.copyOf(blockedMemberIds));
+        }
 
         return postResponseHelper.createPostPageResponseDTOList(posts, memberId);
     }
 
+    /**
+     * Redis 순위 후보에서 차단한 사용자, 삭제된 글, 12시간이 지난 글을 메모리에서 걸러낸다.
+     * 순위를 쓸 수 없거나 후보가 부족하면 null 을 반환해서 DB 조회로 대신한다.
+     */
+    private List<Post> findHotPostsFromRanking(Set<Long> blockedMemberIds) {
+        List<Long> candidateIds;
+        try {
+            candidateIds = hotPostRankingStore.topPostIds(HOT_POST_CANDIDATES);
+        } catch (Exception e) {
+            log.warn("핫 게시글 순위 조회 실패, DB 조회로 대체합니다.", e);
+            return null;
+        }
+        if (candidateIds.isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minus(HotPostRankingStore.WINDOW);
+        Map<Long, Post> postsById = postRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = candidateIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .filter(post -> !post.getCreatedAt().isBefore(since))
+                .filter(post -> !blockedMemberIds.contains(post.getMember().getId()))
+                .limit(HOT_POST_LIMIT)
+                .toList();
+
+        // 후보를 다 가져왔는데도 모자라면 순위 밖에 남은 글이 있을 수 있다
+        if (posts.size() < HOT_POST_LIMIT && candidateIds.size() == HOT_POST_CANDIDATES) {
+            return null;
+        }
+        return posts;
+    }
+
     public PostListResponseDTO getHashtagPosts(Long memberId, List<String> hashtags, int page, int size) {
         Member member = memberService.validateAndGetMember(memberId);
 
@@ -173,7 +244,7 @@ public class PostService {
         Pageable pageable = PageRequest.of(page -1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         
         // 차단한 사용자 ID 목록 조회
-        Set<Long> blockedMemberIds = memberBlockRepository.findBlockedMemberIdsByBlockerId(memberId);
+        Set<Long> blockedMemberIds = socialGraphCache.getBlockedMemberIds(memberId);
         List<Long> blockedMemberIdsList = List.copyOf(blockedMemberIds);
 
         PostTypeHandler handler = postTypeHandlerFactory.getHandler("free");
@@ -223,13 +294,13 @@ public class PostService {
         // DTO 매핑 - 스크랩된 게시글이므로 모두 스크랩 상태 true로 설정
         List<Long> postIds = filteredPosts.stream().map(Post::getId).toList();
         PostInteractionStatus status = postInteractionService.getAllPostInteractions(memberId, postIds);
-        Set<Long> followingIds = followRepository.findFollowingMemberIds(member.getId());
+        Set<Long> followingIds = socialGraphCache.getFollowingMemberIds(member.getId());
 
         List<PostPageResponseDTO> dtos = filteredPosts.stream()
                 .map(post -> postResponseHelper.createPostPageResponseDTO(post, 
                     new PostInteractionStatus(
                         status.likedPostIds(),
-                            new HashSet<>(postIds), // 스크랩된 게시글이므로 모두 true
+                            LongIdSet.of(postIds), // 스크랩된 게시글이므로 모두 true
                         status.commentedPostIds()
                     ), memberId, followingIds))
                 .toList();
@@ -290,6 +361,125 @@ public class PostService {
 
 
 
+    /**
+     * 커서 기반 최신순 목록. count 쿼리 없이 size + 1 개를 읽어서 다음 목록 여부를 판단한다.
+     */
+    public PostCursorResponseDTO readAllPostsByCursor(Long memberId, String type, String cursor, int size) {
+        validateCursorSize(size);
+        memberService.validateAndGetMember(memberId);
+
+        // 차단한 사용자 ID 목록 조회
+        LongIdSet blockedMemberIds = socialGraphCache.getBlockedMemberIds(memberId);
+
+        PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
+        List<? extends Post> posts = fetchExcludingBlocked(handler::readAllPostsByCursorExcludingBlocked,
+                PostCursor.decode(cursor), size + 1, blockedMemberIds);
+
+        return postResponseHelper.createPostCursorResponse(posts, size, memberId);
+    }
+
+    public PostCursorResponseDTO getHashtagPostsByCursor(Long memberId, List<String> hashtags, String cursor, int size) {
+        validateCursorSize(size);
+        memberService.validateAndGetMember(memberId);
+
+        LongIdSet blockedMemberIds = socialGraphCache.getBlockedMemberIds(memberId);
+
+        PostTypeHandler handler = postTypeHandlerFactory.getHandler(POST_TYPE_FREE);
+        List<? extends Post> posts = fetchExcludingBlocked(
+                (after, limit, blocked) -> handler.hashTagPostsByCursorExcludingBlocked(hashtags, after, limit, blocked),
+                PostCursor.decode(cursor), size + 1, blockedMemberIds);
+
+        return postResponseHelper.createPostCursorResponse(posts, size, memberId);
+    }
+
+    public PostCursorResponseDTO getMyPostsByCursor(Long memberId, String type, String cursor, int size) {
+        validateCursorSize(size);
+        memberService.validateAndGetMember(memberId);
+        validatePostType(type);
+
+        PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
+        List<? extends Post> posts = handler.readAllPostsByMemberByCursor(memberId, PostCursor.decode(cursor), size + 1);
+
+        return postResponseHelper.createPostCursorResponse(posts, size, memberId);
+    }
+
+    public PostCursorResponseDTO getUserPostsByCursor(Long memberId, Long userId, String type, String cursor, int size) {
+        validateCursorSize(size);
+        // 로그인한 사용자의 유효성 검사
+        memberService.validateAndGetMember(memberId);
+        // 조회하고자 하는 사용자
+        memberService.validateAndGetMember(userId);
+        validatePostType(type);
+
+        PostTypeHandler handler = postTypeHandlerFactory.getHandler(type);
+        List<? extends Post> posts = handler.readAllPostsByUserExcludingAnonymousByCursor(userId, PostCursor.decode(cursor), size + 1);
+
+        return postResponseHelper.createPostCursorResponse(posts, size, memberId);
+    }
+
+    /**
+     * 내가 팔로우하는 사람들의 글을 최신순으로 커서 조회한다. 익명 글은 포함하지 않는다.
+     */
+    public PostCursorResponseDTO getFollowingFeed(Long memberId, String cursor, int size) {
+        validateCursorSize(size);
+        memberService.validateAndGetMember(memberId);
+
+        LongIdSet followingIds = socialGraphCache.getFollowingMemberIds(memberId);
+        LongIdSet blockedMemberIds = socialGraphCache.getBlockedMemberIds(memberId);
+        List<Post> posts = followingTimelineService.read(memberId, followingIds, blockedMemberIds, PostCursor.decode(cursor), size + 1);
+
+        return postResponseHelper.createPostCursorResponse(posts, size, memberId);
+    }
+
+    public List<TrendingHashtagDTO> getTrendingHashtags(Long memberId, int hours) {
+        memberService.validateAndGetMember(memberId);
+        if (hours < 1 || hours > MAX_TRENDING_HOURS) {
+            throw new CustomException(PostErrorCode.INVALID_TRENDING_HOURS);
+        }
+        return hashtagPostIndexService.getTrendingHashtags(Duration.ofHours(hours));
+    }
+
+    @FunctionalInterface
+    private interface CursorFetcher {
+        List<? extends Post> fetch(PostCursor cursor, int limit, List<Long> blockedMemberIds);
+    }
+
+    /**
+     * 차단 목록이 작으면 NOT IN 으로 DB 에서 거르고, 크면 조건 없이 limit 의 2배씩 읽어서 메모리에서 거른다.
+     * 큰 NOT IN 목록은 파싱/실행 계획 비용이 커지고 (createdAt, id) 인덱스 순서대로 읽는 이점을 잃는다.
+     */
+    private List<? extends Post> fetchExcludingBlocked(CursorFetcher fetcher, PostCursor cursor, int limit, LongIdSet blockedMemberIds) {
+        if (blockedMemberIds.size() <= BLOCK_PUSHDOWN_LIMIT) {
+            return fetcher.fetch(cursor, limit, blockedMemberIds.toList());
+        }
+
+        int batchSize = limit * 2;
+        List<Post> visible = new ArrayList<>(limit);
+        PostCursor after = cursor;
+        while (visible.size() < limit) {
+            List<? extends Post> batch = fetcher.fetch(after, batchSize, List.of());
+            for (Post post : batch) {
+                if (!blockedMemberIds.contains(post.getMember().getId().longValue())) {
+                    visible.add(post);
+                    if (visible.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            after = PostCursor.of(batch.get(batch.size() - 1));
+        }
+        return visible;
+    }
+
+    private void validateCursorSize(int size) {
+        if (size < 1) {
+            throw new CustomException(ErrorCode.PAGE_OUT_OF_BOUNDS);
+        }
+    }
+
     // 주어진 타입이 올바른지 확인
     private void validatePostType(String type) {
         if (!VALID_POST_TYPES.contains(type)) {
@@ -2,9 +2,11 @@ package com.ceos.beatbuddy.domain.post.application;
 
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.post.dto.PostCreateRequestDTO;
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
 import com.ceos.beatbuddy.domain.post.dto.PostListResponseDTO;
 import com.ceos.beatbuddy.domain.post.dto.UpdatePostRequestDTO;
 import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.repository.PostDetailProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -28,6 +30,13 @@ public interface PostTypeHandler {
      * @return 조회된 게시글
      */
     Post readPost(Long postId);
+    /**
+     * 게시글 상세와 요청자의 좋아요/스크랩/댓글/팔로우 여부를 한 번에 조회합니다.
+     * @param postId 게시글 ID
+     * @param memberId 요청자 ID
+     * @return 게시글 상세 조회 결과
+     */
+    PostDetailProjection readPostDetail(Long postId, Long memberId);
     /**
      * 게시글을 삭제합니다.
      * @param postId 게시글 ID
@@ -84,4 +93,28 @@ public interface PostTypeHandler {
      * @return 해시태그별 게시글 목록 (차단된 사용자 제외)
      */
     PostListResponseDTO hashTagPostListExcludingBlocked(List<String> hashtags, Pageable pageable, Member member, List<Long> blockedMemberIds);
+
+    /**
+     * 커서 이후의 게시글을 최신순(createdAt, id 내림차순)으로 조회합니다 (차단된 사용자 제외).
+     * @param cursor 마지막으로 받은 게시글 위치, 첫 페이지면 null
+     * @param limit 조회할 최대 개수
+     * @param blockedMemberIds 차단된 멤버 ID 목록
+     * @return 게시글 목록
+     */
+    List<? extends Post> readAllPostsByCursorExcludingBlocked(PostCursor cursor, int limit, List<Long> blockedMemberIds);
+
+    /**
+     * 해시태그별 게시글을 커서로 조회합니다 (차단된 사용자 제외).
+     */
+    List<? extends Post> hashTagPostsByCursorExcludingBlocked(List<String> hashtags, PostCursor cursor, int limit, List<Long> blockedMemberIds);
+
+    /**
+     * 특정 유저의 익명이 아닌 게시글을 커서로 조회합니다.
+     */
+    List<? extends Post> readAllPostsByUserExcludingAnonymousByCursor(Long userId, PostCursor cursor, int limit);
+
+    /**
+     * 내가 작성한 게시글을 커서로 조회합니다.
+     */
+    List<? extends Post> readAllPostsByMemberByCursor(Long memberId, PostCursor cursor, int limit);
 }
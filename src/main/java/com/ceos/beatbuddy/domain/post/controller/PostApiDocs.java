@@ -1,6 +1,7 @@
 package com.ceos.beatbuddy.domain.post.controller;
 
 import com.ceos.beatbuddy.domain.post.dto.*;
+import com.ceos.beatbuddy.domain.post.dto.api.PostCursorListResponseApi;
 import com.ceos.beatbuddy.domain.post.dto.api.PostPageListResponseApi;
 import com.ceos.beatbuddy.global.SwaggerExamples;
 import com.ceos.beatbuddy.global.dto.ResponseDTO;
@@ -534,5 +535,202 @@ public interface PostApiDocs {
     ResponseEntity<ResponseDTO<String>> newDeletePost(@PathVariable String type,
                                                       @PathVariable Long postId);
 
+    @Operation(summary = "전체 게시물 커서 조회 (최신순)", description = """
+    전체 게시물을 최신순으로 커서 기반 조회합니다 (type: free)
+    - 차단한 유저의 글은 제외됩니다.
+    - cursor 를 비우면 첫 목록을 조회합니다. 다음 목록은 응답의 nextCursor 를 그대로 넘겨주세요.
+    - hasNext 가 false 이면 마지막 목록이며 nextCursor 는 null 입니다.
+    - 전체 개수(totalPost)는 제공하지 않습니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostCursorListResponseApi.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {@ExampleObject(name = "잘못된 커서", value = SwaggerExamples.INVALID_CURSOR),
+                                    @ExampleObject(name = "잘못된 size 요청", value = SwaggerExamples.PAGE_OUT_OF_BOUNDS)
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<PostCursorResponseDTO>> readAllPostsByCursor(
+            @PathVariable String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size);
 
+    @Operation(summary = "내가 작성한 글 커서 조회", description = """
+    사용자가 작성한 글 목록을 최신순으로 커서 기반 조회합니다 (type: free)
+    - cursor 를 비우면 첫 목록을 조회합니다. 다음 목록은 응답의 nextCursor 를 그대로 넘겨주세요.
+    - hasNext 가 false 이면 마지막 목록이며 nextCursor 는 null 입니다.
+    - 전체 개수(totalPost)는 제공하지 않습니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostCursorListResponseApi.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {@ExampleObject(name = "잘못된 커서", value = SwaggerExamples.INVALID_CURSOR),
+                                    @ExampleObject(name = "잘못된 size 요청", value = SwaggerExamples.PAGE_OUT_OF_BOUNDS)
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<PostCursorResponseDTO>> getMyPostsByCursor(
+            @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size);
+
+    @Operation(summary = "특정 유저가 작성한 글 커서 조회", description = """
+    특정 유저가 작성한 익명이 아닌 글 목록을 최신순으로 커서 기반 조회합니다 (type: free)
+    - cursor 를 비우면 첫 목록을 조회합니다. 다음 목록은 응답의 nextCursor 를 그대로 넘겨주세요.
+    - hasNext 가 false 이면 마지막 목록이며 nextCursor 는 null 입니다.
+    - 전체 개수(totalPost)는 제공하지 않습니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostCursorListResponseApi.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {@ExampleObject(name = "잘못된 커서", value = SwaggerExamples.INVALID_CURSOR),
+                                    @ExampleObject(name = "잘못된 size 요청", value = SwaggerExamples.PAGE_OUT_OF_BOUNDS)
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<PostCursorResponseDTO>> getUserPostsByCursor(
+            @PathVariable Long userId,
+            @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size);
+
+    @Operation(summary = "해시태그별 게시글 커서 조회", description = """
+    선택한 해시태그 중 하나라도 포함된 게시글을 최신순으로 커서 기반 조회합니다.
+    - 차단한 유저의 글은 제외됩니다.
+    - cursor 를 비우면 첫 목록을 조회합니다. 다음 목록은 응답의 nextCursor 를 그대로 넘겨주세요.
+    - hasNext 가 false 이면 마지막 목록이며 nextCursor 는 null 입니다.
+    - 전체 개수(totalPost)는 제공하지 않습니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostCursorListResponseApi.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {@ExampleObject(name = "잘못된 커서", value = SwaggerExamples.INVALID_CURSOR),
+                                    @ExampleObject(name = "잘못된 size 요청", value = SwaggerExamples.PAGE_OUT_OF_BOUNDS)
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<PostCursorResponseDTO>> hashTagPostListByCursor(
+            @RequestParam List<String> hashtags,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size);
+
+    @Operation(summary = "팔로잉 피드 조회", description = """
+    내가 팔로우하는 유저들의 게시글을 최신순으로 커서 기반 조회합니다.
+    - 익명 게시글과 차단한 유저의 글은 포함되지 않습니다.
+    - cursor 를 비우면 첫 목록을 조회합니다. 다음 목록은 응답의 nextCursor 를 그대로 넘겨주세요.
+    - hasNext 가 false 이면 마지막 목록이며 nextCursor 는 null 입니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "팔로잉 피드 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostCursorListResponseApi.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {@ExampleObject(name = "잘못된 커서", value = SwaggerExamples.INVALID_CURSOR),
+                                    @ExampleObject(name = "잘못된 size 요청", value = SwaggerExamples.PAGE_OUT_OF_BOUNDS)
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<PostCursorResponseDTO>> getFollowingFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size);
+
+    @Operation(summary = "인기 해시태그 조회", description = """
+    최근 hours 시간 동안 작성된 게시글 수가 많은 해시태그 순으로 조회합니다.
+    - hours 는 1 ~ 168 (기본 24) 입니다.
+    - 기간 내 게시글이 없는 해시태그는 포함되지 않습니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "인기 해시태그 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                            {
+                              "status": 200,
+                              "code": "SUCCESS_GET_TRENDING_HASHTAGS",
+                              "message": "인기 해시태그를 성공적으로 조회했습니다.",
+                              "data": [
+                                {
+                                  "hashtag": "홍대",
+                                  "postCount": 12
+                                },
+                                {
+                                  "hashtag": "강남.신사",
+                                  "postCount": 7
+                                }
+                              ]
+                            }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "잘못된 집계 기간", value = SwaggerExamples.INVALID_TRENDING_HOURS)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)
+                    )
+            )
+    })
+    ResponseEntity<ResponseDTO<List<TrendingHashtagDTO>>> getTrendingHashtags(
+            @RequestParam(defaultValue = "24") int hours);
 }
@@ -173,4 +173,97 @@ public class PostController implements PostApiDocs {
                 .status(SuccessCode.SUCCESS_GET_POST_LIST_BY_HASHTAG.getStatus().value())
                 .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_POST_LIST_BY_HASHTAG, result));
     }
-}
\ No newline at end of file
+
+    @Override
+    @GetMapping("/{type}/sorted/cursor")
+    public ResponseEntity<ResponseDTO<PostCursorResponseDTO>> readAllPostsByCursor(
+            @PathVariable String type,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "요청할 게시물 개수")
+            @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        PostCursorResponseDTO result = postService.readAllPostsByCursor(memberId, type, cursor, size);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_POST_SORT_LIST.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_POST_SORT_LIST, result));
+    }
+
+    @Override
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ResponseDTO<PostCursorResponseDTO>> getMyPostsByCursor(
+            @RequestParam String type,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "요청할 게시물 개수")
+            @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        PostCursorResponseDTO result = postService.getMyPostsByCursor(memberId, type, cursor, size);
+
+        return ResponseEntity
+                .status(SuccessCode.GET_MY_POST_LIST.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.GET_MY_POST_LIST, result));
+    }
+
+    @Override
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<ResponseDTO<PostCursorResponseDTO>> getUserPostsByCursor(
+            @PathVariable Long userId,
+            @RequestParam String type,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "요청할 게시물 개수")
+            @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        PostCursorResponseDTO result = postService.getUserPostsByCursor(memberId, userId, type, cursor, size);
+
+        return ResponseEntity
+                .status(SuccessCode.GET_USER_POST_LIST.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.GET_USER_POST_LIST, result));
+    }
+
+    @Override
+    @GetMapping("/hashtags-search/cursor")
+    public ResponseEntity<ResponseDTO<PostCursorResponseDTO>> hashTagPostListByCursor(
+            @RequestParam List<String> hashtags,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "요청할 게시물 개수")
+            @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        PostCursorResponseDTO result = postService.getHashtagPostsByCursor(memberId, hashtags, cursor, size);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_POST_LIST_BY_HASHTAG.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_POST_LIST_BY_HASHTAG, result));
+    }
+
+    @Override
+    @GetMapping("/following")
+    public ResponseEntity<ResponseDTO<PostCursorResponseDTO>> getFollowingFeed(
+            @Parameter(description = "이전 응답의 nextCursor, 첫 요청이면 비워둡니다")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "요청할 게시물 개수")
+            @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        PostCursorResponseDTO result = postService.getFollowingFeed(memberId, cursor, size);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_FOLLOWING_FEED.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_FOLLOWING_FEED, result));
+    }
+
+    @Override
+    @GetMapping("/hashtags/trending")
+    public ResponseEntity<ResponseDTO<List<TrendingHashtagDTO>>> getTrendingHashtags(
+            @Parameter(description = "집계 기간(시간), 1 ~ 168")
+            @RequestParam(defaultValue = "24") int hours) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        List<TrendingHashtagDTO> result = postService.getTrendingHashtags(memberId, hours);
+
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_TRENDING_HASHTAGS.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_TRENDING_HASHTAGS, result));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ceos.beatbuddy.domain.post.dto;
+
+import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.exception.PostErrorCode;
+import com.ceos.beatbuddy.global.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서. 마지막으로 받은 게시글의 (createdAt, id) 이고, 클라이언트에는 불투명한 문자열로 내려간다.
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 첫 페이지를 뜻하는 null 을 반환한다.
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+}
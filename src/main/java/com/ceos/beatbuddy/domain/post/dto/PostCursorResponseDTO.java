@@ -0,0 +1,25 @@
+package com.ceos.beatbuddy.domain.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "게시글 커서 목록 응답 DTO")
+public class PostCursorResponseDTO {
+    @Schema(description = "요청한 게시글 수", example = "10")
+    private int size;
+    @Schema(description = "다음 목록이 있는지 여부", example = "true")
+    private boolean hasNext;
+    @Schema(description = "다음 요청에 그대로 넘길 커서, 마지막 목록이면 null", example = "MjAyNS0wNy0wMVQxMjowMDowMHw0Mg")
+    private String nextCursor;
+    @Schema(description = "게시글 응답 DTO 목록")
+    private List<PostPageResponseDTO> responseDTOS;
+}
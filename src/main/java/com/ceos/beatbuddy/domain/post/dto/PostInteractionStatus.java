@@ -1,9 +1,13 @@
 package com.ceos.beatbuddy.domain.post.dto;
 
-import java.util.Set;
+import com.ceos.beatbuddy.global.util.LongIdSet;
 
 public record PostInteractionStatus(
-        Set<Long> likedPostIds,
-        Set<Long> scrappedPostIds,
-        Set<Long> commentedPostIds
-) { }
+        LongIdSet likedPostIds,
+        LongIdSet scrappedPostIds,
+        LongIdSet commentedPostIds
+) {
+    public static PostInteractionStatus empty() {
+        return new PostInteractionStatus(LongIdSet.empty(), LongIdSet.empty(), LongIdSet.empty());
+    }
+}
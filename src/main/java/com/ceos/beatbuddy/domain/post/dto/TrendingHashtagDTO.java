@@ -0,0 +1,27 @@
+package com.ceos.beatbuddy.domain.post.dto;
+
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "인기 해시태그 응답 DTO")
+public class TrendingHashtagDTO {
+    @Schema(description = "해시태그", example = "홍대")
+    private String hashtag;
+    @Schema(description = "기간 내 작성된 게시글 수", example = "12")
+    private long postCount;
+
+    public static TrendingHashtagDTO of(FixedHashtag hashtag, long postCount) {
+        return TrendingHashtagDTO.builder()
+                .hashtag(hashtag.getDisplayName())
+                .postCount(postCount)
+                .build();
+    }
+}
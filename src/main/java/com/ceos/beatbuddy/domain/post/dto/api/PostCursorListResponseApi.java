@@ -0,0 +1,7 @@
+package com.ceos.beatbuddy.domain.post.dto.api;
+
+import com.ceos.beatbuddy.domain.post.dto.PostCursorResponseDTO;
+import com.ceos.beatbuddy.global.dto.ResponseDTO;
+
+public class PostCursorListResponseApi extends ResponseDTO<PostCursorResponseDTO> {
+}
@@ -19,7 +19,14 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Getter
 @Entity
-@Table(name = "Post")  // 추가
+@Table(
+        name = "Post",
+        indexes = {
+                // 커서 페이지네이션 (createdAt DESC, id DESC)
+                @Index(name = "idx_post_created_id", columnList = "createdAt, id"),
+                @Index(name = "idx_post_member_created_id", columnList = "memberId, createdAt, id")
+        }
+)
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn
 @SuperBuilder
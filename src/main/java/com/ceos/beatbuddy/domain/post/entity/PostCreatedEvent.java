@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.post.entity;
+
+public record PostCreatedEvent(Long postId, Long authorId, boolean anonymous) {
+}
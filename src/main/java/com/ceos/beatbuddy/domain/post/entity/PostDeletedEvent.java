@@ -0,0 +1,10 @@
+package com.ceos.beatbuddy.domain.post.entity;
+
+import java.util.List;
+
+/**
+ * 게시글 삭제가 커밋된 뒤 검색 인덱스, 해시태그 인덱스, S3 파일을 정리하기 위해 발행한다.
+ * fileUrls 는 원본 이미지와 썸네일 URL 이다.
+ */
+public record PostDeletedEvent(Long postId, List<String> fileUrls) {
+}
@@ -0,0 +1,12 @@
+package com.ceos.beatbuddy.domain.post.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 핫 게시글 순위에 반영할 좋아요/댓글 증감. 새 글은 delta 0 으로 후보에 올린다.
+ */
+public record PostEngagementChangedEvent(Long postId, LocalDateTime postCreatedAt, int delta) {
+    public static PostEngagementChangedEvent of(Post post, int delta) {
+        return new PostEngagementChangedEvent(post.getId(), post.getCreatedAt(), delta);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ceos.beatbuddy.domain.post.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글의 해시태그가 정해지거나 바뀌었을 때 발행한다. 해시태그를 모두 지우면 hashtags 가 비어 있다.
+ * 게시글 삭제는 PostDeletedEvent 로 처리한다.
+ */
+public record PostHashtagsChangedEvent(Long postId, LocalDateTime createdAt, List<FixedHashtag> hashtags) {
+
+    public static PostHashtagsChangedEvent of(FreePost post) {
+        return new PostHashtagsChangedEvent(post.getId(), post.getCreatedAt(),
+                post.getHashtag() != null ? List.copyOf(post.getHashtag()) : List.of());
+    }
+}
@@ -9,6 +9,8 @@ public enum PostErrorCode implements ApiCode {
     INVALID_POST_TYPE(HttpStatus.BAD_REQUEST,"포스트의 type이 올바르지 않습니다"),
     INVALID_SORT_TYPE(HttpStatus.BAD_REQUEST,"포스트의 sort_type이 올바르지 않습니다"),
     DUPLICATE_HASHTAG_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "해시태그는 중복될 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "커서 값이 올바르지 않습니다."),
+    INVALID_TRENDING_HOURS(HttpStatus.BAD_REQUEST, "인기 해시태그 집계 기간은 1시간 이상 168시간 이하여야 합니다."),
     INVALID_DTO_TYPE(HttpStatus.BAD_REQUEST, "잘못된 DTO TYPE입니다."),
 
     PIECE_NOT_EXIST(HttpStatus.NOT_FOUND, "존재하지 않는 조각입니다."),
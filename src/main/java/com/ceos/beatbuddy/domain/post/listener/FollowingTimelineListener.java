@@ -0,0 +1,47 @@
+package com.ceos.beatbuddy.domain.post.listener;
+
+import com.ceos.beatbuddy.domain.follow.entity.FollowChangedEvent;
+import com.ceos.beatbuddy.domain.post.application.FollowingTimelineService;
+import com.ceos.beatbuddy.domain.post.entity.PostCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowingTimelineListener {
+
+    private final FollowingTimelineService followingTimelineService;
+
+    // 팔로워 수만큼 Redis 에 쓰므로 요청 스레드와 분리한다. 익명 글은 작성자를 드러내지 않도록 넣지 않는다.
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostCreated(PostCreatedEvent event) {
+        if (event.anonymous()) {
+            return;
+        }
+        try {
+            followingTimelineService.fanOut(event.authorId(), event.postId());
+        } catch (Exception e) {
+            log.error("팔로잉 피드 fan-out 실패 - postId: {}", event.postId(), e);
+        }
+    }
+
+    // 언팔로우는 읽을 때 걸러내므로 팔로우만 처리한다
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        if (!event.followed()) {
+            return;
+        }
+        try {
+            followingTimelineService.backfillFollowed(event.followerId(), event.followingId());
+        } catch (Exception e) {
+            log.error("팔로잉 피드 채우기 실패 - followerId: {}", event.followerId(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ceos.beatbuddy.domain.post.listener;
+
+import com.ceos.beatbuddy.domain.post.application.HashtagPostIndexService;
+import com.ceos.beatbuddy.domain.post.entity.PostHashtagsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HashtagPostIndexListener {
+
+    private final HashtagPostIndexService hashtagPostIndexService;
+
+    // 실패하면 다음 보정 때까지 해당 게시글만 해시태그 피드에서 빠진다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(PostHashtagsChangedEvent event) {
+        try {
+            hashtagPostIndexService.index(event);
+        } catch (Exception e) {
+            log.error("해시태그 인덱스 반영 실패 - postId: {}", event.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ceos.beatbuddy.domain.post.listener;
+
+import com.ceos.beatbuddy.domain.post.entity.PostEngagementChangedEvent;
+import com.ceos.beatbuddy.domain.post.redis.HotPostRankingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotPostRankingListener {
+
+    private final HotPostRankingStore hotPostRankingStore;
+
+    // 커밋된 변경만 반영한다. 실패해서 어긋난 값은 정기 보정에서 맞춰진다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleEngagementChanged(PostEngagementChangedEvent event) {
+        try {
+            hotPostRankingStore.record(event.postId(), event.postCreatedAt(), event.delta());
+        } catch (Exception e) {
+            log.error("핫 게시글 순위 갱신 실패 - postId: {}", event.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ceos.beatbuddy.domain.post.listener;
+
+import com.ceos.beatbuddy.domain.post.application.FreePostSearchService;
+import com.ceos.beatbuddy.domain.post.application.HashtagPostIndexService;
+import com.ceos.beatbuddy.domain.post.entity.PostDeletedEvent;
+import com.ceos.beatbuddy.global.util.UploadUtil;
+import com.ceos.beatbuddy.global.util.UploadUtilAsyncWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostDeletedListener {
+
+    private final FreePostSearchService freePostSearchService;
+    private final HashtagPostIndexService hashtagPostIndexService;
+    private final UploadUtilAsyncWrapper uploadUtilAsyncWrapper;
+
+    // ES 삭제와 S3 삭제는 비동기로 실행된다. 롤백되면 아무것도 지우지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(PostDeletedEvent event) {
+        freePostSearchService.delete(event.postId());
+        try {
+            hashtagPostIndexService.remove(event.postId());
+        } catch (Exception e) {
+            log.error("해시태그 인덱스 삭제 실패 - postId: {}", event.postId(), e);
+        }
+        if (!event.fileUrls().isEmpty()) {
+            uploadUtilAsyncWrapper.deleteUploadedAsync(event.fileUrls(), UploadUtil.BucketType.MEDIA);
+        }
+    }
+}
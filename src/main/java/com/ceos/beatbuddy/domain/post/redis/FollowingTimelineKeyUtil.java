@@ -0,0 +1,12 @@
+package com.ceos.beatbuddy.domain.post.redis;
+
+public class FollowingTimelineKeyUtil {
+
+    // 팔로워가 많아서 fan-out 하지 않고 읽을 때 DB 에서 가져오는 작성자 ID 집합
+    public static final String LARGE_ACCOUNTS_KEY = "following_timeline:large_accounts";
+
+    // 멤버별 팔로잉 피드 (member: postId, score: postId)
+    public static String getTimelineKey(Long memberId) {
+        return String.format("following_timeline:%d", memberId);
+    }
+}
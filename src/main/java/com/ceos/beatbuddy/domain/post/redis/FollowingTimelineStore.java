@@ -0,0 +1,100 @@
+package com.ceos.beatbuddy.domain.post.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 멤버별 팔로잉 피드 저장소.
+ * 새 글 ID 를 팔로워마다 ZSET 에 넣고 최근 CAPACITY 개만 남긴다. score 가 게시글 ID 라서 커서 이후 조회가 O(log N + 페이지 크기)이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowingTimelineStore {
+
+    public static final int CAPACITY = 500;
+    private static final Duration TIMELINE_TTL = Duration.ofDays(14);
+    private static final int PUSH_BATCH = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 팔로워들의 피드에 게시글을 넣고 CAPACITY 개를 넘는 오래된 글은 잘라낸다.
+     */
+    public void push(List<Long> followerIds, Long postId) {
+        byte[] member = bytes(postId.toString());
+        for (int from = 0; from < followerIds.size(); from += PUSH_BATCH) {
+            List<Long> batch = followerIds.subList(from, Math.min(from + PUSH_BATCH, followerIds.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long followerId : batch) {
+                    byte[] key = bytes(FollowingTimelineKeyUtil.getTimelineKey(followerId));
+                    connection.zSetCommands().zAdd(key, postId, member);
+                    connection.zSetCommands().zRemRange(key, 0, -(CAPACITY + 1));
+                    connection.keyCommands().expire(key, TIMELINE_TTL.toSeconds());
+                }
+                return null;
+            });
+        }
+    }
+
+    public void addAll(Long memberId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        byte[] key = bytes(FollowingTimelineKeyUtil.getTimelineKey(memberId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.zSetCommands().zAdd(key, postId, bytes(postId.toString()));
+            }
+            connection.zSetCommands().zRemRange(key, 0, -(CAPACITY + 1));
+            connection.keyCommands().expire(key, TIMELINE_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    public boolean exists(Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(FollowingTimelineKeyUtil.getTimelineKey(memberId)));
+    }
+
+    /**
+     * beforeId 보다 작은 게시글 ID 를 큰 순서로 count 개 반환한다. beforeId 가 null 이면 처음부터 읽는다.
+     */
+    public List<Long> readBefore(Long memberId, Long beforeId, int count) {
+        double max = beforeId == null ? Double.POSITIVE_INFINITY : beforeId - 1;
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(FollowingTimelineKeyUtil.getTimelineKey(memberId), 0, max, 0, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public void markLargeAccount(Long authorId, boolean large) {
+        if (large) {
+            redisTemplate.opsForSet().add(FollowingTimelineKeyUtil.LARGE_ACCOUNTS_KEY, authorId.toString());
+        } else {
+            redisTemplate.opsForSet().remove(FollowingTimelineKeyUtil.LARGE_ACCOUNTS_KEY, authorId.toString());
+        }
+    }
+
+    public Set<Long> largeAccounts() {
+        Set<String> members = redisTemplate.opsForSet().members(FollowingTimelineKeyUtil.LARGE_ACCOUNTS_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        members.forEach(id -> ids.add(Long.valueOf(id)));
+        return ids;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ceos.beatbuddy.domain.post.redis;
+
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+
+public class HashtagPostIndexKeyUtil {
+
+    // DB 기준으로 한 번 이상 채워졌는지 표시. 없으면 읽는 쪽은 DB 조회를 쓴다
+    public static final String READY_KEY = "hashtag_posts:ready";
+
+    // 해시태그별 게시글 목록 (member: postId, score: createdAt epoch millis)
+    public static String getHashtagKey(FixedHashtag hashtag) {
+        return String.format("hashtag_posts:%s", hashtag.name());
+    }
+
+    // 보정 시 채우는 임시 키
+    public static String getReconcileKey(FixedHashtag hashtag, String token) {
+        return String.format("hashtag_posts:reconcile:%s:%s", hashtag.name(), token);
+    }
+
+    // 여러 해시태그의 전체 개수를 셀 때 쓰는 임시 합집합 키
+    public static String getUnionKey(String token) {
+        return String.format("hashtag_posts:union:%s", token);
+    }
+}
@@ -0,0 +1,212 @@
+package com.ceos.beatbuddy.domain.post.redis;
+
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 해시태그별 게시글 목록(posting list) 저장소.
+ * 해시태그마다 ZSET 하나에 게시글 ID 를 작성 시각(score) 순으로 둔다.
+ * 여러 해시태그 조회는 목록마다 필요한 만큼만 읽어 (createdAt, id) 내림차순으로 합친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HashtagPostIndexStore {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int RECONCILE_BATCH = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public record Entry(Long postId, long createdAtMillis) {
+    }
+
+    public static long score(LocalDateTime createdAt) {
+        return createdAt.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 게시글을 hashtags 목록에 넣고 나머지 해시태그 목록에서는 지운다.
+     */
+    public void replace(Long postId, LocalDateTime createdAt, Collection<FixedHashtag> hashtags) {
+        if (hashtags.isEmpty()) {
+            remove(postId);
+            return;
+        }
+        byte[] member = bytes(postId.toString());
+        long score = score(createdAt);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FixedHashtag hashtag : FixedHashtag.values()) {
+                byte[] key = bytes(HashtagPostIndexKeyUtil.getHashtagKey(hashtag));
+                if (hashtags.contains(hashtag)) {
+                    connection.zSetCommands().zAdd(key, score, member);
+                } else {
+                    connection.zSetCommands().zRem(key, member);
+                }
+            }
+            return null;
+        });
+    }
+
+    public void remove(Long postId) {
+        removeAll(List.of(postId));
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        byte[][] members = postIds.stream()
+                .map(id -> bytes(id.toString()))
+                .toArray(byte[][]::new);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FixedHashtag hashtag : FixedHashtag.values()) {
+                connection.zSetCommands().zRem(bytes(HashtagPostIndexKeyUtil.getHashtagKey(hashtag)), members);
+            }
+            return null;
+        });
+    }
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(HashtagPostIndexKeyUtil.READY_KEY));
+    }
+
+    /**
+     * 해시태그 중 하나라도 달린 게시글을 (createdAt, id) 내림차순으로 최대 count 개 반환한다.
+     * before 가 있으면 그 위치보다 앞선 게시글만 읽는다. 같은 밀리초의 게시글은 id 로 이어서 읽는다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Entry> readBefore(Collection<FixedHashtag> hashtags, Entry before, int count) {
+        List<byte[]> keys = hashtags.stream()
+                .distinct()
+                .map(hashtag -> bytes(HashtagPostIndexKeyUtil.getHashtagKey(hashtag)))
+                .toList();
+        Range<Long> older = before == null
+                ? Range.unbounded()
+                : Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(before.createdAtMillis()));
+        Limit limit = Limit.limit().count(count);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] key : keys) {
+                if (before != null) {
+                    connection.zSetCommands().zRevRangeByScoreWithScores(key,
+                            Range.just(before.createdAtMillis()), Limit.unlimited());
+                }
+                connection.zSetCommands().zRevRangeByScoreWithScores(key, older, limit);
+            }
+            return null;
+        });
+
+        // 목록마다 정렬된 상태로 count 개씩 읽었으므로, 합쳐서 다시 정렬한 앞부분이 전체 합집합의 앞부분이다
+        Map<Long, Entry> merged = new HashMap<>();
+        for (Object result : results) {
+            if (result == null) {
+                continue;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : (Set<ZSetOperations.TypedTuple<String>>) result) {
+                Entry entry = new Entry(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+                if (before == null || isBefore(entry, before)) {
+                    merged.putIfAbsent(entry.postId(), entry);
+                }
+            }
+        }
+        return merged.values().stream()
+                .sorted(Comparator.comparingLong(Entry::createdAtMillis)
+                        .thenComparingLong(Entry::postId)
+                        .reversed())
+                .limit(count)
+                .toList();
+    }
+
+    /**
+     * 해시태그 중 하나라도 달린 게시글 수. 해시태그가 여러 개면 임시 키에 ZUNIONSTORE 한 크기를 센다.
+     */
+    public long count(Collection<FixedHashtag> hashtags) {
+        List<String> keys = hashtags.stream()
+                .distinct()
+                .map(HashtagPostIndexKeyUtil::getHashtagKey)
+                .toList();
+        if (keys.size() == 1) {
+            Long size = redisTemplate.opsForZSet().zCard(keys.get(0));
+            return size != null ? size : 0;
+        }
+
+        String unionKey = HashtagPostIndexKeyUtil.getUnionKey(UUID.randomUUID().toString());
+        try {
+            Long size = redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), unionKey);
+            return size != null ? size : 0;
+        } finally {
+            redisTemplate.delete(unionKey);
+        }
+    }
+
+    /**
+     * since 이후 작성된 게시글 수를 해시태그별로 센다.
+     */
+    public Map<FixedHashtag, Long> countSince(LocalDateTime since) {
+        FixedHashtag[] hashtags = FixedHashtag.values();
+        long min = score(since);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FixedHashtag hashtag : hashtags) {
+                connection.zSetCommands().zCount(bytes(HashtagPostIndexKeyUtil.getHashtagKey(hashtag)),
+                        min, Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+
+        Map<FixedHashtag, Long> counts = new EnumMap<>(FixedHashtag.class);
+        for (int i = 0; i < hashtags.length; i++) {
+            Object count = results.get(i);
+            counts.put(hashtags[i], count != null ? (Long) count : 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * DB 기준으로 전체 목록을 다시 만든다. 해시태그마다 임시 키에 채운 뒤 RENAME 으로 교체해서 읽는 쪽은 항상 완성된 ZSET 을 본다.
+     */
+    public void replaceAll(Map<FixedHashtag, List<Entry>> entriesByHashtag) {
+        String token = UUID.randomUUID().toString();
+        for (FixedHashtag hashtag : FixedHashtag.values()) {
+            String key = HashtagPostIndexKeyUtil.getHashtagKey(hashtag);
+            List<Entry> entries = entriesByHashtag.getOrDefault(hashtag, List.of());
+            if (entries.isEmpty()) {
+                redisTemplate.delete(key);
+                continue;
+            }
+
+            String tempKey = HashtagPostIndexKeyUtil.getReconcileKey(hashtag, token);
+            byte[] rawTempKey = bytes(tempKey);
+            for (int from = 0; from < entries.size(); from += RECONCILE_BATCH) {
+                List<Entry> batch = entries.subList(from, Math.min(from + RECONCILE_BATCH, entries.size()));
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Entry entry : batch) {
+                        connection.zSetCommands().zAdd(rawTempKey, entry.createdAtMillis(), bytes(entry.postId().toString()));
+                    }
+                    return null;
+                });
+            }
+            redisTemplate.rename(tempKey, key);
+        }
+        redisTemplate.opsForValue().set(HashtagPostIndexKeyUtil.READY_KEY, token);
+    }
+
+    private static boolean isBefore(Entry entry, Entry before) {
+        return entry.createdAtMillis() < before.createdAtMillis()
+                || (entry.createdAtMillis() == before.createdAtMillis() && entry.postId() < before.postId());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ceos.beatbuddy.domain.post.redis;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class HotPostRankingKeyUtil {
+
+    public static final String WINDOW_KEY = "hot_post_rank:window";
+
+    // 버킷 재구성 중 표시 (값: 재구성 토큰)
+    public static final String REBUILD_KEY = "hot_post_rank:rebuild";
+
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 게시글 작성 시간 단위 버킷. 해당 시간에 작성된 글의 좋아요 + 댓글 수
+    public static String getHourBucketKey(LocalDateTime postCreatedAt) {
+        return String.format("hot_post_rank:hour:%s", postCreatedAt.format(HOUR_FORMAT));
+    }
+
+    // 재구성 중 들어온 버킷별 증감. 재구성이 끝나면 새 버킷에 합쳐진다
+    public static String getRebuildDeltaKey(LocalDateTime postCreatedAt) {
+        return String.format("hot_post_rank:rebuild_delta:%s", postCreatedAt.format(HOUR_FORMAT));
+    }
+
+    public static String getReconcileKey(String token, LocalDateTime hour) {
+        return String.format("hot_post_rank:reconcile:%s:%s", token, hour.format(HOUR_FORMAT));
+    }
+}
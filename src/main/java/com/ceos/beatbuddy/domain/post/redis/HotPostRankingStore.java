@@ -0,0 +1,217 @@
+package com.ceos.beatbuddy.domain.post.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 최근 12시간 핫 게시글 순위 ZSET 저장소.
+ * 게시글은 작성 시간 버킷에 (좋아요 + 댓글) 점수로 쌓이고, 조회 시 최근 버킷만 시간당 decay 가중치로 ZUNIONSTORE 한다.
+ * 윈도우에서 벗어난 버킷은 합쳐지지 않다가 TTL 로 사라지므로 따로 지울 필요가 없다.
+ * DB 기준으로 버킷을 다시 만드는 동안 들어온 증감은 버킷별 rebuild_delta 키에도 쌓아 두었다가 새 버킷에 ZUNIONSTORE 로 합친다.
+ */
+@Component
+public class HotPostRankingStore {
+
+    public static final Duration WINDOW = Duration.ofHours(12);
+    // 마지막 갱신 이후 윈도우가 지나갈 때까지 버킷을 유지한다
+    private static final Duration BUCKET_TTL = WINDOW.plusHours(2);
+    private static final Duration WINDOW_CACHE_TTL = Duration.ofMinutes(1);
+    private static final Duration REBUILD_TTL = Duration.ofMinutes(5);
+    private static final int RECONCILE_BATCH = 1000;
+
+    // 재구성 중이면(REBUILD_KEY 존재) 증감을 버킷의 rebuild_delta 키에도 더한다
+    private static final String RECORD_SCRIPT = """
+    redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+    redis.call('EXPIRE', KEYS[1], ARGV[3])
+    if redis.call('EXISTS', KEYS[2]) == 1 then
+      redis.call('ZINCRBY', KEYS[3], ARGV[1], ARGV[2])
+      redis.call('EXPIRE', KEYS[3], ARGV[4])
+    end
+    return 1
+        """;
+
+    // KEYS[1] = 재구성 표시, 이후 버킷별 rebuild_delta 키
+    private static final String BEGIN_REBUILD_SCRIPT = """
+    if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+      for i = 2, #KEYS do
+        redis.call('DEL', KEYS[i])
+      end
+      return 1
+    end
+    return 0
+        """;
+
+    // KEYS[1] = 재구성 표시, KEYS[2] = 윈도우 캐시, 이후 (버킷, 임시 키, rebuild_delta 키) 반복
+    private static final String MERGE_REBUILD_SCRIPT = """
+    if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+      for i = 3, #KEYS, 3 do
+        redis.call('DEL', KEYS[i + 1])
+      end
+      return 0
+    end
+    for i = 3, #KEYS, 3 do
+      redis.call('ZUNIONSTORE', KEYS[i], 2, KEYS[i + 1], KEYS[i + 2])
+      redis.call('EXPIRE', KEYS[i], ARGV[2])
+      redis.call('DEL', KEYS[i + 1], KEYS[i + 2])
+    end
+    redis.call('DEL', KEYS[1], KEYS[2])
+    return 1
+        """;
+
+    // KEYS[1] = 재구성 표시, 이후 버킷별 rebuild_delta 키
+    private static final String ABORT_REBUILD_SCRIPT = """
+    if redis.call('GET', KEYS[1]) == ARGV[1] then
+      for i = 1, #KEYS do
+        redis.call('DEL', KEYS[i])
+      end
+    end
+    return 1
+        """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final double decayPerHour;
+
+    public HotPostRankingStore(RedisTemplate<String, String> redisTemplate,
+                               @Value("${post.hot.decay-per-hour:0.9}") double decayPerHour) {
+        this.redisTemplate = redisTemplate;
+        this.decayPerHour = decayPerHour;
+    }
+
+    /**
+     * 윈도우 안에서 작성된 글이면 작성 시간 버킷의 점수를 delta 만큼 바꾼다.
+     */
+    public void record(Long postId, LocalDateTime postCreatedAt, int delta) {
+        if (postCreatedAt == null || postCreatedAt.isBefore(LocalDateTime.now().minus(WINDOW))) {
+            return;
+        }
+        List<String> keys = List.of(
+                HotPostRankingKeyUtil.getHourBucketKey(postCreatedAt),
+                HotPostRankingKeyUtil.REBUILD_KEY,
+                HotPostRankingKeyUtil.getRebuildDeltaKey(postCreatedAt));
+
+        redisTemplate.execute(script(RECORD_SCRIPT), keys, String.valueOf(delta), postId.toString(),
+                String.valueOf(BUCKET_TTL.toSeconds()), String.valueOf(REBUILD_TTL.toSeconds()));
+    }
+
+    /**
+     * decay 를 적용한 점수가 높은 순으로 게시글 ID 를 limit 개 반환한다.
+     * 가장 오래된 버킷에는 12시간보다 조금 먼저 작성된 글이 섞일 수 있으므로 호출하는 쪽에서 작성 시간을 다시 확인한다.
+     */
+    public List<Long> topPostIds(int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(windowKey(), 0, limit - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * hours 버킷의 재구성을 시작한다. 이 시점부터의 증감은 rebuild_delta 키에도 쌓이므로, DB 는 반드시 이 호출 뒤에 읽어야 한다.
+     * 다른 인스턴스가 이미 재구성 중이면 null 을 반환한다.
+     */
+    public String beginRebuild(List<LocalDateTime> hours) {
+        String token = UUID.randomUUID().toString();
+        Long started = redisTemplate.execute(script(BEGIN_REBUILD_SCRIPT), rebuildKeys(hours),
+                token, String.valueOf(REBUILD_TTL.toSeconds()));
+        return started != null && started == 1 ? token : null;
+    }
+
+    /**
+     * DB 값으로 hours 버킷을 임시 키에 채운 뒤, 재구성 중 들어온 증감과 ZUNIONSTORE 해서 한 번에 교체한다.
+     * 재구성 표시가 만료돼서 그사이 증감을 다 모으지 못했으면 교체하지 않고 false 를 반환한다.
+     */
+    public boolean replaceBuckets(String token, List<LocalDateTime> hours, Map<LocalDateTime, Map<Long, Long>> scoresByHour) {
+        List<String> keys = new ArrayList<>();
+        keys.add(HotPostRankingKeyUtil.REBUILD_KEY);
+        keys.add(HotPostRankingKeyUtil.WINDOW_KEY);
+        for (LocalDateTime hour : hours) {
+            String tempKey = HotPostRankingKeyUtil.getReconcileKey(token, hour);
+            fillTempKey(tempKey, scoresByHour.getOrDefault(hour, Map.of()));
+            keys.add(HotPostRankingKeyUtil.getHourBucketKey(hour));
+            keys.add(tempKey);
+            keys.add(HotPostRankingKeyUtil.getRebuildDeltaKey(hour));
+        }
+
+        Long merged = redisTemplate.execute(script(MERGE_REBUILD_SCRIPT), keys, token, String.valueOf(BUCKET_TTL.toSeconds()));
+        return merged != null && merged == 1;
+    }
+
+    public void abortRebuild(String token, List<LocalDateTime> hours) {
+        redisTemplate.delete(hours.stream().map(hour -> HotPostRankingKeyUtil.getReconcileKey(token, hour)).toList());
+        redisTemplate.execute(script(ABORT_REBUILD_SCRIPT), rebuildKeys(hours), token);
+    }
+
+    private void fillTempKey(String tempKey, Map<Long, Long> scores) {
+        byte[] rawTempKey = bytes(tempKey);
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(scores.entrySet());
+        for (int from = 0; from < entries.size(); from += RECONCILE_BATCH) {
+            List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + RECONCILE_BATCH, entries.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<Long, Long> entry : batch) {
+                    connection.zSetCommands().zAdd(rawTempKey, entry.getValue(), bytes(entry.getKey().toString()));
+                }
+                connection.keyCommands().expire(rawTempKey, REBUILD_TTL.toSeconds());
+                return null;
+            });
+        }
+    }
+
+    private static List<String> rebuildKeys(List<LocalDateTime> hours) {
+        List<String> keys = new ArrayList<>();
+        keys.add(HotPostRankingKeyUtil.REBUILD_KEY);
+        hours.forEach(hour -> keys.add(HotPostRankingKeyUtil.getRebuildDeltaKey(hour)));
+        return keys;
+    }
+
+    private String windowKey() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(HotPostRankingKeyUtil.WINDOW_KEY))) {
+            return HotPostRankingKeyUtil.WINDOW_KEY;
+        }
+
+        List<LocalDateTime> hours = windowHours(LocalDateTime.now());
+        List<String> bucketKeys = hours.stream().map(HotPostRankingKeyUtil::getHourBucketKey).toList();
+        // 최근 버킷일수록 가중치가 크다. decay-per-hour 가 1 이면 기존처럼 좋아요 + 댓글 합계 순이다
+        double[] weights = new double[hours.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.pow(decayPerHour, i);
+        }
+        redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()),
+                HotPostRankingKeyUtil.WINDOW_KEY, Aggregate.SUM, Weights.of(weights));
+        redisTemplate.expire(HotPostRankingKeyUtil.WINDOW_KEY, WINDOW_CACHE_TTL);
+        return HotPostRankingKeyUtil.WINDOW_KEY;
+    }
+
+    // 현재 시간 버킷부터 12시간 전이 포함된 버킷까지, 최신순
+    public static List<LocalDateTime> windowHours(LocalDateTime now) {
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        List<LocalDateTime> hours = new ArrayList<>();
+        for (int i = 0; i <= WINDOW.toHours(); i++) {
+            hours.add(currentHour.minusHours(i));
+        }
+        return hours;
+    }
+
+    private static DefaultRedisScript<Long> script(String scriptText) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
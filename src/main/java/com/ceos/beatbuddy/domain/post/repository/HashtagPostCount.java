@@ -0,0 +1,8 @@
+package com.ceos.beatbuddy.domain.post.repository;
+
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+
+public interface HashtagPostCount {
+    FixedHashtag getHashtag();
+    Long getPostCount();
+}
@@ -0,0 +1,15 @@
+package com.ceos.beatbuddy.domain.post.repository;
+
+import com.ceos.beatbuddy.domain.post.entity.Post;
+
+/**
+ * 게시글 상세 조회 결과. 게시글(작성자, 해시태그 포함)과 요청자의 좋아요/스크랩/댓글/팔로우 여부를 한 번의 쿼리로 가져온다.
+ */
+public record PostDetailProjection(
+        Post post,
+        boolean liked,
+        boolean scrapped,
+        boolean commented,
+        boolean following
+) {
+}
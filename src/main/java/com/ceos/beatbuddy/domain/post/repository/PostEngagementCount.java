@@ -0,0 +1,10 @@
+package com.ceos.beatbuddy.domain.post.repository;
+
+import java.time.LocalDateTime;
+
+public interface PostEngagementCount {
+    Long getPostId();
+    LocalDateTime getCreatedAt();
+    Integer getLikes();
+    Integer getComments();
+}
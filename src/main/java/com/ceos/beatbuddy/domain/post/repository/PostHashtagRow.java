@@ -0,0 +1,11 @@
+package com.ceos.beatbuddy.domain.post.repository;
+
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+
+import java.time.LocalDateTime;
+
+public interface PostHashtagRow {
+    Long getPostId();
+    LocalDateTime getCreatedAt();
+    FixedHashtag getHashtag();
+}
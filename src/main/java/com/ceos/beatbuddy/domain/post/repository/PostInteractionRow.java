@@ -0,0 +1,7 @@
+package com.ceos.beatbuddy.domain.post.repository;
+
+public interface PostInteractionRow {
+    // 1: 좋아요, 2: 스크랩, 3: 댓글
+    Integer getKind();
+    Long getPostId();
+}
@@ -1,12 +1,15 @@
 package com.ceos.beatbuddy.domain.post.repository;
 
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
 import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
 import com.ceos.beatbuddy.domain.post.entity.FreePost;
 import com.ceos.beatbuddy.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostQueryRepository {
     List<Post> findHotPostsWithin12Hours();
@@ -38,4 +41,35 @@ public interface PostQueryRepository {
      * @return 포스트 페이지 (차단된 멤버 제외)
      */
     Page<FreePost> findAllFreePostsExcludingBlocked(Pageable pageable, List<Long> blockedMemberIds);
+
+    /**
+     * 모든 FreePost 커서 조회 (차단된 멤버 제외). createdAt, id 내림차순이며 count 쿼리를 실행하지 않는다.
+     * @param cursor 마지막으로 받은 게시글 위치, 첫 페이지면 null
+     * @param limit 조회할 최대 개수 (다음 페이지 확인용으로 size + 1 을 넘긴다)
+     * @param blockedMemberIds 차단된 멤버 ID 목록
+     */
+    List<FreePost> findAllFreePostsByCursorExcludingBlocked(PostCursor cursor, int limit, List<Long> blockedMemberIds);
+
+    /**
+     * 해시태그별 포스트 커서 조회 (차단된 멤버 제외)
+     */
+    List<FreePost> findPostsByHashtagsByCursorExcludingBlocked(List<FixedHashtag> hashtags, PostCursor cursor, int limit, List<Long> blockedMemberIds);
+
+    /**
+     * 특정 유저의 포스트 커서 조회. includeAnonymous 가 false 면 익명 글은 제외한다.
+     */
+    List<FreePost> findPostsByMemberByCursor(Long memberId, boolean includeAnonymous, PostCursor cursor, int limit);
+
+    /**
+     * 여러 유저의 익명이 아닌 포스트 커서 조회 (팔로잉 피드에서 fan-out 되지 않은 글을 읽을 때 사용)
+     */
+    List<FreePost> findPostsByMembersByCursor(Collection<Long> memberIds, PostCursor cursor, int limit);
+
+    /**
+     * FreePost 상세 조회. 작성자와 해시태그를 함께 가져오고, 요청자의 좋아요/스크랩/댓글/팔로우 여부는 EXISTS 컬럼으로 같은 쿼리에서 계산한다.
+     * @param postId 게시글 ID
+     * @param memberId 요청자 ID
+     * @return 게시글이 없으면 empty
+     */
+    Optional<PostDetailProjection> findFreePostDetail(Long postId, Long memberId);
 }
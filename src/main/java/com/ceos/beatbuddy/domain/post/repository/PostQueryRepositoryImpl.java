@@ -1,7 +1,16 @@
 package com.ceos.beatbuddy.domain.post.repository;
 
+import com.ceos.beatbuddy.domain.comment.entity.QComment;
+import com.ceos.beatbuddy.domain.follow.entity.QFollow;
+import com.ceos.beatbuddy.domain.post.dto.PostCursor;
 import com.ceos.beatbuddy.domain.post.entity.*;
+import com.ceos.beatbuddy.domain.scrapandlike.entity.QPostLike;
+import com.ceos.beatbuddy.domain.scrapandlike.entity.QPostScrap;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +20,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
@@ -171,4 +182,140 @@ public class PostQueryRepositoryImpl implements PostQueryRepository{
 
         return new PageImpl<>(content, pageable, count != null ? count : 0);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<FreePost> findAllFreePostsByCursorExcludingBlocked(PostCursor cursor, int limit, List<Long> blockedMemberIds) {
+        QFreePost freePost = QFreePost.freePost;
+
+        return queryFactory
+                .selectFrom(freePost)
+                .where(
+                        beforeCursor(freePost, cursor),
+                        blockedMemberIds.isEmpty() ? null : freePost.member.id.notIn(blockedMemberIds)
+                )
+                .orderBy(freePost.createdAt.desc(), freePost.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FreePost> findPostsByHashtagsByCursorExcludingBlocked(List<FixedHashtag> hashtags, PostCursor cursor, int limit, List<Long> blockedMemberIds) {
+        QFreePost freePost = QFreePost.freePost;
+
+        if (hashtags == null || hashtags.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // OR 조건으로 해시태그 필터링
+        BooleanExpression hashtagCondition = hashtags.stream()
+                .map(hashtag -> freePost.hashtag.any().eq(hashtag))
+                .reduce(BooleanExpression::or)
+                .orElse(null);
+
+        return queryFactory
+                .selectFrom(freePost)
+                .where(
+                        hashtagCondition,
+                        beforeCursor(freePost, cursor),
+                        blockedMemberIds.isEmpty() ? null : freePost.member.id.notIn(blockedMemberIds)
+                )
+                .orderBy(freePost.createdAt.desc(), freePost.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FreePost> findPostsByMemberByCursor(Long memberId, boolean includeAnonymous, PostCursor cursor, int limit) {
+        QFreePost freePost = QFreePost.freePost;
+
+        return queryFactory
+                .selectFrom(freePost)
+                .where(
+                        freePost.member.id.eq(memberId),
+                        includeAnonymous ? null : freePost.anonymous.isFalse(),
+                        beforeCursor(freePost, cursor)
+                )
+                .orderBy(freePost.createdAt.desc(), freePost.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FreePost> findPostsByMembersByCursor(Collection<Long> memberIds, PostCursor cursor, int limit) {
+        QFreePost freePost = QFreePost.freePost;
+
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .selectFrom(freePost)
+                .where(
+                        freePost.member.id.in(memberIds),
+                        freePost.anonymous.isFalse(),
+                        beforeCursor(freePost, cursor)
+                )
+                .orderBy(freePost.createdAt.desc(), freePost.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<PostDetailProjection> findFreePostDetail(Long postId, Long memberId) {
+        QFreePost freePost = QFreePost.freePost;
+        QPostLike postLike = QPostLike.postLike;
+        QPostScrap postScrap = QPostScrap.postScrap;
+        QComment comment = QComment.comment;
+        QFollow follow = QFollow.follow;
+
+        Expression<Boolean> liked = existsAsColumn(JPAExpressions.selectOne()
+                .from(postLike)
+                .where(postLike.post.id.eq(freePost.id), postLike.member.id.eq(memberId)));
+        Expression<Boolean> scrapped = existsAsColumn(JPAExpressions.selectOne()
+                .from(postScrap)
+                .where(postScrap.post.id.eq(freePost.id), postScrap.member.id.eq(memberId)));
+        Expression<Boolean> commented = existsAsColumn(JPAExpressions.selectOne()
+                .from(comment)
+                .where(comment.post.id.eq(freePost.id), comment.member.id.eq(memberId), comment.isDeleted.isFalse()));
+        Expression<Boolean> following = existsAsColumn(JPAExpressions.selectOne()
+                .from(follow)
+                .where(follow.follower.id.eq(memberId), follow.following.id.eq(freePost.member.id)));
+
+        // 해시태그 fetch join 으로 행이 해시태그 수만큼 나오지만 게시글과 EXISTS 값은 모두 같으므로 첫 행만 사용한다.
+        // 컬렉션 fetch join 에 limit 을 걸면 메모리 페이징이 되므로 fetchFirst 대신 fetch 를 쓴다
+        List<Tuple> rows = queryFactory
+                .select(freePost, liked, scrapped, commented, following)
+                .from(freePost)
+                .join(freePost.member).fetchJoin()
+                .leftJoin(freePost.hashtag).fetchJoin()
+                .where(freePost.id.eq(postId))
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Tuple row = rows.get(0);
+        return Optional.of(new PostDetailProjection(
+                row.get(freePost),
+                Boolean.TRUE.equals(row.get(liked)),
+                Boolean.TRUE.equals(row.get(scrapped)),
+                Boolean.TRUE.equals(row.get(commented)),
+                Boolean.TRUE.equals(row.get(following))
+        ));
+    }
+
+    private Expression<Boolean> existsAsColumn(JPQLQuery<Integer> subQuery) {
+        return new CaseBuilder()
+                .when(subQuery.exists()).then(true)
+                .otherwise(false);
+    }
+
+    // (createdAt, id) < (cursor.createdAt, cursor.id). 같은 시각에 작성된 글은 id 로 순서를 정한다
+    private BooleanExpression beforeCursor(QFreePost freePost, PostCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return freePost.createdAt.lt(cursor.createdAt())
+                .or(freePost.createdAt.eq(cursor.createdAt()).and(freePost.id.lt(cursor.id())));
+    }
+}
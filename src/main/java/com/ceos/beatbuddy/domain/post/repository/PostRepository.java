@@ -11,25 +11,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    @Modifying
-    @Query("UPDATE Post p SET p.likes = p.likes + 1 WHERE p.id = :postId")
-    void increaseLike(@Param("postId") Long postId);
-
-    // 좋아요를 누른 것이 확인되어야만 좋아요 취소가 가능
-    @Modifying
-    @Query("UPDATE Post p SET p.likes = CASE WHEN p.likes > 0 THEN p.likes - 1 ELSE 0 END WHERE p.id = :postId")
-    void decreaseLike(@Param("postId") Long postId);
-    
-    // 좋아요 수를 지정된 개수만큼 감소
-    @Modifying
-    @Query("UPDATE Post p SET p.likes = CASE WHEN p.likes >= :count THEN p.likes - :count ELSE 0 END WHERE p.id = :postId")
-    void decreaseLike(@Param("postId") Long postId, @Param("count") int count);
-
     @Query("select f from FreePost f where f.id = :id")
     Optional<FreePost> findFreePostById(@Param("id") Long id);
     
@@ -39,35 +27,38 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                 .orElse(List.of());
     }
 
-
-    @Modifying
-    @Query("UPDATE Post p SET p.scraps = p.scraps + 1 WHERE p.id = :postId")
-    void increaseScrap(@Param("postId") Long postId);
-
-    // 좋아요를 누른 것이 확인되어야만 좋아요 취소가 가능
-    @Modifying
-    @Query("UPDATE Post p SET p.scraps = CASE WHEN p.scraps > 0 THEN p.scraps - 1 ELSE 0 END WHERE p.id = :postId")
-    void decreaseScrap(@Param("postId") Long postId);
-    
-    // 스크랩 수를 지정된 개수만큼 감소
-    @Modifying
-    @Query("UPDATE Post p SET p.scraps = CASE WHEN p.scraps >= :count THEN p.scraps - :count ELSE 0 END WHERE p.id = :postId")
-    void decreaseScrap(@Param("postId") Long postId, @Param("count") int count);
-
-    @Modifying
-    @Query("UPDATE Post p SET p.views = p.views + 1 WHERE p.id = :postId")
-    void increaseViews(@Param("postId") Long postId);
-    
-    @Modifying
-    @Query("UPDATE Post p SET p.comments = p.comments + 1 WHERE p.id = :postId")
-    void increaseComments(@Param("postId") Long postId);
-    
-    @Modifying
-    @Query("UPDATE Post p SET p.comments = CASE WHEN p.comments > 0 THEN p.comments - 1 ELSE 0 END WHERE p.id = :postId")
-    void decreaseComments(@Param("postId") Long postId);
-    
     // 동시성 제어를 위한 PESSIMISTIC_WRITE 락
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Post p WHERE p.id = :id")
     Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
+    // 회원이 좋아요(1)/스크랩(2)/댓글(3)한 게시글 ID 를 한 번에 조회. 엔티티를 만들지 않고 ID 만 읽는다
+    @Query("""
+            SELECT 1 AS kind, pl.post.id AS postId FROM PostLike pl
+            WHERE pl.member.id = :memberId AND pl.post.id IN :postIds
+            UNION
+            SELECT 2 AS kind, ps.post.id AS postId FROM PostScrap ps
+            WHERE ps.member.id = :memberId AND ps.post.id IN :postIds
+            UNION
+            SELECT 3 AS kind, c.post.id AS postId FROM Comment c
+            WHERE c.member.id = :memberId AND c.post.id IN :postIds AND c.isDeleted = false
+            """)
+    List<PostInteractionRow> findInteractionRows(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    // 핫 게시글 순위 보정용
+    @Query("SELECT p.id AS postId, p.createdAt AS createdAt, p.likes AS likes, p.comments AS comments FROM Post p WHERE p.createdAt >= :since")
+    List<PostEngagementCount> findEngagementCountsCreatedAfter(@Param("since") LocalDateTime since);
+
+    // 댓글/좋아요/스크랩을 먼저 지운 뒤 호출한다. 하위 타입 테이블과 해시태그 컬렉션 테이블도 함께 지워진다
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id = :postId")
+    int deleteByIdInBulk(@Param("postId") Long postId);
+
+    // 해시태그 인덱스 보정용
+    @Query("SELECT f.id AS postId, f.createdAt AS createdAt, h AS hashtag FROM FreePost f JOIN f.hashtag h")
+    List<PostHashtagRow> findAllHashtagRows();
+
+    // 해시태그 인덱스를 쓸 수 없을 때의 인기 해시태그 집계
+    @Query("SELECT h AS hashtag, COUNT(f) AS postCount FROM FreePost f JOIN f.hashtag h WHERE f.createdAt >= :since GROUP BY h")
+    List<HashtagPostCount> countHashtagsCreatedAfter(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,58 @@
+package com.ceos.beatbuddy.domain.post.scheduler;
+
+import com.ceos.beatbuddy.domain.post.entity.FixedHashtag;
+import com.ceos.beatbuddy.domain.post.redis.HashtagPostIndexStore;
+import com.ceos.beatbuddy.domain.post.repository.PostHashtagRow;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시태그 게시글 목록을 DB 의 해시태그 기준으로 다시 만든다.
+ * 리스너 실패, 신고로 삭제된 게시글, Redis 유실로 생긴 차이를 정리하는 용도다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagPostIndexReconcileScheduler {
+
+    private final PostRepository postRepository;
+    private final HashtagPostIndexStore hashtagPostIndexStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcileSafely();
+    }
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul") // 매일 새벽 5시
+    @Transactional(readOnly = true)
+    public void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("❌ 해시태그 인덱스 보정 실패", e);
+        }
+    }
+
+    private void reconcile() {
+        List<PostHashtagRow> rows = postRepository.findAllHashtagRows();
+
+        Map<FixedHashtag, List<HashtagPostIndexStore.Entry>> entriesByHashtag = new EnumMap<>(FixedHashtag.class);
+        for (PostHashtagRow row : rows) {
+            entriesByHashtag.computeIfAbsent(row.getHashtag(), h -> new ArrayList<>())
+                    .add(new HashtagPostIndexStore.Entry(row.getPostId(), HashtagPostIndexStore.score(row.getCreatedAt())));
+        }
+        hashtagPostIndexStore.replaceAll(entriesByHashtag);
+        log.info("✅ 해시태그 인덱스 보정 완료 - {}건", rows.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.ceos.beatbuddy.domain.post.scheduler;
+
+import com.ceos.beatbuddy.domain.post.redis.HotPostRankingStore;
+import com.ceos.beatbuddy.domain.post.repository.PostEngagementCount;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핫 게시글 순위 버킷을 DB 의 좋아요/댓글 수 기준으로 다시 맞춘다.
+ * 리스너 실패, 게시글 삭제, Redis 유실로 생긴 차이를 정리하는 용도다.
+ * 모든 인스턴스의 저널에 남은 쓰기 지연 증감을 더하고, 재구성 중 들어온 증감은 저장소에서 새 버킷에 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotPostRankingReconcileScheduler {
+
+    private final PostRepository postRepository;
+    private final HotPostRankingStore hotPostRankingStore;
+    private final WriteBehindCounterService writeBehindCounterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcileSafely();
+    }
+
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul") // 10분마다
+    @Transactional(readOnly = true)
+    public void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("❌ 핫 게시글 순위 보정 실패", e);
+        }
+    }
+
+    private void reconcile() {
+        List<LocalDateTime> hours = HotPostRankingStore.windowHours(LocalDateTime.now());
+        // 재구성 표시를 먼저 남겨야 DB 를 읽은 뒤의 증감이 빠지지 않는다
+        String token = hotPostRankingStore.beginRebuild(hours);
+        if (token == null) {
+            log.info("핫 게시글 순위 보정 건너뜀 - 다른 인스턴스에서 진행 중");
+            return;
+        }
+
+        boolean replaced;
+        List<PostEngagementCount> counts;
+        try {
+            counts = postRepository.findEngagementCountsCreatedAfter(hours.get(hours.size() - 1));
+            // 아직 DB 에 반영되지 않은 증감도 포함한다
+            Map<Long, Long> pendingLikes = writeBehindCounterService.pendingDeltas(CounterType.POST_LIKES);
+            Map<Long, Long> pendingComments = writeBehindCounterService.pendingDeltas(CounterType.POST_COMMENTS);
+
+            Map<LocalDateTime, Map<Long, Long>> scoresByHour = new HashMap<>();
+            for (PostEngagementCount count : counts) {
+                long score = withPending(count.getLikes(), pendingLikes.get(count.getPostId()))
+                        + withPending(count.getComments(), pendingComments.get(count.getPostId()));
+                scoresByHour.computeIfAbsent(count.getCreatedAt().truncatedTo(ChronoUnit.HOURS), h -> new HashMap<>())
+                        .put(count.getPostId(), score);
+            }
+            replaced = hotPostRankingStore.replaceBuckets(token, hours, scoresByHour);
+        } catch (RuntimeException e) {
+            hotPostRankingStore.abortRebuild(token, hours);
+            throw e;
+        }
+
+        if (replaced) {
+            log.info("✅ 핫 게시글 순위 보정 완료 - 게시글 {}건", counts.size());
+        } else {
+            log.warn("❌ 핫 게시글 순위 보정 취소 - 재구성 시간 초과");
+        }
+    }
+
+    // 기존 감소 쿼리처럼 0 아래로는 내려가지 않는다
+    private static long withPending(Integer base, Long pending) {
+        long value = base != null ? base : 0;
+        return Math.max(0, value + (pending != null ? pending : 0));
+    }
+}
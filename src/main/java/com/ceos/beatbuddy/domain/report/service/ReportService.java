@@ -11,6 +11,7 @@ import com.ceos.beatbuddy.domain.event.repository.EventCommentRepository;
 import com.ceos.beatbuddy.domain.event.repository.EventRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
+import com.ceos.beatbuddy.domain.post.application.PostDeletionService;
 import com.ceos.beatbuddy.domain.post.entity.FreePost;
 import com.ceos.beatbuddy.domain.post.entity.PiecePost;
 import com.ceos.beatbuddy.domain.post.repository.FreePostRepository;
@@ -47,6 +48,7 @@ public class ReportService {
     private final VenueReviewRepository venueReviewRepository;
     private final ReportQueryRepository reportQueryRepository;
     private final AdminService adminService;
+    private final PostDeletionService postDeletionService;
 
     // 신고를 접수하는 메서드
     public void submitReport(ReportRequestDTO reportRequestDTO, Long reporterId) {
@@ -138,12 +140,12 @@ public class ReportService {
             case FREE_POST -> {
                 FreePost post = freePostRepository.findById(report.getTargetId())
                         .orElseThrow(() -> new CustomException(ReportErrorCode.TARGET_NOT_FOUND));
-                freePostRepository.delete(post);
+                postDeletionService.delete(post);
             }
             case PIECE_POST -> {
                 PiecePost post = piecePostRepository.findById(report.getTargetId())
                         .orElseThrow(() -> new CustomException(ReportErrorCode.TARGET_NOT_FOUND));
-                piecePostRepository.delete(post);
+                postDeletionService.delete(post);
             }
             case EVENT -> {
                 Event event = eventRepository.findById(report.getTargetId())
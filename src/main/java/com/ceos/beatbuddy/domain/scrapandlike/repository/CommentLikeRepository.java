@@ -19,4 +19,9 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     
     // 댓글에 달린 모든 좋아요 삭제 (댓글 삭제 시 사용)
     void deleteByCommentId(Long commentId);
+
+    // 게시글에 달린 모든 댓글의 좋아요 일괄 삭제 (게시글 삭제 시 사용)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN (SELECT c.id FROM Comment c WHERE c.post.id = :postId)")
+    int deleteAllByPostId(Long postId);
 }
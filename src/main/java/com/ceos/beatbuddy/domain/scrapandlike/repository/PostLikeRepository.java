@@ -5,12 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.List;
-
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByMember_IdAndPost_Id(Long memberId, Long postId);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM PostLike pl WHERE pl.member.id = :memberId AND pl.post.id = :postId")
     int deleteByMember_IdAndPost_Id(Long memberId, Long postId);
-    List<PostLike> findAllByMember_IdAndPost_IdIn(Long memberId, List<Long> postIds);
+
+    // 게시글 삭제 시 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId")
+    int deleteAllByPostId(Long postId);
 }
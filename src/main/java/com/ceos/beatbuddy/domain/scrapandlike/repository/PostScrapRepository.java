@@ -5,10 +5,10 @@ import com.ceos.beatbuddy.domain.scrapandlike.entity.PostScrap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
 
 public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
     boolean existsByMember_IdAndPost_Id(Long memberId, Long postId);
@@ -17,5 +17,8 @@ public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
     @Query("SELECT ps.post FROM PostScrap ps WHERE ps.member.id = :memberId")
     Page<Post> findPostsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-    List<PostScrap> findAllByMember_IdAndPost_IdIn(Long memberId, List<Long> postIds);
+    // 게시글 삭제 시 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM PostScrap ps WHERE ps.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
 }
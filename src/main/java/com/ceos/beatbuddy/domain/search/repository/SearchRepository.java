@@ -1,6 +1,5 @@
 package com.ceos.beatbuddy.domain.search.repository;
 
-import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
 import com.ceos.beatbuddy.domain.member.constant.Region;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.member.exception.MemberErrorCode;
@@ -8,16 +7,12 @@ import com.ceos.beatbuddy.domain.member.repository.MemberRepository;
 import com.ceos.beatbuddy.domain.search.dto.SearchDTO;
 import com.ceos.beatbuddy.domain.search.dto.SearchQueryResponseDTO;
 import com.ceos.beatbuddy.domain.search.exception.SearchErrorCode;
-import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.application.VenueCardAssembler;
 import com.ceos.beatbuddy.domain.venue.entity.QVenue;
 import com.ceos.beatbuddy.domain.venue.entity.QVenueGenre;
 import com.ceos.beatbuddy.domain.venue.entity.QVenueMood;
-import com.ceos.beatbuddy.domain.venue.entity.Venue;
-import com.ceos.beatbuddy.domain.venue.exception.VenueErrorCode;
-import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -107,17 +102,15 @@ public class SearchRepository {
         KOREAN_TO_ENGLISH_REGIONS.put("그 외", "OTHERS");
     }
 
-    private final HeartbeatRepository heartbeatRepository;
     private final MemberRepository memberRepository;
-    private final VenueRepository venueRepository;
+    private final VenueCardAssembler venueCardAssembler;
 
 
-    public SearchRepository(EntityManager em, HeartbeatRepository heartbeatRepository, MemberRepository memberRepository, VenueRepository venueRepository) {
+    public SearchRepository(EntityManager em, MemberRepository memberRepository, VenueCardAssembler venueCardAssembler) {
         this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
-        this.heartbeatRepository = heartbeatRepository;
         this.memberRepository = memberRepository;
-        this.venueRepository = venueRepository;
+        this.venueCardAssembler = venueCardAssembler;
     }
 
 
@@ -126,66 +119,31 @@ public class SearchRepository {
         Member member = memberRepository.findById(memberId).orElseThrow(
                 () -> new CustomException(MemberErrorCode.MEMBER_NOT_EXIST));
         QVenue venue = QVenue.venue;
-        QVenueGenre venueGenre = QVenueGenre.venueGenre;
-        QVenueMood venueMood = QVenueMood.venueMood;
 
-        // Venue, VenueGenre, VenueMood를 조인하고 필요한 데이터를 선택합니다.
-        List<SearchQueryResponseDTO> result = queryFactory
-                .select(Projections.constructor(SearchDTO.mediumDTO.class,
-                        Expressions.constant(LocalDateTime.now()),
-                        venue.id,
-                        venue.englishName,
-                        venue.koreanName,
-                        venue.heartbeatNum,
-                        venueGenre.genreVectorString,
-                        venueMood.moodVectorString,
-                        venue.region))
+        // 조건에 맞는 베뉴 ID 만 먼저 뽑고, 카드 정보는 한 번에 조립한다
+        List<Long> venueIds = queryFactory
+                .select(venue.id)
                 .from(venue)
-                .leftJoin(venueGenre).on(venueGenre.venue.eq(venue))
-                .leftJoin(venueMood).on(venueMood.venue.eq(venue))
                 .where(searchKeywordFilter(searchRequestDto.getKeyword()))
-                .fetch()
-                .stream()
-                .map(component -> {
-                    LocalDateTime currentDate = component.getCurrentDate();
-                    Long venueId = component.getVenueId();
-                    String englishName = component.getEnglishName();
-                    String koreanName = component.getKoreanName();
-                    Long heartbeatNum = component.getHeartbeatNum();
-                    String genreVector = component.getVenueGenre();
-                    String moodVector = component.getVenueMood();
-                    String region = component.getRegion().getText();
-                    Venue componentVenue = venueRepository.findById(venueId).orElseThrow(()->new CustomException(VenueErrorCode.VENUE_NOT_EXIST));
-                    String logoUrl = componentVenue.getLogoUrl();
-                    List<String> backgroundUrl = componentVenue.getBackgroundUrl();
-                    String address = componentVenue.getAddress();
-                    boolean isHeartbeat = heartbeatRepository.findByMemberVenue(member,componentVenue).isPresent();
-
-                    List<String> trueGenreElements = Vector.getTrueGenreElements(Vector.fromString(genreVector));
-                    List<String> trueMoodElements = Vector.getTrueMoodElements(Vector.fromString(moodVector));
-
-                    List<String> tagList = new ArrayList<>(trueGenreElements);
-                    tagList.addAll(trueMoodElements);
-                    tagList.add(region);
-
-                    return new SearchQueryResponseDTO(
-                            currentDate,
-                            venueId,
-                            englishName,
-                            koreanName,
-                            tagList,
-                            heartbeatNum,
-                            isHeartbeat,
-                            logoUrl,
-                            backgroundUrl,
-                            address,
-                            componentVenue.getLatitude(),
-                            componentVenue.getLongitude());
-                })
+                .fetch();
+
+        LocalDateTime currentDate = LocalDateTime.now();
+
+        return venueCardAssembler.assembleByIds(venueIds, member.getId()).stream()
+                .map(card -> new SearchQueryResponseDTO(
+                        currentDate,
+                        card.getVenueId(),
+                        card.getEnglishName(),
+                        card.getKoreanName(),
+                        card.getTagList(),
+                        card.getHeartbeatNum(),
+                        card.getIsHeartbeat(),
+                        card.getLogoUrl(),
+                        card.getBackgroundUrl(),
+                        card.getAddress(),
+                        card.getLatitude(),
+                        card.getLongitude()))
                 .collect(Collectors.toList());
-
-
-        return result;
     }
 
     private BooleanExpression searchKeywordFilter(List<String> keywords) {
@@ -223,7 +181,7 @@ public class SearchRepository {
 
             // Fetch genre and mood vectors from database and create filters
             List<Tuple> genreMoodTuples = queryFactory
-                    .select(venue.id, venueGenre.genreVectorString, venueMood.moodVectorString)
+                    .select(venue.id, venueGenre.genreTags, venueMood.moodTags)
                     .from(venue)
                     .leftJoin(venueGenre).on(venueGenre.venue.eq(venue))
                     .leftJoin(venueMood).on(venueMood.venue.eq(venue))
@@ -231,11 +189,8 @@ public class SearchRepository {
                     .fetch();
 
             for (Tuple tuple : genreMoodTuples) {
-                String genreVectorString = tuple.get(venueGenre.genreVectorString);
-                String moodVectorString = tuple.get(venueMood.moodVectorString);
-
-                List<String> trueGenreElements = Vector.getTrueGenreElements(Vector.fromString(genreVectorString));
-                List<String> trueMoodElements = Vector.getTrueMoodElements(Vector.fromString(moodVectorString));
+                List<String> trueGenreElements = Optional.ofNullable(tuple.get(venueGenre.genreTags)).orElse(List.of());
+                List<String> trueMoodElements = Optional.ofNullable(tuple.get(venueMood.moodTags)).orElse(List.of());
 
                 for (String genre : trueGenreElements) {
                     if (genre.equalsIgnoreCase(keywordEnglish)) {
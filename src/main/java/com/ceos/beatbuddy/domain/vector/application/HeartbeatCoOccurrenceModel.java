@@ -0,0 +1,254 @@
+package com.ceos.beatbuddy.domain.vector.application;
+
+import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
+import com.ceos.beatbuddy.domain.heartbeat.repository.MemberVenuePair;
+import com.ceos.beatbuddy.domain.vector.util.LongIntHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 하트비트 기반 아이템-아이템 동시 출현 모델.
+ * 같은 회원이 하트비트한 베뉴 쌍마다 카운트를 두고, 하트비트 추가/삭제 시 그 회원의 다른 하트비트 수만큼만 갱신한다.
+ * 점수는 sum over u in H (co[u][v] / sqrt(count[u] * count[v])) 로, 인기 베뉴가 모든 추천을 덮지 않도록 정규화한다.
+ * 적재 중에 들어온 변경은 모아 두었다가 새 모델에 이어서 반영한다. 변경 반영은 멱등이므로 스냅샷에 이미 들어간 변경이 다시 와도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartbeatCoOccurrenceModel {
+
+    private final HeartbeatRepository heartbeatRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아래 세 필드는 lock 으로 보호한다
+    // memberId -> 하트비트한 venueId (정렬된 배열)
+    private Map<Long, long[]> memberVenues = new HashMap<>();
+    // venueId -> 하트비트 수
+    private LongIntHashMap venueCounts = new LongIntHashMap();
+    // venueId -> (다른 venueId -> 함께 하트비트된 회원 수)
+    private Map<Long, LongIntHashMap> coOccurrences = new HashMap<>();
+    private volatile boolean loaded = false;
+    // 적재 중에 들어온 변경. lock 으로 보호한다
+    private boolean buffering = false;
+    private final List<Change> buffered = new ArrayList<>();
+
+    private record Change(Long memberId, Long venueId, boolean added) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("하트비트 동시 출현 모델 적재 실패", e);
+        }
+    }
+
+    /**
+     * 전체 하트비트로 모델을 새로 만든다. 기동 시와 주기적인 보정 때 쓰고, 그 사이에는 하트비트 이벤트로 증분 갱신한다.
+     */
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            buffering = true;
+            buffered.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, LongIntHashMap> grouped = new HashMap<>();
+        try {
+            for (MemberVenuePair pair : heartbeatRepository.findAllMemberVenuePairs()) {
+                grouped.computeIfAbsent(pair.getMemberId(), id -> new LongIntHashMap()).addTo(pair.getVenueId(), 1);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                // 이전 모델은 그대로 두고 모아 둔 변경만 반영한다
+                buffering = false;
+                replayBuffered();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            memberVenues = new HashMap<>();
+            venueCounts = new LongIntHashMap();
+            coOccurrences = new HashMap<>();
+            grouped.forEach((memberId, venues) -> {
+                long[] venueIds = new long[venues.size()];
+                int[] index = {0};
+                venues.forEach((venueId, ignored) -> venueIds[index[0]++] = venueId);
+                Arrays.sort(venueIds);
+                memberVenues.put(memberId, venueIds);
+                for (int i = 0; i < venueIds.length; i++) {
+                    venueCounts.addTo(venueIds[i], 1);
+                    for (int j = i + 1; j < venueIds.length; j++) {
+                        addPair(venueIds[i], venueIds[j], 1);
+                    }
+                }
+            });
+            buffering = false;
+            loaded = true;
+            replayed = replayBuffered();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("하트비트 동시 출현 모델 적재 완료 - 회원 {}명, 베뉴 {}곳, 적재 중 변경 {}건", grouped.size(), venueCounts.size(), replayed);
+    }
+
+    public void addHeartbeat(Long memberId, Long venueId) {
+        apply(new Change(memberId, venueId, true));
+    }
+
+    public void removeHeartbeat(Long memberId, Long venueId) {
+        apply(new Change(memberId, venueId, false));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (buffering) {
+                buffered.add(change);
+            } else if (loaded) {
+                applyLocked(change);
+            }
+            // 첫 적재 전이면 버린다. 커밋 후에 발행된 변경이므로 적재할 때 DB 에서 함께 읽힌다
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출한다
+    private int replayBuffered() {
+        int count = buffered.size();
+        if (loaded) {
+            buffered.forEach(this::applyLocked);
+        }
+        buffered.clear();
+        return count;
+    }
+
+    private void applyLocked(Change change) {
+        if (change.added()) {
+            addLocked(change.memberId(), change.venueId());
+        } else {
+            removeLocked(change.memberId(), change.venueId());
+        }
+    }
+
+    private void addLocked(Long memberId, Long venueId) {
+        long[] venueIds = memberVenues.getOrDefault(memberId, new long[0]);
+        int position = Arrays.binarySearch(venueIds, venueId);
+        if (position >= 0) {
+            return;
+        }
+        for (long other : venueIds) {
+            addPair(venueId, other, 1);
+        }
+        venueCounts.addTo(venueId, 1);
+
+        int insertAt = -position - 1;
+        long[] updated = new long[venueIds.length + 1];
+        System.arraycopy(venueIds, 0, updated, 0, insertAt);
+        updated[insertAt] = venueId;
+        System.arraycopy(venueIds, insertAt, updated, insertAt + 1, venueIds.length - insertAt);
+        memberVenues.put(memberId, updated);
+    }
+
+    private void removeLocked(Long memberId, Long venueId) {
+        long[] venueIds = memberVenues.get(memberId);
+        int position = venueIds == null ? -1 : Arrays.binarySearch(venueIds, venueId);
+        if (position < 0) {
+            return;
+        }
+        long[] updated = new long[venueIds.length - 1];
+        System.arraycopy(venueIds, 0, updated, 0, position);
+        System.arraycopy(venueIds, position + 1, updated, position, venueIds.length - position - 1);
+        if (updated.length == 0) {
+            memberVenues.remove(memberId);
+        } else {
+            memberVenues.put(memberId, updated);
+        }
+
+        for (long other : updated) {
+            addPair(venueId, other, -1);
+        }
+        venueCounts.addTo(venueId, -1);
+    }
+
+    /**
+     * 회원의 하트비트를 기준으로 다른 베뉴들의 동시 출현 점수를 계산한다. 이미 하트비트한 베뉴는 제외한다.
+     * 하트비트가 없으면 빈 맵.
+     */
+    public Map<Long, Double> score(Long memberId) {
+        if (!loaded) {
+            return Map.of();
+        }
+        lock.readLock().lock();
+        try {
+            long[] venueIds = memberVenues.get(memberId);
+            if (venueIds == null) {
+                return Map.of();
+            }
+            Map<Long, Double> scores = new HashMap<>();
+            for (long venueId : venueIds) {
+                LongIntHashMap row = coOccurrences.get(venueId);
+                if (row == null) {
+                    continue;
+                }
+                double sourceCount = venueCounts.get(venueId);
+                row.forEach((other, together) -> {
+                    if (Arrays.binarySearch(venueIds, other) >= 0) {
+                        return;
+                    }
+                    double weight = together / Math.sqrt(sourceCount * venueCounts.get(other));
+                    scores.merge(other, weight, Double::sum);
+                });
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> heartbeatVenueIds(Long memberId) {
+        lock.readLock().lock();
+        try {
+            long[] venueIds = memberVenues.get(memberId);
+            if (venueIds == null) {
+                return Set.of();
+            }
+            Set<Long> result = new HashSet<>(venueIds.length * 2);
+            for (long venueId : venueIds) {
+                result.add(venueId);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addPair(long a, long b, int delta) {
+        addDirected(a, b, delta);
+        addDirected(b, a, delta);
+    }
+
+    private void addDirected(long from, long to, int delta) {
+        LongIntHashMap row = coOccurrences.computeIfAbsent(from, id -> new LongIntHashMap());
+        row.addTo(to, delta);
+        if (row.isEmpty()) {
+            coOccurrences.remove(from);
+        }
+    }
+}
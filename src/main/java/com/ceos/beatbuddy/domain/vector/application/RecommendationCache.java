@@ -0,0 +1,212 @@
+package com.ceos.beatbuddy.domain.vector.application;
+
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisKeyUtil;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisStore;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisStore.RankingWrite;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisStore.StoredRanking;
+import com.ceos.beatbuddy.global.broadcast.InstanceBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 아카이브별 추천 순위(베뉴 ID 목록) 캐시.
+ * 추천 입력(아카이브의 장르/무드 벡터, 지역)은 거의 바뀌지 않으므로 (archiveId, regions) 단위로 순위만 저장하고,
+ * 하트비트 여부 같은 회원별 정보는 조회 시점에 VenueCardAssembler 가 붙인다.
+ * 1차는 프로세스 메모리, 2차는 Redis(야간 사전 계산 결과도 여기에 쌓인다)이며,
+ * 베뉴 벡터가 바뀌면 VenueVectorIndex 의 version 과 Redis generation 이 달라져 미스로 처리된다.
+ * generation 은 각 인스턴스가 자기 인덱스에 변경을 반영한 뒤에 올리고(invalidateAll), 순위는 계산 전에 읽은 generation 으로 저장한다.
+ * 그래서 아직 변경을 받지 못한 인스턴스가 이전 벡터로 계산한 순위는 마지막 generation 보다 낮아 읽히지 않는다.
+ * 1차 캐시는 최대 MAX_ENTRIES 개의 LRU 이다.
+ * 아카이브/회원 단위 무효화는 채널로 알려서 모든 인스턴스의 1차 캐시를 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCache {
+
+    private static final long TTL_MILLIS = 30 * 60 * 1000L;
+    private static final int MAX_ENTRIES = 10_000;
+    private static final String ARCHIVE = "archive";
+    private static final String MEMBER = "member";
+
+    private final VenueVectorIndex venueVectorIndex;
+    private final RecommendationRedisStore recommendationRedisStore;
+    private final InstanceBroadcaster instanceBroadcaster;
+
+    // 접근 순서 LinkedHashMap. 모든 접근은 rankings 로 동기화한다
+    private final Map<Key, Ranking> rankings = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Ranking> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private record Key(Long archiveId, int regionMask) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        instanceBroadcaster.subscribe(RecommendationRedisKeyUtil.RANKING_INVALIDATION_CHANNEL, this::evictLocal);
+    }
+
+    /**
+     * 순위를 계산하기 전에 읽어 둔 인덱스 version 과 Redis generation. generation 을 읽지 못하면 -1 이고 Redis 에 저장하지 않는다.
+     */
+    public record Snapshot(long indexVersion, long generation) {
+    }
+
+    /**
+     * @param depth 계산 시 요청한 개수. venueIds 가 depth 보다 짧으면 후보를 모두 담은 것이다.
+     */
+    private record Ranking(Long memberId, List<Long> venueIds, int depth, long indexVersion, long expiresAt) {
+        boolean covers(int k) {
+            return depth >= k || venueIds.size() < depth;
+        }
+    }
+
+    /**
+     * 캐시된 순위 중 상위 k개를 반환한다. 만료되었거나, 인덱스가 바뀌었거나, 더 깊은 순위가 필요하면 비어 있다.
+     */
+    public Optional<List<Long>> get(Long archiveId, Long memberId, Collection<Region> regions, int k) {
+        int regionMask = regionMask(regions);
+        Key key = new Key(archiveId, regionMask);
+        Ranking ranking;
+        synchronized (rankings) {
+            ranking = rankings.get(key);
+            if (ranking != null && (ranking.expiresAt() < System.currentTimeMillis() || ranking.indexVersion() != venueVectorIndex.version())) {
+                rankings.remove(key);
+                ranking = null;
+            }
+        }
+
+        if (ranking == null) {
+            ranking = loadFromRedis(key, memberId);
+        }
+        if (ranking == null || !ranking.covers(k)) {
+            return Optional.empty();
+        }
+        List<Long> venueIds = ranking.venueIds();
+        return Optional.of(venueIds.size() > k ? venueIds.subList(0, k) : venueIds);
+    }
+
+    /**
+     * 순위 계산 전에 호출한다. 계산 도중 인덱스나 generation 이 바뀌면 저장한 순위는 다음 조회에서 미스가 된다.
+     */
+    public Snapshot snapshot() {
+        long indexVersion = venueVectorIndex.version();
+        try {
+            return new Snapshot(indexVersion, recommendationRedisStore.currentGeneration());
+        } catch (Exception e) {
+            log.warn("추천 순위 generation 조회 실패", e);
+            return new Snapshot(indexVersion, -1);
+        }
+    }
+
+    public void put(Long archiveId, Long memberId, Collection<Region> regions, int depth, Snapshot snapshot, List<Long> venueIds) {
+        int regionMask = regionMask(regions);
+        putLocal(new Key(archiveId, regionMask), new Ranking(memberId, List.copyOf(venueIds), depth, snapshot.indexVersion(),
+                System.currentTimeMillis() + TTL_MILLIS));
+        if (snapshot.generation() < 0) {
+            return;
+        }
+        try {
+            recommendationRedisStore.putAll(List.of(new RankingWrite(memberId, archiveId, regionMask, depth, venueIds)),
+                    snapshot.generation());
+        } catch (Exception e) {
+            log.warn("추천 순위 Redis 저장 실패 - archiveId: {}", archiveId, e);
+        }
+    }
+
+    public void evictArchive(Long memberId, Long archiveId) {
+        // Redis 는 회원 단위 해시라 회원의 순위를 함께 지운다 (아카이브 변경은 드물다)
+        evict(ARCHIVE + ":" + archiveId, memberId);
+    }
+
+    public void evictMember(Long memberId) {
+        evict(MEMBER + ":" + memberId, memberId);
+    }
+
+    /**
+     * 베뉴 벡터가 바뀌었을 때 다른 인스턴스와 사전 계산된 순위까지 무효로 만든다.
+     * 이 인스턴스의 인덱스에 변경을 반영한 뒤에 호출해야 한다. 변경 메시지를 받은 인스턴스마다 한 번씩 호출된다.
+     */
+    public void invalidateAll() {
+        synchronized (rankings) {
+            rankings.clear();
+        }
+        try {
+            recommendationRedisStore.bumpGeneration();
+        } catch (Exception e) {
+            log.warn("추천 순위 generation 갱신 실패", e);
+        }
+    }
+
+    public static int regionMask(Collection<Region> regions) {
+        int mask = 0;
+        for (Region region : regions) {
+            mask |= 1 << region.ordinal();
+        }
+        return mask;
+    }
+
+    private Ranking loadFromRedis(Key key, Long memberId) {
+        long indexVersion = venueVectorIndex.version();
+        Optional<StoredRanking> stored;
+        try {
+            stored = recommendationRedisStore.get(memberId, key.archiveId(), key.regionMask());
+        } catch (Exception e) {
+            log.warn("추천 순위 Redis 조회 실패 - archiveId: {}", key.archiveId(), e);
+            return null;
+        }
+        if (stored.isEmpty()) {
+            return null;
+        }
+        Ranking ranking = new Ranking(memberId, List.copyOf(stored.get().venueIds()), stored.get().depth(), indexVersion,
+                System.currentTimeMillis() + TTL_MILLIS);
+        putLocal(key, ranking);
+        return ranking;
+    }
+
+    // 가득 차면 가장 오래 조회되지 않은 순위부터 밀려난다
+    private void putLocal(Key key, Ranking ranking) {
+        synchronized (rankings) {
+            rankings.put(key, ranking);
+        }
+    }
+
+    // L2 를 먼저 지운 뒤 알려야 다른 인스턴스가 지워지기 전의 L2 값으로 L1 을 다시 채우지 않는다
+    private void evict(String message, Long memberId) {
+        evictLocal(message);
+        try {
+            recommendationRedisStore.evictMember(memberId);
+            instanceBroadcaster.publish(RecommendationRedisKeyUtil.RANKING_INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1 은 TTL 이 지나면 갱신된다
+            log.warn("추천 순위 무효화 실패 - {}", message, e);
+        }
+    }
+
+    private void evictLocal(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        Long id = Long.valueOf(message.substring(separator + 1));
+        synchronized (rankings) {
+            if (ARCHIVE.equals(message.substring(0, separator))) {
+                rankings.keySet().removeIf(key -> key.archiveId().equals(id));
+            } else {
+                rankings.values().removeIf(ranking -> ranking.memberId().equals(id));
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.ceos.beatbuddy.domain.vector.application;
+
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.ScoredVenue;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.VenueVectorEntry;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지역 제한 없는(전국) 추천을 위한 근사 최근접 이웃 인덱스.
+ * 장르 + 무드 태그 비트마스크에 대한 bit-sampling LSH 로, 테이블마다 무작위로 고른 비트들의 값이 같은 베뉴끼리 버킷에 모은다.
+ * 조회 시 각 테이블의 버킷(multi-probe 면 1비트 다른 버킷까지)에서 후보를 최대 maxCandidates 개 모은 뒤 정확한 유사도로 다시 순위를 매긴다.
+ * tables/bitsPerTable/multiProbe 로 재현율을, maxCandidates 로 조회 지연의 상한을 조절한다.
+ * - 후보가 k 개보다 적으면 2비트 다른 버킷까지 넓혀 보고, 그래도 모자라면 찾은 만큼만 반환한다(recommend.ann.results{result=partial}).
+ *   전체 베뉴가 maxCandidates 이하일 때만 정확한 스캔으로 채운다. 어느 경우든 점수를 매기는 베뉴 수는 maxCandidates 를 넘지 않는다.
+ * - 버킷은 요청 스레드가 아닌 taskExecutor 에서 다시 만들고 volatile 참조로 교체한다. 교체 전까지는 이전 버킷으로 조회한다.
+ */
+@Slf4j
+@Component
+public class VenueAnnIndex {
+
+    private static final long SEED = 42L;
+
+    private final VenueVectorIndex venueVectorIndex;
+    private final boolean enabled;
+    private final int tables;
+    private final int bitsPerTable;
+    private final boolean multiProbe;
+    private final int maxCandidates;
+    private final Executor rebuildExecutor;
+    private final Counter approximateCounter;
+    private final Counter partialCounter;
+    private final Counter exactFallbackCounter;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private record Snapshot(long indexVersion, int size, int[] sampleMasks, List<Map<Integer, List<VenueVectorEntry>>> buckets) {
+    }
+
+    public VenueAnnIndex(VenueVectorIndex venueVectorIndex,
+                         @Qualifier("taskExecutor") Executor rebuildExecutor,
+                         MeterRegistry meterRegistry,
+                         @Value("${recommend.ann.enabled:true}") boolean enabled,
+                         @Value("${recommend.ann.tables:8}") int tables,
+                         @Value("${recommend.ann.bits-per-table:6}") int bitsPerTable,
+                         @Value("${recommend.ann.multi-probe:true}") boolean multiProbe,
+                         @Value("${recommend.ann.max-candidates:2000}") int maxCandidates) {
+        this.venueVectorIndex = venueVectorIndex;
+        this.rebuildExecutor = rebuildExecutor;
+        this.enabled = enabled;
+        this.tables = tables;
+        this.bitsPerTable = bitsPerTable;
+        this.multiProbe = multiProbe;
+        this.maxCandidates = maxCandidates;
+        this.approximateCounter = meterRegistry.counter("recommend.ann.results", "result", "approximate");
+        this.partialCounter = meterRegistry.counter("recommend.ann.results", "result", "partial");
+        this.exactFallbackCounter = meterRegistry.counter("recommend.ann.results", "result", "exact");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * 전국 베뉴 중 target 과 유사한 상위 k개. 비활성화되어 있으면 전체를 정확히 스캔한다.
+     * 근사 조회는 후보가 모자라면 k 개보다 적게 반환할 수 있다.
+     */
+    public List<ScoredVenue> findTopK(Vector target, int k) {
+        if (!enabled) {
+            return findTopKExact(target, k);
+        }
+        return findTopKApproximate(target, k);
+    }
+
+    public List<ScoredVenue> findTopKExact(Vector target, int k) {
+        return venueVectorIndex.findTopK(target, EnumSet.allOf(Region.class), k);
+    }
+
+    public List<ScoredVenue> findTopKApproximate(Vector target, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        Snapshot current = currentSnapshot();
+        if (current == null) {
+            // 첫 버킷이 만들어지기 전 (기동 직후) 에만 정확한 스캔을 쓴다
+            exactFallbackCounter.increment();
+            return findTopKExact(target, k);
+        }
+        int targetMask = target.tagMask();
+
+        // 같은 베뉴가 여러 테이블에서 나오므로 venueId 로 중복을 거른다
+        Map<Long, VenueVectorEntry> candidates = new HashMap<>();
+        collect(current, targetMask, false, candidates);
+        if (candidates.size() < k && multiProbe) {
+            // 1비트 다른 버킷까지로 모자라면 2비트 다른 버킷까지 넓힌다
+            collect(current, targetMask, true, candidates);
+        }
+
+        if (candidates.size() < k) {
+            if (current.size() <= maxCandidates) {
+                // 전체를 스캔해도 후보 상한 이내이므로 지연 상한이 유지된다
+                exactFallbackCounter.increment();
+                return findTopKExact(target, k);
+            }
+            partialCounter.increment();
+        } else {
+            approximateCounter.increment();
+        }
+
+        Comparator<ScoredVenue> worstFirst = Comparator.comparingDouble(ScoredVenue::score)
+                .thenComparing(ScoredVenue::venueId, Comparator.reverseOrder());
+        PriorityQueue<ScoredVenue> heap = new PriorityQueue<>(k + 1, worstFirst);
+        Vector unitTarget = target.normalized();
+        for (VenueVectorEntry entry : candidates.values()) {
+            ScoredVenue candidate = new ScoredVenue(entry, venueVectorIndex.similarity(target, unitTarget, entry));
+            if (heap.size() < k) {
+                heap.offer(candidate);
+            } else if (worstFirst.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        }
+
+        List<ScoredVenue> result = new ArrayList<>(heap);
+        result.sort(worstFirst.reversed());
+        return result;
+    }
+
+    /**
+     * 버킷을 지금 스레드에서 다시 만든다. 보통은 requestRebuild 로 taskExecutor 에서 실행된다.
+     */
+    public void rebuild() {
+        long version = venueVectorIndex.version();
+        Snapshot current = snapshot;
+        if (current == null || current.indexVersion() != version) {
+            snapshot = build(version);
+        }
+    }
+
+    private void collect(Snapshot current, int targetMask, boolean widened, Map<Long, VenueVectorEntry> candidates) {
+        for (int t = 0; t < current.sampleMasks().length; t++) {
+            int sampleMask = current.sampleMasks()[t];
+            Map<Integer, List<VenueVectorEntry>> table = current.buckets().get(t);
+            int[] keys = widened ? twoBitProbeKeys(targetMask & sampleMask, sampleMask) : probeKeys(targetMask & sampleMask, sampleMask);
+            for (int key : keys) {
+                for (VenueVectorEntry entry : table.getOrDefault(key, List.of())) {
+                    candidates.putIfAbsent(entry.venueId(), entry);
+                    if (candidates.size() >= maxCandidates) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private int[] probeKeys(int key, int sampleMask) {
+        if (!multiProbe) {
+            return new int[]{key};
+        }
+        int[] keys = new int[Integer.bitCount(sampleMask) + 1];
+        keys[0] = key;
+        int index = 1;
+        for (int bits = sampleMask; bits != 0; bits &= bits - 1) {
+            keys[index++] = key ^ Integer.lowestOneBit(bits);
+        }
+        return keys;
+    }
+
+    private int[] twoBitProbeKeys(int key, int sampleMask) {
+        int bitCount = Integer.bitCount(sampleMask);
+        int[] keys = new int[bitCount * (bitCount - 1) / 2];
+        int index = 0;
+        for (int first = sampleMask; first != 0; first &= first - 1) {
+            int firstBit = Integer.lowestOneBit(first);
+            for (int second = first & (first - 1); second != 0; second &= second - 1) {
+                keys[index++] = key ^ firstBit ^ Integer.lowestOneBit(second);
+            }
+        }
+        return keys;
+    }
+
+    // 인덱스가 바뀌었으면 다시 만들도록 요청만 하고, 이번 조회는 지금 버킷으로 처리한다
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null || current.indexVersion() != venueVectorIndex.version()) {
+            requestRebuild();
+        }
+        return current;
+    }
+
+    private void requestRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("베뉴 LSH 인덱스 계산 실패", e);
+                } finally {
+                    rebuildQueued.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuildQueued.set(false);
+            log.warn("베뉴 LSH 인덱스 계산 요청 실패", e);
+        }
+    }
+
+    private Snapshot build(long version) {
+        Collection<VenueVectorEntry> entries = venueVectorIndex.allEntries();
+        int dimension = entries.stream().mapToInt(entry -> entry.mergedVector().size()).max().orElse(0);
+        int usableBits = Math.min(dimension, Integer.SIZE - 1);
+
+        Random random = new Random(SEED);
+        int[] sampleMasks = new int[tables];
+        List<Map<Integer, List<VenueVectorEntry>>> buckets = new ArrayList<>(tables);
+        for (int t = 0; t < tables; t++) {
+            sampleMasks[t] = sampleBits(random, usableBits, Math.min(bitsPerTable, usableBits));
+            Map<Integer, List<VenueVectorEntry>> table = new HashMap<>();
+            for (VenueVectorEntry entry : entries) {
+                table.computeIfAbsent(entry.tagMask() & sampleMasks[t], key -> new ArrayList<>()).add(entry);
+            }
+            buckets.add(table);
+        }
+        log.info("베뉴 LSH 인덱스 계산 완료 - {}건, 테이블 {}개, 테이블당 {}비트", entries.size(), tables, bitsPerTable);
+        return new Snapshot(version, entries.size(), sampleMasks, buckets);
+    }
+
+    private static int sampleBits(Random random, int usableBits, int count) {
+        int mask = 0;
+        while (Integer.bitCount(mask) < count) {
+            mask |= 1 << random.nextInt(usableBits);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,142 @@
+package com.ceos.beatbuddy.domain.vector.application;
+
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.ScoredVenue;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.VenueVectorEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 베뉴별 "비슷한 베뉴" 상위 K개를 미리 계산해 두는 인덱스.
+ * 같은 지역 안에서 장르 + 무드 병합 벡터의 유사도로 이웃을 구하고, 조회는 맵 조회 한 번으로 끝난다.
+ * 베뉴 벡터가 바뀌면 그 베뉴의 행과, 그 베뉴를 이웃으로 가졌거나 새로 이웃이 될 수 있는 행만 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VenueSimilarityIndex {
+
+    public static final int MAX_NEIGHBOURS = 10;
+
+    private final VenueVectorIndex venueVectorIndex;
+
+    private volatile Map<Long, Neighbours> rows = new ConcurrentHashMap<>();
+    private volatile boolean built = false;
+
+    /**
+     * 유사도 내림차순으로 정렬된 이웃 목록.
+     */
+    private record Neighbours(Region region, long[] venueIds, double[] scores) {
+        boolean contains(Long venueId) {
+            for (long id : venueIds) {
+                if (id == venueId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        double worstScore() {
+            return scores.length == 0 ? Double.NEGATIVE_INFINITY : scores[scores.length - 1];
+        }
+    }
+
+    /**
+     * 비슷한 베뉴 ID 를 유사도 순으로 최대 size 개 반환한다. 인덱스에 없는 베뉴면 빈 목록.
+     */
+    public List<Long> getSimilarVenueIds(Long venueId, int size) {
+        ensureBuilt();
+        Neighbours row = rows.get(venueId);
+        if (row == null || size <= 0) {
+            return List.of();
+        }
+        int limit = Math.min(size, row.venueIds().length);
+        List<Long> venueIds = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            venueIds.add(row.venueIds()[i]);
+        }
+        return venueIds;
+    }
+
+    public synchronized void rebuild() {
+        Map<Long, Neighbours> newRows = new ConcurrentHashMap<>();
+        for (Region region : Region.values()) {
+            for (VenueVectorEntry entry : venueVectorIndex.partition(region)) {
+                newRows.put(entry.venueId(), computeRow(entry));
+            }
+        }
+        this.rows = newRows;
+        this.built = true;
+        log.info("비슷한 베뉴 인덱스 계산 완료 - {}건", newRows.size());
+    }
+
+    /**
+     * VenueVectorIndex 가 해당 베뉴를 갱신한 뒤에 호출해야 한다.
+     */
+    public synchronized void refresh(Long venueId) {
+        if (!built) {
+            return;
+        }
+        // 새 행을 먼저 계산한 뒤 교체해서, 갱신 중에도 조회에서 행이 빠지지 않게 한다
+        Optional<VenueVectorEntry> current = venueVectorIndex.get(venueId);
+        Neighbours previous = current.isPresent()
+                ? rows.put(venueId, computeRow(current.get()))
+                : rows.remove(venueId);
+
+        // 이전/현재 지역의 다른 베뉴 중 이 베뉴와 관련된 행만 다시 계산한다
+        Set<Region> touchedRegions = EnumSet.noneOf(Region.class);
+        if (previous != null) {
+            touchedRegions.add(previous.region());
+        }
+        current.ifPresent(entry -> touchedRegions.add(entry.region()));
+
+        int recomputed = 0;
+        for (Region region : touchedRegions) {
+            for (VenueVectorEntry other : venueVectorIndex.partition(region)) {
+                if (other.venueId().equals(venueId)) {
+                    continue;
+                }
+                Neighbours row = rows.get(other.venueId());
+                if (row == null || row.contains(venueId) || mayEnter(row, other, current)) {
+                    rows.put(other.venueId(), computeRow(other));
+                    recomputed++;
+                }
+            }
+        }
+        log.debug("비슷한 베뉴 인덱스 갱신 - venueId: {}, 재계산 {}건", venueId, recomputed);
+    }
+
+    private boolean mayEnter(Neighbours row, VenueVectorEntry other, Optional<VenueVectorEntry> changed) {
+        if (changed.isEmpty() || changed.get().region() != other.region()) {
+            return false;
+        }
+        return row.venueIds().length < MAX_NEIGHBOURS
+                || venueVectorIndex.similarity(other, changed.get()) > row.worstScore();
+    }
+
+    private Neighbours computeRow(VenueVectorEntry entry) {
+        List<ScoredVenue> neighbours = venueVectorIndex.findTopK(entry.mergedVector(), List.of(entry.region()),
+                MAX_NEIGHBOURS, candidate -> !candidate.venueId().equals(entry.venueId()));
+        long[] venueIds = new long[neighbours.size()];
+        double[] scores = new double[neighbours.size()];
+        for (int i = 0; i < neighbours.size(); i++) {
+            venueIds[i] = neighbours.get(i).venueId();
+            scores[i] = neighbours.get(i).score();
+        }
+        return new Neighbours(entry.region(), venueIds, scores);
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            synchronized (this) {
+                if (!built) {
+                    rebuild();
+                }
+            }
+        }
+    }
+}
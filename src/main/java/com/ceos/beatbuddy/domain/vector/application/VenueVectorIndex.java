@@ -0,0 +1,310 @@
+package com.ceos.beatbuddy.domain.vector.application;
+
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.vector.exception.VectorException;
+import com.ceos.beatbuddy.domain.venue.entity.Venue;
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 추천에 쓰이는 베뉴 벡터(장르 + 무드)를 지역별로 메모리에 올려두는 인덱스.
+ * 추천 요청마다 베뉴 수만큼 장르/무드를 조회하던 2N+1 쿼리를 없애고,
+ * 상위 K개만 필요하므로 전체 정렬 대신 크기 K의 힙으로 뽑는다.
+ * 베뉴 벡터가 바뀌면 VenueVectorChangedEvent 와 Redis 채널을 통해 모든 인스턴스가 해당 베뉴만 다시 적재하고,
+ * 놓친 메시지는 주기적인 reload 로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VenueVectorIndex {
+
+    private final VenueRepository venueRepository;
+    private final VenueGenreRepository venueGenreRepository;
+    private final VenueMoodRepository venueMoodRepository;
+
+    // region -> (venueId -> 벡터)
+    private volatile Map<Region, Map<Long, VenueVectorEntry>> partitions = new ConcurrentHashMap<>();
+    // venueId -> 벡터 (지역 변경 시 이전 파티션을 찾기 위함)
+    private volatile Map<Long, VenueVectorEntry> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+    // 인덱스 내용이 바뀔 때마다 증가 (RecommendationCache 가 이 값으로 오래된 순위를 걸러낸다)
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * genreVector/moodVector 는 mergedVector 배열을 공유하는 뷰이고, unitVector 는 dot 만으로 코사인을 구하기 위한 단위 벡터다.
+     */
+    public record VenueVectorEntry(Long venueId, Region region, Vector genreVector, Vector moodVector, Vector mergedVector, Vector unitVector) {
+        public static VenueVectorEntry of(Long venueId, Region region, Vector genreVector, Vector moodVector) {
+            Vector merged = Vector.mergeVectors(genreVector, moodVector);
+            int genreSize = genreVector.size();
+            return new VenueVectorEntry(venueId, region,
+                    merged.subVector(0, genreSize), merged.subVector(genreSize, merged.size()),
+                    merged, merged.normalized());
+        }
+
+        public int tagMask() {
+            return mergedVector.tagMask();
+        }
+    }
+
+    @FunctionalInterface
+    public interface VenueScorer {
+        double score(VenueVectorEntry entry, double similarity);
+    }
+
+    public record ScoredVenue(VenueVectorEntry entry, double score) {
+        public Long venueId() {
+            return entry.venueId();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 기동은 막지 않고 첫 조회 시 다시 적재를 시도한다
+            log.error("베뉴 벡터 인덱스 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 전체 베뉴 벡터를 다시 적재한다. 새 맵을 만든 뒤 교체하므로 적재 중에도 조회는 이전 인덱스를 본다.
+     */
+    public synchronized void reload() {
+        Map<Long, VenueGenre> genres = venueGenreRepository.findAllWithVenue().stream()
+                .collect(Collectors.toMap(vg -> vg.getVenue().getId(), Function.identity(), (a, b) -> a));
+        Map<Long, VenueMood> moods = venueMoodRepository.findAllWithVenue().stream()
+                .collect(Collectors.toMap(vm -> vm.getVenue().getId(), Function.identity(), (a, b) -> a));
+
+        Map<Region, Map<Long, VenueVectorEntry>> newPartitions = new ConcurrentHashMap<>();
+        Map<Long, VenueVectorEntry> newEntries = new ConcurrentHashMap<>();
+
+        genres.forEach((venueId, venueGenre) -> {
+            VenueMood venueMood = moods.get(venueId);
+            Region region = venueGenre.getVenue().getRegion();
+            if (venueMood == null || region == null) {
+                log.warn("장르/무드 벡터가 모두 있는 베뉴만 인덱싱합니다 - venueId: {}", venueId);
+                return;
+            }
+            VenueVectorEntry entry = VenueVectorEntry.of(venueId, region, venueGenre.getGenreVector(), venueMood.getMoodVector());
+            newEntries.put(venueId, entry);
+            newPartitions.computeIfAbsent(region, r -> new ConcurrentHashMap<>()).put(venueId, entry);
+        });
+
+        // 주기적으로 다시 적재할 때 내용이 같으면 version 을 올리지 않아서 캐시된 추천 순위를 살려 둔다
+        boolean changed = !loaded || !newEntries.equals(entries);
+        this.partitions = newPartitions;
+        this.entries = newEntries;
+        this.loaded = true;
+        if (changed) {
+            version.incrementAndGet();
+        }
+        log.info("베뉴 벡터 인덱스 적재 완료 - {}건, 변경 {}", newEntries.size(), changed);
+    }
+
+    /**
+     * 한 베뉴의 벡터/지역을 DB 기준으로 다시 반영한다. 베뉴가 삭제되었거나 벡터가 없으면 인덱스에서 제거한다.
+     * 새 항목을 먼저 만든 뒤 put 으로 교체하므로 갱신 중에도 조회에서 베뉴가 빠지지 않는다.
+     */
+    public synchronized void refresh(Long venueId) {
+        if (!loaded) {
+            // 아직 전체 적재 전이면 첫 조회 때 함께 반영된다
+            return;
+        }
+
+        Optional<Venue> venue = venueRepository.findById(venueId);
+        Optional<VenueGenre> venueGenre = venueGenreRepository.findByVenueId(venueId);
+        Optional<VenueMood> venueMood = venueMoodRepository.findByVenueId(venueId);
+        if (venue.isEmpty() || venueGenre.isEmpty() || venueMood.isEmpty() || venue.get().getRegion() == null) {
+            remove(venueId);
+            return;
+        }
+
+        VenueVectorEntry entry = VenueVectorEntry.of(venueId, venue.get().getRegion(),
+                venueGenre.get().getGenreVector(), venueMood.get().getMoodVector());
+        VenueVectorEntry previous = entries.put(venueId, entry);
+        partitions.computeIfAbsent(entry.region(), r -> new ConcurrentHashMap<>()).put(venueId, entry);
+        if (previous != null && previous.region() != entry.region()) {
+            Map<Long, VenueVectorEntry> partition = partitions.get(previous.region());
+            if (partition != null) {
+                partition.remove(venueId);
+            }
+        }
+        if (!entry.equals(previous)) {
+            version.incrementAndGet();
+        }
+    }
+
+    public synchronized void remove(Long venueId) {
+        VenueVectorEntry previous = entries.remove(venueId);
+        if (previous != null) {
+            Map<Long, VenueVectorEntry> partition = partitions.get(previous.region());
+            if (partition != null) {
+                partition.remove(venueId);
+            }
+            version.incrementAndGet();
+        }
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public Optional<VenueVectorEntry> get(Long venueId) {
+        ensureLoaded();
+        return Optional.ofNullable(entries.get(venueId));
+    }
+
+    public List<ScoredVenue> findTopK(Vector target, Collection<Region> regions, int k) {
+        return findTopK(target, regions, k, entry -> true);
+    }
+
+    /**
+     * 주어진 지역들 안에서 target 과 코사인 유사도가 높은 순으로 최대 k개를 반환한다.
+     * 유사도를 계산할 수 없는 벡터(길이 불일치, norm 0)는 0점으로 취급한다.
+     */
+    public List<ScoredVenue> findTopK(Vector target, Collection<Region> regions, int k, Predicate<VenueVectorEntry> filter) {
+        return findTopK(target, regions, k, filter, (entry, similarity) -> similarity);
+    }
+
+    /**
+     * 유사도에 다른 신호를 섞어 순위를 매길 때 사용한다. ScoredVenue.score 에는 scorer 의 결과가 담긴다.
+     */
+    public List<ScoredVenue> findTopK(Vector target, Collection<Region> regions, int k, Predicate<VenueVectorEntry> filter, VenueScorer scorer) {
+        Vector unitTarget = target.normalized();
+        return topK(regions, k, filter, entry -> scorer.score(entry, score(target, unitTarget, entry)));
+    }
+
+    /**
+     * 장르 벡터끼리의 코사인 유사도가 높은 순으로 최대 k개를 반환한다.
+     */
+    public List<ScoredVenue> findTopKByGenre(Vector genreTarget, Collection<Region> regions, int k) {
+        return topK(regions, k, entry -> true, entry -> partialScore(genreTarget, entry.genreVector()));
+    }
+
+    /**
+     * 무드 벡터끼리의 코사인 유사도가 높은 순으로 최대 k개를 반환한다.
+     */
+    public List<ScoredVenue> findTopKByMood(Vector moodTarget, Collection<Region> regions, int k) {
+        return topK(regions, k, entry -> true, entry -> partialScore(moodTarget, entry.moodVector()));
+    }
+
+    private List<ScoredVenue> topK(Collection<Region> regions, int k, Predicate<VenueVectorEntry> filter,
+                                   ToDoubleFunction<VenueVectorEntry> scoring) {
+        ensureLoaded();
+        if (k <= 0) {
+            return List.of();
+        }
+
+        // 점수가 가장 낮은 원소가 top 에 오는 크기 k 의 최소 힙 (동점이면 venueId 가 큰 쪽을 먼저 버린다)
+        Comparator<ScoredVenue> worstFirst = Comparator.comparingDouble(ScoredVenue::score)
+                .thenComparing(ScoredVenue::venueId, Comparator.reverseOrder());
+        PriorityQueue<ScoredVenue> heap = new PriorityQueue<>(k + 1, worstFirst);
+
+        for (Region region : new HashSet<>(regions)) {
+            Map<Long, VenueVectorEntry> partition = partitions.get(region);
+            if (partition == null) {
+                continue;
+            }
+            for (VenueVectorEntry entry : partition.values()) {
+                if (!filter.test(entry)) {
+                    continue;
+                }
+                ScoredVenue candidate = new ScoredVenue(entry, scoring.applyAsDouble(entry));
+                if (heap.size() < k) {
+                    heap.offer(candidate);
+                } else if (worstFirst.compare(candidate, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.offer(candidate);
+                }
+            }
+        }
+
+        List<ScoredVenue> result = new ArrayList<>(heap);
+        result.sort(worstFirst.reversed());
+        return result;
+    }
+
+    /**
+     * 지역 파티션에 속한 베뉴 벡터들. 없으면 빈 목록.
+     */
+    public Collection<VenueVectorEntry> partition(Region region) {
+        ensureLoaded();
+        Map<Long, VenueVectorEntry> partition = partitions.get(region);
+        return partition == null ? List.of() : List.copyOf(partition.values());
+    }
+
+    /**
+     * 인덱싱된 모든 베뉴 벡터 (전국 단위 검색용).
+     */
+    public Collection<VenueVectorEntry> allEntries() {
+        ensureLoaded();
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * target 과 베뉴 사이의 유사도. unitTarget 은 target.normalized() 를 미리 구해 넘긴다.
+     */
+    public double similarity(Vector target, Vector unitTarget, VenueVectorEntry entry) {
+        return score(target, unitTarget, entry);
+    }
+
+    /**
+     * 두 베뉴 사이의 유사도. findTopK 와 같은 기준으로 계산한다.
+     */
+    public double similarity(VenueVectorEntry a, VenueVectorEntry b) {
+        return score(a.mergedVector(), a.unitVector(), b);
+    }
+
+    private double score(Vector target, Vector unitTarget, VenueVectorEntry entry) {
+        Vector venueVector = entry.mergedVector();
+        // 둘 다 0/1 벡터면 popcount 로 바로 계산한다
+        if (target.isBinary() && venueVector.isBinary() && target.size() == venueVector.size()) {
+            return Vector.binaryCosineSimilarity(target.tagMask(), venueVector.tagMask());
+        }
+        try {
+            return unitTarget.dot(entry.unitVector());
+        } catch (VectorException e) {
+            return 0.0;
+        }
+    }
+
+    // 장르/무드 부분 벡터는 단위 벡터를 따로 두지 않으므로 생성 시 계산된 norm 으로 나눈다
+    private static double partialScore(Vector target, Vector part) {
+        if (target.size() != part.size() || target.norm() == 0 || part.norm() == 0) {
+            return 0.0;
+        }
+        if (target.isBinary() && part.isBinary()) {
+            return Vector.binaryCosineSimilarity(target.tagMask(), part.tagMask());
+        }
+        return target.dot(part) / (target.norm() * part.norm());
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+}
@@ -3,18 +3,21 @@ package com.ceos.beatbuddy.domain.vector.entity;
 import com.ceos.beatbuddy.domain.vector.exception.VectorErrorCode;
 import com.ceos.beatbuddy.domain.vector.exception.VectorException;
 import com.ceos.beatbuddy.global.CustomException;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-@Getter
-@AllArgsConstructor
+/**
+ * 장르/무드 취향 벡터.
+ * double[] 위에 offset/length 로 잡은 구간을 하나의 벡터로 보며, L2 norm 은 생성 시 한 번만 계산해 둔다.
+ * subVector 는 배열을 복사하지 않는 뷰이고, 추천처럼 같은 벡터를 여러 번 비교하는 경우에는
+ * normalized() 로 단위 벡터를 만들어 dot() 만으로 코사인 유사도를 구할 수 있다.
+ */
 public class Vector {
     private static final List<String> ALL_GENRES = Arrays.asList(
             "HIPHOP", "R&B", "EDM", "HOUSE", "TECHNO", "SOUL&FUNK", "ROCK", "LATIN", "K-POP", "POP"
@@ -22,81 +25,311 @@ public class Vector {
     private static final List<String> ALL_MOODS = Arrays.asList(
             "CLUB", "PUB", "ROOFTOP", "DEEP", "COMMERCIAL", "CHILL", "EXOTIC", "HUNTING", "BAR&CAFE"
     );
-    private final List<Double> elements;
+    // 태그 마스크: 장르 10비트 + 무드 9비트. 병합 벡터(장르 + 무드)의 인덱스와 같은 비트 위치를 쓴다.
+    public static final int MOOD_BIT_OFFSET = ALL_GENRES.size();
+    private static final int MAX_MASK_BITS = Integer.SIZE - 1;
+    private static final int GENRE_MASK = (1 << ALL_GENRES.size()) - 1;
+    private static final int MOOD_MASK = (1 << ALL_MOODS.size()) - 1;
+    // 바이너리 컬럼 포맷: [format(1)][dimension(1)][payload]
+    private static final byte FORMAT_BITMASK = 1;   // payload = int 마스크 4바이트
+    private static final byte FORMAT_FLOAT64 = 2;   // payload = double * dimension
+    // 마스크 값 -> 태그 목록 (장르 1024개, 무드 512개 조합을 미리 만들어 둔다)
+    private static final List<List<String>> GENRE_TAG_TABLE = buildTagTable(ALL_GENRES);
+    private static final List<List<String>> MOOD_TAG_TABLE = buildTagTable(ALL_MOODS);
+
+    private final double[] values;
+    private final int offset;
+    private final int length;
+    private final double norm;
+    // 값이 1.0 인 위치의 비트 집합과, 모든 값이 0/1 인지 여부
+    private final int tagMask;
+    private final boolean binary;
+
+    public Vector(List<Double> elements) {
+        this(toArray(elements));
+    }
+
+    public Vector(double[] values) {
+        this(values, 0, values.length);
+    }
+
+    private Vector(double[] values, int offset, int length) {
+        this(values, offset, length, computeNorm(values, offset, length));
+    }
+
+    private Vector(double[] values, int offset, int length, double norm) {
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+        this.norm = norm;
+
+        int mask = 0;
+        boolean isBinary = length <= MAX_MASK_BITS;
+        for (int i = 0; i < length; i++) {
+            double value = values[offset + i];
+            if (value == 1.0) {
+                if (i < MAX_MASK_BITS) {
+                    mask |= 1 << i;
+                }
+            } else if (value != 0.0) {
+                isBinary = false;
+            }
+        }
+        this.tagMask = mask;
+        this.binary = isBinary;
+    }
+
+    public static Vector of(double... values) {
+        return new Vector(values);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+        }
+        return values[offset + index];
+    }
+
+    public double norm() {
+        return norm;
+    }
+
+    public int tagMask() {
+        return tagMask;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * 기존 List 기반 API 호환용. 복사 없이 배열을 읽는 읽기 전용 뷰를 반환한다.
+     */
+    public List<Double> getElements() {
+        return new AbstractList<>() {
+            @Override
+            public Double get(int index) {
+                return Vector.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+        };
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOfRange(values, offset, offset + length);
+    }
+
+    public double dot(Vector other) {
+        if (length != other.length) {
+            throw new VectorException(VectorErrorCode.NOT_SAME_LENGTH);
+        }
+        double dotProduct = 0.0;
+        for (int i = 0; i < length; i++) {
+            dotProduct += values[offset + i] * other.values[other.offset + i];
+        }
+        return dotProduct;
+    }
 
     public double cosineSimilarity(Vector other) {
-        if (elements.size() != other.elements.size()) {
+        if (length != other.length) {
             throw new VectorException(VectorErrorCode.NOT_SAME_LENGTH);
         }
+        if (norm == 0 || other.norm == 0) {
+            throw new VectorException(VectorErrorCode.VECTOR_ZERO_NORM);
+        }
+        return dot(other) / (norm * other.norm);
+    }
 
-        Double dotProduct = 0.0;
-        Double normA = 0.0;
-        Double normB = 0.0;
+    /**
+     * norm 이 1인 벡터를 반환한다. 영벡터는 그대로 반환하므로 dot 결과가 0이 된다.
+     */
+    public Vector normalized() {
+        if (norm == 0 || norm == 1.0) {
+            return this;
+        }
+        double[] unit = new double[length];
+        for (int i = 0; i < length; i++) {
+            unit[i] = values[offset + i] / norm;
+        }
+        return new Vector(unit, 0, length, 1.0);
+    }
 
-        for (int i = 0; i < elements.size(); i++) {
-            dotProduct += elements.get(i) * other.elements.get(i);
-            normA += Math.pow(elements.get(i), 2);
-            normB += Math.pow(other.elements.get(i), 2);
+    /**
+     * [fromIndex, toIndex) 구간을 복사 없이 가리키는 벡터.
+     */
+    public Vector subVector(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + length);
         }
+        return new Vector(values, offset + fromIndex, toIndex - fromIndex);
+    }
 
-        if (normA == 0 || normB == 0) {
-            throw new VectorException(VectorErrorCode.VECTOR_ZERO_NORM);
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Vector other) || length != other.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Double.compare(values[offset + i], other.values[other.offset + i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + Double.hashCode(values[offset + i]);
         }
-        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+        return result;
     }
 
     @Override
     public String toString() {
-        return elements.toString();
+        StringBuilder sb = new StringBuilder(length * 5 + 2).append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(values[offset + i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * DB 바이너리 컬럼용 인코딩. 0/1 벡터는 6바이트 비트마스크, 그 외에는 고정폭 double 배열로 저장한다.
+     */
+    public byte[] toBytes() {
+        if (length > 0xFF) {
+            throw new VectorException(VectorErrorCode.UNAVAILABLE_INPUT);
+        }
+        if (binary) {
+            return ByteBuffer.allocate(2 + Integer.BYTES)
+                    .put(FORMAT_BITMASK)
+                    .put((byte) length)
+                    .putInt(tagMask)
+                    .array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + Double.BYTES * length)
+                .put(FORMAT_FLOAT64)
+                .put((byte) length);
+        for (int i = 0; i < length; i++) {
+            buffer.putDouble(values[offset + i]);
+        }
+        return buffer.array();
+    }
+
+    public static Vector fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        int dimension = Byte.toUnsignedInt(buffer.get());
+        double[] decoded = new double[dimension];
+
+        if (format == FORMAT_BITMASK) {
+            int mask = buffer.getInt();
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                decoded[Integer.numberOfTrailingZeros(bits)] = 1.0;
+            }
+        } else if (format == FORMAT_FLOAT64) {
+            for (int i = 0; i < dimension; i++) {
+                decoded[i] = buffer.getDouble();
+            }
+        } else {
+            throw new VectorException(VectorErrorCode.UNAVAILABLE_INPUT);
+        }
+        return new Vector(decoded);
     }
 
     public static Vector fromString(String vectorString) {
-        List<Double> elements = Stream.of(vectorString.replace("[", "").replace("]", "").split(",")).map(String::trim).map(Double::parseDouble).collect(Collectors.toList());
-        return new Vector(elements);
+        int start = vectorString.indexOf('[') + 1;
+        int end = vectorString.lastIndexOf(']');
+        if (end < 0) {
+            end = vectorString.length();
+        }
+
+        double[] parsed = new double[16];
+        int size = 0;
+        int tokenStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || vectorString.charAt(i) == ',') {
+                String token = vectorString.substring(tokenStart, i).trim();
+                tokenStart = i + 1;
+                if (token.isEmpty() && i == end && size == 0) {
+                    break; // "[]"
+                }
+                if (size == parsed.length) {
+                    parsed = Arrays.copyOf(parsed, size * 2);
+                }
+                parsed[size++] = Double.parseDouble(token);
+            }
+        }
+        return new Vector(Arrays.copyOf(parsed, size));
     }
 
     //GENRE -> VECTOR
     public static Vector fromGenres(Map<String, Double> preferenceMap) {
-        List<Double> elements = ALL_GENRES.stream()
-                .map(pref -> preferenceMap.getOrDefault(pref, 0.0))
-                .collect(Collectors.toList());
+        double[] elements = new double[ALL_GENRES.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = preferenceMap.getOrDefault(ALL_GENRES.get(i), 0.0);
+        }
         return new Vector(elements);
     }
 
     //MOOD -> VECTOR
     public static Vector fromMoods(Map<String, Double> preferenceMap) {
-        List<Double> elements = ALL_MOODS.stream()
-                .map(pref -> preferenceMap.getOrDefault(pref, 0.0))
-                .collect(Collectors.toList());
+        double[] elements = new double[ALL_MOODS.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = preferenceMap.getOrDefault(ALL_MOODS.get(i), 0.0);
+        }
         return new Vector(elements);
     }
 
     public static List<String> getTrueMoodElements(Vector vector) {
-        List<String> trueMoods = new ArrayList<>();
-        for (int i = 0; i < vector.elements.size(); i++) {
-            if (vector.elements.get(i) == 1.0) {
-                if (i < ALL_MOODS.size()) {
-                    trueMoods.add(ALL_MOODS.get(i));
-                } else {
-                    break;
-                }
-            }
-        }
-        return trueMoods;
+        return MOOD_TAG_TABLE.get(vector.tagMask & MOOD_MASK);
     }
 
     public static List<String> getTrueGenreElements(Vector vector) {
-        List<String> trueGenres = new ArrayList<>();
-        for (int i = 0; i < vector.elements.size(); i++) {
-            if (vector.elements.get(i) == 1.0) {
-                if (i < ALL_GENRES.size()) {
-                    trueGenres.add(ALL_GENRES.get(i));
-                } else {
-                    break;
-                }
-            }
+        return GENRE_TAG_TABLE.get(vector.tagMask & GENRE_MASK);
+    }
+
+    public static int genreBit(String genre) {
+        return 1 << getGenreIndex(genre);
+    }
+
+    public static int moodBit(String mood) {
+        return 1 << (MOOD_BIT_OFFSET + getMoodIndex(mood));
+    }
+
+    /**
+     * 장르/무드 벡터를 병합 벡터와 같은 비트 배치(장르 0~9, 무드 10~18)의 마스크로 합친다.
+     */
+    public static int mergeTagMasks(Vector genreVector, Vector moodVector) {
+        return (genreVector.tagMask & GENRE_MASK) | ((moodVector.tagMask & MOOD_MASK) << MOOD_BIT_OFFSET);
+    }
+
+    /**
+     * 0/1 벡터끼리의 코사인 유사도 = |A∩B| / sqrt(|A|·|B|). 어느 한쪽이 비어 있으면 0.
+     */
+    public static double binaryCosineSimilarity(int maskA, int maskB) {
+        int countA = Integer.bitCount(maskA);
+        int countB = Integer.bitCount(maskB);
+        if (countA == 0 || countB == 0) {
+            return 0.0;
         }
-        return trueGenres;
+        return Integer.bitCount(maskA & maskB) / Math.sqrt((double) countA * countB);
     }
 
     public static String inputGenreVector(List<String> inputGenre) {
@@ -161,12 +394,43 @@ public class Vector {
         }
     }
 
+    /**
+     * 두 벡터를 이어 붙인다. 박싱 없이 배열 복사 한 번이며, norm 은 두 벡터의 norm 으로부터 바로 계산한다.
+     */
     public static Vector mergeVectors(Vector genreVector, Vector moodVector) {
-        List<Double> mergedElements = new ArrayList<>();
-        mergedElements.addAll(genreVector.getElements());
-        mergedElements.addAll(moodVector.getElements());
-        return new Vector(mergedElements);
+        double[] merged = new double[genreVector.length + moodVector.length];
+        System.arraycopy(genreVector.values, genreVector.offset, merged, 0, genreVector.length);
+        System.arraycopy(moodVector.values, moodVector.offset, merged, genreVector.length, moodVector.length);
+        double mergedNorm = Math.sqrt(genreVector.norm * genreVector.norm + moodVector.norm * moodVector.norm);
+        return new Vector(merged, 0, merged.length, mergedNorm);
     }
 
-}
+    private static List<List<String>> buildTagTable(List<String> names) {
+        List<List<String>> table = new ArrayList<>(1 << names.size());
+        for (int mask = 0; mask < (1 << names.size()); mask++) {
+            List<String> tags = new ArrayList<>(Integer.bitCount(mask));
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                tags.add(names.get(Integer.numberOfTrailingZeros(bits)));
+            }
+            table.add(List.copyOf(tags));
+        }
+        return table;
+    }
+
+    private static double[] toArray(List<Double> elements) {
+        double[] array = new double[elements.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = elements.get(i);
+        }
+        return array;
+    }
+
+    private static double computeNorm(double[] values, int offset, int length) {
+        double sum = 0.0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += values[i] * values[i];
+        }
+        return Math.sqrt(sum);
+    }
 
+}
@@ -14,7 +14,8 @@ public enum VectorErrorCode implements ApiCode {
     TAGS_EMPTY(HttpStatus.BAD_REQUEST, "필터링할 키워드가 비어 있습니다."),
     UNAVAILABLE_GENRE(HttpStatus.NOT_FOUND, "사용자가 취향으로 선택했던 장르 태그에 해당하지 않는 장르입니다."),
     UNAVAILABLE_MOOD(HttpStatus.NOT_FOUND, "사용자가 취향으로 선택했던 무드 태그에 해당하지 않는 무드입니다."),
-    UNAVAILABLE_INPUT(HttpStatus.BAD_REQUEST, "input값이 리스트에 존재하지 않습니다. DB에 input이 불가능한 값입니다.");
+    UNAVAILABLE_INPUT(HttpStatus.BAD_REQUEST, "input값이 리스트에 존재하지 않습니다. DB에 input이 불가능한 값입니다."),
+    INVALID_BLEND_WEIGHT(HttpStatus.BAD_REQUEST, "추천 가중치는 0 이상 1 이하여야 합니다.");
     private final HttpStatus httpStatus;
     private final String message;
 
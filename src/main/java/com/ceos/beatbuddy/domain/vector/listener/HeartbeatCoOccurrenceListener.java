@@ -0,0 +1,62 @@
+package com.ceos.beatbuddy.domain.vector.listener;
+
+import com.ceos.beatbuddy.domain.heartbeat.entity.HeartbeatChangedEvent;
+import com.ceos.beatbuddy.domain.vector.application.HeartbeatCoOccurrenceModel;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisKeyUtil;
+import com.ceos.beatbuddy.global.broadcast.InstanceBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 하트비트 변경을 이 인스턴스의 동시 출현 모델에 반영하고, 채널로 알려서 다른 인스턴스의 모델도 같이 갱신한다.
+ * 놓친 메시지는 HeartbeatCoOccurrenceRebuildScheduler 의 주기적인 재적재로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HeartbeatCoOccurrenceListener {
+
+    private final HeartbeatCoOccurrenceModel heartbeatCoOccurrenceModel;
+    private final InstanceBroadcaster instanceBroadcaster;
+
+    @PostConstruct
+    void subscribe() {
+        instanceBroadcaster.subscribe(RecommendationRedisKeyUtil.HEARTBEAT_CHANNEL, this::handleRemoteChange);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleHeartbeatChanged(HeartbeatChangedEvent event) {
+        apply(event.memberId(), event.venueId(), event.added());
+        String message = String.join(":", event.memberId().toString(), event.venueId().toString(),
+                event.added() ? "1" : "0");
+        try {
+            instanceBroadcaster.publish(RecommendationRedisKeyUtil.HEARTBEAT_CHANNEL, message);
+        } catch (Exception e) {
+            log.error("하트비트 변경 전파 실패 - memberId: {}, venueId: {}", event.memberId(), event.venueId(), e);
+        }
+    }
+
+    private void handleRemoteChange(String message) {
+        String[] parts = message.split(":");
+        if (parts.length != 3) {
+            return;
+        }
+        apply(Long.valueOf(parts[0]), Long.valueOf(parts[1]), "1".equals(parts[2]));
+    }
+
+    private void apply(Long memberId, Long venueId, boolean added) {
+        try {
+            if (added) {
+                heartbeatCoOccurrenceModel.addHeartbeat(memberId, venueId);
+            } else {
+                heartbeatCoOccurrenceModel.removeHeartbeat(memberId, venueId);
+            }
+        } catch (Exception e) {
+            log.error("하트비트 동시 출현 모델 갱신 실패 - memberId: {}, venueId: {}", memberId, venueId, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ceos.beatbuddy.domain.vector.listener;
+
+import com.ceos.beatbuddy.domain.archive.entity.ArchiveChangedEvent;
+import com.ceos.beatbuddy.domain.member.entity.MemberRegionChangedEvent;
+import com.ceos.beatbuddy.domain.vector.application.RecommendationCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아카이브/지역 변경 시 추천 순위 캐시를 비운다. 베뉴 벡터 변경은 VenueVectorIndexListener 가 인덱스 갱신 뒤에 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationCacheListener {
+
+    private final RecommendationCache recommendationCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleArchiveChanged(ArchiveChangedEvent event) {
+        recommendationCache.evictArchive(event.memberId(), event.archiveId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMemberRegionChanged(MemberRegionChangedEvent event) {
+        recommendationCache.evictMember(event.memberId());
+    }
+}
@@ -0,0 +1,56 @@
+package com.ceos.beatbuddy.domain.vector.listener;
+
+import com.ceos.beatbuddy.domain.vector.application.RecommendationCache;
+import com.ceos.beatbuddy.domain.vector.application.VenueSimilarityIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisKeyUtil;
+import com.ceos.beatbuddy.domain.venue.entity.VenueVectorChangedEvent;
+import com.ceos.beatbuddy.global.broadcast.InstanceBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 베뉴 벡터가 바뀌면 이 인스턴스의 인덱스를 갱신하고, 채널로 알려서 다른 인스턴스도 같은 베뉴를 다시 적재하게 한다.
+ * 추천 순위 캐시는 각 인스턴스가 인덱스를 갱신한 뒤에 무효화해서, 이전 벡터로 계산한 순위가 새 generation 으로 저장되지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VenueVectorIndexListener {
+
+    private final VenueVectorIndex venueVectorIndex;
+    private final VenueSimilarityIndex venueSimilarityIndex;
+    private final RecommendationCache recommendationCache;
+    private final InstanceBroadcaster instanceBroadcaster;
+
+    @PostConstruct
+    void subscribe() {
+        instanceBroadcaster.subscribe(RecommendationRedisKeyUtil.VENUE_VECTOR_CHANNEL,
+                venueId -> refresh(Long.valueOf(venueId)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleVenueVectorChanged(VenueVectorChangedEvent event) {
+        refresh(event.venueId());
+        try {
+            instanceBroadcaster.publish(RecommendationRedisKeyUtil.VENUE_VECTOR_CHANNEL, event.venueId().toString());
+        } catch (Exception e) {
+            // 다른 인스턴스는 주기적인 다시 적재 때 반영된다
+            log.error("베뉴 벡터 변경 전파 실패 - venueId: {}", event.venueId(), e);
+        }
+    }
+
+    private void refresh(Long venueId) {
+        try {
+            venueVectorIndex.refresh(venueId);
+            venueSimilarityIndex.refresh(venueId);
+            recommendationCache.invalidateAll();
+        } catch (Exception e) {
+            log.error("베뉴 벡터 인덱스 갱신 실패 - venueId: {}", venueId, e);
+        }
+    }
+}
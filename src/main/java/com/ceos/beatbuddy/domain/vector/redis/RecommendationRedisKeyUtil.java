@@ -0,0 +1,26 @@
+package com.ceos.beatbuddy.domain.vector.redis;
+
+public class RecommendationRedisKeyUtil {
+
+    public static final String GENERATION_KEY = "recommend_rank_generation";
+    public static final String PRECOMPUTE_CURSOR_KEY = "recommend_precompute_cursor";
+    public static final String PRECOMPUTE_LOCK_KEY = "recommend_precompute_lock";
+
+    // 베뉴 벡터가 바뀌었으니 로컬 인덱스를 다시 적재하라는 메시지 채널 (InstanceBroadcaster payload "{venueId}")
+    public static final String VENUE_VECTOR_CHANNEL = "venue_vector:changed";
+
+    // 다른 인스턴스의 로컬 추천 순위를 비우라는 메시지 채널 (InstanceBroadcaster payload "archive:3", "member:12")
+    public static final String RANKING_INVALIDATION_CHANNEL = "recommend_rank:invalidate";
+
+    // 하트비트 추가/삭제를 다른 인스턴스의 동시 출현 모델에 전하는 채널 (InstanceBroadcaster payload "{memberId}:{venueId}:{1|0}")
+    public static final String HEARTBEAT_CHANNEL = "heartbeat_cooccurrence:changed";
+
+    // 회원별 해시: field = archiveId:regionMask
+    public static String getMemberKey(Long memberId) {
+        return String.format("recommend_rank:%d", memberId);
+    }
+
+    public static String getField(Long archiveId, int regionMask) {
+        return String.format("%d:%d", archiveId, regionMask);
+    }
+}
@@ -0,0 +1,135 @@
+package com.ceos.beatbuddy.domain.vector.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 추천 순위의 Redis 저장소 (RecommendationCache 의 2차 캐시, 야간 사전 계산 결과 저장소).
+ * 값은 "generation|depth|id,id,..." 형식이고, 베뉴 벡터가 바뀌면 generation 을 올려 이전 순위를 모두 무효로 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationRedisStore {
+
+    private static final Duration TTL = Duration.ofHours(26);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public record StoredRanking(int depth, List<Long> venueIds) {
+    }
+
+    public record RankingWrite(Long memberId, Long archiveId, int regionMask, int depth, List<Long> venueIds) {
+    }
+
+    /**
+     * generation 조회와 순위 조회를 한 번의 파이프라인으로 처리한다.
+     */
+    public Optional<StoredRanking> get(Long memberId, Long archiveId, int regionMask) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(bytes(RecommendationRedisKeyUtil.GENERATION_KEY));
+            connection.hashCommands().hGet(bytes(RecommendationRedisKeyUtil.getMemberKey(memberId)),
+                    bytes(RecommendationRedisKeyUtil.getField(archiveId, regionMask)));
+            return null;
+        });
+        String generation = results.get(0) == null ? "0" : (String) results.get(0);
+        String value = (String) results.get(1);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.split("\\|", 3);
+        if (parts.length < 3 || !parts[0].equals(generation)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredRanking(Integer.parseInt(parts[1]), parseIds(parts[2])));
+    }
+
+    /**
+     * 여러 회원의 순위를 한 번의 파이프라인으로 저장한다. generation 은 순위를 계산하기 전에 읽은 값이어야 한다.
+     */
+    public void putAll(List<RankingWrite> rankings, long generation) {
+        if (rankings.isEmpty()) {
+            return;
+        }
+        long ttlSeconds = TTL.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RankingWrite ranking : rankings) {
+                byte[] key = bytes(RecommendationRedisKeyUtil.getMemberKey(ranking.memberId()));
+                connection.hashCommands().hSet(key,
+                        bytes(RecommendationRedisKeyUtil.getField(ranking.archiveId(), ranking.regionMask())),
+                        bytes(generation + "|" + ranking.depth() + "|" + joinIds(ranking.venueIds())));
+                connection.keyCommands().expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    public void evictMember(Long memberId) {
+        redisTemplate.delete(RecommendationRedisKeyUtil.getMemberKey(memberId));
+    }
+
+    public long currentGeneration() {
+        String generation = redisTemplate.opsForValue().get(RecommendationRedisKeyUtil.GENERATION_KEY);
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    public void bumpGeneration() {
+        redisTemplate.opsForValue().increment(RecommendationRedisKeyUtil.GENERATION_KEY);
+    }
+
+    // ============================ 사전 계산 진행 상태 ============================
+
+    public Optional<Long> loadPrecomputeCursor() {
+        String cursor = redisTemplate.opsForValue().get(RecommendationRedisKeyUtil.PRECOMPUTE_CURSOR_KEY);
+        return Optional.ofNullable(cursor).map(Long::parseLong);
+    }
+
+    public void savePrecomputeCursor(Long memberId) {
+        redisTemplate.opsForValue().set(RecommendationRedisKeyUtil.PRECOMPUTE_CURSOR_KEY, String.valueOf(memberId), TTL);
+    }
+
+    public void clearPrecomputeCursor() {
+        redisTemplate.delete(RecommendationRedisKeyUtil.PRECOMPUTE_CURSOR_KEY);
+    }
+
+    public boolean tryLockPrecompute(Duration timeout) {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(RecommendationRedisKeyUtil.PRECOMPUTE_LOCK_KEY, "1", timeout);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    public void unlockPrecompute() {
+        redisTemplate.delete(RecommendationRedisKeyUtil.PRECOMPUTE_LOCK_KEY);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String joinIds(List<Long> venueIds) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Long venueId : venueIds) {
+            joiner.add(String.valueOf(venueId));
+        }
+        return joiner.toString();
+    }
+
+    private static List<Long> parseIds(String value) {
+        if (value.isEmpty()) {
+            return List.of();
+        }
+        String[] tokens = value.split(",");
+        List<Long> venueIds = new ArrayList<>(tokens.length);
+        for (String token : tokens) {
+            venueIds.add(Long.parseLong(token));
+        }
+        return venueIds;
+    }
+}
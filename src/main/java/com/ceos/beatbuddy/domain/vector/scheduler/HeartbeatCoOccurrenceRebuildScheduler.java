@@ -0,0 +1,28 @@
+package com.ceos.beatbuddy.domain.vector.scheduler;
+
+import com.ceos.beatbuddy.domain.vector.application.HeartbeatCoOccurrenceModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시 출현 모델을 DB 의 하트비트 기준으로 다시 만든다.
+ * 변경 메시지를 놓쳤거나 리스너가 실패한 인스턴스도 하루 안에 다른 인스턴스와 같은 모델을 갖게 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartbeatCoOccurrenceRebuildScheduler {
+
+    private final HeartbeatCoOccurrenceModel heartbeatCoOccurrenceModel;
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul") // 매일 새벽 3시 30분
+    public void rebuildSafely() {
+        try {
+            heartbeatCoOccurrenceModel.load();
+        } catch (Exception e) {
+            log.error("❌ 하트비트 동시 출현 모델 재적재 실패", e);
+        }
+    }
+}
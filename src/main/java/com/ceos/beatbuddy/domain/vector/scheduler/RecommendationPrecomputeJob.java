@@ -0,0 +1,162 @@
+package com.ceos.beatbuddy.domain.vector.scheduler;
+
+import com.ceos.beatbuddy.domain.archive.entity.Archive;
+import com.ceos.beatbuddy.domain.archive.repository.ArchiveRepository;
+import com.ceos.beatbuddy.domain.member.entity.Member;
+import com.ceos.beatbuddy.domain.member.repository.MemberRepository;
+import com.ceos.beatbuddy.domain.vector.application.RecommendationCache;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.ScoredVenue;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisStore;
+import com.ceos.beatbuddy.domain.vector.redis.RecommendationRedisStore.RankingWrite;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 야간에 회원별 현재 아카이브의 추천 순위를 미리 계산해 Redis 에 적재한다.
+ * 회원을 id 순으로 CHUNK_SIZE 씩 읽어 전용 ForkJoinPool 에서 병렬로 순위를 구하고, 청크 단위로 파이프라인 저장한다.
+ * 청크마다 마지막 회원 id 를 커서로 남기므로 중간에 멈추면 다음 실행이 그 지점부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class RecommendationPrecomputeJob {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(2);
+
+    private final MemberRepository memberRepository;
+    private final ArchiveRepository archiveRepository;
+    private final VenueVectorIndex venueVectorIndex;
+    private final RecommendationRedisStore recommendationRedisStore;
+    private final int depth;
+
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong cursorGauge;
+
+    public RecommendationPrecomputeJob(MemberRepository memberRepository,
+                                       ArchiveRepository archiveRepository,
+                                       VenueVectorIndex venueVectorIndex,
+                                       RecommendationRedisStore recommendationRedisStore,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${recommend.precompute.depth:20}") int depth) {
+        this.memberRepository = memberRepository;
+        this.archiveRepository = archiveRepository;
+        this.venueVectorIndex = venueVectorIndex;
+        this.recommendationRedisStore = recommendationRedisStore;
+        this.depth = depth;
+        this.processedCounter = meterRegistry.counter("recommend.precompute.members", "result", "success");
+        this.failedCounter = meterRegistry.counter("recommend.precompute.members", "result", "failed");
+        this.cursorGauge = meterRegistry.gauge("recommend.precompute.cursor", new AtomicLong());
+    }
+
+    public record PrecomputeResult(long processed, long failed, Long lastMemberId) {
+    }
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul") // 매일 새벽 4시
+    public void precomputeNightly() {
+        if (!recommendationRedisStore.tryLockPrecompute(LOCK_TIMEOUT)) {
+            log.info("추천 사전 계산이 다른 인스턴스에서 실행 중입니다");
+            return;
+        }
+        try {
+            Long fromMemberId = recommendationRedisStore.loadPrecomputeCursor().orElse(0L);
+            PrecomputeResult result = run(fromMemberId, Long.MAX_VALUE);
+            recommendationRedisStore.clearPrecomputeCursor();
+            log.info("✅ 추천 사전 계산 완료 - 성공 {}건, 실패 {}건", result.processed(), result.failed());
+        } catch (Exception e) {
+            log.error("❌ 추천 사전 계산 실패 - 다음 실행에서 커서부터 재개합니다", e);
+        } finally {
+            recommendationRedisStore.unlockPrecompute();
+        }
+    }
+
+    /**
+     * (fromMemberId, toMemberId] 구간의 회원을 처리한다. 수동 재실행이나 구간 분할 실행에도 쓴다.
+     */
+    public PrecomputeResult run(Long fromMemberId, Long toMemberId) {
+        log.info("🔄 추천 사전 계산 시작 - memberId ({}, {}]", fromMemberId, toMemberId);
+        long processed = 0;
+        long failed = 0;
+        Long cursor = fromMemberId;
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        try {
+            while (true) {
+                List<Member> members = memberRepository.findRecommendationTargets(cursor, toMemberId, PageRequest.of(0, CHUNK_SIZE));
+                if (members.isEmpty()) {
+                    break;
+                }
+
+                // 계산 전에 읽어야 계산 도중 베뉴 벡터가 바뀐 경우 저장된 순위가 무효로 남는다
+                long generation = recommendationRedisStore.currentGeneration();
+                List<RankingWrite> rankings = computeChunk(pool, members);
+                recommendationRedisStore.putAll(rankings, generation);
+
+                int chunkFailed = members.size() - rankings.size();
+                processed += rankings.size();
+                failed += chunkFailed;
+                processedCounter.increment(rankings.size());
+                failedCounter.increment(chunkFailed);
+
+                cursor = members.get(members.size() - 1).getId();
+                recommendationRedisStore.savePrecomputeCursor(cursor);
+                cursorGauge.set(cursor);
+                log.info("📍 추천 사전 계산 진행 - 커서 memberId={}, 누적 성공 {}건, 실패 {}건", cursor, processed, failed);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return new PrecomputeResult(processed, failed, cursor);
+    }
+
+    private List<RankingWrite> computeChunk(ForkJoinPool pool, List<Member> members) {
+        List<Long> archiveIds = members.stream().map(Member::getLatestArchiveId).toList();
+        Map<Long, Archive> archives = archiveRepository.findAllWithPreferenceByIdIn(archiveIds).stream()
+                .collect(Collectors.toMap(Archive::getId, Function.identity()));
+
+        try {
+            return pool.submit(() -> members.parallelStream()
+                    .map(member -> compute(member, archives.get(member.getLatestArchiveId())))
+                    .filter(Objects::nonNull)
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("추천 사전 계산이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("추천 사전 계산 청크 처리 실패", e.getCause());
+        }
+    }
+
+    private RankingWrite compute(Member member, Archive archive) {
+        if (archive == null || member.getRegions() == null || member.getRegions().isEmpty()) {
+            return null;
+        }
+        try {
+            Vector memberVector = Vector.mergeVectors(archive.getMemberGenre().getGenreVector(), archive.getMemberMood().getMoodVector());
+            List<Long> venueIds = venueVectorIndex.findTopK(memberVector, member.getRegions(), depth).stream()
+                    .map(ScoredVenue::venueId)
+                    .toList();
+            return new RankingWrite(member.getId(), archive.getId(), RecommendationCache.regionMask(member.getRegions()), depth, venueIds);
+        } catch (Exception e) {
+            log.warn("추천 사전 계산 실패 - memberId: {}", member.getId(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ceos.beatbuddy.domain.vector.scheduler;
+
+import com.ceos.beatbuddy.domain.vector.application.RecommendationCache;
+import com.ceos.beatbuddy.domain.vector.application.VenueSimilarityIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 베뉴 벡터 인덱스를 DB 기준으로 다시 적재한다.
+ * 변경 메시지를 놓친 인스턴스(Redis 장애, 구독 전 변경)도 최대 한 시간 안에 같은 벡터를 보게 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VenueVectorReloadScheduler {
+
+    private final VenueVectorIndex venueVectorIndex;
+    private final VenueSimilarityIndex venueSimilarityIndex;
+    private final RecommendationCache recommendationCache;
+
+    @Scheduled(cron = "0 15 * * * *", zone = "Asia/Seoul") // 매시 15분
+    public void reloadSafely() {
+        try {
+            long before = venueVectorIndex.version();
+            venueVectorIndex.reload();
+            if (venueVectorIndex.version() != before) {
+                venueSimilarityIndex.rebuild();
+                recommendationCache.invalidateAll();
+                log.info("✅ 베뉴 벡터 인덱스 변경 반영 완료");
+            }
+        } catch (Exception e) {
+            log.error("❌ 베뉴 벡터 인덱스 다시 적재 실패", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ceos.beatbuddy.domain.venue.application;
+
+import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex;
+import com.ceos.beatbuddy.domain.vector.application.VenueVectorIndex.VenueVectorEntry;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.dto.VenueResponseDTO;
+import com.ceos.beatbuddy.domain.venue.entity.Venue;
+import com.ceos.beatbuddy.domain.venue.repository.VenueRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueVectorRow;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 추천/하트비트/검색에서 공통으로 쓰는 베뉴 카드(VenueResponseDTO) 조립기.
+ * 베뉴 N개에 대해 장르/무드/하트비트를 베뉴마다 조회하지 않고 IN 쿼리로 한 번에 가져온다.
+ * 카드 N개를 만드는 데 쿼리는 최대 3번이다.
+ * - 베뉴: findByIdIn 1회 (Venue 목록을 넘기면 생략)
+ * - 태그: VenueVectorIndex 에서 조회, 인덱스에 없는 베뉴만 장르/무드를 한 쿼리로 조회
+ * - 하트비트: 회원이 하트비트한 venueId 만 1회 조회, 하트비트 수는 아직 반영되지 않은 증감을 더해서 보여준다
+ */
+@Component
+@RequiredArgsConstructor
+public class VenueCardAssembler {
+
+    private final VenueRepository venueRepository;
+    private final HeartbeatRepository heartbeatRepository;
+    private final VenueVectorIndex venueVectorIndex;
+    private final WriteBehindCounterService writeBehindCounterService;
+
+    /**
+     * venueIds 순서대로 카드를 만든다. 존재하지 않는 베뉴는 건너뛴다.
+     */
+    public List<VenueResponseDTO> assembleByIds(List<Long> venueIds, Long memberId) {
+        if (venueIds == null || venueIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Venue> venueMap = venueRepository.findByIdIn(venueIds).stream()
+                .collect(Collectors.toMap(Venue::getId, Function.identity()));
+
+        List<Venue> venues = venueIds.stream()
+                .map(venueMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return assemble(venues, memberId);
+    }
+
+    /**
+     * 이미 조회한 베뉴 목록을 그 순서대로 카드로 만든다.
+     */
+    public List<VenueResponseDTO> assemble(List<Venue> venues, Long memberId) {
+        if (venues.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> venueIds = venues.stream()
+                .map(Venue::getId)
+                .toList();
+
+        Map<Long, List<String>> tagMap = findTags(venueIds);
+        Set<Long> heartbeatVenueIds = memberId == null
+                ? Set.of()
+                : heartbeatRepository.findVenueIdsByMemberIdAndVenueIdIn(memberId, venueIds);
+
+        return venues.stream()
+                .map(venue -> {
+                    List<String> tagList = new ArrayList<>(tagMap.getOrDefault(venue.getId(), List.of()));
+                    tagList.add(venue.getRegion().getText());
+
+                    return VenueResponseDTO.builder()
+                            .tagList(tagList)
+                            .venueId(venue.getId())
+                            .koreanName(venue.getKoreanName())
+                            .englishName(venue.getEnglishName())
+                            .heartbeatNum(writeBehindCounterService.overlay(CounterType.VENUE_HEARTBEATS, venue.getId(), venue.getHeartbeatNum()))
+                            .logoUrl(venue.getLogoUrl())
+                            .backgroundUrl(venue.getBackgroundUrl())
+                            .isHeartbeat(heartbeatVenueIds.contains(venue.getId()))
+                            .isSmokingAllowed(venue.isSmokingAllowed())
+                            .isFreeEntrance(venue.isFreeEntrance())
+                            .address(venue.getAddress())
+                            .latitude(venue.getLatitude())
+                            .longitude(venue.getLongitude())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // venueId -> 장르 태그 + 무드 태그
+    private Map<Long, List<String>> findTags(List<Long> venueIds) {
+        Map<Long, List<String>> tagMap = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long venueId : venueIds) {
+            Optional<VenueVectorEntry> entry = venueVectorIndex.get(venueId);
+            if (entry.isPresent()) {
+                tagMap.put(venueId, toTags(entry.get().genreVector(), entry.get().moodVector()));
+            } else {
+                missingIds.add(venueId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            // 장르나 무드 벡터가 아직 없는 베뉴는 인덱스에 없으므로 DB 에서 있는 것만 가져온다
+            for (VenueVectorRow row : venueRepository.findVectorsByIdIn(missingIds)) {
+                tagMap.putIfAbsent(row.getVenueId(), toTags(
+                        row.getVenueGenre() != null ? row.getVenueGenre().getGenreVector() : null,
+                        row.getVenueMood() != null ? row.getVenueMood().getMoodVector() : null));
+            }
+        }
+        return tagMap;
+    }
+
+    private List<String> toTags(Vector genreVector, Vector moodVector) {
+        List<String> tags = new ArrayList<>();
+        if (genreVector != null) {
+            tags.addAll(Vector.getTrueGenreElements(genreVector));
+        }
+        if (moodVector != null) {
+            tags.addAll(Vector.getTrueMoodElements(moodVector));
+        }
+        return tags;
+    }
+}
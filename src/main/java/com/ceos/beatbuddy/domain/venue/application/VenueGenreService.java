@@ -4,10 +4,12 @@ import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.domain.venue.dto.VenueVectorResponseDTO;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueVectorChangedEvent;
 import com.ceos.beatbuddy.domain.venue.exception.VenueErrorCode;
 import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class VenueGenreService {
     private final VenueInfoService venueInfoService;
     private final VenueGenreRepository venueGenreRepository;
     private final VenueSearchService venueSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Adds a new genre vector for the specified venue and returns the resulting vector information.
@@ -45,6 +48,7 @@ public class VenueGenreService {
                 venueGenre,
                 null
         );
+        eventPublisher.publishEvent(new VenueVectorChangedEvent(venue.getId()));
 
         return VenueVectorResponseDTO.builder()
                 .vectorString(venueGenre.getGenreVectorString())
@@ -80,6 +84,7 @@ public class VenueGenreService {
                 venueGenre,
                 null
         );
+        eventPublisher.publishEvent(new VenueVectorChangedEvent(venue.getId()));
         return VenueVectorResponseDTO.builder()
                 .vectorString(venueGenre.getGenreVectorString())
                 .venueId(venue.getId())
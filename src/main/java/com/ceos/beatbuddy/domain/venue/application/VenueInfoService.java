@@ -12,14 +12,17 @@ import com.ceos.beatbuddy.domain.event.repository.EventRepository;
 import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
+import com.ceos.beatbuddy.domain.vector.application.VenueSimilarityIndex;
 import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.domain.venue.dto.VenueInfoOptimizedData;
 import com.ceos.beatbuddy.domain.venue.dto.VenueInfoResponseDTO;
 import com.ceos.beatbuddy.domain.venue.dto.VenueRequestDTO;
+import com.ceos.beatbuddy.domain.venue.dto.VenueResponseDTO;
 import com.ceos.beatbuddy.domain.venue.dto.VenueUpdateDTO;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
 import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import com.ceos.beatbuddy.domain.venue.entity.VenueVectorChangedEvent;
 import com.ceos.beatbuddy.domain.venue.exception.VenueErrorCode;
 import com.ceos.beatbuddy.domain.venue.exception.VenueGenreErrorCode;
 import com.ceos.beatbuddy.domain.venue.exception.VenueMoodErrorCode;
@@ -33,6 +36,7 @@ import com.ceos.beatbuddy.global.code.ErrorCode;
 import com.ceos.beatbuddy.global.util.UploadUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -70,6 +74,9 @@ public class VenueInfoService {
     private final EventRepository eventRepository;
     private final KakaoLocalClient kakaoLocalClient;
     private final VenueInfoQueryRepository venueInfoQueryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VenueSimilarityIndex venueSimilarityIndex;
+    private final VenueCardAssembler venueCardAssembler;
 
     private final UploadUtil uploadUtil;
     public List<Venue> getVenueInfoList() {
@@ -92,6 +99,23 @@ public class VenueInfoService {
                 .build();
     }
 
+    /**
+     * 같은 지역에서 장르/무드가 비슷한 베뉴 목록. 이웃은 VenueSimilarityIndex 에 미리 계산되어 있다.
+     */
+    public List<VenueResponseDTO> getSimilarVenues(Long venueId, Long memberId, int size) {
+        if (size < 1) {
+            throw new CustomException(ErrorCode.PAGE_OUT_OF_BOUNDS);
+        }
+        memberService.validateAndGetMember(memberId);
+        if (!venueRepository.existsById(venueId)) {
+            throw new CustomException(VenueErrorCode.VENUE_NOT_EXIST);
+        }
+
+        List<Long> similarVenueIds = venueSimilarityIndex.getSimilarVenueIds(venueId,
+                Math.min(size, VenueSimilarityIndex.MAX_NEIGHBOURS));
+        return venueCardAssembler.assembleByIds(similarVenueIds, memberId);
+    }
+
     @Transactional
     public Long deleteVenueInfo(Long venueId) {
         Venue venue = venueRepository.findById(venueId)
@@ -101,6 +125,7 @@ public class VenueInfoService {
 
         Long deletedCount = venueRepository.deleteByVenueId(venueId);
         venueSearchService.delete(venueId); // DB 삭제 후 ES 삭제
+        eventPublisher.publishEvent(new VenueVectorChangedEvent(venueId));
         return deletedCount;
     }
 
@@ -198,6 +223,7 @@ public class VenueInfoService {
 
         venue.update(dto);
         venueSearchService.save(venue, null, null); // Venue 정보를 Elasticsearch에 저장
+        eventPublisher.publishEvent(new VenueVectorChangedEvent(venueId)); // 지역 변경 시 추천 인덱스 파티션 이동
     }
 
     public EventListResponseDTO getVenueEventsLatest(Long venueId, Long memberId, int page, int size) {
@@ -4,10 +4,12 @@ import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.domain.venue.dto.VenueVectorResponseDTO;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import com.ceos.beatbuddy.domain.venue.entity.VenueVectorChangedEvent;
 import com.ceos.beatbuddy.domain.venue.exception.VenueErrorCode;
 import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class VenueMoodService {
     private final VenueInfoService venueInfoService;
     private final VenueMoodRepository venueMoodRepository;
     private final VenueSearchService venueSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Adds a new mood vector for the specified venue and returns the resulting vector details.
@@ -47,6 +50,7 @@ public class VenueMoodService {
                 null,
                 venueMood
         );
+        eventPublisher.publishEvent(new VenueVectorChangedEvent(venue.getId()));
         return VenueVectorResponseDTO.builder()
                 .vectorString(venueMood.getMoodVectorString())
                 .venueId(venue.getId())
@@ -81,6 +85,7 @@ public class VenueMoodService {
                 null,
                 venueMood
         );
+        eventPublisher.publishEvent(new VenueVectorChangedEvent(venue.getId()));
         return VenueVectorResponseDTO.builder()
                 .vectorString(venueMood.getMoodVectorString())
                 .venueId(venue.getId())
@@ -1,6 +1,5 @@
 package com.ceos.beatbuddy.domain.venue.application;
 
-import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
 import com.ceos.beatbuddy.domain.member.application.MemberService;
 import com.ceos.beatbuddy.domain.member.entity.Member;
 import com.ceos.beatbuddy.domain.scrapandlike.entity.VenueReviewLike;
@@ -15,7 +14,10 @@ import com.ceos.beatbuddy.domain.venue.repository.VenueReviewQueryRepository;
 import com.ceos.beatbuddy.domain.venue.repository.VenueReviewRepository;
 import com.ceos.beatbuddy.global.CustomException;
 import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.CounterType;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
 import com.ceos.beatbuddy.global.service.ImageUploadService;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
 import com.ceos.beatbuddy.global.util.UploadResult;
 import com.ceos.beatbuddy.global.util.UploadUtil;
 import lombok.RequiredArgsConstructor;
@@ -40,43 +42,47 @@ public class VenueReviewService {
     private final ImageUploadService imageUploadService;
     private final VenueReviewQueryRepository venueReviewQueryRepository;
     private final VenueReviewLikeRepository venueReviewLikeRepository;
-    private final FollowRepository followRepository;
+    private final WriteBehindCounterService writeBehindCounterService;
+    private final SocialGraphCache socialGraphCache;
 
 
     private static final String REVIEW_FOLDER = "review";
 
-    @Transactional
+    // 업로드 동안 DB 커넥션을 잡지 않도록 업로드를 먼저 하고, 조회와 저장은 짧은 트랜잭션에서 한다
     public VenueReviewResponseDTO createVenueReview(Long venueId, Long memberId, VenueReviewRequestDTO dto, List<MultipartFile> images) {
         // 이미지 개수 검사
         if (images != null && images.stream().filter(file -> file != null && !file.isEmpty()).count() > 5) {
             throw new CustomException(ErrorCode.TOO_MANY_IMAGES_5);
         }
 
-        // Venue ID와 Member ID 유효성 검사
-        Member member = memberService.validateAndGetMember(memberId);
-        Venue venue = venueInfoService.validateAndGetVenue(venueId);
+        // 이미지 업로드 (썸네일 포함, 트랜잭션 밖)
+        List<UploadResult> uploadResults = (images != null && !images.isEmpty())
+                ? imageUploadService.uploadImagesWithThumbnails(images, UploadUtil.BucketType.VENUE, REVIEW_FOLDER)
+                : List.of();
 
-        // VenueReview 엔티티 생성
-        VenueReview venueReview = VenueReviewRequestDTO.toEntity(dto);
+        // 저장에 실패하면 올린 이미지를 지운다
+        return imageUploadService.saveAfterUpload(ImageUploadService.uploadedUrls(uploadResults), UploadUtil.BucketType.VENUE, () -> {
+            // Venue ID와 Member ID 유효성 검사
+            Member member = memberService.validateAndGetMember(memberId);
+            Venue venue = venueInfoService.validateAndGetVenue(venueId);
 
-        // Venue와 Member 설정
-        venueReview.setVenue(venue);
-        venueReview.setMember(member);
+            // VenueReview 엔티티 생성
+            VenueReview venueReview = VenueReviewRequestDTO.toEntity(dto);
 
-        // 이미지 업로드 (썸네일 포함)
-        if (images != null && !images.isEmpty()) {
-            List<UploadResult> uploadResults = imageUploadService.uploadImagesWithThumbnails(images, UploadUtil.BucketType.VENUE, REVIEW_FOLDER);
-            List<String> imageUrls = uploadResults.stream().map(UploadResult::getOriginalUrl).toList();
-            List<String> thumbnailUrls = uploadResults.stream().map(UploadResult::getThumbnailUrl).toList();
-            
-            venueReview.setImageUrls(imageUrls);
-            venueReview.setThumbnailUrls(thumbnailUrls);
-        }
+            // Venue와 Member 설정
+            venueReview.setVenue(venue);
+            venueReview.setMember(member);
 
-        // 리뷰 저장
-        venueReview = venueReviewRepository.save(venueReview);
-        return VenueReviewResponseDTO.toDTO(venueReview, false, true, false); // false는 해당 댓글에 대한 좋아요 여부를 나타냄, 새로 생성된 리뷰의 초기 좋아요 상태 (false)
-        // 본인이므로 본인을 팔로우하지 않음
+            if (!uploadResults.isEmpty()) {
+                venueReview.setImageUrls(uploadResults.stream().map(UploadResult::getOriginalUrl).toList());
+                venueReview.setThumbnailUrls(uploadResults.stream().map(UploadResult::getThumbnailUrl).toList());
+            }
+
+            // 리뷰 저장
+            venueReview = venueReviewRepository.save(venueReview);
+            return VenueReviewResponseDTO.toDTO(venueReview, false, true, false); // false는 해당 댓글에 대한 좋아요 여부를 나타냄, 새로 생성된 리뷰의 초기 좋아요 상태 (false)
+            // 본인이므로 본인을 팔로우하지 않음
+        });
     }
 
     @Transactional(readOnly = true)
@@ -99,7 +105,7 @@ public class VenueReviewService {
             reviews = venueReviewQueryRepository.findAllReviewsSortedExcludingBlocked(venueId, sortBy, blockedMemberIds);
         }
 
-        Set<Long> followingMemberIds = followRepository.findFollowingMemberIds(memberId);
+        Set<Long> followingMemberIds = socialGraphCache.getFollowingMemberIds(memberId);
 
         // 리뷰 ID 목록 추출
         List<Long> reviewIds = reviews.stream()
@@ -117,7 +123,10 @@ public class VenueReviewService {
                 .map(review -> {
                     boolean isLiked = likedReviewIds.contains(review.getId());
                     boolean isAuthor = review.getMember().getId().equals(memberId);
-                    return VenueReviewResponseDTO.toDTO(review, isLiked, isAuthor, followingMemberIds.contains(review.getMember().getId()));
+                    return VenueReviewResponseDTO.toDTO(review, isLiked, isAuthor, followingMemberIds.contains(review.getMember().getId()))
+                            .toBuilder()
+                            .likes(writeBehindCounterService.overlay(CounterType.VENUE_REVIEW_LIKES, review.getId(), review.getLikes()))
+                            .build();
                 })
                 .toList();
     }
@@ -173,7 +182,7 @@ public class VenueReviewService {
 
         // 좋아요 수 증가
         venueReviewLikeRepository.save(venueReviewLike);
-        venueReviewRepository.increaseLikeCount(venueReview.getId());
+        writeBehindCounterService.increment(CounterType.VENUE_REVIEW_LIKES, venueReview.getId());
     }
 
     protected VenueReview validateAndGetVenueReview(Long venueReviewId) {
@@ -207,11 +216,7 @@ public class VenueReviewService {
         }
 
         // 실제 삭제된 수만큼 카운트 감소
-        if (deletedCount > 1) {
-            venueReviewRepository.decreaseLikeCount(venueReview.getId(), deletedCount);
-        } else {
-            venueReviewRepository.decreaseLikeCount(venueReview.getId());
-        }
+        writeBehindCounterService.add(CounterType.VENUE_REVIEW_LIKES, venueReview.getId(), -deletedCount);
     }
 
     @Transactional
@@ -0,0 +1,81 @@
+package com.ceos.beatbuddy.domain.venue.application;
+
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * VenueGenre/VenueMood 의 바이너리 벡터 컬럼과 태그 컬럼 백필.
+ * 기존 행은 "[1.0, 0.0, ...]" 문자열만 가지고 있으므로, 기동 시 비어 있는 행을 배치 단위로 채운다.
+ * 이미 채워진 행은 조회 대상에서 빠지고, 배치는 id 순 키셋으로 진행하므로 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VenueVectorColumnBackfill {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final VenueGenreRepository venueGenreRepository;
+    private final VenueMoodRepository venueMoodRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int genreCount = backfillGenres();
+            int moodCount = backfillMoods();
+            if (genreCount + moodCount > 0) {
+                log.info("베뉴 벡터 컬럼 백필 완료 - genre: {}건, mood: {}건", genreCount, moodCount);
+            }
+        } catch (Exception e) {
+            log.error("베뉴 벡터 컬럼 백필 실패", e);
+        }
+    }
+
+    private int backfillGenres() {
+        int total = 0;
+        long afterId = 0L;
+        while (true) {
+            long from = afterId;
+            List<VenueGenre> rows = transactionTemplate.execute(status -> {
+                List<VenueGenre> batch = venueGenreRepository.findVectorColumnsMissing(from, PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(VenueGenre::syncGenreColumns);
+                return batch;
+            });
+            total += rows.size();
+            if (rows.size() < BATCH_SIZE) {
+                return total;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    private int backfillMoods() {
+        int total = 0;
+        long afterId = 0L;
+        while (true) {
+            long from = afterId;
+            List<VenueMood> rows = transactionTemplate.execute(status -> {
+                List<VenueMood> batch = venueMoodRepository.findVectorColumnsMissing(from, PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(VenueMood::syncMoodColumns);
+                return batch;
+            });
+            total += rows.size();
+            if (rows.size() < BATCH_SIZE) {
+                return total;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ceos.beatbuddy.domain.venue.controller;
 
 import com.ceos.beatbuddy.domain.event.dto.EventListResponseDTO;
 import com.ceos.beatbuddy.domain.venue.dto.VenueCouponResponseDTO;
+import com.ceos.beatbuddy.domain.venue.dto.VenueResponseDTO;
 import com.ceos.beatbuddy.global.SwaggerExamples;
 import com.ceos.beatbuddy.global.dto.ResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -223,4 +224,51 @@ public interface VenueInfoApiDocs {
     ResponseEntity<ResponseDTO<EventListResponseDTO>> getEventsByVenuePopular(@PathVariable Long venueId,
                                                                               @RequestParam(defaultValue = "1") int page,
                                                                               @RequestParam(defaultValue = "10") int size);
-}
\ No newline at end of file
+
+
+    @Operation(summary = "비슷한 베뉴 목록 조회",
+            description = """
+                - 같은 지역에서 장르/분위기가 비슷한 베뉴를 유사도 순으로 조회합니다.
+                - size 는 최대 10까지 적용됩니다.
+    """)
+    @ApiResponse(
+            responseCode = "200",
+            description = "비슷한 베뉴 목록 조회 성공",
+            content = @io.swagger.v3.oas.annotations.media.Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(name = "조회 성공", value = """
+                    {
+                      "status": 200,
+                      "code": "SUCCESS_GET_SIMILAR_VENUES",
+                      "message": "비슷한 베뉴 목록을 성공적으로 조회했습니다.",
+                      "data": [
+                        {
+                          "venueId": 3,
+                          "englishName": "OUF",
+                          "koreanName": "우프",
+                          "tagList": ["HIPHOP", "CLUB", "HONGDAE"],
+                          "heartbeatNum": 12,
+                          "logoUrl": "https://beatbuddy.s3.ap-northeast-2.amazonaws.com/logo.png",
+                          "backgroundUrl": [],
+                          "isHeartbeat": false,
+                          "isSmokingAllowed": false,
+                          "isFreeEntrance": false,
+                          "address": "서울 마포구",
+                          "latitude": 37.55,
+                          "longitude": 126.92
+                        }
+                      ]
+                    }
+            """))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "리소스 없음",
+            content = @io.swagger.v3.oas.annotations.media.Content(
+                    mediaType = "application/json",
+                    examples = {@ExampleObject(name = "베뉴 없음", value = SwaggerExamples.VENUE_NOT_EXIST),
+                            @ExampleObject(name = "존재하지 않는 유저", value = SwaggerExamples.MEMBER_NOT_EXIST)})
+    )
+    ResponseEntity<ResponseDTO<List<VenueResponseDTO>>> getSimilarVenues(@PathVariable Long venueId,
+                                                                        @RequestParam(defaultValue = "10") int size);
+}
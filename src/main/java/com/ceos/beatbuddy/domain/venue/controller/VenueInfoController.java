@@ -5,6 +5,7 @@ import com.ceos.beatbuddy.domain.venue.application.VenueCouponService;
 import com.ceos.beatbuddy.domain.venue.application.VenueInfoService;
 import com.ceos.beatbuddy.domain.venue.dto.VenueCouponResponseDTO;
 import com.ceos.beatbuddy.domain.venue.dto.VenueInfoResponseDTO;
+import com.ceos.beatbuddy.domain.venue.dto.VenueResponseDTO;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.global.ResponseTemplate;
 import com.ceos.beatbuddy.global.code.SuccessCode;
@@ -96,4 +97,15 @@ public class VenueInfoController implements VenueInfoApiDocs {
                 .status(SuccessCode.SUCCESS_GET_VENUE_EVENTS.getStatus().value())
                 .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_VENUE_EVENTS, eventListResponseDTO));
     }
-}
\ No newline at end of file
+
+    @Override
+    @GetMapping("/{venueId}/similar")
+    public ResponseEntity<ResponseDTO<List<VenueResponseDTO>>> getSimilarVenues(@PathVariable Long venueId,
+                                                                               @RequestParam(defaultValue = "10") int size) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        List<VenueResponseDTO> result = venueInfoService.getSimilarVenues(venueId, memberId, size);
+        return ResponseEntity
+                .status(SuccessCode.SUCCESS_GET_SIMILAR_VENUES.getStatus().value())
+                .body(new ResponseDTO<>(SuccessCode.SUCCESS_GET_SIMILAR_VENUES, result));
+    }
+}
@@ -11,8 +11,6 @@ import java.util.List;
 public class VenueInfoOptimizedData {
     private final Venue venue;
     private final boolean isHeartbeat;
-    private final String genreVector;
-    private final String moodVector;
     private final boolean hasCoupon;
     private final List<String> tagList;
 }
\ No newline at end of file
@@ -2,12 +2,12 @@ package com.ceos.beatbuddy.domain.venue.entity;
 
 import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.global.BaseTimeEntity;
+import com.ceos.beatbuddy.global.util.NullableStringListConverter;
+import com.ceos.beatbuddy.global.util.VectorBinaryConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Entity
 @Builder
@@ -25,21 +25,40 @@ public class VenueGenre extends BaseTimeEntity {
     @JoinColumn(name = "venueId", unique = true, nullable = false)
     private Venue venue;
 
-    @Transient
+    @Convert(converter = VectorBinaryConverter.class)
+    @Column(columnDefinition = "VARBINARY(255)")
     private Vector genreVector;
 
     @Lob
     private String genreVectorString;
 
+    // 상세/검색 응답에서 벡터를 다시 파싱하지 않도록 태그 목록을 함께 저장한다
+    // 태그가 하나도 없으면 "[]" 로 저장하고, NULL 은 아직 백필되지 않은 행이다
+    @Convert(converter = NullableStringListConverter.class)
+    @Column(length = 500)
+    private List<String> genreTags;
+
     public void updateGenreVector(Vector vector) {
         this.genreVector = vector;
-        this.genreVectorString = vector.getElements().toString();
+        this.genreVectorString = vector.toString();
+        this.genreTags = Vector.getTrueGenreElements(vector);
+    }
+
+    /**
+     * 문자열 컬럼만 채워진 행(빌더로 생성했거나 이전 데이터)의 바이너리/태그 컬럼을 채운다.
+     */
+    @PrePersist
+    public void syncGenreColumns() {
+        Vector vector = getGenreVector();
+        // 태그가 없는 벡터도 빈 목록을 저장해야 NULL 에서 바뀌어 다음 백필 대상에서 빠진다
+        if (vector != null && genreTags == null) {
+            this.genreTags = Vector.getTrueGenreElements(vector);
+        }
     }
 
     public Vector getGenreVector() {
         if (genreVector == null && genreVectorString != null) {
-            List<Double> elements = Stream.of(genreVectorString.replace("[", "").replace("]", "").split(",")).map(String::trim).map(Double::parseDouble).collect(Collectors.toList());
-            genreVector = new Vector(elements);
+            genreVector = Vector.fromString(genreVectorString);
         }
         return genreVector;
     }
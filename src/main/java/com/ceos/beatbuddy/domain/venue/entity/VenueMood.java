@@ -3,12 +3,12 @@ package com.ceos.beatbuddy.domain.venue.entity;
 
 import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.global.BaseTimeEntity;
+import com.ceos.beatbuddy.global.util.NullableStringListConverter;
+import com.ceos.beatbuddy.global.util.VectorBinaryConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Entity
 @Builder
@@ -26,21 +26,40 @@ public class VenueMood extends BaseTimeEntity {
     @JoinColumn(name = "venueId", unique = true, nullable = false)
     private Venue venue;
 
-    @Transient
+    @Convert(converter = VectorBinaryConverter.class)
+    @Column(columnDefinition = "VARBINARY(255)")
     private Vector moodVector;
 
     @Lob
     private String moodVectorString;
 
+    // 상세/검색 응답에서 벡터를 다시 파싱하지 않도록 태그 목록을 함께 저장한다
+    // 태그가 하나도 없으면 "[]" 로 저장하고, NULL 은 아직 백필되지 않은 행이다
+    @Convert(converter = NullableStringListConverter.class)
+    @Column(length = 500)
+    private List<String> moodTags;
+
     public void updateMoodVector(Vector vector) {
         this.moodVector = vector;
-        this.moodVectorString = vector.getElements().toString();
+        this.moodVectorString = vector.toString();
+        this.moodTags = Vector.getTrueMoodElements(vector);
+    }
+
+    /**
+     * 문자열 컬럼만 채워진 행(빌더로 생성했거나 이전 데이터)의 바이너리/태그 컬럼을 채운다.
+     */
+    @PrePersist
+    public void syncMoodColumns() {
+        Vector vector = getMoodVector();
+        // 태그가 없는 벡터도 빈 목록을 저장해야 NULL 에서 바뀌어 다음 백필 대상에서 빠진다
+        if (vector != null && moodTags == null) {
+            this.moodTags = Vector.getTrueMoodElements(vector);
+        }
     }
 
     public Vector getMoodVector() {
         if (moodVector == null && moodVectorString != null) {
-            List<Double> elements = Stream.of(moodVectorString.replace("[", "").replace("]", "").split(",")).map(String::trim).map(Double::parseDouble).collect(Collectors.toList());
-            moodVector = new Vector(elements);
+            moodVector = Vector.fromString(moodVectorString);
         }
         return moodVector;
     }
@@ -0,0 +1,4 @@
+package com.ceos.beatbuddy.domain.venue.entity;
+
+public record VenueVectorChangedEvent(Long venueId) {
+}
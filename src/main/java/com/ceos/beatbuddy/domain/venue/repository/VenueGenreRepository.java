@@ -4,6 +4,7 @@ package com.ceos.beatbuddy.domain.venue.repository;
 import com.ceos.beatbuddy.domain.member.constant.Region;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,15 @@ public interface VenueGenreRepository extends JpaRepository<VenueGenre, Long> {
     @Query("SELECT vg FROM VenueGenre vg JOIN FETCH vg.venue v WHERE v.region IN :regions")
     List<VenueGenre> findByVenueRegion(@Param("regions") List<Region> regions);
 
+    @Query("SELECT vg FROM VenueGenre vg JOIN FETCH vg.venue")
+    List<VenueGenre> findAllWithVenue();
+
+    // 바이너리/태그 컬럼이 아직 채워지지 않은 행 (백필 대상)
+    // id 순 키셋으로 읽으므로 채울 수 없는 행이 남아 있어도 같은 행을 다시 읽지 않는다
+    @Query("SELECT vg FROM VenueGenre vg WHERE vg.id > :afterId AND vg.genreVectorString IS NOT NULL " +
+            "AND (vg.genreVector IS NULL OR vg.genreTags IS NULL) ORDER BY vg.id")
+    List<VenueGenre> findVectorColumnsMissing(@Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT vg FROM VenueGenre vg JOIN vg.venue v WHERE vg.venue = :venue")
     Optional<VenueGenre> findByVenue(@Param("venue")Venue venue);
 
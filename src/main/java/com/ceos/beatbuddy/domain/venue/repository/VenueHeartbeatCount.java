@@ -0,0 +1,6 @@
+package com.ceos.beatbuddy.domain.venue.repository;
+
+public interface VenueHeartbeatCount {
+    Long getVenueId();
+    Long getHeartbeatNum();
+}
@@ -3,7 +3,6 @@ package com.ceos.beatbuddy.domain.venue.repository;
 import com.ceos.beatbuddy.domain.coupon.domain.QCoupon;
 import com.ceos.beatbuddy.domain.heartbeat.entity.QHeartbeat;
 import com.ceos.beatbuddy.domain.member.entity.QMember;
-import com.ceos.beatbuddy.domain.vector.entity.Vector;
 import com.ceos.beatbuddy.domain.venue.dto.VenueInfoOptimizedData;
 import com.ceos.beatbuddy.domain.venue.entity.QVenue;
 import com.ceos.beatbuddy.domain.venue.entity.QVenueGenre;
@@ -17,8 +16,6 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -43,8 +40,8 @@ public class VenueInfoQueryRepositoryImpl implements VenueInfoQueryRepository {
                                 .where(heartbeat.member.id.eq(memberId)
                                         .and(heartbeat.venue.eq(venue)))
                                 .exists(),
-                        venueGenre.genreVectorString,
-                        venueMood.moodVectorString,
+                        venueGenre.genreTags,
+                        venueMood.moodTags,
                         JPAExpressions
                                 .selectFrom(coupon)
                                 .where(coupon.venues.any().id.eq(venueId)
@@ -63,37 +60,25 @@ public class VenueInfoQueryRepositoryImpl implements VenueInfoQueryRepository {
 
         Venue venueEntity = result.get(venue);
         boolean isHeartbeat = result.get(1, Boolean.class);
-        String genreVectorString = result.get(venueGenre.genreVectorString);
-        String moodVectorString = result.get(venueMood.moodVectorString);
+        List<String> genreTags = result.get(venueGenre.genreTags);
+        List<String> moodTags = result.get(venueMood.moodTags);
         boolean hasCoupon = result.get(4, Boolean.class);
 
         List<String> tagList = new ArrayList<>();
-        if (genreVectorString != null) {
-            List<Double> genreElements = parseVectorString(genreVectorString);
-            Vector genreVector = new Vector(genreElements);
-            tagList.addAll(Vector.getTrueGenreElements(genreVector));
+        if (genreTags != null) {
+            tagList.addAll(genreTags);
         }
-        if (moodVectorString != null) {
-            List<Double> moodElements = parseVectorString(moodVectorString);
-            Vector moodVector = new Vector(moodElements);
-            tagList.addAll(Vector.getTrueMoodElements(moodVector));
+        if (moodTags != null) {
+            tagList.addAll(moodTags);
         }
         tagList.add(venueEntity.getRegion().getText());
 
         return VenueInfoOptimizedData.builder()
                 .venue(venueEntity)
                 .isHeartbeat(isHeartbeat)
-                .genreVector(genreVectorString)
-                .moodVector(moodVectorString)
                 .hasCoupon(hasCoupon)
                 .tagList(tagList)
                 .build();
     }
 
-    private List<Double> parseVectorString(String vectorString) {
-        return Stream.of(vectorString.replace("[", "").replace("]", "").split(","))
-                .map(String::trim)
-                .map(Double::parseDouble)
-                .collect(Collectors.toList());
-    }
 }
\ No newline at end of file
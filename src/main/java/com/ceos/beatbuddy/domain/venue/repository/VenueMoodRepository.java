@@ -4,6 +4,7 @@ package com.ceos.beatbuddy.domain.venue.repository;
 import com.ceos.beatbuddy.domain.member.constant.Region;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,9 +17,21 @@ public interface VenueMoodRepository extends JpaRepository<VenueMood, Long> {
     @Query("SELECT vm FROM VenueMood vm JOIN FETCH vm.venue v WHERE v.region IN :regions")
     List<VenueMood> findByVenueRegion(@Param("regions") List<Region> regions);
 
+    @Query("SELECT vm FROM VenueMood vm JOIN FETCH vm.venue")
+    List<VenueMood> findAllWithVenue();
+
+    // 바이너리/태그 컬럼이 아직 채워지지 않은 행 (백필 대상)
+    // id 순 키셋으로 읽으므로 채울 수 없는 행이 남아 있어도 같은 행을 다시 읽지 않는다
+    @Query("SELECT vm FROM VenueMood vm WHERE vm.id > :afterId AND vm.moodVectorString IS NOT NULL " +
+            "AND (vm.moodVector IS NULL OR vm.moodTags IS NULL) ORDER BY vm.id")
+    List<VenueMood> findVectorColumnsMissing(@Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT vm FROM VenueMood vm JOIN vm.venue v WHERE vm.venue = :venue")
     Optional<VenueMood> findByVenue(@Param("venue") Venue venue);
 
+    @Query("SELECT vm FROM VenueMood vm WHERE vm.venue.id = :venueId")
+    Optional<VenueMood> findByVenueId(@Param("venueId") Long venueId);
+
     @Query("SELECT vm FROM VenueMood vm WHERE vm.venue.id IN :venueIds")
     List<VenueMood> findByVenueIdIn(@Param("venueIds") List<Long> venueIds);
 }
@@ -1,6 +1,5 @@
 package com.ceos.beatbuddy.domain.venue.repository;
 
-
 import com.ceos.beatbuddy.domain.member.constant.Region;
 import com.ceos.beatbuddy.domain.venue.entity.Venue;
 import io.lettuce.core.dynamic.annotation.Param;
@@ -10,7 +9,6 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
-
 public interface VenueRepository extends JpaRepository<Venue, Long> {
     @Query("SELECT v.id FROM Venue v WHERE v.koreanName = :koreanName")
     Long findVenueIdByKoreanName(@Param("koreanName") String koreanName);
@@ -21,25 +19,28 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
     @Query("SELECT v FROM Venue v ORDER BY v.heartbeatNum DESC LIMIT 10")
     List<Venue> sortByHeartbeatCount();
 
+    // 핫차트가 0점 베뉴로 10개를 채울 수 있도록 전체 베뉴를 가져온다
+    @Query("SELECT v.id AS venueId, v.heartbeatNum AS heartbeatNum FROM Venue v")
+    List<VenueHeartbeatCount> findAllHeartbeatCounts();
+
     @Query("SELECT v FROM Venue v WHERE v.id = :venueId")
     Long deleteByVenueId(@Param("venueId")Long venueId);
 
     @Query("SELECT v FROM Venue v WHERE v.region IN :regions")
     List<Venue> findByVenueRegion(@Param("regions") List<Region> regions);
 
-    @Modifying
-    @Query("UPDATE Venue v SET v.heartbeatNum = v.heartbeatNum + 1 WHERE v.id = :venueId")
-    void incrementHeartbeatCount(@Param("venueId") Long venueId);
-
-    @Modifying
-    @Query("UPDATE Venue v SET v.heartbeatNum = v.heartbeatNum - 1 WHERE v.id = :venueId")
-    void decrementHeartbeatCount(@Param("venueId") Long venueId);
-
     @Modifying
     @Query("UPDATE Venue v SET v.latitude = :lat, v.longitude = :lng WHERE v.id = :venueId")
     void updateLatLng(@Param("venueId") Long venueId, @Param("lat") double lat, @Param("lng") double lng);
 
     @Query("SELECT v FROM Venue v WHERE v.id IN :ids")
     List<Venue> findByIdIn(@Param("ids") List<Long> ids);
+
+    // 카드 태그용: 장르와 무드 벡터를 한 번에 조회한다
+    @Query("SELECT v.id AS venueId, vg AS venueGenre, vm AS venueMood FROM Venue v " +
+            "LEFT JOIN VenueGenre vg ON vg.venue.id = v.id " +
+            "LEFT JOIN VenueMood vm ON vm.venue.id = v.id " +
+            "WHERE v.id IN :ids")
+    List<VenueVectorRow> findVectorsByIdIn(@Param("ids") List<Long> ids);
 }
 
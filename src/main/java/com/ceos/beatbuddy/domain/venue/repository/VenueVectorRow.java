@@ -0,0 +1,11 @@
+package com.ceos.beatbuddy.domain.venue.repository;
+
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+
+// 장르/무드 벡터가 없는 베뉴는 해당 값이 null 이다
+public interface VenueVectorRow {
+    Long getVenueId();
+    VenueGenre getVenueGenre();
+    VenueMood getVenueMood();
+}
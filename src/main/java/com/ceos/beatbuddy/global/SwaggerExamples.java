@@ -177,6 +177,24 @@ public class SwaggerExamples {
         }
         """;
 
+    public static final String INVALID_CURSOR = """
+        {
+          "status": 400,
+          "error": "BAD_REQUEST",
+          "code": "INVALID_CURSOR",
+          "message": "커서 값이 올바르지 않습니다."
+        }
+        """;
+
+    public static final String INVALID_TRENDING_HOURS = """
+        {
+          "status": 400,
+          "error": "BAD_REQUEST",
+          "code": "INVALID_TRENDING_HOURS",
+          "message": "인기 해시태그 집계 기간은 1시간 이상 168시간 이하여야 합니다."
+        }
+        """;
+
     // 두글자 이상 검색
     public static final String KEYWORD_TOO_SHORT = """
         {
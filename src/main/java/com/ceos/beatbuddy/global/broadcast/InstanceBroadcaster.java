@@ -0,0 +1,53 @@
+package com.ceos.beatbuddy.global.broadcast;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 메모리에 들고 있는 캐시/인덱스의 변경을 Redis 채널로 다른 인스턴스에 알린다.
+ * 메시지는 "{instanceId}:{payload}" 형식이고, 이 인스턴스가 보낸 메시지는 받지 않는다.
+ * 전달은 보장되지 않으므로 구독하는 쪽은 TTL 이나 주기적인 재적재로 놓친 메시지를 맞춰야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstanceBroadcaster {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 다른 인스턴스가 channel 로 보낸 payload 를 handler 로 넘긴다. @PostConstruct 에서 호출한다.
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+                return;
+            }
+            try {
+                handler.accept(body.substring(separator + 1));
+            } catch (Exception e) {
+                log.error("인스턴스 간 메시지 처리 실패 - channel: {}, message: {}", channel, body, e);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    /**
+     * Redis 에 보내지 못하면 예외를 그대로 던진다. 실패 시 처리는 호출하는 쪽이 정한다.
+     */
+    public void publish(String channel, String payload) {
+        redisTemplate.convertAndSend(channel, instanceId + ":" + payload);
+    }
+}
@@ -47,6 +47,8 @@ public enum SuccessCode implements ApiCode {
     SUCCESS_GET_MY_KEYWORD(HttpStatus.OK, "내가 선택한 키워드를 조회했습니다."),
     SUCCESS_GET_RECOMMEND_WITH_FAVORITE(HttpStatus.OK, "나의 취향에 맞는 베뉴 5개를 불러왔습니다."),
     SUCCESS_GET_RECOMMEND_WITH_FAVORITE_AND_FILTER(HttpStatus.OK, "선호도와 필터 조건에 맞는 베뉴 5개를 불러왔습니다."),
+    SUCCESS_GET_RECOMMEND_WITH_HEARTBEAT(HttpStatus.OK, "하트비트 기반 추천 베뉴를 불러왔습니다."),
+    SUCCESS_GET_RECOMMEND_NATIONWIDE(HttpStatus.OK, "전국 베뉴 중 나의 취향에 맞는 베뉴를 불러왔습니다."),
 
 
     /**
@@ -76,6 +78,7 @@ public enum SuccessCode implements ApiCode {
     SUCCESS_GET_UPCOMING_EVENT(HttpStatus.OK, "이벤트가 성공적으로 조회되었습니다."),
     SUCCESS_GET_NOW_EVENT(HttpStatus.OK, "성공적으로 진행되는 이벤트를 조회했습니다."),
     SUCCESS_GET_PAST_EVENT(HttpStatus.OK, "성공적으로 과거 이벤트를 조회했습니다." ),
+    SUCCESS_GET_RECOMMENDED_EVENTS(HttpStatus.OK, "추천 이벤트를 성공적으로 조회했습니다."),
 
     SUCCESS_GET_MY_EVENTS(HttpStatus.OK, "성공적으로 내가 작성한 이벤트를 가져왔습니다."),
     SUCCESS_UPDATE_EVENT(HttpStatus.OK, "이벤트를 수정했습니다."),
@@ -118,6 +121,8 @@ public enum SuccessCode implements ApiCode {
     SUCCESS_POST_SEARCH(HttpStatus.OK, "포스트 검색을 성공적으로 했습니다."),
     SUCCESS_GET_POST_LIST_BY_HASHTAG(HttpStatus.OK, "해시태그에 해당하는 포스트 목록을 성공적으로 조회했습니다."),
     GET_USER_POST_LIST(HttpStatus.OK, "사용자가 작성한 포스트 목록을 성공적으로 조회했습니다."),
+    SUCCESS_GET_FOLLOWING_FEED(HttpStatus.OK, "팔로잉 피드를 성공적으로 조회했습니다."),
+    SUCCESS_GET_TRENDING_HASHTAGS(HttpStatus.OK, "인기 해시태그를 성공적으로 조회했습니다."),
     SUCCESS_DELETE_POST(HttpStatus.OK, "포스트를 삭제했습니다."),
 
     /**
@@ -135,6 +140,7 @@ public enum SuccessCode implements ApiCode {
     SUCCESS_CREATE_VENUE(HttpStatus.CREATED, "베뉴를 성공적으로 등록했습니다."),
     SUCCESS_UPDATE_VENUE(HttpStatus.OK, "베뉴 정보를 성공적으로 수정했습니다."),
     SUCCESS_GET_VENUE_EVENTS(HttpStatus.OK, "베뉴의 이벤트 목록을 성공적으로 조회했습니다."),
+    SUCCESS_GET_SIMILAR_VENUES(HttpStatus.OK, "비슷한 베뉴 목록을 성공적으로 조회했습니다."),
 
     /**
      * Coupon
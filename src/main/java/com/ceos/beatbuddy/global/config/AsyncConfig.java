@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
 
@@ -39,4 +40,31 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // @Scheduled 작업용. 기본 스케줄러는 스레드가 하나라서 새벽 추천 사전 계산처럼 긴 작업이 돌면
+    // 카운터 반영, 순위 보정 같은 다른 주기 작업이 그동안 모두 밀린다
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setErrorHandler(throwable -> log.error("Scheduled task failed", throwable));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 카운터 flush, 저널 하트비트, 저널 복구 전용. 다른 예약 작업이 길어져도 하트비트가 밀려 저널을 빼앗기지 않게 분리한다
+    @Bean(name = "counterScheduler")
+    public ThreadPoolTaskScheduler counterScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(3);
+        scheduler.setThreadNamePrefix("counter-");
+        scheduler.setErrorHandler(throwable -> log.error("Counter task failed", throwable));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
 }
@@ -0,0 +1,79 @@
+package com.ceos.beatbuddy.global.counter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 카운터의 여러 행을 UPDATE ... SET f = CASE WHEN id = ? THEN ... END WHERE id IN (...) 한 번으로 반영한다.
+ * 기존 감소 쿼리와 같이 결과가 0 아래로 내려가지 않게 한다. 호출하는 쪽 트랜잭션 안에서 실행되어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterBatchUpdater {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public int apply(CounterType type, Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            updated += applyBatch(type, entries.subList(from, Math.min(from + BATCH_SIZE, entries.size())));
+        }
+        return updated;
+    }
+
+    /**
+     * batchId 를 반영 완료로 남긴다. 같은 batchId 가 이미 있으면 커밋 시 키 중복으로 실패한다.
+     */
+    public void markApplied(String batchId) {
+        entityManager.persist(new CounterFlushBatch(batchId));
+    }
+
+    public List<String> findAppliedBatchIds(Collection<String> batchIds) {
+        if (batchIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT b.batchId FROM CounterFlushBatch b WHERE b.batchId IN :batchIds", String.class)
+                .setParameter("batchIds", batchIds)
+                .getResultList();
+    }
+
+    public int deleteAppliedBefore(LocalDateTime before) {
+        return entityManager.createQuery("DELETE FROM CounterFlushBatch b WHERE b.createdAt < :before")
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+
+    private int applyBatch(CounterType type, List<Map.Entry<Long, Long>> batch) {
+        String field = "e." + type.getField();
+        StringBuilder jpql = new StringBuilder("UPDATE ")
+                .append(type.getEntityName()).append(" e SET ").append(field).append(" = CASE");
+        for (int i = 0; i < batch.size(); i++) {
+            jpql.append(" WHEN e.id = :id").append(i)
+                    .append(" THEN (CASE WHEN ").append(field).append(" + :d").append(i).append(" < 0 THEN 0")
+                    .append(" ELSE ").append(field).append(" + :d").append(i).append(" END)");
+        }
+        jpql.append(" ELSE ").append(field).append(" END WHERE e.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Map.Entry<Long, Long> entry = batch.get(i);
+            query.setParameter("id" + i, entry.getKey());
+            query.setParameter("d" + i, type.toParameter(entry.getValue()));
+            ids.add(entry.getKey());
+        }
+        query.setParameter("ids", ids);
+        return query.executeUpdate();
+    }
+}
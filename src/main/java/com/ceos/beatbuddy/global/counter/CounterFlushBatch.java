@@ -0,0 +1,33 @@
+package com.ceos.beatbuddy.global.counter;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영된 카운터 flush 단위. 카운터 UPDATE 와 같은 트랜잭션에 저장해서,
+ * 저널 replay 때 이미 반영된 batch 를 건너뛰는 데 쓴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_counter_flush_batch_created_at", columnList = "createdAt")
+})
+public class CounterFlushBatch {
+
+    @Id
+    @Column(name = "batchId", length = 64)
+    private String batchId;
+
+    @Column(name = "createdAt", nullable = false)
+    private LocalDateTime createdAt;
+
+    public CounterFlushBatch(String batchId) {
+        this.batchId = batchId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,250 @@
+package com.ceos.beatbuddy.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 아직 DB 에 반영되지 않은 카운터 증감을 인스턴스별 Redis 해시에 기록한다.
+ * - 메모리에 더하기 전에 append 하고, flush 할 때 prepare 로 보낼 증감을 batch:{batchId} 필드로 옮긴다.
+ *   DB 반영과 같은 트랜잭션에 batchId 를 남기고, 커밋 뒤 ack 로 필드를 지운다.
+ * - 하트비트가 끊긴 인스턴스의 해시는 다른 인스턴스가 claim 해서 claimed 키로 옮긴 뒤 DB 에 반영한다.
+ *   이미 DB 에 남은 batchId 는 건너뛰므로, 커밋 후 ack 전에 죽은 경우에도 두 번 반영되지 않는다.
+ * - append / prepare / heartbeat 는 인스턴스가 아직 등록되어 있을 때만 성공한다. false 를 받으면 저널을 빼앗긴 것이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterJournal {
+
+    private static final String BATCH_FIELD_PREFIX = "batch:";
+
+    private static final String APPEND_SCRIPT = """
+    if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+      return 0
+    end
+    redis.call('HINCRBY', KEYS[2], ARGV[2], ARGV[3])
+    return 1
+        """;
+
+    private static final String HEARTBEAT_SCRIPT = """
+    if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+      return 0
+    end
+    redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+    return 1
+        """;
+
+    // ARGV: instanceId, batch 필드, batch 내용, 이후 (field, delta) 반복
+    private static final String PREPARE_SCRIPT = """
+    if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+      return 0
+    end
+    for i = 4, #ARGV, 2 do
+      redis.call('HINCRBY', KEYS[2], ARGV[i], -tonumber(ARGV[i + 1]))
+    end
+    redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+    return 1
+        """;
+
+    // DB 반영에 실패한 batch 를 다시 미반영 증감으로 돌린다. 그사이 저널을 빼앗겼으면 0
+    private static final String RESTORE_SCRIPT = """
+    if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then
+      return 0
+    end
+    for i = 2, #ARGV, 2 do
+      redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+    end
+    return 1
+        """;
+
+    // 등록 해제와 저널 이동을 한 번에 한다. 이후 원래 인스턴스의 append / prepare 는 실패한다
+    private static final String CLAIM_SCRIPT = """
+    local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+    if not score or tonumber(score) > tonumber(ARGV[2]) then
+      return 0
+    end
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    if redis.call('EXISTS', KEYS[2]) == 1 then
+      redis.call('RENAME', KEYS[2], KEYS[3])
+      redis.call('SADD', KEYS[4], ARGV[1])
+    end
+    return 1
+        """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public boolean append(String instanceId, CounterKey key, long delta) {
+        return execute(APPEND_SCRIPT,
+                List.of(CounterRedisKeyUtil.INSTANCES_KEY, CounterRedisKeyUtil.getJournalKey(instanceId)),
+                instanceId, key.toField(), String.valueOf(delta));
+    }
+
+    /**
+     * flushed 만큼을 미반영 증감에서 batchId 필드로 옮긴다.
+     */
+    public boolean prepare(String instanceId, String batchId, Map<CounterKey, Long> flushed) {
+        List<String> args = new ArrayList<>();
+        args.add(instanceId);
+        args.add(BATCH_FIELD_PREFIX + batchId);
+        args.add(encode(flushed));
+        addDeltaArgs(args, flushed);
+        return execute(PREPARE_SCRIPT,
+                List.of(CounterRedisKeyUtil.INSTANCES_KEY, CounterRedisKeyUtil.getJournalKey(instanceId)),
+                args.toArray(String[]::new));
+    }
+
+    public boolean restore(String instanceId, String batchId, Map<CounterKey, Long> flushed) {
+        List<String> args = new ArrayList<>();
+        args.add(BATCH_FIELD_PREFIX + batchId);
+        addDeltaArgs(args, flushed);
+        return execute(RESTORE_SCRIPT, List.of(CounterRedisKeyUtil.getJournalKey(instanceId)), args.toArray(String[]::new));
+    }
+
+    public void ack(String instanceId, String batchId) {
+        redisTemplate.opsForHash().delete(CounterRedisKeyUtil.getJournalKey(instanceId), BATCH_FIELD_PREFIX + batchId);
+    }
+
+    public void register(String instanceId) {
+        redisTemplate.opsForZSet().add(CounterRedisKeyUtil.INSTANCES_KEY, instanceId, System.currentTimeMillis());
+    }
+
+    public boolean heartbeat(String instanceId) {
+        return execute(HEARTBEAT_SCRIPT, List.of(CounterRedisKeyUtil.INSTANCES_KEY),
+                instanceId, String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * staleBefore 이전에 마지막 하트비트를 남긴 인스턴스 중 이 호출이 가져간 인스턴스 ID 목록.
+     * 가져간 저널은 claimedInstances 에 올라가고, replay 가 끝나 deleteClaimed 할 때까지 남는다.
+     */
+    public List<String> claimStaleInstances(long staleBefore) {
+        Set<String> stale = redisTemplate.opsForZSet().rangeByScore(CounterRedisKeyUtil.INSTANCES_KEY, 0, staleBefore);
+        if (stale == null || stale.isEmpty()) {
+            return List.of();
+        }
+        List<String> claimed = new ArrayList<>();
+        for (String instanceId : stale) {
+            if (claim(instanceId, staleBefore)) {
+                claimed.add(instanceId);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 종료하는 인스턴스가 남은 저널을 스스로 claimed 로 넘긴다.
+     */
+    public void handOff(String instanceId) {
+        claim(instanceId, Long.MAX_VALUE);
+    }
+
+    public Set<String> claimedInstances() {
+        Set<String> instanceIds = redisTemplate.opsForSet().members(CounterRedisKeyUtil.CLAIMED_INSTANCES_KEY);
+        return instanceIds != null ? instanceIds : Set.of();
+    }
+
+    public JournalEntries claimedEntries(String instanceId) {
+        return parse(redisTemplate.opsForHash().entries(CounterRedisKeyUtil.getClaimedJournalKey(instanceId)));
+    }
+
+    public void deleteClaimed(String instanceId) {
+        redisTemplate.delete(CounterRedisKeyUtil.getClaimedJournalKey(instanceId));
+        redisTemplate.opsForSet().remove(CounterRedisKeyUtil.CLAIMED_INSTANCES_KEY, instanceId);
+    }
+
+    /**
+     * 등록된 인스턴스와 아직 replay 되지 않은 claimed 저널에 남아 있는 type 카운터의 미반영 증감을 id 별로 합친다.
+     */
+    public Map<Long, Long> pendingDeltas(CounterType type) {
+        List<String> journalKeys = new ArrayList<>();
+        Set<String> instanceIds = redisTemplate.opsForZSet().range(CounterRedisKeyUtil.INSTANCES_KEY, 0, -1);
+        if (instanceIds != null) {
+            instanceIds.forEach(instanceId -> journalKeys.add(CounterRedisKeyUtil.getJournalKey(instanceId)));
+        }
+        claimedInstances().forEach(instanceId -> journalKeys.add(CounterRedisKeyUtil.getClaimedJournalKey(instanceId)));
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (String journalKey : journalKeys) {
+            JournalEntries entries = parse(redisTemplate.opsForHash().entries(journalKey));
+            entries.open().forEach((key, delta) -> mergeDelta(deltas, type, key, delta));
+            entries.batches().values().forEach(batch -> batch.forEach((key, delta) -> mergeDelta(deltas, type, key, delta)));
+        }
+        return deltas;
+    }
+
+    /**
+     * open: 아직 flush 되지 않은 증감, batches: prepare 됐지만 ack 되지 않은 batchId 별 증감
+     */
+    public record JournalEntries(Map<CounterKey, Long> open, Map<String, Map<CounterKey, Long>> batches) {
+    }
+
+    private boolean claim(String instanceId, long staleBefore) {
+        return execute(CLAIM_SCRIPT,
+                List.of(CounterRedisKeyUtil.INSTANCES_KEY,
+                        CounterRedisKeyUtil.getJournalKey(instanceId),
+                        CounterRedisKeyUtil.getClaimedJournalKey(instanceId),
+                        CounterRedisKeyUtil.CLAIMED_INSTANCES_KEY),
+                instanceId, String.valueOf(staleBefore));
+    }
+
+    private boolean execute(String scriptText, List<String> keys, String... args) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(Long.class);
+        Long result = redisTemplate.execute(script, keys, (Object[]) args);
+        return result != null && result == 1;
+    }
+
+    private static JournalEntries parse(Map<Object, Object> raw) {
+        Map<CounterKey, Long> open = new HashMap<>();
+        Map<String, Map<CounterKey, Long>> batches = new HashMap<>();
+        raw.forEach((rawField, rawValue) -> {
+            String field = (String) rawField;
+            String value = (String) rawValue;
+            if (field.startsWith(BATCH_FIELD_PREFIX)) {
+                batches.put(field.substring(BATCH_FIELD_PREFIX.length()), decode(value));
+                return;
+            }
+            long delta = Long.parseLong(value);
+            if (delta != 0) {
+                open.put(CounterKey.fromField(field), delta);
+            }
+        });
+        return new JournalEntries(open, batches);
+    }
+
+    private static void mergeDelta(Map<Long, Long> deltas, CounterType type, CounterKey key, long delta) {
+        if (key.type() == type) {
+            deltas.merge(key.id(), delta, Long::sum);
+        }
+    }
+
+    private static void addDeltaArgs(List<String> args, Map<CounterKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            args.add(key.toField());
+            args.add(String.valueOf(delta));
+        });
+    }
+
+    // batch 필드 값 형식: TYPE:id=delta,TYPE:id=delta
+    private static String encode(Map<CounterKey, Long> deltas) {
+        StringJoiner joiner = new StringJoiner(",");
+        deltas.forEach((key, delta) -> joiner.add(key.toField() + "=" + delta));
+        return joiner.toString();
+    }
+
+    private static Map<CounterKey, Long> decode(String value) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        if (value.isEmpty()) {
+            return deltas;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            deltas.merge(CounterKey.fromField(entry.substring(0, separator)), Long.parseLong(entry.substring(separator + 1)), Long::sum);
+        }
+        return deltas;
+    }
+}
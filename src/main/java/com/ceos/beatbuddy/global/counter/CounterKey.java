@@ -0,0 +1,14 @@
+package com.ceos.beatbuddy.global.counter;
+
+public record CounterKey(CounterType type, Long id) {
+
+    // 저널 해시의 field 형식: TYPE:id
+    public String toField() {
+        return type.name() + ":" + id;
+    }
+
+    public static CounterKey fromField(String field) {
+        int separator = field.indexOf(':');
+        return new CounterKey(CounterType.valueOf(field.substring(0, separator)), Long.valueOf(field.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ceos.beatbuddy.global.counter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+public class CounterRedisKeyUtil {
+
+    // 인스턴스 ID -> 마지막 하트비트 시각(ms) ZSET
+    public static final String INSTANCES_KEY = "counter_journal_instances";
+
+    // 다른 인스턴스가 가져갔지만 아직 DB 에 반영하지 못한 인스턴스 ID SET
+    public static final String CLAIMED_INSTANCES_KEY = "counter_journal_claimed_instances";
+
+    // 대상별 하루 동안의 조회자 회원 ID SET (조회수 중복 제거용)
+    public static String getViewersKey(CounterType type, Long id, LocalDate date) {
+        return String.format("view_members:%s:%d:%s", type.name(), id, date.format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    // 인스턴스별 미반영 증감 해시: field = TYPE:id
+    public static String getJournalKey(String instanceId) {
+        return String.format("counter_journal:%s", instanceId);
+    }
+
+    // claim 된 저널. 원래 인스턴스가 더 이상 쓰지 못하도록 키를 옮겨 둔다
+    public static String getClaimedJournalKey(String instanceId) {
+        return String.format("counter_journal_claimed:%s", instanceId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ceos.beatbuddy.global.counter;
+
+/**
+ * 쓰기 지연 대상 카운터. entityName / field 는 JPQL 기준 이름이다.
+ */
+public enum CounterType {
+
+    POST_LIKES("Post", "likes", false),
+    POST_SCRAPS("Post", "scraps", false),
+    POST_COMMENTS("Post", "comments", false),
+    COMMENT_LIKES("Comment", "likes", false),
+    VENUE_REVIEW_LIKES("VenueReview", "likes", false),
+    VENUE_HEARTBEATS("Venue", "heartbeatNum", true),
+    POST_VIEWS("Post", "views", false),
+    EVENT_VIEWS("Event", "views", false),
+    MAGAZINE_VIEWS("Magazine", "views", false);
+
+    private final String entityName;
+    private final String field;
+    private final boolean longField;
+
+    CounterType(String entityName, String field, boolean longField) {
+        this.entityName = entityName;
+        this.field = field;
+        this.longField = longField;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    // int 컬럼에는 Integer 로 바인딩해야 JPQL 대입 타입 검사를 통과한다
+    public Number toParameter(long delta) {
+        return longField ? Long.valueOf(delta) : Integer.valueOf(Math.toIntExact(delta));
+    }
+}
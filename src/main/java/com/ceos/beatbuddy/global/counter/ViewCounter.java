@@ -0,0 +1,59 @@
+package com.ceos.beatbuddy.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 상세 조회수 집계. 같은 회원이 같은 날 다시 조회하면 세지 않는다.
+ * - 하루 단위 조회자 SET 에 회원 ID 를 SADD 해서 새로 들어간 경우(= 오늘 처음 보는 조회자)만 조회수를 올린다.
+ *   증가분은 WriteBehindCounterService 로 모아서 반영하므로 상세 조회 요청에서 UPDATE 가 나가지 않는다.
+ * - 따라서 공개되는 조회수는 회원별 하루 한 번 기준이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCounter {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Duration DAILY_KEY_TTL = Duration.ofDays(2);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WriteBehindCounterService writeBehindCounterService;
+
+    public void recordView(CounterType type, Long id, Long memberId) {
+        if (recordAndCheckFirstViewToday(type, id, memberId)) {
+            writeBehindCounterService.increment(type, id);
+        }
+    }
+
+    private boolean recordAndCheckFirstViewToday(CounterType type, Long id, Long memberId) {
+        LocalDate today = LocalDate.now(ZONE);
+        byte[] viewersKey = bytes(CounterRedisKeyUtil.getViewersKey(type, id, today));
+        byte[] member = bytes(memberId.toString());
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.setCommands().sAdd(viewersKey, member);
+                connection.keyCommands().expire(viewersKey, DAILY_KEY_TTL.toSeconds());
+                return null;
+            });
+            return Long.valueOf(1L).equals(results.get(0));
+        } catch (Exception e) {
+            // 중복 제거를 못 하더라도 조회수는 센다
+            log.warn("조회자 기록 실패 - {}:{}", type.name(), id, e);
+            return true;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
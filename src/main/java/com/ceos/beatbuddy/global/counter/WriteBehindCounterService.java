@@ -0,0 +1,557 @@
+package com.ceos.beatbuddy.global.counter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요/스크랩/댓글/하트비트 수처럼 한 행에 몰리는 카운터를 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ * - 증감은 호출한 트랜잭션 안에서 모았다가 커밋된 뒤 (TYPE, id) 별 LongAdder 에 더해진다. 롤백되면 반영되지 않는다.
+ * - flush 는 주기(counter.flush-interval-ms) 또는 쌓인 키 수(counter.flush-threshold)로 실행되고, 카운터 종류별 CASE UPDATE 를 한 트랜잭션에서 실행한다.
+ *   키 수로 예약하는 flush 는 한 번에 하나만 대기한다.
+ * - 메모리에 더하기 전에 Redis 저널에 먼저 기록하므로, 인스턴스가 죽어도 다른 인스턴스가 남은 증감을 DB 에 반영한다.
+ *   flush 마다 batchId 를 DB 에 같이 남겨서, 저널을 넘겨받은 인스턴스가 이미 반영된 증감을 다시 더하지 않는다.
+ * - Redis 장애로 저널에 못 남긴 증감은 unjournaled 에 따로 두고, 다음 flush 에서 저널에 기록한 뒤 flush 한다.
+ * - flush / 하트비트 / 복구는 전용 스케줄러(counterScheduler)에서 돈다. 그래도 저널을 빼앗기면 저널에 있던 증감은 버리고 새 ID 로 다시 등록한다.
+ *   unjournaled 는 빼앗긴 저널에 없으므로 남겨서 새 ID 의 저널에 기록한다.
+ * - 메모리에 든 키가 counter.max-pending-keys 를 넘으면 새 키의 증감은 모으지 않고 바로 DB 에 쓴다.
+ * - 응답을 만들 때 overlay 로 아직 반영되지 않은 증감을 더해서, 방금 누른 좋아요가 바로 보이게 한다 (같은 인스턴스 기준).
+ */
+@Slf4j
+@Service
+public class WriteBehindCounterService {
+
+    // 회수한 저널에서 flush 되지 않은 증감을 반영할 때 쓰는 batchId 접두사
+    private static final String CLAIMED_BATCH_PREFIX = "claimed:";
+    // 저널은 이보다 오래 남지 않으므로 지난 batch 기록은 지운다
+    private static final Duration APPLIED_BATCH_RETENTION = Duration.ofDays(7);
+
+    private final CounterBatchUpdater counterBatchUpdater;
+    private final CounterJournal counterJournal;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final TaskScheduler counterScheduler;
+    private final int flushThreshold;
+    private final long flushIntervalMs;
+    private final long heartbeatIntervalMs;
+    private final long recoverIntervalMs;
+    private final long staleAfterMs;
+    private final int maxPendingKeys;
+    // 키가 너무 많을 때 호출한 트랜잭션과 별개로 바로 쓰는 데 쓴다 (커밋 이후 콜백에서도 새 트랜잭션을 연다)
+    private final TransactionTemplate directWriteTemplate;
+
+    private volatile String instanceId = UUID.randomUUID().toString();
+    private volatile boolean closed;
+    // 저널 기록 + 메모리 반영(read)과 저널을 빼앗긴 뒤의 정리(write)가 섞이지 않게 한다
+    private final ReentrantReadWriteLock journalLock = new ReentrantReadWriteLock();
+    private final List<ScheduledFuture<?>> scheduledTasks = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<CounterKey, LongAdder> pending = new ConcurrentHashMap<>();
+    // Redis 장애로 저널에 기록하지 못한 증감. pending 에는 저널에 있는 증감만 둔다
+    private final ConcurrentHashMap<CounterKey, LongAdder> unjournaled = new ConcurrentHashMap<>();
+    // DB 에 쓰는 중인 증감. 커밋 전까지 overlay 가 값을 잃지 않도록 따로 들고 있는다
+    private final ConcurrentHashMap<CounterKey, Long> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+
+    public WriteBehindCounterService(CounterBatchUpdater counterBatchUpdater,
+                                     CounterJournal counterJournal,
+                                     TransactionTemplate transactionTemplate,
+                                     @Qualifier("taskExecutor") Executor taskExecutor,
+                                     @Qualifier("counterScheduler") TaskScheduler counterScheduler,
+                                     @Value("${counter.flush-threshold:1000}") int flushThreshold,
+                                     @Value("${counter.flush-interval-ms:1000}") long flushIntervalMs,
+                                     @Value("${counter.heartbeat-interval-ms:10000}") long heartbeatIntervalMs,
+                                     @Value("${counter.recover-interval-ms:60000}") long recoverIntervalMs,
+                                     @Value("${counter.stale-after-ms:120000}") long staleAfterMs,
+                                     @Value("${counter.max-pending-keys:100000}") int maxPendingKeys) {
+        this.counterBatchUpdater = counterBatchUpdater;
+        this.counterJournal = counterJournal;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.counterScheduler = counterScheduler;
+        this.flushThreshold = flushThreshold;
+        this.flushIntervalMs = flushIntervalMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.recoverIntervalMs = recoverIntervalMs;
+        this.staleAfterMs = staleAfterMs;
+        this.maxPendingKeys = maxPendingKeys;
+        this.directWriteTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.directWriteTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void increment(CounterType type, Long id) {
+        add(type, id, 1);
+    }
+
+    public void decrement(CounterType type, Long id) {
+        add(type, id, -1);
+    }
+
+    public void add(CounterType type, Long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        CounterKey key = new CounterKey(type, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionDeltas(true).deltas.merge(key, delta, Long::sum);
+        } else {
+            record(key, delta, true);
+        }
+    }
+
+    /**
+     * DB 값에 아직 반영되지 않은 증감을 더한다. 기존 감소 쿼리처럼 0 아래로는 내려가지 않는다.
+     * 지금 트랜잭션에서 add 한 아직 커밋되지 않은 증감도 더하므로, 같은 트랜잭션에서 만든 응답에도 바뀐 값이 보인다.
+     */
+    public int overlay(CounterType type, Long id, int base) {
+        return (int) Math.max(0, base + pendingDelta(new CounterKey(type, id)));
+    }
+
+    public long overlay(CounterType type, Long id, long base) {
+        return Math.max(0, base + pendingDelta(new CounterKey(type, id)));
+    }
+
+    /**
+     * 모든 인스턴스에서 아직 DB 에 반영되지 않은 증감. overlay 와 달리 다른 인스턴스의 저널까지 읽으므로 정기 보정에서만 쓴다.
+     */
+    public Map<Long, Long> pendingDeltas(CounterType type) {
+        return counterJournal.pendingDeltas(type);
+    }
+
+    public void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("카운터 반영 실패", e);
+        }
+    }
+
+    public void heartbeatSafely() {
+        String owner = instanceId;
+        try {
+            if (!counterJournal.heartbeat(owner)) {
+                fence(owner);
+            }
+        } catch (Exception e) {
+            log.warn("카운터 저널 하트비트 실패 - instanceId: {}", owner, e);
+        }
+    }
+
+    public void recoverSafely() {
+        try {
+            recoverStaleJournals();
+        } catch (Exception e) {
+            log.error("카운터 저널 복구 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul") // 매일 05:00
+    public void purgeAppliedBatches() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    counterBatchUpdater.deleteAppliedBefore(LocalDateTime.now().minus(APPLIED_BATCH_RETENTION)));
+            log.info("반영 완료된 카운터 batch 정리 - {}건", deleted);
+        } catch (Exception e) {
+            log.error("카운터 batch 정리 실패", e);
+        }
+    }
+
+    @PostConstruct
+    public void register() {
+        try {
+            counterJournal.register(instanceId);
+        } catch (Exception e) {
+            // 첫 하트비트에서 등록되지 않은 것을 보고 다시 등록한다
+            log.warn("카운터 저널 등록 실패 - instanceId: {}", instanceId, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        scheduledTasks.add(counterScheduler.scheduleWithFixedDelay(this::flushSafely, Duration.ofMillis(flushIntervalMs)));
+        scheduledTasks.add(counterScheduler.scheduleWithFixedDelay(this::heartbeatSafely, Duration.ofMillis(heartbeatIntervalMs)));
+        scheduledTasks.add(counterScheduler.scheduleWithFixedDelay(this::recoverSafely, Duration.ofMillis(recoverIntervalMs)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduledTasks.forEach(task -> task.cancel(false));
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 전 카운터 반영 실패 - instanceId: {}", instanceId, e);
+        }
+        journalLock.writeLock().lock();
+        try {
+            closed = true;
+            // 남은 증감은 저널째 넘겨서 다른 인스턴스가 반영하게 한다
+            counterJournal.handOff(instanceId);
+            if (!unjournaled.isEmpty()) {
+                log.error("종료 전 저널에 기록하지 못한 카운터 증감 {}건을 버림 - instanceId: {}", unjournaled.size(), instanceId);
+            }
+        } catch (Exception e) {
+            // 저널이 남아 있으므로 하트비트가 끊긴 뒤 다른 인스턴스가 반영한다
+            log.error("종료 전 카운터 저널 이관 실패 - instanceId: {}", instanceId, e);
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    private void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            String owner;
+            Map<CounterKey, Long> drained = new HashMap<>();
+            String batchId = UUID.randomUUID().toString();
+            boolean prepared = false;
+            journalLock.readLock().lock();
+            try {
+                owner = instanceId;
+                if (journalUnjournaled(owner)) {
+                    drained.putAll(drain());
+                    if (drained.isEmpty()) {
+                        return;
+                    }
+                    try {
+                        prepared = counterJournal.prepare(owner, batchId, drained);
+                    } catch (RuntimeException e) {
+                        // 저널에 batch 를 만들지 못했다. 다음 flush 에서 다시 시도한다
+                        drained.forEach((key, delta) -> addTo(pending, key, delta));
+                        drained.keySet().forEach(inFlight::remove);
+                        throw e;
+                    }
+                }
+            } finally {
+                journalLock.readLock().unlock();
+            }
+            if (!prepared) {
+                // 다른 인스턴스가 저널을 가져갔다. 이 증감은 그쪽에서 반영한다
+                drained.keySet().forEach(inFlight::remove);
+                fence(owner);
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    applyToDatabase(drained);
+                    counterBatchUpdater.markApplied(batchId);
+                });
+            } catch (RuntimeException e) {
+                // 저널을 그대로 갖고 있으면 batch 를 되돌려 다음 flush 에서 다시 시도한다
+                journalLock.readLock().lock();
+                try {
+                    if (restoreQuietly(owner, batchId, drained)) {
+                        drained.forEach((key, delta) -> addTo(pending, key, delta));
+                    }
+                } finally {
+                    journalLock.readLock().unlock();
+                }
+                throw e;
+            } finally {
+                drained.keySet().forEach(inFlight::remove);
+            }
+            counterJournal.ack(owner, batchId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void record(CounterKey key, long delta, boolean retryIfFenced) {
+        if (closed) {
+            log.warn("종료 중이라 카운터 증감을 버림 - {}: {}", key.toField(), delta);
+            return;
+        }
+        if (isFull(key) && writeDirectly(key, delta)) {
+            return;
+        }
+        String fencedOwner = null;
+        journalLock.readLock().lock();
+        try {
+            String owner = instanceId;
+            try {
+                if (counterJournal.append(owner, key, delta)) {
+                    addTo(pending, key, delta);
+                } else {
+                    fencedOwner = owner;
+                }
+            } catch (Exception e) {
+                // Redis 장애 중에도 카운트는 잃지 않도록 메모리에 따로 두고 다음 flush 에서 저널에 기록한다
+                log.warn("카운터 저널 기록 실패 - {}: {}", key.toField(), delta, e);
+                addTo(unjournaled, key, delta);
+            }
+        } finally {
+            journalLock.readLock().unlock();
+        }
+        if (fencedOwner != null) {
+            fence(fencedOwner);
+            if (retryIfFenced) {
+                record(key, delta, false);
+            } else {
+                log.warn("카운터 저널 재등록 후에도 기록 실패 - {}: {}", key.toField(), delta);
+            }
+            return;
+        }
+        if (pending.size() + unjournaled.size() >= flushThreshold) {
+            requestFlush();
+        }
+    }
+
+    // 이미 예약된 flush 가 시작되기 전에는 다시 예약하지 않는다
+    private void requestFlush() {
+        if (!flushQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                flushQueued.set(false);
+                flushSafely();
+            });
+        } catch (RuntimeException e) {
+            flushQueued.set(false);
+            log.warn("카운터 flush 예약 실패", e);
+        }
+    }
+
+    private boolean isFull(CounterKey key) {
+        return pending.size() + unjournaled.size() >= maxPendingKeys
+                && !pending.containsKey(key) && !unjournaled.containsKey(key);
+    }
+
+    /**
+     * 메모리에 모을 자리가 없을 때 증감을 바로 DB 에 쓴다. 실패하면 false 를 돌려주고, 호출한 쪽은 한도를 넘더라도 메모리에 모은다.
+     */
+    private boolean writeDirectly(CounterKey key, long delta) {
+        try {
+            directWriteTemplate.executeWithoutResult(status -> applyToDatabase(Map.of(key, delta)));
+            return true;
+        } catch (Exception e) {
+            log.warn("카운터 직접 반영 실패 - {}: {}", key.toField(), delta, e);
+            return false;
+        }
+    }
+
+    /**
+     * Redis 장애로 미뤄 둔 증감을 owner 의 저널에 기록하고 pending 으로 옮긴다. 저널을 빼앗겼으면 false.
+     * pending 이 저널과 어긋나지 않도록 drain 전에 journalLock 읽기 잠금 안에서 호출한다.
+     */
+    private boolean journalUnjournaled(String owner) {
+        for (Map.Entry<CounterKey, LongAdder> entry : unjournaled.entrySet()) {
+            CounterKey key = entry.getKey();
+            long delta = take(unjournaled, key, entry.getValue());
+            if (delta == 0) {
+                continue;
+            }
+            boolean appended;
+            try {
+                appended = counterJournal.append(owner, key, delta);
+            } catch (RuntimeException e) {
+                addTo(unjournaled, key, delta);
+                throw e;
+            }
+            if (!appended) {
+                addTo(unjournaled, key, delta);
+                return false;
+            }
+            addTo(pending, key, delta);
+        }
+        return true;
+    }
+
+    /**
+     * 저널을 다른 인스턴스가 가져갔다. pending 의 증감은 모두 그 저널에 들어 있으므로 버리고, 새 ID 로 다시 등록한다.
+     * unjournaled 는 그 저널에 없으므로 남겨 두고, 다음 flush 에서 새 ID 의 저널에 기록한다.
+     */
+    private void fence(String fencedOwner) {
+        journalLock.writeLock().lock();
+        try {
+            if (closed || !fencedOwner.equals(instanceId)) {
+                return;
+            }
+            int dropped = pending.size();
+            pending.clear();
+            inFlight.clear();
+            instanceId = UUID.randomUUID().toString();
+            register();
+            log.warn("카운터 저널을 다른 인스턴스가 가져감 - 미반영 {}건을 버리고 재등록: {} -> {} (저널 밖 {}건 유지)",
+                    dropped, fencedOwner, instanceId, unjournaled.size());
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    private boolean restoreQuietly(String owner, String batchId, Map<CounterKey, Long> flushed) {
+        try {
+            return counterJournal.restore(owner, batchId, flushed);
+        } catch (Exception e) {
+            // batch 가 저널에 남아 있으므로 복구 때 반영 여부를 확인해서 처리된다
+            log.warn("카운터 batch 되돌리기 실패 - batchId: {}", batchId, e);
+            return false;
+        }
+    }
+
+    private static void addTo(Map<CounterKey, LongAdder> counters, CounterKey key, long delta) {
+        while (delta != 0) {
+            LongAdder adder = counters.computeIfAbsent(key, k -> new LongAdder());
+            adder.add(delta);
+            if (counters.get(key) == adder) {
+                return;
+            }
+            // flush 가 그 사이에 키를 치웠다. 남은 값을 회수해서 새 LongAdder 에 다시 더한다
+            delta = adder.sumThenReset();
+        }
+    }
+
+    private static long take(Map<CounterKey, LongAdder> counters, CounterKey key, LongAdder adder) {
+        long delta = adder.sumThenReset();
+        // 한 주기 동안 변화가 없던 키만 치운다. 치운 직후 들어온 값은 이번에 함께 가져간다
+        if (delta == 0 && counters.remove(key, adder)) {
+            delta = adder.sumThenReset();
+        }
+        return delta;
+    }
+
+    private Map<CounterKey, Long> drain() {
+        Map<CounterKey, Long> drained = new HashMap<>();
+        for (Map.Entry<CounterKey, LongAdder> entry : pending.entrySet()) {
+            CounterKey key = entry.getKey();
+            long delta = take(pending, key, entry.getValue());
+            if (delta != 0) {
+                inFlight.merge(key, delta, Long::sum);
+                drained.merge(key, delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+
+    private void applyToDatabase(Map<CounterKey, Long> deltas) {
+        Map<CounterType, Map<Long, Long>> byType = new EnumMap<>(CounterType.class);
+        // 인스턴스끼리 같은 행을 다른 순서로 잠그지 않도록 id 순으로 정렬한다
+        deltas.forEach((key, delta) -> byType.computeIfAbsent(key.type(), t -> new TreeMap<>()).put(key.id(), delta));
+        byType.forEach(counterBatchUpdater::apply);
+    }
+
+    private void recoverStaleJournals() {
+        for (String staleInstanceId : counterJournal.claimStaleInstances(System.currentTimeMillis() - staleAfterMs)) {
+            log.info("중단된 인스턴스의 카운터 저널 회수 - instanceId: {}", staleInstanceId);
+        }
+        // 이전 복구가 실패했거나 종료하면서 넘긴 저널도 함께 처리한다
+        for (String claimedInstanceId : counterJournal.claimedInstances()) {
+            try {
+                replayClaimed(claimedInstanceId);
+            } catch (Exception e) {
+                log.error("카운터 저널 복구 실패 - instanceId: {}", claimedInstanceId, e);
+            }
+        }
+    }
+
+    /**
+     * 회수한 저널의 batch 중 DB 에 기록이 없는 것만 반영한다. flush 되지 않은 증감은 인스턴스 ID 로 만든 batch 하나로 반영한다.
+     * 반영과 batch 기록이 한 트랜잭션이므로 여러 인스턴스가 동시에 복구해도 한 번만 커밋된다.
+     */
+    private void replayClaimed(String claimedInstanceId) {
+        CounterJournal.JournalEntries journal = counterJournal.claimedEntries(claimedInstanceId);
+        Map<String, Map<CounterKey, Long>> batches = new HashMap<>(journal.batches());
+        if (!journal.open().isEmpty()) {
+            batches.put(CLAIMED_BATCH_PREFIX + claimedInstanceId, journal.open());
+        }
+
+        Integer replayed = 0;
+        if (!batches.isEmpty()) {
+            replayed = transactionTemplate.execute(status -> {
+                Set<String> applied = new HashSet<>(counterBatchUpdater.findAppliedBatchIds(batches.keySet()));
+                Map<CounterKey, Long> deltas = new HashMap<>();
+                int count = 0;
+                for (Map.Entry<String, Map<CounterKey, Long>> batch : batches.entrySet()) {
+                    if (applied.contains(batch.getKey())) {
+                        continue;
+                    }
+                    batch.getValue().forEach((key, delta) -> deltas.merge(key, delta, Long::sum));
+                    counterBatchUpdater.markApplied(batch.getKey());
+                    count++;
+                }
+                deltas.values().removeIf(delta -> delta == 0);
+                applyToDatabase(deltas);
+                return count;
+            });
+        }
+        counterJournal.deleteClaimed(claimedInstanceId);
+        log.info("중단된 인스턴스의 카운터 저널 복구 - instanceId: {}, batch {}/{}건 반영", claimedInstanceId, replayed, batches.size());
+    }
+
+    private long pendingDelta(CounterKey key) {
+        long delta = sumOf(pending, key) + sumOf(unjournaled, key) + inFlight.getOrDefault(key, 0L);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionDeltas transactionDeltas = transactionDeltas(false);
+            if (transactionDeltas != null) {
+                delta += transactionDeltas.deltas.getOrDefault(key, 0L);
+            }
+        }
+        return delta;
+    }
+
+    private static long sumOf(Map<CounterKey, LongAdder> counters, CounterKey key) {
+        LongAdder adder = counters.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // REQUIRES_NEW 로 열린 트랜잭션은 동기화 목록이 따로 잡히므로 바깥 트랜잭션의 증감과 섞이지 않는다
+    private TransactionDeltas transactionDeltas(boolean create) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionDeltas transactionDeltas && transactionDeltas.owner() == this) {
+                return transactionDeltas;
+            }
+        }
+        if (!create) {
+            return null;
+        }
+        TransactionDeltas transactionDeltas = new TransactionDeltas();
+        TransactionSynchronizationManager.registerSynchronization(transactionDeltas);
+        return transactionDeltas;
+    }
+
+    /**
+     * 한 트랜잭션에서 생긴 증감을 키별로 합쳐 두었다가 커밋된 뒤 기록한다.
+     */
+    private final class TransactionDeltas implements TransactionSynchronization {
+
+        private final Map<CounterKey, Long> deltas = new HashMap<>();
+
+        private WriteBehindCounterService owner() {
+            return WriteBehindCounterService.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) {
+                    record(key, delta, true);
+                }
+            });
+        }
+    }
+}
@@ -8,13 +8,16 @@ import com.ceos.beatbuddy.global.util.UploadUtilAsyncWrapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +25,34 @@ import java.util.concurrent.TimeoutException;
 public class ImageUploadService {
 
     private final UploadUtilAsyncWrapper uploadUtilAsyncWrapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 업로드가 끝난 뒤 짧은 트랜잭션에서 저장한다. 저장(커밋 포함)이 실패하면 이미 올린 파일을 지운다.
+     * S3 업로드 동안 DB 커넥션을 잡지 않도록 업로드는 이 메서드를 부르기 전에 트랜잭션 밖에서 끝내고,
+     * 회원 조회 같은 DB 작업도 save 안에서 한다 (OSIV 에서는 처음 쓴 커넥션을 요청이 끝날 때까지 잡는다).
+     */
+    public <T> T saveAfterUpload(List<String> uploadedUrls, UploadUtil.BucketType type, Supplier<T> save) {
+        try {
+            return transactionTemplate.execute(status -> save.get());
+        } catch (RuntimeException e) {
+            if (!uploadedUrls.isEmpty()) {
+                uploadUtilAsyncWrapper.deleteUploadedAsync(uploadedUrls, type);
+            }
+            throw e;
+        }
+    }
+
+    public static List<String> uploadedUrls(List<UploadResult> results) {
+        List<String> urls = new ArrayList<>();
+        for (UploadResult result : results) {
+            urls.add(result.getOriginalUrl());
+            if (result.getThumbnailUrl() != null) {
+                urls.add(result.getThumbnailUrl());
+            }
+        }
+        return urls;
+    }
 
     public List<String> uploadImagesParallel(List<MultipartFile> images, UploadUtil.BucketType type, String folder) {
         List<CompletableFuture<UploadResult>> futures = images.stream()
@@ -48,9 +79,11 @@ public class ImageUploadService {
                     .toList();
         } catch (TimeoutException e) {
             log.error("이미지 업로드 타임아웃 (60초 초과)", e);
+            discardUploaded(futures, type);
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
         } catch (Exception e) {
             log.error("병렬 이미지 업로드 중 오류 발생", e);
+            discardUploaded(futures, type);
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
         }
     }
@@ -80,10 +113,18 @@ public class ImageUploadService {
                     .toList();
         } catch (TimeoutException e) {
             log.error("이미지+썸네일 업로드 타임아웃 (60초 초과)", e);
+            discardUploaded(futures, type);
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
         } catch (Exception e) {
             log.error("병렬 이미지+썸네일 업로드 중 오류 발생", e);
+            discardUploaded(futures, type);
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
         }
     }
+
+    // 일부만 실패해도 요청 전체가 실패하므로, 성공했거나 타임아웃 뒤에 끝나는 업로드는 지운다
+    private void discardUploaded(List<CompletableFuture<UploadResult>> futures, UploadUtil.BucketType type) {
+        futures.forEach(future -> future.thenAccept(result ->
+                uploadUtilAsyncWrapper.deleteUploadedAsync(uploadedUrls(List.of(result)), type)));
+    }
 }
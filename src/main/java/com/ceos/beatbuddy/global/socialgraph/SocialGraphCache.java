@@ -0,0 +1,146 @@
+package com.ceos.beatbuddy.global.socialgraph;
+
+import com.ceos.beatbuddy.domain.follow.repository.FollowRepository;
+import com.ceos.beatbuddy.domain.member.repository.MemberBlockRepository;
+import com.ceos.beatbuddy.global.util.LongIdSet;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 멤버별 차단 ID, 팔로잉 ID 캐시.
+ * - L1: 인스턴스 메모리 (짧은 TTL), L2: Redis 문자열 (긴 TTL), 둘 다 없으면 DB 에서 읽어 채운다.
+ * - 차단/팔로우가 바뀌면 커밋 후 L2 를 지우고 채널로 알려서 모든 인스턴스의 L1 을 비운다.
+ * - Redis 를 쓸 수 없으면 DB 값을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SocialGraphCache {
+
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final int LOCAL_MAX_ENTRIES = 10_000;
+    private static final String BLOCKED = "blocked";
+    private static final String FOLLOWING = "following";
+
+    private final MemberBlockRepository memberBlockRepository;
+    private final FollowRepository followRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentHashMap<Long, LocalEntry> localBlocked = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LocalEntry> localFollowing = new ConcurrentHashMap<>();
+
+    private record LocalEntry(LongIdSet ids, long expiresAt) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(SocialGraphRedisKeyUtil.INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * memberId 가 차단한 멤버 ID 집합
+     */
+    public LongIdSet getBlockedMemberIds(Long memberId) {
+        return get(localBlocked, memberId, SocialGraphRedisKeyUtil.getBlockedKey(memberId),
+                id -> LongIdSet.of(memberBlockRepository.findBlockedMemberIdsByBlockerId(id)));
+    }
+
+    /**
+     * memberId 가 팔로우하는 멤버 ID 집합
+     */
+    public LongIdSet getFollowingMemberIds(Long memberId) {
+        return get(localFollowing, memberId, SocialGraphRedisKeyUtil.getFollowingKey(memberId),
+                id -> LongIdSet.of(followRepository.findFollowingMemberIds(id)));
+    }
+
+    public void evictBlocked(Long memberId) {
+        evict(BLOCKED, memberId, SocialGraphRedisKeyUtil.getBlockedKey(memberId));
+    }
+
+    public void evictFollowing(Long memberId) {
+        evict(FOLLOWING, memberId, SocialGraphRedisKeyUtil.getFollowingKey(memberId));
+    }
+
+    private LongIdSet get(ConcurrentHashMap<Long, LocalEntry> local, Long memberId, String redisKey,
+                            Function<Long, LongIdSet> loader) {
+        if (memberId == null) {
+            return LongIdSet.empty();
+        }
+        long now = System.currentTimeMillis();
+        LocalEntry entry = local.get(memberId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.ids();
+        }
+
+        LongIdSet ids = null;
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey);
+            if (cached != null) {
+                ids = LongIdSet.decode(cached);
+            }
+        } catch (Exception e) {
+            log.warn("소셜 그래프 캐시 조회 실패 - key: {}", redisKey, e);
+        }
+
+        if (ids == null) {
+            ids = loader.apply(memberId);
+            try {
+                redisTemplate.opsForValue().set(redisKey, ids.encode(), REDIS_TTL);
+            } catch (Exception e) {
+                log.warn("소셜 그래프 캐시 저장 실패 - key: {}", redisKey, e);
+            }
+        }
+
+        putLocal(local, memberId, ids, now);
+        return ids;
+    }
+
+    private void putLocal(ConcurrentHashMap<Long, LocalEntry> local, Long memberId, LongIdSet ids, long now) {
+        if (local.size() >= LOCAL_MAX_ENTRIES) {
+            local.values().removeIf(e -> e.expiresAt() <= now);
+            if (local.size() >= LOCAL_MAX_ENTRIES) {
+                local.clear();
+            }
+        }
+        local.put(memberId, new LocalEntry(ids, now + LOCAL_TTL.toMillis()));
+    }
+
+    private void evict(String relation, Long memberId, String redisKey) {
+        String message = relation + ":" + memberId;
+        evictLocal(message);
+        try {
+            redisTemplate.delete(redisKey);
+            redisTemplate.convertAndSend(SocialGraphRedisKeyUtil.INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1 은 TTL 이 지나면 갱신된다
+            log.error("소셜 그래프 캐시 무효화 실패 - {}", message, e);
+        }
+    }
+
+    private void evictLocal(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        Long memberId = Long.valueOf(message.substring(separator + 1));
+        if (BLOCKED.equals(message.substring(0, separator))) {
+            localBlocked.remove(memberId);
+        } else {
+            localFollowing.remove(memberId);
+        }
+    }
+}
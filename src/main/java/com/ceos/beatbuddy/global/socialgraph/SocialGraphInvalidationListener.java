@@ -0,0 +1,28 @@
+package com.ceos.beatbuddy.global.socialgraph;
+
+import com.ceos.beatbuddy.domain.follow.entity.FollowChangedEvent;
+import com.ceos.beatbuddy.domain.member.entity.MemberBlockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SocialGraphInvalidationListener {
+
+    private final SocialGraphCache socialGraphCache;
+
+    // 차단하면 양방향 팔로우도 함께 해제되므로 두 사람의 팔로잉 캐시도 비운다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMemberBlockChanged(MemberBlockChangedEvent event) {
+        socialGraphCache.evictBlocked(event.blockerId());
+        socialGraphCache.evictFollowing(event.blockerId());
+        socialGraphCache.evictFollowing(event.blockedId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        socialGraphCache.evictFollowing(event.followerId());
+    }
+}
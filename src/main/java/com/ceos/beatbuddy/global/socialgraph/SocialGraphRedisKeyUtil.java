@@ -0,0 +1,15 @@
+package com.ceos.beatbuddy.global.socialgraph;
+
+public class SocialGraphRedisKeyUtil {
+
+    // 다른 인스턴스의 로컬 캐시를 비우라는 메시지 채널 ("blocked:12", "following:12")
+    public static final String INVALIDATION_CHANNEL = "social_graph:invalidate";
+
+    public static String getBlockedKey(Long memberId) {
+        return String.format("social_graph:blocked:%d", memberId);
+    }
+
+    public static String getFollowingKey(Long memberId) {
+        return String.format("social_graph:following:%d", memberId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ceos.beatbuddy.global.util;
+
+import java.util.*;
+
+/**
+ * 정렬된 long[] 로 들고 있는 읽기 전용 ID 집합 (차단/팔로잉 멤버 ID, 좋아요/스크랩한 게시글 ID 등).
+ * 수천 개의 ID 를 캐시에 오래 두어도 Long 객체와 해시 버킷을 만들지 않고, contains 는 이진 탐색으로 처리한다.
+ * 기존 코드가 Set<Long> 을 그대로 받을 수 있도록 AbstractSet 을 구현한다.
+ */
+public final class LongIdSet extends AbstractSet<Long> {
+
+    private static final LongIdSet EMPTY = new LongIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private LongIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LongIdSet empty() {
+        return EMPTY;
+    }
+
+    public static LongIdSet of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new LongIdSet(sorted);
+    }
+
+    /**
+     * encode 로 만든 "1,2,3" 형태의 문자열을 읽는다. 빈 문자열은 빈 집합이다.
+     */
+    public static LongIdSet decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = Arrays.stream(value.split(","))
+                .mapToLong(Long::parseLong)
+                .toArray();
+        return new LongIdSet(sorted);
+    }
+
+    public String encode() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (long id : ids) {
+            joiner.add(Long.toString(id));
+        }
+        return joiner.toString();
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long id && contains(id.longValue());
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * QueryDSL notIn 등에 넘길 박싱된 목록.
+     */
+    public List<Long> toList() {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < ids.length;
+            }
+
+            @Override
+            public Long next() {
+                if (index >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return ids[index++];
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.ceos.beatbuddy.global.util;
+
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * DB 의 NULL 을 빈 목록이 아닌 null 로 읽는 StringListConverter.
+ * "아직 채우지 않음(NULL)" 과 "비어 있음([])" 을 구분해야 하는 컬럼에 쓴다.
+ */
+@Converter
+public class NullableStringListConverter extends StringListConverter {
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return super.convertToEntityAttribute(dbData);
+    }
+}
@@ -110,4 +110,16 @@ public class UploadUtilAsyncWrapper {
             }
         }
     }
+
+    // 저장에 실패한 요청이 올린 파일을 지운다. 썸네일 URL 도 목록에 들어 있으므로 경로를 바꿔 지우지 않는다
+    @Async("uploadExecutor")
+    public void deleteUploadedAsync(List<String> urls, UploadUtil.BucketType type) {
+        for (String url : urls) {
+            try {
+                uploadUtil.deleteImage(url, type);
+            } catch (Exception e) {
+                log.warn("업로드 파일 정리 실패 - {}", url, e);
+            }
+        }
+    }
 }
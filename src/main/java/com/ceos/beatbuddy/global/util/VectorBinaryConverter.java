@@ -0,0 +1,28 @@
+package com.ceos.beatbuddy.global.util;
+
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Vector <-> VARBINARY 변환. "[1.0, 0.0, ...]" 문자열 LOB 대신 고정폭 바이너리로 저장한다.
+ */
+@Converter
+public class VectorBinaryConverter implements AttributeConverter<Vector, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(Vector attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return attribute.toBytes();
+    }
+
+    @Override
+    public Vector convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null || dbData.length == 0) {
+            return null;
+        }
+        return Vector.fromBytes(dbData);
+    }
+}
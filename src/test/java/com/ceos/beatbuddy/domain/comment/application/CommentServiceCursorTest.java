@@ -0,0 +1,206 @@
+package com.ceos.beatbuddy.domain.comment.application;
+
+import com.ceos.beatbuddy.BeatBuddyApplication;
+import com.ceos.beatbuddy.domain.comment.dto.CommentCursorResponseDto;
+import com.ceos.beatbuddy.domain.comment.dto.CommentResponseDto;
+import com.ceos.beatbuddy.domain.comment.dto.CommentThreadCursorResponseDto;
+import com.ceos.beatbuddy.domain.comment.dto.CommentThreadResponseDto;
+import com.ceos.beatbuddy.domain.comment.entity.Comment;
+import com.ceos.beatbuddy.domain.comment.exception.CommentErrorCode;
+import com.ceos.beatbuddy.domain.comment.repository.CommentRepository;
+import com.ceos.beatbuddy.domain.member.application.MemberService;
+import com.ceos.beatbuddy.domain.member.entity.Member;
+import com.ceos.beatbuddy.domain.post.entity.FreePost;
+import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.global.ApiCode;
+import com.ceos.beatbuddy.global.CustomException;
+import com.ceos.beatbuddy.global.code.ErrorCode;
+import com.ceos.beatbuddy.global.counter.WriteBehindCounterService;
+import com.ceos.beatbuddy.global.socialgraph.SocialGraphCache;
+import com.ceos.beatbuddy.global.util.LongIdSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 댓글 커서 목록이 (createdAt, id) 순으로 빠짐없이 이어지고, size / replySize 가 상한으로 잘리는지 확인한다.
+ * 작성 시각을 모두 같게 맞춰서 id 로만 순서가 갈리는 경우를 본다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment_cursor;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.test.database.replace=none",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class CommentServiceCursorTest {
+
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = BeatBuddyApplication.class)
+    @EnableJpaRepositories(basePackageClasses = CommentRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CommentRepository.class))
+    static class JpaTestConfig {
+    }
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private CommentService commentService;
+    private Member writer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 조회에는 저장소만 쓰고, 차단/팔로우/좋아요 수는 빈 값이면 된다
+        SocialGraphCache socialGraphCache = mock(SocialGraphCache.class);
+        when(socialGraphCache.getFollowingMemberIds(any())).thenReturn(LongIdSet.empty());
+        commentService = new CommentService(commentRepository, mock(MemberService.class), null, null, null, null, null, null,
+                mock(WriteBehindCounterService.class), socialGraphCache);
+
+        writer = testEntityManager.persist(Member.builder().loginId("writer").nickname("writer").build());
+        post = testEntityManager.persist(FreePost.builder()
+                .title("title")
+                .content("content")
+                .member(writer)
+                .hashtag(List.of())
+                .build());
+    }
+
+    @Test
+    void 최상위_댓글은_커서로_끝까지_한_번씩_이어진다() {
+        List<Long> rootIds = persistComments(null, 7);
+
+        List<Long> seen = new ArrayList<>();
+        List<Boolean> hasNext = new ArrayList<>();
+        String cursor = null;
+        do {
+            CommentThreadCursorResponseDto page = commentService.getCommentThreads(post.getId(), cursor, 3, 5, writer.getId());
+            page.threads().forEach(thread -> seen.add(thread.comment().id()));
+            hasNext.add(page.hasNext());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(rootIds);
+        assertThat(hasNext).containsExactly(true, true, false);
+    }
+
+    @Test
+    void 대댓글은_replySize_개까지_붙고_나머지는_getReplies_로_이어진다() {
+        Long rootId = persistComments(null, 1).get(0);
+        List<Long> replyIds = persistComments(rootId, 5);
+        Long otherRootId = persistComments(null, 1).get(0);
+
+        CommentThreadCursorResponseDto page = commentService.getCommentThreads(post.getId(), null, 10, 2, writer.getId());
+
+        CommentThreadResponseDto thread = page.threads().get(0);
+        assertThat(ids(thread.replies())).containsExactlyElementsOf(replyIds.subList(0, 2));
+        assertThat(thread.hasMoreReplies()).isTrue();
+        CommentThreadResponseDto other = page.threads().get(1);
+        assertThat(other.comment().id()).isEqualTo(otherRootId);
+        assertThat(other.replies()).isEmpty();
+        assertThat(other.hasMoreReplies()).isFalse();
+        assertThat(other.nextReplyCursor()).isNull();
+
+        CommentCursorResponseDto rest = commentService.getReplies(post.getId(), rootId, thread.nextReplyCursor(), 2, writer.getId());
+        assertThat(ids(rest.comments())).containsExactlyElementsOf(replyIds.subList(2, 4));
+        assertThat(rest.hasNext()).isTrue();
+
+        CommentCursorResponseDto last = commentService.getReplies(post.getId(), rootId, rest.nextCursor(), 2, writer.getId());
+        assertThat(ids(last.comments())).containsExactly(replyIds.get(4));
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void size_와_replySize_는_상한으로_잘린다() {
+        Long rootId = persistComments(null, 1).get(0);
+        persistComments(rootId, 55);
+        persistComments(null, 54);
+
+        CommentThreadCursorResponseDto page = commentService.getCommentThreads(post.getId(), null, Integer.MAX_VALUE, Integer.MAX_VALUE, writer.getId());
+
+        assertThat(page.size()).isEqualTo(50);
+        assertThat(page.threads()).hasSize(50);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.threads().get(0).replies()).hasSize(20);
+        assertThat(page.threads().get(0).hasMoreReplies()).isTrue();
+
+        CommentCursorResponseDto replies = commentService.getReplies(post.getId(), rootId, null, Integer.MAX_VALUE, writer.getId());
+
+        assertThat(replies.size()).isEqualTo(50);
+        assertThat(replies.comments()).hasSize(50);
+        assertThat(replies.hasNext()).isTrue();
+    }
+
+    @Test
+    void size_가_1_보다_작으면_거부한다() {
+        Long rootId = persistComments(null, 1).get(0);
+
+        assertError(() -> commentService.getCommentThreads(post.getId(), null, 0, 5, writer.getId()), ErrorCode.PAGE_OUT_OF_BOUNDS);
+        assertError(() -> commentService.getCommentThreads(post.getId(), null, 10, 0, writer.getId()), ErrorCode.PAGE_OUT_OF_BOUNDS);
+        assertError(() -> commentService.getReplies(post.getId(), rootId, null, -1, writer.getId()), ErrorCode.PAGE_OUT_OF_BOUNDS);
+    }
+
+    @Test
+    void 잘못된_커서와_다른_게시글의_댓글은_거부한다() {
+        Long rootId = persistComments(null, 1).get(0);
+
+        assertError(() -> commentService.getCommentThreads(post.getId(), "not a cursor", 10, 5, writer.getId()), CommentErrorCode.INVALID_CURSOR);
+        assertError(() -> commentService.getReplies(post.getId(), rootId, "not a cursor", 10, writer.getId()), CommentErrorCode.INVALID_CURSOR);
+        assertError(() -> commentService.getReplies(post.getId() + 1, rootId, null, 10, writer.getId()), CommentErrorCode.COMMENT_NOT_FOUND);
+    }
+
+    private List<Long> persistComments(Long parentId, int count) {
+        Comment parent = parentId != null ? testEntityManager.find(Comment.class, parentId) : null;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Comment comment = testEntityManager.persist(Comment.builder()
+                    .content("comment " + i)
+                    .member(writer)
+                    .post(post)
+                    .reply(parent)
+                    .build());
+            ids.add(comment.getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.getEntityManager()
+                .createQuery("UPDATE Comment c SET c.createdAt = :createdAt")
+                .setParameter("createdAt", CREATED_AT)
+                .executeUpdate();
+        testEntityManager.clear();
+        return ids;
+    }
+
+    private static List<Long> ids(List<CommentResponseDto> comments) {
+        return comments.stream().map(CommentResponseDto::id).toList();
+    }
+
+    private static void assertError(Runnable call, ApiCode expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getApiCode()).isEqualTo(expected));
+    }
+}
@@ -0,0 +1,134 @@
+package com.ceos.beatbuddy.domain.post.application;
+
+import com.ceos.beatbuddy.BeatBuddyApplication;
+import com.ceos.beatbuddy.domain.comment.entity.Comment;
+import com.ceos.beatbuddy.domain.member.entity.Member;
+import com.ceos.beatbuddy.domain.post.dto.PostInteractionStatus;
+import com.ceos.beatbuddy.domain.post.entity.FreePost;
+import com.ceos.beatbuddy.domain.post.entity.Post;
+import com.ceos.beatbuddy.domain.post.repository.PostRepository;
+import com.ceos.beatbuddy.domain.scrapandlike.entity.PostLike;
+import com.ceos.beatbuddy.domain.scrapandlike.entity.PostScrap;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록의 좋아요/스크랩/댓글 여부가 게시글 수와 상관없이 쿼리 한 번으로 조회되는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:beatbuddy;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.test.database.replace=none",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostInteractionServiceQueryCountTest {
+
+    // 애플리케이션 설정의 Elasticsearch 저장소, 캐시 설정 없이 JPA 만 띄운다
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = BeatBuddyApplication.class)
+    @EnableJpaRepositories(basePackageClasses = PostRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = PostRepository.class))
+    static class JpaTestConfig {
+    }
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private PostInteractionService postInteractionService;
+    private Member viewer;
+    private List<Long> postIds;
+    private Long likedPostId;
+    private Long scrappedPostId;
+    private Long commentedPostId;
+
+    @BeforeEach
+    void setUp() {
+        // 이 테스트는 UNION 조회만 쓰므로 나머지 의존성은 필요 없다
+        postInteractionService = new PostInteractionService(null, postRepository, null, null, null, null, null);
+
+        Member author = testEntityManager.persist(Member.builder().loginId("author").nickname("author").build());
+        viewer = testEntityManager.persist(Member.builder().loginId("viewer").nickname("viewer").build());
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            posts.add(testEntityManager.persist(FreePost.builder()
+                    .title("title " + i)
+                    .content("content " + i)
+                    .member(author)
+                    .hashtag(List.of())
+                    .build()));
+        }
+        postIds = posts.stream().map(Post::getId).toList();
+        likedPostId = posts.get(0).getId();
+        scrappedPostId = posts.get(1).getId();
+        commentedPostId = posts.get(2).getId();
+
+        testEntityManager.persist(PostLike.builder().member(viewer).post(posts.get(0)).build());
+        testEntityManager.persist(PostScrap.builder().member(viewer).post(posts.get(1)).build());
+        // 같은 글에 댓글을 여러 번 달아도 한 번만 나와야 하고, 삭제된 댓글은 세지 않는다
+        testEntityManager.persist(comment(posts.get(2), false));
+        testEntityManager.persist(comment(posts.get(2), false));
+        testEntityManager.persist(comment(posts.get(3), true));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void loadsInteractionFlagsForWholePageInOneQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PostInteractionStatus status = postInteractionService.getAllPostInteractions(viewer.getId(), postIds);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(status.likedPostIds()).containsExactly(likedPostId);
+        assertThat(status.scrappedPostIds()).containsExactly(scrappedPostId);
+        assertThat(status.commentedPostIds()).containsExactly(commentedPostId);
+    }
+
+    @Test
+    void skipsQueryForEmptyPage() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PostInteractionStatus status = postInteractionService.getAllPostInteractions(viewer.getId(), List.of());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(status.likedPostIds()).isEmpty();
+    }
+
+    private Comment comment(Post post, boolean deleted) {
+        return Comment.builder()
+                .content("comment")
+                .member(viewer)
+                .post(post)
+                .isDeleted(deleted)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ceos.beatbuddy.domain.post.dto;
+
+import com.ceos.beatbuddy.domain.post.exception.PostErrorCode;
+import com.ceos.beatbuddy.global.CustomException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void 인코딩한_커서는_그대로_디코딩된다() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 7, 1, 12, 0, 0, 123_000_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PostCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 비어_있으면_첫_페이지다() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode("")).isNull();
+        assertThat(PostCursor.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "MjAyNS0wNy0wMVQxMjowMDowMHw0Mg==="})
+    void base64_가_아니면_거부한다(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2025-07-01T12:00:00",      // 구분자 없음
+            "2025-07-01T12:00:00|",     // id 없음
+            "|42",                      // 시각 없음
+            "2025-07-01|42",            // 날짜만 있음
+            "2025-07-01T12:00:00|abc",  // 숫자가 아닌 id
+            "2025-13-01T12:00:00|42",   // 없는 날짜
+            "42"
+    })
+    void 일부만_있거나_형식이_틀리면_거부한다(String raw) {
+        assertInvalid(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> PostCursor.decode(cursor))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getApiCode()).isEqualTo(PostErrorCode.INVALID_CURSOR));
+    }
+}
@@ -0,0 +1,125 @@
+package com.ceos.beatbuddy.domain.vector.application;
+
+import com.ceos.beatbuddy.domain.heartbeat.repository.HeartbeatRepository;
+import com.ceos.beatbuddy.domain.heartbeat.repository.MemberVenuePair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HeartbeatCoOccurrenceModelTest {
+
+    private final HeartbeatRepository heartbeatRepository = mock(HeartbeatRepository.class);
+    private final HeartbeatCoOccurrenceModel model = new HeartbeatCoOccurrenceModel(heartbeatRepository);
+
+    @Test
+    void 점수는_두_베뉴_하트비트_수의_기하평균으로_나눈다() {
+        // 베뉴 10 은 4명, 20 은 2명, 30 은 1명이 하트비트했다
+        load(pair(1, 10), pair(1, 20),
+                pair(2, 10), pair(2, 20),
+                pair(3, 10), pair(3, 30),
+                pair(4, 10),
+                pair(5, 99));
+
+        Map<Long, Double> scores = model.score(4L);
+
+        assertThat(scores).containsOnlyKeys(20L, 30L);
+        assertThat(scores.get(20L)).isCloseTo(2 / Math.sqrt(4 * 2), within(1e-12));
+        assertThat(scores.get(30L)).isCloseTo(1 / Math.sqrt(4 * 1), within(1e-12));
+    }
+
+    @Test
+    void 여러_하트비트의_점수를_더하고_이미_하트비트한_베뉴는_뺀다() {
+        load(pair(1, 10), pair(1, 20), pair(1, 30),
+                pair(2, 10), pair(2, 20));
+
+        Map<Long, Double> scores = model.score(2L);
+
+        // 30 은 10, 20 과 각각 한 번씩 함께 나왔다: 1/sqrt(2*1) + 1/sqrt(2*1)
+        assertThat(scores).containsOnlyKeys(30L);
+        assertThat(scores.get(30L)).isCloseTo(2 / Math.sqrt(2), within(1e-12));
+        assertThat(model.heartbeatVenueIds(2L)).containsExactlyInAnyOrder(10L, 20L);
+    }
+
+    @Test
+    void 인기_베뉴를_거친_동시_출현은_작게_반영된다() {
+        // 베뉴 10 은 모두가 하트비트한 인기 베뉴, 베뉴 20 은 회원 1과 취향이 같은 소수만 하트비트했다
+        List<MemberVenuePair> pairs = new ArrayList<>();
+        for (long member = 1; member <= 50; member++) {
+            pairs.add(pair(member, 10));
+        }
+        pairs.add(pair(1, 30));
+        pairs.add(pair(2, 30));
+        pairs.add(pair(2, 20));
+        load(pairs.toArray(MemberVenuePair[]::new));
+
+        Map<Long, Double> scores = model.score(1L);
+
+        // 20 은 인기 베뉴 10 (50명) 과 드문 베뉴 30 (2명) 양쪽에서 한 번씩 함께 나왔다
+        assertThat(scores).containsOnlyKeys(20L);
+        assertThat(scores.get(20L)).isCloseTo(1 / Math.sqrt(2 * 1) + 1 / Math.sqrt(50 * 1), within(1e-12));
+    }
+
+    @Test
+    void 증분_갱신은_다시_적재한_결과와_같다() {
+        load(pair(1, 10), pair(2, 10), pair(2, 20));
+        model.addHeartbeat(1L, 20L);
+        model.addHeartbeat(1L, 30L);
+        model.addHeartbeat(3L, 30L);
+        model.addHeartbeat(3L, 30L);
+        model.removeHeartbeat(2L, 10L);
+        Map<Long, Double> incremental = model.score(3L);
+
+        HeartbeatCoOccurrenceModel reloaded = new HeartbeatCoOccurrenceModel(heartbeatRepository);
+        given(heartbeatRepository.findAllMemberVenuePairs()).willReturn(List.of(
+                pair(1, 10), pair(1, 20), pair(1, 30), pair(2, 20), pair(3, 30)));
+        reloaded.load();
+
+        assertThat(incremental).isEqualTo(reloaded.score(3L));
+        assertThat(incremental.get(10L)).isCloseTo(1 / Math.sqrt(2 * 1), within(1e-12));
+    }
+
+    @Test
+    void 하트비트를_모두_지우면_점수가_없다() {
+        load(pair(1, 10), pair(2, 10), pair(2, 20));
+
+        model.removeHeartbeat(2L, 20L);
+
+        assertThat(model.score(1L)).isEmpty();
+        model.removeHeartbeat(1L, 10L);
+        assertThat(model.score(1L)).isEmpty();
+        assertThat(model.heartbeatVenueIds(1L)).isEmpty();
+    }
+
+    @Test
+    void 적재_전에는_점수가_없다() {
+        model.addHeartbeat(1L, 10L);
+
+        assertThat(model.score(1L)).isEmpty();
+    }
+
+    private void load(MemberVenuePair... pairs) {
+        given(heartbeatRepository.findAllMemberVenuePairs()).willReturn(List.of(pairs));
+        model.load();
+    }
+
+    private static MemberVenuePair pair(long memberId, long venueId) {
+        return new MemberVenuePair() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public Long getVenueId() {
+                return venueId;
+            }
+        };
+    }
+}
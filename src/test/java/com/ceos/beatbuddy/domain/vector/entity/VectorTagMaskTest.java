@@ -0,0 +1,98 @@
+package com.ceos.beatbuddy.domain.vector.entity;
+
+import com.ceos.beatbuddy.global.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorTagMaskTest {
+
+    private static final List<String> GENRES = List.of(
+            "HIPHOP", "R&B", "EDM", "HOUSE", "TECHNO", "SOUL&FUNK", "ROCK", "LATIN", "K-POP", "POP");
+    private static final List<String> MOODS = List.of(
+            "CLUB", "PUB", "ROOFTOP", "DEEP", "COMMERCIAL", "CHILL", "EXOTIC", "HUNTING", "BAR&CAFE");
+
+    @Test
+    void 태그_목록과_마스크는_서로_왕복된다() {
+        Vector genre = Vector.fromString(Vector.inputGenreVector(List.of("EDM", "POP", "HIPHOP")));
+        Vector mood = Vector.fromString(Vector.inputMoodVector(List.of("BAR&CAFE", "CLUB")));
+
+        assertThat(Vector.getTrueGenreElements(genre)).containsExactly("HIPHOP", "EDM", "POP");
+        assertThat(Vector.getTrueMoodElements(mood)).containsExactly("CLUB", "BAR&CAFE");
+        assertThat(genre.tagMask()).isEqualTo(Vector.genreBit("HIPHOP") | Vector.genreBit("EDM") | Vector.genreBit("POP"));
+    }
+
+    @Test
+    void 모든_장르와_무드_조합이_왕복된다() {
+        for (int mask = 0; mask < 1 << GENRES.size(); mask++) {
+            Vector genre = Vector.fromString(Vector.inputGenreVector(tagsOf(GENRES, mask)));
+            assertThat(genre.tagMask()).isEqualTo(mask);
+            assertThat(Vector.getTrueGenreElements(genre)).isEqualTo(tagsOf(GENRES, mask));
+        }
+        for (int mask = 0; mask < 1 << MOODS.size(); mask++) {
+            Vector mood = Vector.fromString(Vector.inputMoodVector(tagsOf(MOODS, mask)));
+            assertThat(mood.tagMask()).isEqualTo(mask);
+            assertThat(Vector.getTrueMoodElements(mood)).isEqualTo(tagsOf(MOODS, mask));
+        }
+    }
+
+    @Test
+    void 병합_마스크는_19비트이고_병합_벡터의_비트_배치와_같다() {
+        Vector allGenres = Vector.fromString(Vector.inputGenreVector(GENRES));
+        Vector allMoods = Vector.fromString(Vector.inputMoodVector(MOODS));
+
+        int merged = Vector.mergeTagMasks(allGenres, allMoods);
+
+        assertThat(merged).isEqualTo((1 << 19) - 1);
+        assertThat(Vector.mergeVectors(allGenres, allMoods).tagMask()).isEqualTo(merged);
+        assertThat(Vector.moodBit("CLUB")).isEqualTo(1 << Vector.MOOD_BIT_OFFSET);
+        assertThat(Vector.moodBit("BAR&CAFE")).isEqualTo(1 << 18);
+    }
+
+    @Test
+    void 병합_마스크에서_장르와_무드를_다시_꺼낼_수_있다() {
+        Vector genre = Vector.fromString(Vector.inputGenreVector(List.of("TECHNO")));
+        Vector mood = Vector.fromString(Vector.inputMoodVector(List.of("DEEP", "HUNTING")));
+        Vector merged = Vector.mergeVectors(genre, mood);
+
+        assertThat(merged.tagMask()).isEqualTo(Vector.genreBit("TECHNO") | Vector.moodBit("DEEP") | Vector.moodBit("HUNTING"));
+        assertThat(Vector.getTrueGenreElements(merged.subVector(0, GENRES.size()))).containsExactly("TECHNO");
+        assertThat(Vector.getTrueMoodElements(merged.subVector(GENRES.size(), merged.size())))
+                .containsExactly("DEEP", "HUNTING");
+        assertThat(Vector.fromBytes(merged.toBytes()).tagMask()).isEqualTo(merged.tagMask());
+    }
+
+    @Test
+    void 선호도_벡터는_값이_1인_위치만_마스크에_들어간다() {
+        Vector genre = Vector.fromGenres(Map.of("HIPHOP", 1.0, "EDM", 0.4));
+
+        assertThat(genre.isBinary()).isFalse();
+        assertThat(Vector.getTrueGenreElements(genre)).containsExactly("HIPHOP");
+    }
+
+    @Test
+    void 마스크끼리의_코사인_유사도() {
+        int a = Vector.genreBit("HIPHOP") | Vector.genreBit("EDM");
+        int b = Vector.genreBit("EDM");
+        Vector vectorA = Vector.fromString(Vector.inputGenreVector(List.of("HIPHOP", "EDM")));
+        Vector vectorB = Vector.fromString(Vector.inputGenreVector(List.of("EDM")));
+
+        assertThat(Vector.binaryCosineSimilarity(a, b)).isCloseTo(vectorA.cosineSimilarity(vectorB), within(1e-12));
+        assertThat(Vector.binaryCosineSimilarity(a, 0)).isZero();
+    }
+
+    @Test
+    void 없는_태그는_거부한다() {
+        assertThatThrownBy(() -> Vector.inputGenreVector(List.of("JAZZ"))).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> Vector.moodBit("JAZZ")).isInstanceOf(CustomException.class);
+    }
+
+    private static List<String> tagsOf(List<String> names, int mask) {
+        return names.stream().filter(name -> (mask & (1 << names.indexOf(name))) != 0).toList();
+    }
+}
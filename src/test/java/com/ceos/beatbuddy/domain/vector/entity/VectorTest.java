@@ -0,0 +1,144 @@
+package com.ceos.beatbuddy.domain.vector.entity;
+
+import com.ceos.beatbuddy.domain.vector.exception.VectorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorTest {
+
+    @Test
+    void 리스트로_만든_벡터는_입력과_같은_값을_가진다() {
+        Vector vector = new Vector(List.of(1.0, 2.0, 2.0));
+
+        assertThat(vector.size()).isEqualTo(3);
+        assertThat(vector.toArray()).containsExactly(1.0, 2.0, 2.0);
+        assertThat(vector.getElements()).containsExactly(1.0, 2.0, 2.0);
+        assertThat(vector).isEqualTo(Vector.of(1.0, 2.0, 2.0));
+        assertThat(vector.hashCode()).isEqualTo(Vector.of(1.0, 2.0, 2.0).hashCode());
+    }
+
+    @Test
+    void norm_은_생성_시_계산된다() {
+        assertThat(Vector.of(1.0, 2.0, 2.0).norm()).isEqualTo(3.0);
+        assertThat(Vector.of(0.0, 0.0).norm()).isZero();
+    }
+
+    @Test
+    void toArray_는_복사본을_반환한다() {
+        Vector vector = Vector.of(1.0, 2.0);
+
+        vector.toArray()[0] = 9.0;
+
+        assertThat(vector.get(0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void getElements_는_읽기_전용_뷰다() {
+        List<Double> elements = Vector.of(1.0, 2.0).getElements();
+
+        assertThatThrownBy(() -> elements.set(0, 3.0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void subVector_는_구간만_보고_norm_을_다시_계산한다() {
+        Vector vector = Vector.of(5.0, 3.0, 4.0, 7.0);
+
+        Vector sub = vector.subVector(1, 3);
+
+        assertThat(sub.size()).isEqualTo(2);
+        assertThat(sub.toArray()).containsExactly(3.0, 4.0);
+        assertThat(sub.norm()).isEqualTo(5.0);
+        assertThat(sub).isEqualTo(Vector.of(3.0, 4.0));
+        assertThat(sub.toString()).isEqualTo("[3.0, 4.0]");
+        assertThatThrownBy(() -> sub.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> vector.subVector(2, 5)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void 뷰끼리의_내적과_코사인_유사도() {
+        Vector a = Vector.of(9.0, 1.0, 0.0).subVector(1, 3);
+        Vector b = Vector.of(1.0, 1.0);
+
+        assertThat(a.dot(b)).isEqualTo(1.0);
+        assertThat(a.cosineSimilarity(b)).isCloseTo(1 / Math.sqrt(2), within(1e-12));
+    }
+
+    @Test
+    void 길이가_다르거나_영벡터면_코사인_유사도를_구할_수_없다() {
+        assertThatThrownBy(() -> Vector.of(1.0).cosineSimilarity(Vector.of(1.0, 0.0)))
+                .isInstanceOf(VectorException.class);
+        assertThatThrownBy(() -> Vector.of(0.0, 0.0).cosineSimilarity(Vector.of(1.0, 0.0)))
+                .isInstanceOf(VectorException.class);
+    }
+
+    @Test
+    void normalized_는_단위_벡터를_만들고_영벡터는_그대로_둔다() {
+        Vector unit = Vector.of(3.0, 4.0).normalized();
+
+        assertThat(unit.norm()).isEqualTo(1.0);
+        assertThat(unit.toArray()).containsExactly(0.6, 0.8);
+
+        Vector zero = Vector.of(0.0, 0.0);
+        assertThat(zero.normalized()).isSameAs(zero);
+    }
+
+    @Test
+    void mergeVectors_는_두_벡터를_잇고_norm_을_합친다() {
+        Vector merged = Vector.mergeVectors(Vector.of(0.0, 3.0, 0.0).subVector(1, 2), Vector.of(4.0));
+
+        assertThat(merged.toArray()).containsExactly(3.0, 4.0);
+        assertThat(merged.norm()).isEqualTo(5.0);
+    }
+
+    @Test
+    void 영과_일로만_된_벡터는_비트마스크_형식으로_저장된다() {
+        Vector vector = Vector.of(1.0, 0.0, 1.0, 1.0, 0.0);
+
+        byte[] bytes = vector.toBytes();
+
+        assertThat(bytes).hasSize(6);
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(bytes[1]).isEqualTo((byte) 5);
+        Vector decoded = Vector.fromBytes(bytes);
+        assertThat(decoded).isEqualTo(vector);
+        assertThat(decoded.norm()).isEqualTo(vector.norm());
+    }
+
+    @Test
+    void 그_외의_벡터는_double_배열_형식으로_저장된다() {
+        Vector vector = Vector.of(0.5, 0.0, 1.0, -2.25);
+
+        byte[] bytes = vector.toBytes();
+
+        assertThat(bytes).hasSize(2 + Double.BYTES * 4);
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+        assertThat(Vector.fromBytes(bytes)).isEqualTo(vector);
+    }
+
+    @Test
+    void 뷰도_자기_구간만_저장된다() {
+        Vector view = Vector.of(0.3, 1.0, 0.0, 0.7).subVector(1, 3);
+
+        assertThat(view.isBinary()).isTrue();
+        assertThat(Vector.fromBytes(view.toBytes())).isEqualTo(Vector.of(1.0, 0.0));
+    }
+
+    @Test
+    void 빈_벡터와_문자열_변환() {
+        assertThat(Vector.fromBytes(Vector.of().toBytes()).size()).isZero();
+        assertThat(Vector.fromString("[]").size()).isZero();
+        assertThat(Vector.fromString("[1.0, 0.5]")).isEqualTo(Vector.of(1.0, 0.5));
+        assertThat(Vector.fromString(Vector.of(1.0, 0.5).toString())).isEqualTo(Vector.of(1.0, 0.5));
+    }
+
+    @Test
+    void 알_수_없는_형식은_거부한다() {
+        assertThatThrownBy(() -> Vector.fromBytes(new byte[]{9, 1, 0, 0, 0, 0}))
+                .isInstanceOf(VectorException.class);
+    }
+}
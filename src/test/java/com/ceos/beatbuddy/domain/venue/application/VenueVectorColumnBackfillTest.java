@@ -0,0 +1,141 @@
+package com.ceos.beatbuddy.domain.venue.application;
+
+import com.ceos.beatbuddy.BeatBuddyApplication;
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import com.ceos.beatbuddy.domain.venue.entity.Venue;
+import com.ceos.beatbuddy.domain.venue.entity.VenueGenre;
+import com.ceos.beatbuddy.domain.venue.entity.VenueMood;
+import com.ceos.beatbuddy.domain.venue.repository.VenueGenreRepository;
+import com.ceos.beatbuddy.domain.venue.repository.VenueMoodRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문자열 컬럼만 있는 기존 행이 백필 한 번으로 채워지고, 태그가 하나도 없는 행도 다시 백필 대상이 되지 않는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:venue_backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.test.database.replace=none",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+// 백필은 배치마다 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션으로 감싸지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VenueVectorColumnBackfillTest {
+
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = BeatBuddyApplication.class)
+    @EnableJpaRepositories(basePackageClasses = VenueGenreRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {VenueGenreRepository.class, VenueMoodRepository.class}))
+    static class JpaTestConfig {
+    }
+
+    private static final String ZERO_GENRE = Vector.inputGenreVector(List.of());
+    private static final String ZERO_MOOD = Vector.inputMoodVector(List.of());
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VenueGenreRepository venueGenreRepository;
+
+    @Autowired
+    private VenueMoodRepository venueMoodRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private VenueVectorColumnBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        backfill = new VenueVectorColumnBackfill(venueGenreRepository, venueMoodRepository, transactionTemplate);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            persistVectors("tagged", Vector.inputGenreVector(List.of("EDM", "POP")), Vector.inputMoodVector(List.of("CLUB")));
+            persistVectors("untagged", ZERO_GENRE, ZERO_MOOD);
+            entityManager.flush();
+            // 바이너리/태그 컬럼이 생기기 전의 행처럼 문자열 컬럼만 남긴다
+            entityManager.createQuery("UPDATE VenueGenre vg SET vg.genreVector = null, vg.genreTags = null").executeUpdate();
+            entityManager.createQuery("UPDATE VenueMood vm SET vm.moodVector = null, vm.moodTags = null").executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM VenueGenre").executeUpdate();
+            entityManager.createQuery("DELETE FROM VenueMood").executeUpdate();
+            entityManager.createQuery("DELETE FROM Venue").executeUpdate();
+        });
+    }
+
+    @Test
+    void fillsLegacyRowsOnce() {
+        assertThat(missingGenres()).hasSize(2);
+        assertThat(missingMoods()).hasSize(2);
+
+        backfill.backfill();
+
+        assertThat(missingGenres()).isEmpty();
+        assertThat(missingMoods()).isEmpty();
+    }
+
+    @Test
+    void rowsWithoutTagsAreNotSelectedAgain() {
+        backfill.backfill();
+        // 바이너리 컬럼은 있고 태그 컬럼만 비어 있는 행 (태그 컬럼이 나중에 추가된 경우)
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("UPDATE VenueGenre vg SET vg.genreTags = null").executeUpdate();
+            entityManager.createQuery("UPDATE VenueMood vm SET vm.moodTags = null").executeUpdate();
+        });
+
+        backfill.backfill();
+
+        List<VenueGenre> genres = transactionTemplate.execute(status -> venueGenreRepository.findAllWithVenue());
+        assertThat(genres).extracting(VenueGenre::getGenreTags)
+                .containsExactlyInAnyOrder(List.of("EDM", "POP"), List.of());
+        assertThat(genres).allSatisfy(genre -> assertThat(genre.getGenreVector()).isNotNull());
+        assertThat(missingGenres()).isEmpty();
+        assertThat(missingMoods()).isEmpty();
+    }
+
+    private List<VenueGenre> missingGenres() {
+        return transactionTemplate.execute(status -> venueGenreRepository.findVectorColumnsMissing(0L, PageRequest.of(0, 10)));
+    }
+
+    private List<VenueMood> missingMoods() {
+        return transactionTemplate.execute(status -> venueMoodRepository.findVectorColumnsMissing(0L, PageRequest.of(0, 10)));
+    }
+
+    private void persistVectors(String name, String genreVector, String moodVector) {
+        Venue venue = Venue.builder().englishName(name).koreanName(name).address(name).region(Region.TYPE1).build();
+        entityManager.persist(venue);
+        entityManager.persist(VenueGenre.builder().venue(venue).genreVectorString(genreVector).build());
+        entityManager.persist(VenueMood.builder().venue(venue).moodVectorString(moodVector).build());
+    }
+}
@@ -0,0 +1,461 @@
+package com.ceos.beatbuddy.global.counter;
+
+import com.ceos.beatbuddy.BeatBuddyApplication;
+import com.ceos.beatbuddy.domain.member.constant.Region;
+import com.ceos.beatbuddy.domain.venue.entity.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널 기록 → flush, 죽은 인스턴스의 저널 회수와 fence, 이미 반영된 batch 의 replay 를 H2 위에서 확인한다.
+ * Redis 스크립트는 InMemoryCounterJournal 이 같은 규칙으로 흉내 낸다.
+ */
+// 저장소 없이 EntityManager 만 쓴다
+@DataJpaTest(excludeAutoConfiguration = JpaRepositoriesAutoConfiguration.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:write_behind_counter;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.test.database.replace=none",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+// flush 와 replay 는 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션으로 감싸지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindCounterServiceTest {
+
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = BeatBuddyApplication.class)
+    static class JpaTestConfig {
+    }
+
+    private static final CounterType HEARTBEATS = CounterType.VENUE_HEARTBEATS;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private FakeRedis redis;
+    private Map<WriteBehindCounterService, InMemoryCounterJournal> journals;
+    private List<Runnable> queuedFlushes;
+    private Long venueId;
+    private Long otherVenueId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        redis = new FakeRedis();
+        journals = new HashMap<>();
+        queuedFlushes = new ArrayList<>();
+        venueId = persistVenue("venue");
+        otherVenueId = persistVenue("other");
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM CounterFlushBatch").executeUpdate();
+            entityManager.createQuery("DELETE FROM Venue").executeUpdate();
+        });
+    }
+
+    @Test
+    void 저널에_기록한_증감이_flush_로_DB_에_반영된다() {
+        WriteBehindCounterService service = newService(1000, 1000);
+
+        service.increment(HEARTBEATS, venueId);
+        service.increment(HEARTBEATS, venueId);
+        service.decrement(HEARTBEATS, otherVenueId);
+
+        assertThat(redis.open(instanceIdOf(service))).containsEntry(new CounterKey(HEARTBEATS, venueId), 2L);
+        assertThat(service.overlay(HEARTBEATS, venueId, 0L)).isEqualTo(2L);
+        assertThat(heartbeats(venueId)).isZero();
+
+        service.flushSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+        // CASE UPDATE 는 기존 감소 쿼리처럼 0 아래로 내려가지 않는다
+        assertThat(heartbeats(otherVenueId)).isZero();
+        assertThat(service.overlay(HEARTBEATS, venueId, 2L)).isEqualTo(2L);
+        assertThat(redis.open(instanceIdOf(service)).values()).allMatch(delta -> delta == 0);
+        assertThat(redis.batches(instanceIdOf(service))).isEmpty();
+        assertThat(appliedBatchCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 트랜잭션_안의_증감은_overlay_에_보이고_롤백되면_버려진다() {
+        WriteBehindCounterService service = newService(1000, 1000);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            service.increment(HEARTBEATS, venueId);
+            service.increment(HEARTBEATS, venueId);
+            assertThat(service.overlay(HEARTBEATS, venueId, 0L)).isEqualTo(2L);
+            assertThat(redis.open(instanceIdOf(service))).isEmpty();
+            status.setRollbackOnly();
+        });
+        assertThat(service.overlay(HEARTBEATS, venueId, 0L)).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> service.increment(HEARTBEATS, venueId));
+
+        assertThat(redis.open(instanceIdOf(service))).containsEntry(new CounterKey(HEARTBEATS, venueId), 1L);
+        assertThat(service.overlay(HEARTBEATS, venueId, 0L)).isEqualTo(1L);
+    }
+
+    @Test
+    void 죽은_인스턴스의_저널은_다른_인스턴스가_회수해서_반영하고_원래_인스턴스는_fence_된다() {
+        WriteBehindCounterService dead = newService(1000, 1000);
+        WriteBehindCounterService survivor = newService(1000, 1000);
+        dead.increment(HEARTBEATS, venueId);
+        dead.increment(HEARTBEATS, venueId);
+        String deadInstanceId = instanceIdOf(dead);
+        redis.expire(deadInstanceId);
+
+        survivor.recoverSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+        assertThat(redis.claimedInstances()).isEmpty();
+
+        // 멈췄던 인스턴스가 돌아와도 회수된 증감을 다시 반영하지 않고 새 ID 로 등록한다
+        dead.flushSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+        assertThat(instanceIdOf(dead)).isNotEqualTo(deadInstanceId);
+        assertThat(dead.overlay(HEARTBEATS, venueId, 2L)).isEqualTo(2L);
+
+        dead.increment(HEARTBEATS, venueId);
+        dead.flushSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(3L);
+    }
+
+    @Test
+    void 이미_반영된_batch_는_replay_때_다시_더하지_않는다() {
+        WriteBehindCounterService dead = newService(1000, 1000);
+        WriteBehindCounterService survivor = newService(1000, 1000);
+        dead.increment(HEARTBEATS, venueId);
+        dead.increment(HEARTBEATS, venueId);
+        // 커밋은 됐지만 ack 전에 멈춘 경우
+        redis.failAck = true;
+        dead.flushSafely();
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+        assertThat(redis.batches(instanceIdOf(dead))).hasSize(1);
+        // flush 되지 않은 증감도 함께 남아 있다
+        dead.increment(HEARTBEATS, venueId);
+        redis.expire(instanceIdOf(dead));
+
+        survivor.recoverSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(3L);
+        assertThat(appliedBatchCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 같은_저널을_두_번_replay_해도_한_번만_반영된다() {
+        WriteBehindCounterService dead = newService(1000, 1000);
+        WriteBehindCounterService survivor = newService(1000, 1000);
+        dead.increment(HEARTBEATS, venueId);
+        String deadInstanceId = instanceIdOf(dead);
+        redis.expire(deadInstanceId);
+        // 반영은 커밋됐지만 claimed 저널을 지우기 전에 멈춘 경우
+        redis.failDeleteClaimed = true;
+        survivor.recoverSafely();
+        redis.failDeleteClaimed = false;
+        assertThat(redis.claimedInstances()).containsExactly(deadInstanceId);
+
+        survivor.recoverSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(1L);
+        assertThat(redis.claimedInstances()).isEmpty();
+    }
+
+    @Test
+    void Redis_장애_중의_증감은_fence_뒤에도_남아서_새_저널로_반영된다() {
+        WriteBehindCounterService service = newService(1000, 1000);
+        WriteBehindCounterService survivor = newService(1000, 1000);
+        redis.down = true;
+        service.increment(HEARTBEATS, venueId);
+        service.increment(HEARTBEATS, venueId);
+        service.flushSafely();
+        assertThat(service.overlay(HEARTBEATS, venueId, 0L)).isEqualTo(2L);
+        redis.down = false;
+        // 장애 동안 하트비트가 끊겨서 다른 인스턴스가 저널을 가져갔다
+        redis.expire(instanceIdOf(service));
+        survivor.recoverSafely();
+
+        service.flushSafely();
+        assertThat(service.overlay(HEARTBEATS, venueId, 0L)).isEqualTo(2L);
+        service.flushSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+        assertThat(service.overlay(HEARTBEATS, venueId, 2L)).isEqualTo(2L);
+    }
+
+    @Test
+    void 쌓인_키가_많아도_예약되는_flush_는_하나다() {
+        WriteBehindCounterService service = newService(1, 1000);
+
+        service.increment(HEARTBEATS, venueId);
+        service.increment(HEARTBEATS, otherVenueId);
+        service.increment(HEARTBEATS, venueId);
+
+        assertThat(queuedFlushes).hasSize(1);
+
+        queuedFlushes.remove(0).run();
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+
+        service.increment(HEARTBEATS, venueId);
+        assertThat(queuedFlushes).hasSize(1);
+    }
+
+    @Test
+    void 한도를_넘은_새_키는_모으지_않고_바로_DB_에_쓴다() {
+        WriteBehindCounterService service = newService(1000, 1);
+
+        service.increment(HEARTBEATS, venueId);
+        service.increment(HEARTBEATS, otherVenueId);
+        // 이미 모으고 있는 키는 계속 모은다
+        service.increment(HEARTBEATS, venueId);
+
+        assertThat(heartbeats(venueId)).isZero();
+        assertThat(heartbeats(otherVenueId)).isEqualTo(1L);
+        assertThat(redis.open(instanceIdOf(service))).doesNotContainKey(new CounterKey(HEARTBEATS, otherVenueId));
+
+        service.flushSafely();
+
+        assertThat(heartbeats(venueId)).isEqualTo(2L);
+    }
+
+    private WriteBehindCounterService newService(int flushThreshold, int maxPendingKeys) {
+        InMemoryCounterJournal journal = new InMemoryCounterJournal(redis);
+        WriteBehindCounterService service = new WriteBehindCounterService(
+                new CounterBatchUpdater(entityManager), journal, transactionTemplate, queuedFlushes::add, null,
+                flushThreshold, 1000, 10000, 60000, 120000, maxPendingKeys);
+        service.register();
+        journals.put(service, journal);
+        return service;
+    }
+
+    private String instanceIdOf(WriteBehindCounterService service) {
+        return journals.get(service).instanceId();
+    }
+
+    private Long persistVenue(String name) {
+        return transactionTemplate.execute(status -> {
+            Venue venue = Venue.builder().englishName(name).koreanName(name).address(name).region(Region.TYPE1).build();
+            entityManager.persist(venue);
+            return venue.getId();
+        });
+    }
+
+    private Long heartbeats(Long id) {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT v.heartbeatNum FROM Venue v WHERE v.id = :id", Long.class)
+                .setParameter("id", id)
+                .getSingleResult());
+    }
+
+    private Long appliedBatchCount() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT COUNT(b) FROM CounterFlushBatch b", Long.class)
+                .getSingleResult());
+    }
+
+    /**
+     * CounterJournal 의 Redis 스크립트와 같은 규칙을 메모리에서 따른다. 여러 인스턴스가 같은 redis 상태를 공유한다.
+     * 등록된 인스턴스만 append / prepare / heartbeat 할 수 있고, claim 은 등록 해제와 저널 이동을 한 번에 한다.
+     */
+    static class InMemoryCounterJournal extends CounterJournal {
+
+        private final FakeRedis redis;
+        // 이 저널을 쓰는 서비스가 마지막으로 등록한 인스턴스 ID
+        private String instanceId;
+
+        InMemoryCounterJournal(FakeRedis redis) {
+            super(null);
+            this.redis = redis;
+        }
+
+        String instanceId() {
+            return instanceId;
+        }
+
+        @Override
+        public boolean append(String instanceId, CounterKey key, long delta) {
+            redis.checkUp();
+            if (!redis.instances.containsKey(instanceId)) {
+                return false;
+            }
+            redis.journal(instanceId).open.merge(key, delta, Long::sum);
+            return true;
+        }
+
+        @Override
+        public boolean prepare(String instanceId, String batchId, Map<CounterKey, Long> flushed) {
+            redis.checkUp();
+            if (!redis.instances.containsKey(instanceId)) {
+                return false;
+            }
+            Journal journal = redis.journal(instanceId);
+            flushed.forEach((key, delta) -> journal.open.merge(key, -delta, Long::sum));
+            journal.batches.put(batchId, new HashMap<>(flushed));
+            return true;
+        }
+
+        @Override
+        public boolean restore(String instanceId, String batchId, Map<CounterKey, Long> flushed) {
+            redis.checkUp();
+            Journal journal = redis.journals.get(instanceId);
+            if (journal == null || journal.batches.remove(batchId) == null) {
+                return false;
+            }
+            flushed.forEach((key, delta) -> journal.open.merge(key, delta, Long::sum));
+            return true;
+        }
+
+        @Override
+        public void ack(String instanceId, String batchId) {
+            redis.checkUp();
+            if (redis.failAck) {
+                throw new RedisConnectionFailureException("ack");
+            }
+            Journal journal = redis.journals.get(instanceId);
+            if (journal != null) {
+                journal.batches.remove(batchId);
+            }
+        }
+
+        @Override
+        public void register(String instanceId) {
+            redis.checkUp();
+            redis.instances.put(instanceId, System.currentTimeMillis());
+            this.instanceId = instanceId;
+        }
+
+        @Override
+        public boolean heartbeat(String instanceId) {
+            redis.checkUp();
+            if (!redis.instances.containsKey(instanceId)) {
+                return false;
+            }
+            redis.instances.put(instanceId, System.currentTimeMillis());
+            return true;
+        }
+
+        @Override
+        public List<String> claimStaleInstances(long staleBefore) {
+            redis.checkUp();
+            List<String> claimedIds = new ArrayList<>();
+            for (String staleInstanceId : List.copyOf(redis.instances.keySet())) {
+                if (redis.claim(staleInstanceId, staleBefore)) {
+                    claimedIds.add(staleInstanceId);
+                }
+            }
+            return claimedIds;
+        }
+
+        @Override
+        public void handOff(String instanceId) {
+            redis.claim(instanceId, Long.MAX_VALUE);
+        }
+
+        @Override
+        public Set<String> claimedInstances() {
+            redis.checkUp();
+            return new LinkedHashSet<>(redis.claimed.keySet());
+        }
+
+        @Override
+        public JournalEntries claimedEntries(String instanceId) {
+            redis.checkUp();
+            Journal journal = redis.claimed.getOrDefault(instanceId, new Journal());
+            Map<CounterKey, Long> open = new HashMap<>(journal.open);
+            open.values().removeIf(delta -> delta == 0);
+            return new JournalEntries(open, new HashMap<>(journal.batches));
+        }
+
+        @Override
+        public void deleteClaimed(String instanceId) {
+            redis.checkUp();
+            if (redis.failDeleteClaimed) {
+                throw new RedisConnectionFailureException("deleteClaimed");
+            }
+            redis.claimed.remove(instanceId);
+        }
+    }
+
+    static class FakeRedis {
+
+        private final Map<String, Long> instances = new HashMap<>();
+        private final Map<String, Journal> journals = new HashMap<>();
+        private final Map<String, Journal> claimed = new LinkedHashMap<>();
+        boolean down;
+        boolean failAck;
+        boolean failDeleteClaimed;
+
+        void expire(String instanceId) {
+            instances.put(instanceId, 0L);
+        }
+
+        Map<CounterKey, Long> open(String instanceId) {
+            Journal journal = journals.get(instanceId);
+            return journal != null ? journal.open : Map.of();
+        }
+
+        Map<String, Map<CounterKey, Long>> batches(String instanceId) {
+            Journal journal = journals.get(instanceId);
+            return journal != null ? journal.batches : Map.of();
+        }
+
+        Set<String> claimedInstances() {
+            return claimed.keySet();
+        }
+
+        private boolean claim(String instanceId, long staleBefore) {
+            checkUp();
+            Long score = instances.get(instanceId);
+            if (score == null || score > staleBefore) {
+                return false;
+            }
+            instances.remove(instanceId);
+            Journal journal = journals.remove(instanceId);
+            if (journal != null) {
+                claimed.put(instanceId, journal);
+            }
+            return true;
+        }
+
+        private Journal journal(String instanceId) {
+            return journals.computeIfAbsent(instanceId, id -> new Journal());
+        }
+
+        private void checkUp() {
+            if (down) {
+                throw new RedisConnectionFailureException("down");
+            }
+        }
+    }
+
+    private static class Journal {
+        private final Map<CounterKey, Long> open = new HashMap<>();
+        private final Map<String, Map<CounterKey, Long>> batches = new HashMap<>();
+    }
+}
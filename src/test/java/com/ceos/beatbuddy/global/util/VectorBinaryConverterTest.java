@@ -0,0 +1,55 @@
+package com.ceos.beatbuddy.global.util;
+
+import com.ceos.beatbuddy.domain.vector.entity.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorBinaryConverterTest {
+
+    private final VectorBinaryConverter converter = new VectorBinaryConverter();
+
+    @Test
+    void 태그_벡터는_6바이트로_저장되고_그대로_읽힌다() {
+        Vector genre = Vector.fromString(Vector.inputGenreVector(List.of("HIPHOP", "POP")));
+
+        byte[] column = converter.convertToDatabaseColumn(genre);
+
+        assertThat(column).hasSize(6);
+        assertThat(column.length).isLessThanOrEqualTo(255);
+        Vector read = converter.convertToEntityAttribute(column);
+        assertThat(read).isEqualTo(genre);
+        assertThat(read.tagMask()).isEqualTo(genre.tagMask());
+    }
+
+    @Test
+    void 선호도_벡터는_double_배열로_저장되고_그대로_읽힌다() {
+        Vector preference = Vector.of(0.25, 1.0, 0.0, 0.75, 0.5, 0.0, 0.0, 0.1, 0.0, 0.3);
+
+        byte[] column = converter.convertToDatabaseColumn(preference);
+
+        assertThat(column).hasSize(2 + Double.BYTES * 10);
+        assertThat(column.length).isLessThanOrEqualTo(255);
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(preference);
+    }
+
+    @Test
+    void 병합_벡터도_컬럼_크기_안에_들어간다() {
+        Vector merged = Vector.mergeVectors(
+                Vector.fromGenres(Map.of("EDM", 0.4)),
+                Vector.fromMoods(Map.of("CLUB", 0.9)));
+
+        assertThat(converter.convertToDatabaseColumn(merged).length).isLessThanOrEqualTo(255);
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(merged))).isEqualTo(merged);
+    }
+
+    @Test
+    void null_과_빈_컬럼은_null_로_읽는다() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(new byte[0])).isNull();
+    }
+}